@@ -60,6 +60,12 @@ AND: 'and' | 'AND';
 OR: 'or' | 'OR';
 NOT: 'not' | 'NOT';
 
+// Membership
+IN: 'in' | 'IN';
+
+// Let-bindings
+LET: 'let' | 'LET';
+
 // Missing fallback operator
 MISSING_FALLBACK: '??';
 
@@ -73,6 +79,8 @@ COLUMN_ACCESS_START: '$[';
 ACCESS_END: ']';
 COMMA: ',';
 
+LIST_START: '[';
+
 BRACKET_OPEN: '(' ;
 BRACKET_CLOSE: ')';
 
@@ -119,12 +127,18 @@ expr:
         | DBL_EQUAL
         | NOT_EQUAL
     ) expr                                                  # binaryOp
+    | expr negation = NOT? IN LIST_START elements += expr (COMMA elements += expr)* COMMA? ACCESS_END  # membership
     | op = NOT expr                                         # unaryOp
     | expr op = AND expr                                    # binaryOp
     | expr op = OR expr                                     # binaryOp
+    | LET bindings += binding (COMMA bindings += binding)* IN body = expr  # letExpr
     | BRACKET_OPEN inner = expr BRACKET_CLOSE               # parenthesisedExpr
     | atom                                                  # atomExpr;
 
+binding
+    :   name = IDENTIFIER EQUAL value = expr
+    ;
+
 arguments
     :   (namedArgument | positionalArgument) (COMMA (namedArgument | positionalArgument))* COMMA?
     ;
@@ -0,0 +1,134 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.expressions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.knime.base.expressions.node.NodeExpressionAdditionalInputs;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.expressions.ExpressionCompileException;
+import org.knime.core.expressions.ExpressionEvaluationException;
+import org.knime.core.expressions.Expressions;
+import org.knime.core.expressions.TestUtils;
+import org.knime.core.node.workflow.FlowVariable;
+
+/**
+ * Tests for {@link DataRowExpressionEvaluator}.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+final class DataRowExpressionEvaluatorTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec( //
+        new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(), //
+        new DataColumnSpecCreator("double", DoubleCell.TYPE).createSpec(), //
+        new DataColumnSpecCreator("string", StringCell.TYPE).createSpec() //
+    );
+
+    private static final Map<String, FlowVariable> FLOW_VARIABLES = Map.of("v", new FlowVariable("v", 15));
+
+    private static final DefaultRow ROW =
+        new DefaultRow("Row7", new IntCell(10), DataType.getMissingCell(), new StringCell("a"));
+
+    private static DataRowExpressionEvaluator createEvaluator(final String expression)
+        throws ExpressionCompileException {
+        var ast = Expressions.inferTypes( //
+            Expressions.parse(expression), //
+            ColumnInputUtils.columnToTypesForTypeInference(SPEC), //
+            ExpressionRunnerUtils.flowVarToTypeForTypeInference(FLOW_VARIABLES) //
+        );
+        return new DataRowExpressionEvaluator(ast, SPEC, new NodeExpressionAdditionalInputs(FLOW_VARIABLES));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = { //
+        "$int > 5; true", //
+        "$int + $$v > 30; false", //
+        "$double = MISSING; true", //
+        "$string == \"a\" and $[ROW_ID] == \"Row7\"; true", //
+        "$[ROW_INDEX] == 3; true", //
+        "$[ROW_NUMBER] == 3; false" //
+    })
+    void testEvaluateToBoolean(final String expression, final boolean expected)
+        throws ExpressionCompileException, ExpressionEvaluationException {
+        assertEquals(expected, createEvaluator(expression).evaluateToBoolean(ROW, 3, TestUtils.DUMMY_EVAL_CTX),
+            expression);
+    }
+
+    @Test
+    void testEvaluateToCell() throws ExpressionCompileException, ExpressionEvaluationException {
+        var evaluator = createEvaluator("$int * 2");
+        assertEquals(new LongCell(20), evaluator.evaluateToCell(ROW, 0, TestUtils.DUMMY_EVAL_CTX));
+
+        // The same evaluator is used for the next row
+        var nextRow = new DefaultRow("Row8", DataType.getMissingCell(), new DoubleCell(1.0), new StringCell("b"));
+        DataCell result = evaluator.evaluateToCell(nextRow, 1, TestUtils.DUMMY_EVAL_CTX);
+        assertEquals(DataType.getMissingCell(), result);
+    }
+
+    @Test
+    void testRejectsExpressionsThatAreNotRowLocal() {
+        assertThrows(IllegalArgumentException.class, () -> createEvaluator("$int > $[\"int\", -1]"));
+        assertThrows(IllegalArgumentException.class, () -> createEvaluator("$int > COLUMN_AVERAGE(\"int\")"));
+    }
+}
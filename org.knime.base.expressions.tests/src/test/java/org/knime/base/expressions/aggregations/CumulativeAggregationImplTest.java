@@ -0,0 +1,180 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.expressions.aggregations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.knime.base.expressions.aggregations.AggregationTestUtils.listOf;
+import static org.knime.base.expressions.aggregations.TestRow.tr;
+import static org.knime.core.expressions.AstTestUtils.BOOL;
+import static org.knime.core.expressions.AstTestUtils.STR;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.knime.base.expressions.aggregations.AggregationTestUtils.AggregationTestBuilder;
+import org.knime.core.expressions.Ast.ConstantAst;
+import org.knime.core.expressions.Computer.FloatComputer;
+import org.knime.core.expressions.Computer.IntegerComputer;
+import org.knime.core.expressions.ExpressionEvaluationException;
+import org.knime.core.expressions.TestUtils;
+import org.knime.core.expressions.aggregations.BuiltInAggregations;
+
+/**
+ * Tests for the cumulative aggregations. The {@link AggregationTestBuilder} checks the result for the last row, which
+ * is the result over all rows of the table.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+@SuppressWarnings("static-method")
+final class CumulativeAggregationImplTest {
+
+    @TestFactory
+    List<DynamicNode> cumulativeSum() {
+        return new AggregationTestBuilder(BuiltInAggregations.CUMULATIVE_SUM,
+            CumulativeAggregationImpl::cumulativeSumAggregation) //
+                .implInt("int", listOf(1, -10, 10, 5), 6) //
+                .implLong("long", listOf(1L, -10L, 10L, 5L), 6L) //
+                .implLong("longMissing", listOf(1L, 2L, null), 3L) //
+                .implLong("longOnlyMissing", listOf(null, null), null) //
+                .setFutureTolerances(1e-10) //
+                .implDouble("double", listOf(1.0, -0.1, 2.2, 0.1), 3.2) //
+                .implDouble("doubleCompensated", listOf(1e16, 1.0, 1.0, -1e16), 2.0) //
+                .implDouble("doubleInfinity", listOf(Double.POSITIVE_INFINITY, 1.0), Double.POSITIVE_INFINITY) //
+                .implDouble("doubleInfinities", listOf(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY),
+                    Double.NaN) //
+                .implDouble("doubleNaN", listOf(Double.NaN, 1.0), Double.NaN) //
+                .implDouble("doubleNaNIgnore", listOf(Double.NaN, 1.0), Map.of("ignore_nan", BOOL(true)), 1.0) //
+                .implDouble("doubleOnlyNaNIgnore", listOf(Double.NaN), Map.of("ignore_nan", BOOL(true)), null) //
+                .tests();
+    }
+
+    @TestFactory
+    List<DynamicNode> cumulativeAverage() {
+        return new AggregationTestBuilder(BuiltInAggregations.CUMULATIVE_AVERAGE,
+            CumulativeAggregationImpl::cumulativeAverageAggregation) //
+                .setFutureTolerances(1e-10) //
+                .implInt("int", listOf(1, -10, 10, 5), 1.5) //
+                .implLong("longMissing", listOf(1L, 2L, null), 1.5) //
+                .implLong("longOnlyMissing", listOf(null, null), null) //
+                .implDouble("double", listOf(1.0, -0.1, 2.2, 0.1), 0.8) //
+                .implDouble("doubleCompensated", listOf(1e16, 1.0, 1.0, -1e16), 0.5) //
+                .implDouble("doubleNaN", listOf(1.0, Double.NaN), Double.NaN) //
+                .implDouble("doubleNaNIgnore", listOf(1.0, Double.NaN), Map.of("ignore_nan", BOOL(true)), 1.0) //
+                .tests();
+    }
+
+    @TestFactory
+    List<DynamicNode> cumulativeMin() {
+        return new AggregationTestBuilder(BuiltInAggregations.CUMULATIVE_MIN,
+            CumulativeAggregationImpl::cumulativeMinAggregation) //
+                .implInt("int", listOf(1, -10, 10, 5), -10) //
+                .implLong("longMissing", listOf(2L, 1L, null), 1L) //
+                .implLong("longOnlyMissing", listOf(null, null), null) //
+                .implDouble("double", listOf(1.0, -0.1, 2.2, 0.1), -0.1) //
+                .implDouble("doubleNaN", listOf(Double.NaN, 1.0), Double.NaN) //
+                .implDouble("doubleNaNIgnore", listOf(Double.NaN, 1.0), Map.of("ignore_nan", BOOL(true)), 1.0) //
+                .implDouble("doubleOnlyNaNIgnore", listOf(Double.NaN), Map.of("ignore_nan", BOOL(true)), null) //
+                .tests();
+    }
+
+    @TestFactory
+    List<DynamicNode> cumulativeMax() {
+        return new AggregationTestBuilder(BuiltInAggregations.CUMULATIVE_MAX,
+            CumulativeAggregationImpl::cumulativeMaxAggregation) //
+                .implInt("int", listOf(1, -10, 10, 5), 10) //
+                .implLong("longMissing", listOf(2L, 1L, null), 2L) //
+                .implLong("longOnlyMissing", listOf(null, null), null) //
+                .implDouble("double", listOf(1.0, -0.1, 2.2, 0.1), 2.2) //
+                .implDouble("doubleNaN", listOf(1.0, Double.NaN, 2.0), Double.NaN) //
+                .implDouble("doubleNaNIgnore", listOf(Double.NaN, 1.0), Map.of("ignore_nan", BOOL(true)), 1.0) //
+                .tests();
+    }
+
+    @TestFactory
+    List<DynamicNode> cumulativeCount() {
+        return new AggregationTestBuilder(BuiltInAggregations.CUMULATIVE_COUNT,
+            CumulativeAggregationImpl::cumulativeCountAggregation) //
+                .implString("string", listOf("a", "b", "c"), 3) //
+                .implLong("longMissing", listOf(1L, null, null), 3) //
+                .implLong("longMissingIgnore", listOf(1L, 2L, null), List.of(BOOL(true)), 2) //
+                .implLong("longOnlyMissingIgnore", listOf(null, null), List.of(BOOL(true)), 0) //
+                .tests();
+    }
+
+    @Test
+    void testResultForEachRow() throws ExpressionEvaluationException {
+        var args = BuiltInAggregations.CUMULATIVE_AVERAGE //
+            .signature(List.<ConstantAst> of(STR(AggregationTestBuilder.LONG_COL_NAME)), //
+                Map.<String, ConstantAst> of()) //
+            .orElseThrow(IllegalStateException::new);
+        var aggregation =
+            CumulativeAggregationImpl.cumulativeAverageAggregation(args, AggregationTestBuilder.TEST_TABLE_SPEC);
+
+        var colIdx = AggregationTestBuilder.LONG_COL_IDX;
+        aggregation.addRow(tr(colIdx));
+        aggregation.addRow(tr(colIdx, 1L));
+        aggregation.addRow(tr(colIdx, 5L));
+        aggregation.addRow(tr(colIdx));
+        aggregation.addRow(tr(colIdx, 0L));
+
+        var expected = listOf(null, 1.0, 3.0, 3.0, 2.0, null);
+        for (int i = 0; i < expected.size(); i++) {
+            var result = (FloatComputer)aggregation.createResultComputer(IntegerComputer.ofConstant(i));
+            if (expected.get(i) == null) {
+                assertTrue(result.isMissing(TestUtils.DUMMY_EVAL_CTX), "Expected MISSING for row " + i);
+            } else {
+                assertEquals(expected.get(i), result.compute(TestUtils.DUMMY_EVAL_CTX), "Wrong result for row " + i);
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.expressions.aggregations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.knime.base.expressions.aggregations.AggregationTestUtils.listOf;
+import static org.knime.base.expressions.aggregations.TestRow.tr;
+import static org.knime.core.expressions.AstTestUtils.BOOL;
+import static org.knime.core.expressions.AstTestUtils.INT;
+import static org.knime.core.expressions.AstTestUtils.STR;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.knime.base.expressions.aggregations.AggregationTestUtils.AggregationTestBuilder;
+import org.knime.core.expressions.Ast.ConstantAst;
+import org.knime.core.expressions.Computer.IntegerComputer;
+import org.knime.core.expressions.ExpressionEvaluationException;
+import org.knime.core.expressions.TestUtils;
+import org.knime.core.expressions.aggregations.BuiltInAggregations;
+
+/**
+ * Tests for the rolling window aggregations. The {@link AggregationTestBuilder} checks the result for the window of
+ * the last row.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+@SuppressWarnings("static-method")
+final class RollingWindowAggregationImplTest {
+
+    @TestFactory
+    List<DynamicNode> rollingSum() {
+        return new AggregationTestBuilder(BuiltInAggregations.ROLLING_SUM,
+            RollingWindowAggregationImpl::rollingSumAggregation) //
+                .implInt("int", listOf(1, -10, 10, 5), List.of(INT(2)), 15) //
+                .implLong("long", listOf(1L, -10L, 10L, 5L), List.of(INT(3)), 5L) //
+                .implLong("window larger than table", listOf(1L, -10L, 10L, 5L), List.of(INT(100)), 6L) //
+                .implLong("longMissing", listOf(1L, 2L, null), List.of(INT(2)), 2L) //
+                .implLong("longOnlyMissingInWindow", listOf(1L, null, null), List.of(INT(2)), null) //
+                .setFutureTolerances(1e-10) //
+                .implDouble("double", listOf(1.0, -0.1, 2.2, 0.1), List.of(INT(2)), 2.3) //
+                .implDouble("doubleNaN", listOf(Double.NaN, 1.0), List.of(INT(2)), Double.NaN) //
+                .implDouble("doubleNaNLeftWindow", listOf(Double.NaN, 1.0, 2.0), List.of(INT(2)), 3.0) //
+                .implDouble("doubleNaNIgnore", listOf(Double.NaN, 1.0), List.of(INT(2), BOOL(true)), 1.0) //
+                .implDouble("doubleInfinityLeftWindow", listOf(Double.POSITIVE_INFINITY, 1.0, 2.0), List.of(INT(2)),
+                    3.0) //
+                .implDouble("doubleInfinities", listOf(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY),
+                    List.of(INT(2)), Double.NaN) //
+                .tests();
+    }
+
+    @TestFactory
+    List<DynamicNode> rollingAverage() {
+        return new AggregationTestBuilder(BuiltInAggregations.ROLLING_AVERAGE,
+            RollingWindowAggregationImpl::rollingAverageAggregation) //
+                .setFutureTolerances(1e-10) //
+                .implInt("int", listOf(1, -10, 10, 5), List.of(INT(2)), 7.5) //
+                .implLong("longMissing", listOf(1L, 2L, null), List.of(INT(3)), 1.5) //
+                .implLong("longOnlyMissingInWindow", listOf(1L, null, null), List.of(INT(2)), null) //
+                .implDouble("double", listOf(1.0, -0.1, 2.2, 0.1), List.of(INT(3)), 2.2 / 3) //
+                .implDouble("doubleNaN", listOf(1.0, Double.NaN), List.of(INT(2)), Double.NaN) //
+                .implDouble("doubleNaNIgnore", listOf(1.0, Double.NaN), List.of(INT(2), BOOL(true)), 1.0) //
+                .tests();
+    }
+
+    @TestFactory
+    List<DynamicNode> rollingMin() {
+        return new AggregationTestBuilder(BuiltInAggregations.ROLLING_MIN,
+            RollingWindowAggregationImpl::rollingMinAggregation) //
+                .implInt("int", listOf(1, -10, 10, 5), List.of(INT(2)), 5) //
+                .implLong("long", listOf(-1L, -10L, 10L, 5L), List.of(INT(3)), -10L) //
+                .implLong("longMissing", listOf(1L, 2L, null), List.of(INT(2)), 2L) //
+                .implLong("longOnlyMissingInWindow", listOf(1L, null, null), List.of(INT(2)), null) //
+                .implDouble("double", listOf(1.0, -0.1, 2.2, 0.1), List.of(INT(2)), 0.1) //
+                .implDouble("doubleNaN", listOf(Double.NaN, 1.0), List.of(INT(2)), Double.NaN) //
+                .implDouble("doubleOnlyNaN", listOf(Double.NaN, Double.NaN), List.of(INT(2)), Double.NaN) //
+                .implDouble("doubleNaNLeftWindow", listOf(Double.NaN, 2.0, 1.0), List.of(INT(2)), 1.0) //
+                .implDouble("doubleNaNIgnore", listOf(Double.NaN, 1.0), List.of(INT(2), BOOL(true)), 1.0) //
+                .implDouble("doubleOnlyNaNIgnore", listOf(Double.NaN, Double.NaN), List.of(INT(2), BOOL(true)),
+                    null) //
+                .tests();
+    }
+
+    @TestFactory
+    List<DynamicNode> rollingMax() {
+        return new AggregationTestBuilder(BuiltInAggregations.ROLLING_MAX,
+            RollingWindowAggregationImpl::rollingMaxAggregation) //
+                .implInt("int", listOf(1, -10, 10, 5), List.of(INT(2)), 10) //
+                .implLong("long", listOf(20L, -10L, 10L, 5L), List.of(INT(3)), 10L) //
+                .implLong("longMissing", listOf(1L, 2L, null), List.of(INT(2)), 2L) //
+                .implLong("longOnlyMissingInWindow", listOf(1L, null, null), List.of(INT(2)), null) //
+                .implDouble("double", listOf(1.0, -0.1, 2.2, 0.1), List.of(INT(2)), 2.2) //
+                .implDouble("doubleNaN", listOf(Double.NaN, 1.0), List.of(INT(2)), Double.NaN) //
+                .implDouble("doubleNaNIgnore", listOf(Double.NaN, 1.0), List.of(INT(2), BOOL(true)), 1.0) //
+                .tests();
+    }
+
+    @TestFactory
+    List<DynamicNode> rollingCount() {
+        return new AggregationTestBuilder(BuiltInAggregations.ROLLING_COUNT,
+            RollingWindowAggregationImpl::rollingCountAggregation) //
+                .implString("string", listOf("a", "b", "c"), List.of(INT(2)), 2) //
+                .implLong("longMissing", listOf(1L, null, null), List.of(INT(2)), 2) //
+                .implLong("longMissingIgnore", listOf(1L, 2L, null), List.of(INT(2), BOOL(true)), 1) //
+                .implLong("longOnlyMissingIgnore", listOf(1L, null, null), List.of(INT(2), BOOL(true)), 0) //
+                .tests();
+    }
+
+    @Test
+    void testResultForEachRow() throws ExpressionEvaluationException {
+        var args = BuiltInAggregations.ROLLING_MAX //
+            .signature(List.<ConstantAst> of(STR(AggregationTestBuilder.LONG_COL_NAME), INT(3)),
+                Map.<String, ConstantAst> of()) //
+            .orElseThrow(IllegalStateException::new);
+        var aggregation =
+            RollingWindowAggregationImpl.rollingMaxAggregation(args, AggregationTestBuilder.TEST_TABLE_SPEC);
+
+        var colIdx = AggregationTestBuilder.LONG_COL_IDX;
+        aggregation.addRow(tr(colIdx, 5L));
+        aggregation.addRow(tr(colIdx, 1L));
+        aggregation.addRow(tr(colIdx, 3L));
+        aggregation.addRow(tr(colIdx, 2L));
+        aggregation.addRow(tr(colIdx));
+        aggregation.addRow(tr(colIdx));
+        aggregation.addRow(tr(colIdx));
+
+        var expected = listOf(5L, 5L, 5L, 3L, 3L, 2L, null, null);
+        for (int i = 0; i < expected.size(); i++) {
+            var result = (IntegerComputer)aggregation.createResultComputer(IntegerComputer.ofConstant(i));
+            if (expected.get(i) == null) {
+                assertTrue(result.isMissing(TestUtils.DUMMY_EVAL_CTX), "Expected MISSING for row " + i);
+            } else {
+                assertEquals(expected.get(i), result.compute(TestUtils.DUMMY_EVAL_CTX), "Wrong result for row " + i);
+            }
+        }
+    }
+}
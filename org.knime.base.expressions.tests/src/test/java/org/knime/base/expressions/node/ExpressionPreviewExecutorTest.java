@@ -0,0 +1,209 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.base.expressions.node;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.knime.base.expressions.node.ExpressionPreviewExecutor.PreviewTask;
+import org.knime.core.node.CanceledExecutionException;
+
+/**
+ * Tests for {@link ExpressionPreviewExecutor}.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+final class ExpressionPreviewExecutorTest {
+
+    private static final long TIMEOUT_S = 10;
+
+    private ExpressionPreviewExecutor m_executor;
+
+    /** The values that were published, in order */
+    private List<String> m_published;
+
+    @BeforeEach
+    void createExecutor() {
+        m_executor = new ExpressionPreviewExecutor(NodeTestUtils::createExecutionContext);
+        m_published = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void closeExecutor() {
+        m_executor.close();
+    }
+
+    /** @return a task that publishes the value and counts down the latch when it was published */
+    private PreviewTask publishing(final String value, final CountDownLatch published) {
+        return (exec, publisher) -> publisher.publish(() -> {
+            m_published.add(value);
+            published.countDown();
+        });
+    }
+
+    private void submit(final PreviewTask task) {
+        m_executor.submit(task, message -> m_published.add("error: " + message));
+    }
+
+    @Test
+    void testDebounceRunsOnlyLatestRequest() throws Exception {
+        var numRuns = new AtomicInteger();
+        var published = new CountDownLatch(1);
+        for (int i = 0; i < 3; i++) {
+            var task = publishing("request " + i, published);
+            submit((exec, publisher) -> {
+                numRuns.incrementAndGet();
+                task.run(exec, publisher);
+            });
+        }
+
+        assertTrue(published.await(TIMEOUT_S, SECONDS), "Expected the latest request to be published.");
+        m_executor.close();
+        assertEquals(1, numRuns.get(), "Expected that requests in quick succession start only one evaluation.");
+        assertEquals(List.of("request 2"), m_published);
+    }
+
+    @Test
+    void testNewRequestCancelsRunningEvaluation() throws Exception {
+        var started = new CountDownLatch(1);
+        var canceled = new CountDownLatch(1);
+        submit((exec, publisher) -> {
+            started.countDown();
+            try {
+                while (true) { // NOSONAR - the loop ends when the evaluation is canceled
+                    exec.checkCanceled();
+                    Thread.sleep(1);
+                }
+            } catch (CanceledExecutionException e) {
+                canceled.countDown();
+                throw e;
+            }
+        });
+        assertTrue(started.await(TIMEOUT_S, SECONDS), "Expected the first evaluation to start.");
+
+        var published = new CountDownLatch(1);
+        submit(publishing("second", published));
+
+        assertTrue(canceled.await(TIMEOUT_S, SECONDS), "Expected the running evaluation to be canceled.");
+        assertTrue(published.await(TIMEOUT_S, SECONDS), "Expected the new request to be published.");
+        assertEquals(List.of("second"), m_published, "Expected no error for the canceled evaluation.");
+    }
+
+    @Test
+    void testDropsResultsOfOutdatedRequest() throws Exception {
+        var evaluated = new CountDownLatch(1);
+        var proceed = new CountDownLatch(1);
+        var dropped = new CountDownLatch(1);
+        submit((exec, publisher) -> {
+            // NB: The evaluation ignores the cancellation and tries to publish its results anyway
+            evaluated.countDown();
+            assertTrue(proceed.await(TIMEOUT_S, SECONDS));
+            try {
+                publisher.publish(() -> m_published.add("outdated"));
+            } catch (CanceledExecutionException e) {
+                dropped.countDown();
+                throw e;
+            }
+        });
+        assertTrue(evaluated.await(TIMEOUT_S, SECONDS), "Expected the first evaluation to start.");
+
+        var published = new CountDownLatch(1);
+        submit(publishing("latest", published));
+        proceed.countDown();
+
+        assertTrue(dropped.await(TIMEOUT_S, SECONDS), "Expected the outdated results to be rejected.");
+        assertTrue(published.await(TIMEOUT_S, SECONDS), "Expected the latest request to be published.");
+        assertEquals(List.of("latest"), m_published);
+    }
+
+    @Test
+    void testPublishesFailureOfLatestRequest() throws Exception {
+        var published = new CountDownLatch(1);
+        m_executor.submit((exec, publisher) -> {
+            throw new IllegalStateException("Broken expression");
+        }, message -> {
+            m_published.add(message);
+            published.countDown();
+        });
+
+        assertTrue(published.await(TIMEOUT_S, SECONDS), "Expected the failure to be published.");
+        assertEquals(List.of("Broken expression"), m_published);
+    }
+
+    @Test
+    void testPublicationDoesNotBlockNewRequests() throws Exception {
+        var submittedDuringPublication = new AtomicBoolean();
+        var published = new CountDownLatch(1);
+        submit((exec, publisher) -> publisher.publish(() -> {
+            // Submitting from another thread must not wait for the publication to finish
+            var submission = CompletableFuture.runAsync(() -> submit(publishing("next", published)));
+            try {
+                submission.get(TIMEOUT_S, SECONDS);
+                submittedDuringPublication.set(true);
+            } catch (Exception e) { // NOSONAR - the flag is checked by the test
+            }
+            m_published.add("first");
+        }));
+
+        assertTrue(published.await(TIMEOUT_S, SECONDS), "Expected the request to be published.");
+        assertTrue(submittedDuringPublication.get(), "Expected that a new request can be submitted while publishing.");
+        assertEquals(List.of("first", "next"), m_published);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.base.expressions.node;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.knime.base.expressions.ExpressionRunnerUtils.NewColumnPosition;
+import org.knime.base.expressions.InsertionMode;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Shared logic for tests that execute expressions on tables like the nodes do.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+public final class NodeTestUtils {
+
+    private NodeTestUtils() {
+    }
+
+    /**
+     * Creates an {@link ExecutionContext} of a node that is not part of a workflow. Tables that are created with it
+     * are stored in the row-based format.
+     *
+     * @return a new execution context
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static ExecutionContext createExecutionContext() {
+        return new ExecutionContext(new DefaultNodeProgressMonitor(),
+            new Node((NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0])),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, NotInWorkflowDataRepository.newInstance());
+    }
+
+    /**
+     * @param name the name of the new column
+     * @return the position of a column that is appended to the table
+     */
+    public static NewColumnPosition append(final String name) {
+        return new NewColumnPosition(InsertionMode.APPEND, name);
+    }
+
+    /**
+     * @param name the name of the replaced column
+     * @return the position of a column that replaces an existing column
+     */
+    public static NewColumnPosition replace(final String name) {
+        return new NewColumnPosition(InsertionMode.REPLACE_EXISTING, name);
+    }
+
+    /**
+     * @param table a table
+     * @return the rows of the table as strings of the RowID and the cell values, separated by commas
+     */
+    public static List<String> getRows(final BufferedDataTable table) {
+        var rows = new ArrayList<String>();
+        try (var iterator = table.iterator()) {
+            while (iterator.hasNext()) {
+                var row = iterator.next();
+                var values = new StringBuilder(row.getKey().getString());
+                for (var cell : row) {
+                    values.append(',').append(cell);
+                }
+                rows.add(values.toString());
+            }
+        }
+        return rows;
+    }
+}
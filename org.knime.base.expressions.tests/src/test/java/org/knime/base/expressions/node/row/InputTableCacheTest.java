@@ -0,0 +1,166 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.base.expressions.node.row;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.knime.base.expressions.node.NodeTestUtils.getRows;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.knime.base.expressions.ExpressionRunnerUtils;
+import org.knime.base.expressions.node.NodeTestUtils;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.filestore.internal.NotInWorkflowWriteFileStoreHandler;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+
+/**
+ * Tests that the {@link InputTableCache} grows its prefix table by doubling within the cell budget and slices columnar
+ * input tables directly.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+@SuppressWarnings("restriction")
+final class InputTableCacheTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec( //
+        new DataColumnSpecCreator("a", LongCell.TYPE).createSpec(), //
+        new DataColumnSpecCreator("b", LongCell.TYPE).createSpec() //
+    );
+
+    private static final int NUM_ROWS = 100;
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataTable m_rowBasedTable;
+
+    @BeforeEach
+    void createRowBasedTable() {
+        m_exec = NodeTestUtils.createExecutionContext();
+
+        var container = m_exec.createDataContainer(SPEC);
+        for (int i = 0; i < NUM_ROWS; i++) {
+            container.addRowToTable(new DefaultRow(new RowKey("Row" + i), new LongCell(i), new LongCell(10L * i)));
+        }
+        container.close();
+        m_rowBasedTable = container.getTable();
+        assertFalse(ExpressionRunnerUtils.isColumnarTable(m_rowBasedTable), "Expected a row-based input table.");
+    }
+
+    @Test
+    void testPrefixTableDoubles() {
+        try (var cache = new InputTableCache(m_rowBasedTable, m_exec)) {
+            assertEquals(0, cache.getPrefixRowCount(), "Expected no prefix table before the first request.");
+
+            assertEquals(10, cache.getTable(10).size(), "Expected the requested number of rows.");
+            assertEquals(10, cache.getPrefixRowCount(), "Expected the first prefix to contain the requested rows.");
+
+            assertEquals(11, cache.getTable(11).size(), "Expected the requested number of rows.");
+            assertEquals(20, cache.getPrefixRowCount(), "Expected the prefix table to double.");
+
+            assertEquals(5, cache.getTable(5).size(), "Expected a slice of the prefix table.");
+            assertEquals(20, cache.getPrefixRowCount(), "Expected smaller requests not to grow the prefix table.");
+
+            assertEquals(50, cache.getTable(50).size(), "Expected the requested number of rows.");
+            assertEquals(50, cache.getPrefixRowCount(), "Expected the prefix table to grow to the requested rows.");
+
+            assertEquals(60, cache.getTable(60).size(), "Expected the requested number of rows.");
+            assertEquals(NUM_ROWS, cache.getPrefixRowCount(),
+                "Expected the doubled prefix table to be limited to the table.");
+
+            assertEquals(List.of("Row0,0,0", "Row1,1,10", "Row2,2,20"), getRows(cache.getTable(3)),
+                "Expected the first rows of the input table.");
+        }
+    }
+
+    @Test
+    void testPrefixTableStaysWithinCellBudget() {
+        // NB: A budget of 60 cells allows 30 rows with 2 columns
+        try (var cache = new InputTableCache(m_rowBasedTable, m_exec, 60)) {
+            cache.getTable(20);
+            assertEquals(20, cache.getPrefixRowCount(), "Expected the first prefix to contain the requested rows.");
+
+            cache.getTable(21);
+            assertEquals(30, cache.getPrefixRowCount(), "Expected the prefix table to grow only to the cell budget.");
+
+            assertEquals(45, cache.getTable(45).size(), "Expected the requested number of rows.");
+            assertEquals(45, cache.getPrefixRowCount(), "Expected the requested rows to exceed the cell budget.");
+        }
+    }
+
+    @Test
+    void testSlicesColumnarTableDirectly() throws Exception {
+        var dataRepository = Node.invokeGetDataRepository(m_exec);
+        var columnarTable = ExpressionRunnerUtils.copyToColumnarTable(m_rowBasedTable, NUM_ROWS, m_exec,
+            dataRepository, new NotInWorkflowWriteFileStoreHandler(UUID.randomUUID(), dataRepository));
+        assertTrue(ExpressionRunnerUtils.isColumnarTable(columnarTable), "Expected a columnar input table.");
+
+        try (var cache = new InputTableCache(columnarTable, m_exec)) {
+            var slice = cache.getTable(3);
+            assertEquals(NUM_ROWS, cache.getPrefixRowCount(), "Expected the columnar table to be used as prefix.");
+            assertEquals(List.of("Row0,0,0", "Row1,1,10", "Row2,2,20"), getRows(slice),
+                "Expected the first rows of the input table.");
+            assertSame(slice, cache.getTable(3), "Expected the slice to be cached.");
+            assertSame(columnarTable, cache.getTable(NUM_ROWS), "Expected the full columnar table without a copy.");
+            assertSame(columnarTable, cache.getTable(2L * NUM_ROWS),
+                "Expected the request to be limited to the rows of the table.");
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.base.expressions.node.row.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.knime.base.expressions.node.NodeTestUtils.getRows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.knime.base.expressions.node.NodeTestUtils;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+
+/**
+ * Tests the option of the row filter to keep only the first matching rows and the check whether any row matches,
+ * which the has_matching_rows flow variable is based on. The input table has the rows "Row0" to "Row9" with the values
+ * 0 to 9 in the column "x".
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+final class ExpressionRowFilterMatchingRowLimitTest {
+
+    private static final int NUM_ROWS = 10;
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataTable m_inputTable;
+
+    @BeforeEach
+    void createTable() {
+        m_exec = NodeTestUtils.createExecutionContext();
+        var container =
+            m_exec.createDataContainer(new DataTableSpec(new DataColumnSpecCreator("x", LongCell.TYPE).createSpec()));
+        for (int i = 0; i < NUM_ROWS; i++) {
+            container.addRowToTable(new DefaultRow(new RowKey("Row" + i), new LongCell(i)));
+        }
+        container.close();
+        m_inputTable = container.getTable();
+    }
+
+    private BufferedDataTable filter(final String expression, final long maxMatchingRows) throws Exception {
+        return ExpressionRowFilterNodeModel.applyFilterExpression(expression, m_inputTable, Map.of(), maxMatchingRows,
+            m_exec, w -> {
+            });
+    }
+
+    /** @return the RowIDs of the rows of the table */
+    private static List<String> getRowIds(final BufferedDataTable table) {
+        return getRows(table).stream().map(row -> row.split(",")[0]).toList();
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = { //
+        "$x >= 3; -1; Row3,Row4,Row5,Row6,Row7,Row8,Row9", //
+        "$x >= 3; 1; Row3", //
+        "$x >= 3; 2; Row3,Row4", //
+        "$x >= 3; 7; Row3,Row4,Row5,Row6,Row7,Row8,Row9", //
+        "$x >= 3; 100; Row3,Row4,Row5,Row6,Row7,Row8,Row9", //
+        "$x % 3 = 0; 3; Row0,Row3,Row6", //
+        "$x = 9; 1; Row9", //
+        "TRUE; 2; Row0,Row1", //
+        "1 < 2; 100; Row0,Row1,Row2,Row3,Row4,Row5,Row6,Row7,Row8,Row9" //
+    })
+    void testKeepsFirstMatchingRows(final String expression, final long maxMatchingRows, final String expectedRowIds)
+        throws Exception {
+        assertEquals(Arrays.asList(expectedRowIds.split(",")), getRowIds(filter(expression, maxMatchingRows)),
+            () -> "Expected the first matching rows of " + expression + " with a limit of " + maxMatchingRows);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = { //
+        "$x >= 3; 0", //
+        "$x > 9; -1", //
+        "$x > 9; 1", //
+        "FALSE; -1", //
+        "FALSE; 2" //
+    })
+    void testKeepsNoRows(final String expression, final long maxMatchingRows) throws Exception {
+        assertEquals(0, filter(expression, maxMatchingRows).size(),
+            () -> "Expected no rows for " + expression + " with a limit of " + maxMatchingRows);
+    }
+
+    @Test
+    void testKeepsInputTableWithoutLimit() throws Exception {
+        assertEquals(m_inputTable, filter("TRUE", -1), "Expected the input table if all rows match.");
+        assertEquals(m_inputTable.size(), filter("TRUE", NUM_ROWS).size(),
+            "Expected all rows if the limit is the number of rows.");
+    }
+
+    @Test
+    void testHasMatchingRows() throws Exception {
+        // The has_matching_rows flow variable is true if and only if the output is not empty
+        assertTrue(filter("$x = 9", 1).size() > 0, "Expected a match in the last row.");
+        assertTrue(filter("$x < 1", 1).size() > 0, "Expected a match in the first row.");
+        assertEquals(0, filter("$x > 9", 1).size(), "Expected no match.");
+        assertEquals(0, filter("$x < 0", -1).size(), "Expected no match without a limit.");
+    }
+}
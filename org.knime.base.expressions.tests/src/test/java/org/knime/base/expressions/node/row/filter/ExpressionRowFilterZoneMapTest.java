@@ -0,0 +1,212 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.base.expressions.node.row.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.knime.base.expressions.node.NodeTestUtils.getRows;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.knime.base.expressions.RowFilterZoneMap;
+import org.knime.base.expressions.node.NodeExpressionAdditionalInputs;
+import org.knime.base.expressions.node.NodeTestUtils;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnDomainCreator;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.expressions.EvaluationContext;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+
+/**
+ * Tests the per-batch pruning of the row filter with {@link RowFilterZoneMap}. The input table is sorted by the column
+ * "ts" and has four batches: three full batches of 8192 rows and one batch of 100 rows.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+final class ExpressionRowFilterZoneMapTest {
+
+    private static final int NUM_ROWS = 3 * RowFilterZoneMap.BATCH_SIZE + 100;
+
+    /** The row of the column "m" that is MISSING */
+    private static final int MISSING_ROW = 5;
+
+    private static final EvaluationContext CTX = EvaluationContext.of(ZonedDateTime.now(), w -> {
+    });
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataTable m_inputTable;
+
+    @BeforeEach
+    void createSortedTable() {
+        m_exec = NodeTestUtils.createExecutionContext();
+
+        // NB: The domain of "ts" is stale - it does not contain most of the values of the column
+        var tsSpec = new DataColumnSpecCreator("ts", LongCell.TYPE);
+        tsSpec.setDomain(new DataColumnDomainCreator(new LongCell(0), new LongCell(5)).createDomain());
+        var spec = new DataTableSpec( //
+            tsSpec.createSpec(), //
+            new DataColumnSpecCreator("m", DoubleCell.TYPE).createSpec(), //
+            new DataColumnSpecCreator("s", StringCell.TYPE).createSpec() //
+        );
+
+        var container = m_exec.createDataContainer(spec);
+        for (int i = 0; i < NUM_ROWS; i++) {
+            DataCell m = i == MISSING_ROW ? DataType.getMissingCell() : new DoubleCell(i * 0.5);
+            container.addRowToTable(new DefaultRow(new RowKey("Row" + i), new LongCell(i), m, new StringCell("s")));
+        }
+        container.close();
+        m_inputTable = container.getTable();
+    }
+
+    private Optional<RowFilterZoneMap> createZoneMap(final String expression) throws Exception {
+        var ast = ExpressionRowFilterNodeModel.getPreparedExpression(expression, m_inputTable.getDataTableSpec(),
+            Map.of());
+        return RowFilterZoneMap.create(ast, m_inputTable.getDataTableSpec(),
+            new NodeExpressionAdditionalInputs(Map.of()), CTX);
+    }
+
+    private String matchBatches(final String expression) throws Exception {
+        var zoneMap = createZoneMap(expression);
+        assertTrue(zoneMap.isPresent(), () -> "Expected that batches can be pruned for " + expression);
+        return Arrays.stream(zoneMap.get().matchBatches(m_inputTable, m_exec)) //
+            .map(Enum::name) //
+            .collect(Collectors.joining(","));
+    }
+
+    private BufferedDataTable filter(final String expression, final long maxMatchingRows) throws Exception {
+        return ExpressionRowFilterNodeModel.applyFilterExpression(expression, m_inputTable, Map.of(), maxMatchingRows,
+            m_exec, w -> {
+            });
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = { //
+        "$ts >= 8192 and $ts < 16384; NONE,ALL,NONE,NONE", //
+        "$ts > 8192; NONE,SOME,ALL,ALL", //
+        "8192 <= $ts; NONE,ALL,ALL,ALL", //
+        "$ts > 8191.5; NONE,ALL,ALL,ALL", //
+        "not ($ts < 10); SOME,ALL,ALL,ALL", //
+        "$ts < 0 or $ts >= 24576; NONE,NONE,NONE,ALL", //
+        "$ts == 100; SOME,NONE,NONE,NONE", //
+        "$ts != 100; SOME,ALL,ALL,ALL", //
+        "$m >= 0; SOME,ALL,ALL,ALL", //
+        "$m < 0; NONE,NONE,NONE,NONE" //
+    })
+    void testMatchBatches(final String expression, final String expectedMatches) throws Exception {
+        assertEquals(expectedMatches, matchBatches(expression), expression);
+    }
+
+    @Test
+    void testIgnoresColumnDomains() throws Exception {
+        // The domain of "ts" claims that no value is larger than 5
+        assertEquals("SOME,ALL,ALL,ALL", matchBatches("$ts > 5"), "Expected matches outside of the column domain.");
+        assertEquals(NUM_ROWS - 6, filter("$ts > 5", -1).size(), "Expected all rows with a value larger than 5.");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { //
+        "$ts > 5 or $s = \"a\"", //
+        "$ts > $[\"ts\", -1]", //
+        "$[ROW_INDEX] > 5", //
+        "$m = 1.0", //
+        "$ts > $m" //
+    })
+    void testUnsupportedExpressions(final String expression) throws Exception {
+        assertTrue(createZoneMap(expression).isEmpty(), () -> "Expected no pruning for " + expression);
+    }
+
+    @Test
+    void testFilterSkipsBatches() throws Exception {
+        var output = filter("$ts >= 8190 and $ts < 8200", -1);
+        assertEquals(List.of("Row8190,8190,4095.0,s", "Row8191,8191,4095.5,s", "Row8192,8192,4096.0,s"),
+            getRows(output).subList(0, 3), "Expected the matches of both batches in order.");
+        assertEquals(10, output.size(), "Expected only the matching rows.");
+    }
+
+    @Test
+    void testFilterKeepsMatchingBatchesAndMissingRows() throws Exception {
+        var output = filter("$m >= 0", -1);
+        assertEquals(NUM_ROWS - 1, output.size(), "Expected all rows but the one with a MISSING value.");
+        assertEquals("Row6", getRows(output).get(MISSING_ROW).split(",")[0],
+            "Expected the row with the MISSING value to be removed.");
+    }
+
+    @Test
+    void testFilterWithLimit() throws Exception {
+        var output = filter("$ts > 8191", 3);
+        assertEquals(List.of("Row8192,8192,4096.0,s", "Row8193,8193,4096.5,s", "Row8194,8194,4097.0,s"),
+            getRows(output), "Expected the first matching rows.");
+    }
+
+    @Test
+    void testFilterAllOrNoBatches() throws Exception {
+        assertSame(m_inputTable, filter("$ts >= 0", -1), "Expected the input table if all batches match.");
+        assertEquals(0, filter("$ts < 0", -1).size(), "Expected an empty table if no batch matches.");
+    }
+}
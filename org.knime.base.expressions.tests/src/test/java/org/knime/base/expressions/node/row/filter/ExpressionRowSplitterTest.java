@@ -0,0 +1,141 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.base.expressions.node.row.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.knime.base.expressions.node.NodeTestUtils.getRows;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.knime.base.expressions.node.NodeTestUtils;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+
+/**
+ * Tests the Expression Row Splitter with {@link ExpressionRowSplitterNodeModel#applySplitExpression}. The input table
+ * has the rows "Row0" to "Row9" with the values 0 to 9 in the column "x", except for "Row4" which is MISSING.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+final class ExpressionRowSplitterTest {
+
+    private static final int NUM_ROWS = 10;
+
+    private static final int MISSING_ROW = 4;
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataTable m_inputTable;
+
+    @BeforeEach
+    void createTable() {
+        m_exec = NodeTestUtils.createExecutionContext();
+        var container =
+            m_exec.createDataContainer(new DataTableSpec(new DataColumnSpecCreator("x", LongCell.TYPE).createSpec()));
+        for (int i = 0; i < NUM_ROWS; i++) {
+            DataCell x = i == MISSING_ROW ? DataType.getMissingCell() : new LongCell(i);
+            container.addRowToTable(new DefaultRow(new RowKey("Row" + i), x));
+        }
+        container.close();
+        m_inputTable = container.getTable();
+    }
+
+    /** @return the RowIDs of the rows of the table separated by commas, "-" if the table is empty */
+    private static String getRowIds(final BufferedDataTable table) {
+        var rowIds = getRows(table).stream().map(row -> row.split(",")[0]).collect(Collectors.joining(","));
+        return rowIds.isEmpty() ? "-" : rowIds;
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = { //
+        // Expressions that are evaluated row by row
+        "$x >= 5; -1; Row5,Row6,Row7,Row8,Row9; Row0,Row1,Row2,Row3,Row4", //
+        "$x < 5; -1; Row0,Row1,Row2,Row3; Row4,Row5,Row6,Row7,Row8,Row9", //
+        "$x = MISSING; -1; Row4; Row0,Row1,Row2,Row3,Row5,Row6,Row7,Row8,Row9", //
+        "$x > 9; -1; -; Row0,Row1,Row2,Row3,Row4,Row5,Row6,Row7,Row8,Row9", //
+        "$[ROW_INDEX] >= 8; -1; Row8,Row9; Row0,Row1,Row2,Row3,Row4,Row5,Row6,Row7", //
+        // Expressions that access other rows or aggregations
+        "$x > $[\"x\", -1]; -1; Row1,Row2,Row3,Row6,Row7,Row8,Row9; Row0,Row4,Row5", //
+        "$x = COLUMN_MAX(\"x\"); -1; Row9; Row0,Row1,Row2,Row3,Row4,Row5,Row6,Row7,Row8", //
+        // Limited number of matches - all rows after the last kept match go to the second table
+        "$x % 2 = 0; 2; Row0,Row2; Row1,Row3,Row4,Row5,Row6,Row7,Row8,Row9", //
+        "$x >= 5; 0; -; Row0,Row1,Row2,Row3,Row4,Row5,Row6,Row7,Row8,Row9", //
+        "$x >= 5; 5; Row5,Row6,Row7,Row8,Row9; Row0,Row1,Row2,Row3,Row4", //
+        "$x >= 5; 100; Row5,Row6,Row7,Row8,Row9; Row0,Row1,Row2,Row3,Row4", //
+        "$x > $[\"x\", -1]; 2; Row1,Row2; Row0,Row3,Row4,Row5,Row6,Row7,Row8,Row9", //
+        // Constant expressions
+        "TRUE; -1; Row0,Row1,Row2,Row3,Row4,Row5,Row6,Row7,Row8,Row9; -", //
+        "FALSE; -1; -; Row0,Row1,Row2,Row3,Row4,Row5,Row6,Row7,Row8,Row9", //
+        "TRUE; 3; Row0,Row1,Row2; Row3,Row4,Row5,Row6,Row7,Row8,Row9", //
+        "FALSE; 3; -; Row0,Row1,Row2,Row3,Row4,Row5,Row6,Row7,Row8,Row9", //
+        "COLUMN_MAX(\"x\") = 9; -1; Row0,Row1,Row2,Row3,Row4,Row5,Row6,Row7,Row8,Row9; -" //
+    })
+    void testSplitsRows(final String expression, final long maxMatchingRows, final String expectedMatchingRows,
+        final String expectedNonMatchingRows) throws Exception {
+        var outputTables = ExpressionRowSplitterNodeModel.applySplitExpression(expression, m_inputTable, Map.of(),
+            maxMatchingRows, m_exec, w -> {
+            });
+
+        assertEquals(expectedMatchingRows, getRowIds(outputTables[0]),
+            () -> "Unexpected matching rows for " + expression + " with a limit of " + maxMatchingRows);
+        assertEquals(expectedNonMatchingRows, getRowIds(outputTables[1]),
+            () -> "Unexpected non-matching rows for " + expression + " with a limit of " + maxMatchingRows);
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.base.expressions.node.row.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.knime.base.expressions.node.NodeTestUtils.append;
+import static org.knime.base.expressions.node.NodeTestUtils.getRows;
+import static org.knime.base.expressions.node.NodeTestUtils.replace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.knime.base.expressions.ExpressionRunnerUtils.NewColumnPosition;
+import org.knime.base.expressions.node.NodeTestUtils;
+import org.knime.base.expressions.node.WithIndexExpressionException;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+
+/**
+ * Test that applyMapperExpressions of ExpressionRowMapperNodeModel evaluates groups of independent expressions
+ * concurrently with the same results as evaluating the expressions one after the other.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+final class ExpressionRowMapperConcurrentExpressionsTest {
+
+    private static final int NUM_ROWS = 1000;
+
+    private static final DataTableSpec SPEC = new DataTableSpec( //
+        new DataColumnSpecCreator("a", LongCell.TYPE).createSpec(), //
+        new DataColumnSpecCreator("b", LongCell.TYPE).createSpec(), //
+        new DataColumnSpecCreator("s", StringCell.TYPE).createSpec() //
+    );
+
+    private static final BiConsumer<Integer, String> NO_WARNINGS = (i, warning) -> {
+    };
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataTable m_inputTable;
+
+    @BeforeEach
+    void createTable() {
+        m_exec = NodeTestUtils.createExecutionContext();
+
+        var container = m_exec.createDataContainer(SPEC);
+        for (int i = 0; i < NUM_ROWS; i++) {
+            container.addRowToTable(new DefaultRow(new RowKey("Row" + i), new LongCell(i), new LongCell(10L * i),
+                new StringCell("s" + i)));
+        }
+        container.close();
+        m_inputTable = container.getTable();
+    }
+
+    private List<BufferedDataTable> apply(final List<String> expressions,
+        final List<NewColumnPosition> newColumnPositions, final BiConsumer<Integer, String> setWarning)
+        throws Exception {
+        return ExpressionRowMapperNodeModel.applyMapperExpressions(expressions, newColumnPositions, 0, m_inputTable,
+            Map.of(), m_exec, setWarning);
+    }
+
+    /** Applies each expression on its own, such that each expression is in its own group */
+    private List<BufferedDataTable> applySequentially(final List<String> expressions,
+        final List<NewColumnPosition> newColumnPositions) throws Exception {
+        var outputTables = new ArrayList<BufferedDataTable>();
+        var table = m_inputTable;
+        for (int i = 0; i < expressions.size(); i++) {
+            table = ExpressionRowMapperNodeModel.applyMapperExpressions(List.of(expressions.get(i)),
+                List.of(newColumnPositions.get(i)), 0, table, Map.of(), m_exec, NO_WARNINGS).get(0);
+            outputTables.add(table);
+        }
+        return outputTables;
+    }
+
+    @Test
+    void testConcurrentResultsEqualSequentialResults() throws Exception {
+        var expressions = List.of("$a + 1", "$b * 2", "$s + \"!\"", "$a - $b", "COLUMN_MAX(\"a\") - $x");
+        var positions = List.of(append("x"), append("y"), replace("s"), replace("a"), append("z"));
+        var groups = ExpressionRowMapperNodeModel.findIndependentExpressions(expressions, positions);
+        assertArrayEquals(new int[]{0, 1, 2, 3}, groups.get(0), "Expected the first expressions to run concurrently.");
+
+        var concurrentTables = apply(expressions, positions, NO_WARNINGS);
+        var sequentialTables = applySequentially(expressions, positions);
+
+        assertEquals(expressions.size(), concurrentTables.size(), "Expected one output table per expression.");
+        for (int i = 0; i < expressions.size(); i++) {
+            assertEquals(sequentialTables.get(i).getDataTableSpec(), concurrentTables.get(i).getDataTableSpec(),
+                "Unexpected columns after expression " + i + ".");
+            assertEquals(getRows(sequentialTables.get(i)), getRows(concurrentTables.get(i)),
+                "Unexpected rows after expression " + i + ".");
+        }
+        assertEquals("Row3,-27,30,s3!,4,60,-4", getRows(concurrentTables.get(4)).get(3),
+            "Expected the results of all expressions.");
+    }
+
+    @Test
+    void testWarningsKeepExpressionIndex() throws Exception {
+        var warnings = new CopyOnWriteArrayList<Integer>();
+        apply(List.of("$a + 1", "$a // 0", "$b * 2"), List.of(append("x"), append("y"), append("z")),
+            (i, warning) -> warnings.add(i));
+
+        assertFalse(warnings.isEmpty(), "Expected warnings for the division by zero.");
+        assertEquals(List.of(1), warnings.stream().distinct().toList(),
+            "Expected the warnings to be reported for the second expression.");
+    }
+
+    @Test
+    void testFailureReportsExpressionIndex() {
+        var exception = assertThrows(WithIndexExpressionException.class,
+            () -> apply(List.of("$a + 1", "regex_match($s, \"[\")", "$b * 2"),
+                List.of(append("x"), append("y"), append("z")), NO_WARNINGS));
+        assertEquals(1, exception.getExpressionIndex(), "Expected the error of the second expression.");
+    }
+
+    @Test
+    void testCancellation() {
+        // The first group is canceled by its own warning - the second group, which reads "x", must not be evaluated
+        var evaluatedExpressions = new CopyOnWriteArrayList<Integer>();
+        assertThrows(CanceledExecutionException.class,
+            () -> apply(List.of("$a // 0", "$b * 2", "$x // 0"), List.of(append("x"), append("y"), append("z")),
+                (i, warning) -> {
+                    evaluatedExpressions.add(i);
+                    m_exec.getProgressMonitor().setExecuteCanceled();
+                }));
+        assertFalse(evaluatedExpressions.contains(2), "Expected the evaluation to stop after the canceled group.");
+    }
+}
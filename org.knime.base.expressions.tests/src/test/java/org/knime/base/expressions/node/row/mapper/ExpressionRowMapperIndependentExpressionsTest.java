@@ -0,0 +1,128 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.expressions.node.row.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.knime.base.expressions.node.NodeTestUtils.append;
+import static org.knime.base.expressions.node.NodeTestUtils.replace;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test findIndependentExpressions of ExpressionRowMapperNodeModel.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+@SuppressWarnings("static-method")
+final class ExpressionRowMapperIndependentExpressionsTest {
+
+    private static void assertGroups(final List<int[]> expected, final List<int[]> actual) {
+        assertEquals(expected.size(), actual.size(), "Unexpected number of groups.");
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i), "Unexpected expressions in group " + i + ".");
+        }
+    }
+
+    @Test
+    void testIndependentExpressions() {
+        var groups = ExpressionRowMapperNodeModel.findIndependentExpressions( //
+            List.of("$a + 1", "$b * 2", "$a - $b"), //
+            List.of(append("x"), append("y"), replace("a")) //
+        );
+        assertGroups(List.of(new int[]{0, 1, 2}), groups);
+    }
+
+    @Test
+    void testDependentChain() {
+        var groups = ExpressionRowMapperNodeModel.findIndependentExpressions( //
+            List.of("$a + 1", "$x * 2", "$y - 1"), //
+            List.of(append("x"), append("y"), append("z")) //
+        );
+        assertGroups(List.of(new int[]{0}, new int[]{1}, new int[]{2}), groups);
+    }
+
+    @Test
+    void testDependencyStartsNewGroup() {
+        var groups = ExpressionRowMapperNodeModel.findIndependentExpressions( //
+            List.of("$a + 1", "$b", "$x * 2", "$c"), //
+            List.of(append("x"), append("y"), append("z"), append("w")) //
+        );
+        assertGroups(List.of(new int[]{0, 1}, new int[]{2, 3}), groups);
+    }
+
+    @Test
+    void testReadingReplacedColumnIsDependent() {
+        var groups = ExpressionRowMapperNodeModel.findIndependentExpressions( //
+            List.of("$a + 1", "$a * 2"), //
+            List.of(replace("a"), append("y")) //
+        );
+        assertGroups(List.of(new int[]{0}, new int[]{1}), groups);
+    }
+
+    @Test
+    void testAggregationIsDependent() {
+        var groups = ExpressionRowMapperNodeModel.findIndependentExpressions( //
+            List.of("$a + 1", "COLUMN_MAX(\"b\")"), //
+            List.of(append("x"), append("y")) //
+        );
+        assertGroups(List.of(new int[]{0}, new int[]{1}), groups);
+    }
+
+    @Test
+    void testParseErrorSeparatesAllExpressions() {
+        var groups = ExpressionRowMapperNodeModel.findIndependentExpressions( //
+            List.of("$a + 1", "$b +"), //
+            List.of(append("x"), append("y")) //
+        );
+        assertGroups(List.of(new int[]{0}, new int[]{1}), groups);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.base.expressions.node.row.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.knime.base.expressions.node.NodeTestUtils.append;
+import static org.knime.base.expressions.node.NodeTestUtils.getRows;
+import static org.knime.base.expressions.node.NodeTestUtils.replace;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.knime.base.expressions.ExpressionRunnerUtils;
+import org.knime.base.expressions.ExpressionRunnerUtils.NewColumnPosition;
+import org.knime.base.expressions.node.NodeTestUtils;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+
+/**
+ * Test applyMapperExpressions of ExpressionRowMapperNodeModel on tables that are not stored in the columnar format.
+ * Only the accessed columns are copied to the columnar format and the result is joined with the input table.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+final class ExpressionRowMapperRowBasedInputTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec( //
+        new DataColumnSpecCreator("a", LongCell.TYPE).createSpec(), //
+        new DataColumnSpecCreator("b", LongCell.TYPE).createSpec(), //
+        new DataColumnSpecCreator("s", StringCell.TYPE).createSpec() //
+    );
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataTable m_inputTable;
+
+    @BeforeEach
+    void createRowBasedTable() {
+        m_exec = NodeTestUtils.createExecutionContext();
+
+        var container = m_exec.createDataContainer(SPEC);
+        for (int i = 0; i < 3; i++) {
+            container.addRowToTable(new DefaultRow(new RowKey("Row" + i), new LongCell(i), new LongCell(10L * i),
+                new StringCell("s" + i)));
+        }
+        container.close();
+        m_inputTable = container.getTable();
+        assertFalse(ExpressionRunnerUtils.isColumnarTable(m_inputTable), "Expected a row-based input table.");
+    }
+
+    private BufferedDataTable apply(final List<String> expressions, final List<NewColumnPosition> newColumnPositions)
+        throws Exception {
+        var outputTables = ExpressionRowMapperNodeModel.applyMapperExpressions(expressions, newColumnPositions, 0,
+            m_inputTable, Map.of(), m_exec, (i, warning) -> {
+            });
+        assertEquals(expressions.size(), outputTables.size(), "Expected one output table per expression.");
+        return outputTables.get(outputTables.size() - 1);
+    }
+
+    private static void assertColumnNames(final List<String> expected, final BufferedDataTable table) {
+        assertEquals(expected, List.of(table.getDataTableSpec().getColumnNames()), "Unexpected output columns.");
+    }
+
+    @Test
+    void testAppend() throws Exception {
+        var output = apply(List.of("$a + $b"), List.of(append("c")));
+        assertColumnNames(List.of("a", "b", "s", "c"), output);
+        assertEquals(List.of("Row0,0,0,s0,0", "Row1,1,10,s1,11", "Row2,2,20,s2,22"), getRows(output),
+            "Expected the result to be appended to the unchanged input columns.");
+    }
+
+    @Test
+    void testReplace() throws Exception {
+        var output = apply(List.of("$b + 1"), List.of(replace("b")));
+        assertColumnNames(List.of("a", "b", "s"), output);
+        assertEquals(List.of("Row0,0,1,s0", "Row1,1,11,s1", "Row2,2,21,s2"), getRows(output),
+            "Expected the result to replace the column at its position.");
+    }
+
+    @Test
+    void testReplaceFirstColumn() throws Exception {
+        var output = apply(List.of("$s + \"!\""), List.of(replace("a")));
+        assertColumnNames(List.of("a", "b", "s"), output);
+        assertEquals(List.of("Row0,s0!,0,s0", "Row1,s1!,10,s1", "Row2,s2!,20,s2"), getRows(output),
+            "Expected the result to replace the first column.");
+    }
+
+    @Test
+    void testAppendAndReplaceInOneGroup() throws Exception {
+        // NB: The expressions do not read the results of each other and are evaluated on the same input table
+        var output = apply(List.of("$a * 2", "$b - $a"), List.of(append("x"), replace("b")));
+        assertColumnNames(List.of("a", "b", "s", "x"), output);
+        assertEquals(List.of("Row0,0,0,s0,0", "Row1,1,9,s1,2", "Row2,2,18,s2,4"), getRows(output),
+            "Expected the results of both expressions.");
+    }
+
+    @Test
+    void testReadResultOfPreviousExpression() throws Exception {
+        var output = apply(List.of("$a + 1", "$x * $b"), List.of(append("x"), replace("a")));
+        assertColumnNames(List.of("a", "b", "s", "x"), output);
+        assertEquals(List.of("Row0,0,0,s0,1", "Row1,20,10,s1,2", "Row2,60,20,s2,3"), getRows(output),
+            "Expected the second expression to read the appended column.");
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.expressions.node.row.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.knime.base.expressions.node.NodeTestUtils.getRows;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.knime.base.expressions.node.NodeTestUtils;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+
+/**
+ * Test IncrementalExecutionState.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+final class IncrementalExecutionStateTest {
+
+    private static final String FINGERPRINT = "$a * 10";
+
+    /** The column "a" and "s" are read by the expressions, the column "u" is not */
+    private static final DataTableSpec SPEC = new DataTableSpec( //
+        new DataColumnSpecCreator("a", IntCell.TYPE).createSpec(), //
+        new DataColumnSpecCreator("s", StringCell.TYPE).createSpec(), //
+        new DataColumnSpecCreator("u", IntCell.TYPE).createSpec() //
+    );
+
+    private static final int[] KEY_COLUMNS = {0, 1};
+
+    private ExecutionContext m_exec;
+
+    private final List<IncrementalExecutionState> m_states = new ArrayList<>();
+
+    @BeforeEach
+    void createExecutionContext() {
+        m_exec = NodeTestUtils.createExecutionContext();
+    }
+
+    @AfterEach
+    void deleteStates() {
+        m_states.forEach(IncrementalExecutionState::delete);
+    }
+
+    /**
+     * @return a table with the RowIDs "Row0", "Row1", ..., the given values in the column "a", the strings in the
+     *         column "s", and the given values in the column "u"
+     */
+    private BufferedDataTable createTable(final String rowIdPrefix, final int[] values, final String[] strings,
+        final int[] unreadValues) {
+        var container = m_exec.createDataContainer(SPEC);
+        for (int i = 0; i < values.length; i++) {
+            container.addRowToTable(new DefaultRow(new RowKey(rowIdPrefix + i), new IntCell(values[i]),
+                new StringCell(strings[i]), new IntCell(unreadValues[i])));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    /** @return a table with the given values in the column "a", "s" + value in "s", and 0 in "u" */
+    private BufferedDataTable createTable(final int... values) {
+        return createTable("Row", values, IntStream.of(values).mapToObj(v -> "s" + v).toArray(String[]::new),
+            new int[values.length]);
+    }
+
+    /** @return the input table with the column "r" = 10 * "a" appended as the Expression node would compute it */
+    private BufferedDataTable evaluate(final BufferedDataTable inputTable) {
+        var outputSpec = new DataTableSpec(SPEC, new DataTableSpec(new DataColumnSpecCreator("r", IntCell.TYPE)
+            .createSpec()));
+        var container = m_exec.createDataContainer(outputSpec);
+        try (var iterator = inputTable.iterator()) {
+            while (iterator.hasNext()) {
+                var row = iterator.next();
+                container.addRowToTable(new DefaultRow(row.getKey(), row.getCell(0), row.getCell(1), row.getCell(2),
+                    new IntCell(10 * ((IntCell)row.getCell(0)).getIntValue())));
+            }
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private IncrementalExecutionState createState(final BufferedDataTable inputTable) throws Exception {
+        var state = IncrementalExecutionState.create(FINGERPRINT, KEY_COLUMNS, Set.of("r"), inputTable,
+            evaluate(inputTable), m_exec);
+        m_states.add(state);
+        return state;
+    }
+
+    /** Append the result of the appended rows to the state as the Expression node does */
+    private IncrementalExecutionState appendToState(final IncrementalExecutionState state,
+        final BufferedDataTable inputTable) throws Exception {
+        var inputDigest = state.digestIfAppended(inputTable, m_exec);
+        assertTrue(inputDigest.isPresent(), "Expected the input table to start with the previous rows.");
+        var appendedRows = state.getAppendedRows(inputTable, m_exec);
+        var newState = state.withAppendedOutput(inputTable, inputDigest.get(), evaluate(appendedRows), m_exec);
+        // NB: The new state owns the results of the previous state
+        m_states.remove(state);
+        m_states.add(newState);
+        return newState;
+    }
+
+    @Test
+    void testAppendedRowsAreReused() throws Exception {
+        var state = createState(createTable(1, 2, 3));
+        var appendedTable = createTable(1, 2, 3, 4, 5);
+
+        assertTrue(state.digestIfAppended(appendedTable, m_exec).isPresent(),
+            "Expected the appended table to start with the previous rows.");
+        assertEquals(List.of("Row3,4,s4,0", "Row4,5,s5,0"), getRows(state.getAppendedRows(appendedTable, m_exec)),
+            "Expected only the appended rows to be evaluated.");
+
+        var appendedState = appendToState(state, appendedTable);
+        assertEquals(getRows(evaluate(appendedTable)), getRows(appendedState.createOutput(appendedTable, m_exec)),
+            "Expected the previous results followed by the results of the appended rows.");
+        assertTrue(appendedState.digestIfAppended(createTable(1, 2, 3, 4, 5, 6), m_exec).isPresent(),
+            "Expected a further appended table to start with the rows of the appended table.");
+    }
+
+    @Test
+    void testUnchangedTableIsReused() throws Exception {
+        var table = createTable(1, 2, 3);
+        var state = createState(table);
+
+        assertTrue(state.digestIfAppended(table, m_exec).isPresent(), "Expected an unchanged table to be reused.");
+        assertEquals(0, state.getAppendedRows(table, m_exec).size(), "Expected no appended rows.");
+        assertEquals(getRows(evaluate(table)), getRows(state.createOutput(table, m_exec)),
+            "Expected the previous output.");
+    }
+
+    @Test
+    void testChangedValueWithSameRowIdRequiresFullExecution() throws Exception {
+        var state = createState(createTable(1, 2, 3));
+        assertFalse(state.digestIfAppended(createTable(1, 7, 3, 4), m_exec).isPresent(),
+            "Expected a changed value in an existing row to require a full execution.");
+        assertFalse(state.digestIfAppended(createTable(1, 3, 2), m_exec).isPresent(),
+            "Expected swapped values to require a full execution.");
+    }
+
+    @Test
+    void testChangedValueWithSameHashCodeRequiresFullExecution() throws Exception {
+        assertEquals("Aa".hashCode(), "BB".hashCode(), "Expected strings with the same hash code.");
+        var values = new int[]{1, 2};
+        var unreadValues = new int[]{0, 0};
+        var state = createState(createTable("Row", values, new String[]{"x", "Aa"}, unreadValues));
+        assertFalse(
+            state.digestIfAppended(createTable("Row", values, new String[]{"x", "BB"}, unreadValues), m_exec)
+                .isPresent(),
+            "Expected a changed string with the same hash code to require a full execution.");
+    }
+
+    @Test
+    void testChangedRowIdsRequireFullExecution() throws Exception {
+        var values = new int[]{1, 2};
+        var strings = new String[]{"s1", "s2"};
+        var unreadValues = new int[]{0, 0};
+        var state = createState(createTable("Row", values, strings, unreadValues));
+        assertFalse(state.digestIfAppended(createTable("Other", values, strings, unreadValues), m_exec).isPresent(),
+            "Expected changed RowIDs to require a full execution.");
+    }
+
+    @Test
+    void testChangedUnreadColumnIsTakenFromInput() throws Exception {
+        var values = new int[]{1, 2};
+        var strings = new String[]{"s1", "s2"};
+        var state = createState(createTable("Row", values, strings, new int[]{0, 0}));
+
+        var changedTable = createTable("Row", values, strings, new int[]{5, 6});
+        assertTrue(state.digestIfAppended(changedTable, m_exec).isPresent(),
+            "Expected a changed column that is not read by the expressions to keep the previous results.");
+        assertEquals(List.of("Row0,1,s1,5,10", "Row1,2,s2,6,20"), getRows(state.createOutput(changedTable, m_exec)),
+            "Expected the values of the unread column from the current input table.");
+    }
+
+    @Test
+    void testRemovedRowsRequireFullExecution() throws Exception {
+        var state = createState(createTable(1, 2, 3));
+        assertFalse(state.digestIfAppended(createTable(1, 2), m_exec).isPresent(),
+            "Expected removed rows to require a full execution.");
+    }
+
+    @Test
+    void testManyAppendsKeepAllRows() throws Exception {
+        var state = createState(createTable(0));
+        BufferedDataTable table = null;
+        for (int numRows = 2; numRows <= 40; numRows++) {
+            table = createTable(IntStream.range(0, numRows).toArray());
+            state = appendToState(state, table);
+        }
+        assertEquals(getRows(evaluate(table)), getRows(state.createOutput(table, m_exec)),
+            "Expected the results of all executions in order.");
+    }
+
+    @Test
+    void testSaveAndLoad(@TempDir final File nodeInternDir) throws Exception {
+        var table = createTable(1, 2, 3, 4);
+        var state = appendToState(createState(createTable(1, 2, 3)), table);
+        state.save(nodeInternDir, m_exec);
+
+        var loadedState = IncrementalExecutionState.load(nodeInternDir, m_exec);
+        m_states.add(loadedState);
+        assertTrue(loadedState.hasFingerprint(FINGERPRINT), "Expected the saved fingerprint.");
+        assertFalse(loadedState.hasFingerprint("$a * 20"), "Expected a different fingerprint to not match.");
+        assertEquals(getRows(evaluate(table)), getRows(loadedState.createOutput(table, m_exec)),
+            "Expected the saved results.");
+        assertTrue(loadedState.digestIfAppended(createTable(1, 2, 3, 4, 5), m_exec).isPresent(),
+            "Expected the saved rows to be recognized.");
+        assertFalse(loadedState.digestIfAppended(createTable(1, 2, 0, 4, 5), m_exec).isPresent(),
+            "Expected changed rows to be recognized.");
+    }
+
+    @Test
+    void testLoadWithoutSavedState(@TempDir final File nodeInternDir) throws Exception {
+        assertNull(IncrementalExecutionState.load(nodeInternDir, m_exec), "Expected no state if none was saved.");
+    }
+
+    @Test
+    void testKeyColumnsAreTheReadInputColumns() {
+        assertArrayEquals(new int[]{0, 1},
+            IncrementalExecutionState.findKeyColumns(List.of("$s + \"!\"", "$a + $x", "$[ROW_ID]"), SPEC),
+            "Expected the input columns that are read by the expressions in ascending order.");
+    }
+
+    @Test
+    void testRowLocalExpressionsSupportIncrementalExecution() {
+        assertTrue(IncrementalExecutionState.supportsIncrementalExecution(List.of("$a + 1", "$[ROW_ID] + $b")),
+            "Expected row-local expressions to support incremental execution.");
+    }
+
+    @Test
+    void testAggregationsRequireFullExecution() {
+        assertFalse(IncrementalExecutionState.supportsIncrementalExecution(List.of("$a + 1", "COLUMN_MAX(\"a\")")),
+            "Expected aggregations to require a full execution.");
+    }
+
+    @Test
+    void testOffsetsRequireFullExecution() {
+        assertFalse(IncrementalExecutionState.supportsIncrementalExecution(List.of("$[\"a\", -1]")),
+            "Expected negative offsets to require a full execution.");
+        assertFalse(IncrementalExecutionState.supportsIncrementalExecution(List.of("$[\"a\", 1]")),
+            "Expected positive offsets to require a full execution.");
+    }
+
+    @Test
+    void testRowIndexRequiresFullExecution() {
+        assertFalse(IncrementalExecutionState.supportsIncrementalExecution(List.of("$[ROW_INDEX]")),
+            "Expected the ROW_INDEX to require a full execution.");
+    }
+
+    @Test
+    void testExecutionTimeRequiresFullExecution() {
+        assertFalse(IncrementalExecutionState.supportsIncrementalExecution(List.of("now()")),
+            "Expected now() to require a full execution.");
+        assertFalse(IncrementalExecutionState.supportsIncrementalExecution(List.of("if($a > 0, today(), MISSING)")),
+            "Expected today() to require a full execution.");
+    }
+
+    @Test
+    void testParseErrorRequiresFullExecution() {
+        assertFalse(IncrementalExecutionState.supportsIncrementalExecution(List.of("1 +")),
+            "Expected a parse error to require a full execution.");
+    }
+}
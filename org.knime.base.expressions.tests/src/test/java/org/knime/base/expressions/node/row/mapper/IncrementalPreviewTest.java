@@ -0,0 +1,192 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.base.expressions.node.row.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.knime.base.expressions.node.NodeTestUtils.append;
+import static org.knime.base.expressions.node.NodeTestUtils.getRows;
+import static org.knime.base.expressions.node.NodeTestUtils.replace;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.knime.base.expressions.ExpressionRunnerUtils.NewColumnPosition;
+import org.knime.base.expressions.node.ExpressionDiagnostic;
+import org.knime.base.expressions.node.NodeTestUtils;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+
+/**
+ * Tests that {@link IncrementalPreview} only re-evaluates the expressions after the first changed expression.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+final class IncrementalPreviewTest {
+
+    private ExecutionContext m_exec;
+
+    private BufferedDataTable m_inputTable;
+
+    private IncrementalPreview m_preview;
+
+    @BeforeEach
+    void createPreview() {
+        m_exec = NodeTestUtils.createExecutionContext();
+        m_inputTable = createTable(3);
+        m_preview = new IncrementalPreview();
+    }
+
+    private BufferedDataTable createTable(final int numRows) {
+        var container = m_exec.createDataContainer(new DataTableSpec( //
+            new DataColumnSpecCreator("a", LongCell.TYPE).createSpec(), //
+            new DataColumnSpecCreator("b", LongCell.TYPE).createSpec() //
+        ));
+        for (int i = 0; i < numRows; i++) {
+            container.addRowToTable(new DefaultRow(new RowKey("Row" + i), new LongCell(i), new LongCell(10L * i)));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private IncrementalPreview.Result evaluate(final List<String> expressions,
+        final List<NewColumnPosition> newColumnPositions, final BufferedDataTable inputTable) throws Exception {
+        return m_preview.evaluate(expressions, newColumnPositions, inputTable, Map.of(), m_exec,
+            new ExpressionDiagnostic[expressions.size()]);
+    }
+
+    @Test
+    void testReusesUnchangedLeadingExpressions() throws Exception {
+        var positions = List.of(append("x"), append("y"), append("z"));
+        var first = evaluate(List.of("$a + 1", "$b * 2", "$x + $y"), positions, m_inputTable);
+        assertEquals(0, first.numReusedTables(), "Expected nothing to reuse for the first preview.");
+        m_preview.remember(first);
+
+        // NB: Leading and trailing whitespace does not change the result
+        var second = evaluate(List.of(" $a + 1", "$b * 2\n", "$x - $y"), positions, m_inputTable);
+        assertEquals(2, second.numReusedTables(), "Expected the unchanged expressions to be reused.");
+        assertSame(first.outputTables().get(0), second.outputTables().get(0), "Expected the reused output table.");
+        assertSame(first.outputTables().get(1), second.outputTables().get(1), "Expected the reused output table.");
+        assertNotSame(first.outputTables().get(2), second.outputTables().get(2),
+            "Expected the changed expression to be evaluated.");
+        assertEquals(List.of("Row0,0,0,1,0,1", "Row1,1,10,2,20,-18", "Row2,2,20,3,40,-37"),
+            getRows(second.outputTables().get(2)), "Expected the result of the changed expression.");
+    }
+
+    @Test
+    void testChangedExpressionInvalidatesFollowingExpressions() throws Exception {
+        var positions = List.of(append("x"), append("y"));
+        m_preview.remember(evaluate(List.of("$a + 1", "$b * 2"), positions, m_inputTable));
+
+        var changedFirst = evaluate(List.of("$a + 2", "$b * 2"), positions, m_inputTable);
+        assertEquals(0, changedFirst.numReusedTables(), "Expected all expressions after the change to be evaluated.");
+
+        var changedPosition = evaluate(List.of("$a + 1", "$b * 2"), List.of(replace("a"), append("y")), m_inputTable);
+        assertEquals(0, changedPosition.numReusedTables(),
+            "Expected a changed output column to invalidate the result.");
+    }
+
+    @Test
+    void testKeepsWarningsOfReusedExpressions() throws Exception {
+        var positions = List.of(append("x"), append("y"));
+        var first = evaluate(List.of("$a // 0", "$b * 2"), positions, m_inputTable);
+        assertNotNull(first.warnings()[0], "Expected a warning for the division by zero.");
+        m_preview.remember(first);
+
+        var warnings = new ExpressionDiagnostic[2];
+        var second = m_preview.evaluate(List.of("$a // 0", "$b * 3"), positions, m_inputTable, Map.of(), m_exec,
+            warnings);
+        assertEquals(1, second.numReusedTables(), "Expected the first expression to be reused.");
+        assertSame(first.warnings()[0], warnings[0], "Expected the warning of the reused expression.");
+        assertNull(warnings[1], "Expected no warning for the second expression.");
+    }
+
+    @Test
+    void testChangedInputTableInvalidatesPreview() throws Exception {
+        var expressions = List.of("$a + 1", "$b * 2");
+        var positions = List.of(append("x"), append("y"));
+        var first = evaluate(expressions, positions, m_inputTable);
+        m_preview.remember(first);
+
+        var otherInputTable = createTable(5);
+        var second = evaluate(expressions, positions, otherInputTable);
+        assertEquals(0, second.numReusedTables(), "Expected nothing to reuse for a different input table.");
+        assertEquals(5, second.outputTables().get(1).size(), "Expected the rows of the new input table.");
+    }
+
+    @Test
+    void testOnlyRememberedResultsAreReused() throws Exception {
+        var expressions = List.of("$a + 1", "$b * 2");
+        var positions = List.of(append("x"), append("y"));
+        var first = evaluate(expressions, positions, m_inputTable);
+        m_preview.remember(first);
+
+        var changed = evaluate(List.of("$a + 1", "$b * 3"), positions, m_inputTable);
+        m_preview.clearNewTables(changed, m_exec);
+        assertEquals(List.of("Row0,0,0,1", "Row1,1,10,2", "Row2,2,20,3"), getRows(first.outputTables().get(0)),
+            "Expected the reused table to be kept when the new tables are cleared.");
+
+        var third = evaluate(expressions, positions, m_inputTable);
+        assertEquals(2, third.numReusedTables(), "Expected the remembered preview to be reused.");
+
+        m_preview.reset();
+        assertEquals(0, evaluate(expressions, positions, m_inputTable).numReusedTables(),
+            "Expected nothing to reuse after a reset.");
+    }
+}
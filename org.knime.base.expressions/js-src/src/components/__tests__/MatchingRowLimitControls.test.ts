@@ -0,0 +1,94 @@
+import { afterEach, describe, expect, it } from "vitest";
+import { enableAutoUnmount, mount } from "@vue/test-utils";
+
+import { Checkbox, NumberInput } from "@knime/components";
+
+import MatchingRowLimitControls, {
+  type MatchingRowLimitState,
+} from "../MatchingRowLimitControls.vue";
+
+describe("MatchingRowLimitControls", () => {
+  enableAutoUnmount(afterEach);
+
+  const doMount = (
+    modelValue: MatchingRowLimitState = {
+      maxMatchingRows: -1,
+      outputHasMatchesVariable: false,
+    },
+  ) =>
+    mount(MatchingRowLimitControls, {
+      props: { modelValue },
+    });
+
+  const lastEmittedValue = (wrapper: ReturnType<typeof doMount>) =>
+    wrapper.emitted("update:modelValue")?.at(-1)?.[0];
+
+  it("hides the limit input if all matching rows are kept", () => {
+    const wrapper = doMount();
+    const [limitCheckbox, hasMatchesCheckbox] =
+      wrapper.findAllComponents(Checkbox);
+    expect(limitCheckbox.props("modelValue")).toBe(false);
+    expect(hasMatchesCheckbox.props("modelValue")).toBe(false);
+    expect(wrapper.findComponent(NumberInput).exists()).toBe(false);
+  });
+
+  it("shows the limit input if the matching rows are limited", () => {
+    const wrapper = doMount({
+      maxMatchingRows: 10,
+      outputHasMatchesVariable: true,
+    });
+    const [limitCheckbox, hasMatchesCheckbox] =
+      wrapper.findAllComponents(Checkbox);
+    expect(limitCheckbox.props("modelValue")).toBe(true);
+    expect(hasMatchesCheckbox.props("modelValue")).toBe(true);
+    expect(wrapper.findComponent(NumberInput).props("modelValue")).toBe(10);
+  });
+
+  it("sets a limit when the limit is enabled", async () => {
+    const wrapper = doMount();
+    await wrapper
+      .findAllComponents(Checkbox)[0]
+      .vm.$emit("update:modelValue", true);
+    expect(lastEmittedValue(wrapper)).toEqual({
+      maxMatchingRows: 1,
+      outputHasMatchesVariable: false,
+    });
+  });
+
+  it("removes the limit when the limit is disabled", async () => {
+    const wrapper = doMount({
+      maxMatchingRows: 10,
+      outputHasMatchesVariable: false,
+    });
+    await wrapper
+      .findAllComponents(Checkbox)[0]
+      .vm.$emit("update:modelValue", false);
+    expect(lastEmittedValue(wrapper)).toEqual({
+      maxMatchingRows: -1,
+      outputHasMatchesVariable: false,
+    });
+  });
+
+  it("does not allow a limit below one", async () => {
+    const wrapper = doMount({
+      maxMatchingRows: 10,
+      outputHasMatchesVariable: false,
+    });
+    await wrapper.findComponent(NumberInput).vm.$emit("update:modelValue", 0);
+    expect(lastEmittedValue(wrapper)).toEqual({
+      maxMatchingRows: 1,
+      outputHasMatchesVariable: false,
+    });
+  });
+
+  it("enables the has matches flow variable", async () => {
+    const wrapper = doMount();
+    await wrapper
+      .findAllComponents(Checkbox)[1]
+      .vm.$emit("update:modelValue", true);
+    expect(lastEmittedValue(wrapper)).toEqual({
+      maxMatchingRows: -1,
+      outputHasMatchesVariable: true,
+    });
+  });
+});
@@ -6,6 +6,8 @@ import type { FlowVariableType } from "@/flowVariableApp/flowVariableTypes";
 
 export type ExpressionRowFilterNodeSettings = ExpressionVersion & {
   script: string;
+  maxMatchingRows?: number;
+  outputHasMatchesVariable?: boolean;
   settingsAreOverriddenByFlowVariable?: boolean;
 };
 
@@ -15,6 +17,7 @@ export type ExpressionRowMapperNodeSettings = ExpressionVersion & {
   outputModes: OutputInsertionMode[];
   createdColumns: string[];
   replacedColumns: string[];
+  incrementalExecution?: boolean;
 };
 
 export type ExpressionFlowVariableNodeSettings = ExpressionVersion & {
@@ -163,6 +163,8 @@ const SINGLE_QUOTE_FLOW_VARIABLES = FLOW_VARIABLES_ITEMS.filter(
 ).flatMap((i) => i.expectedSingleQuoteCompletion);
 
 /** Unsupported items. They should never appear in the suggestions. */
+const KEYWORDS = ["in", "not in", "let ${1:name} = ${2:value} in $0"];
+
 const UNSUPPORTED_ITEM_NAMES = [
   ...COLUMNS_ITEMS.filter((i) => !i.supported).map((i) => i.name),
   ...FLOW_VARIABLES_ITEMS.filter((i) => !i.supported).map((i) => i.name),
@@ -248,6 +250,7 @@ describe("autoComplete", () => {
         expectedRangeText: "",
         expectedItems: [
           ...FUNCTIONS,
+          ...KEYWORDS,
           ...SPECIAL_COLUMNS,
           ...SHORTHAND_COLUMNS,
           ...DOUBLE_QUOTE_COLUMNS,
@@ -264,7 +267,7 @@ describe("autoComplete", () => {
         val: "a",
         column: 2,
         expectedRangeText: "a",
-        expectedItems: FUNCTIONS,
+        expectedItems: [...FUNCTIONS, ...KEYWORDS],
         forbiddenItems: [
           ...SINGLE_QUOTE_COLUMNS,
           ...SINGLE_QUOTE_FLOW_VARIABLES,
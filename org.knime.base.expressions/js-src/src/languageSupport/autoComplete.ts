@@ -244,6 +244,28 @@ const logicalOperatorsConstantsCompletions: StaticCompletionItem[] = [
     documentation: "Logical 'not' operator",
     filterText: "!",
   },
+  {
+    label: "in",
+    insertText: "in",
+    kind: monaco.languages.CompletionItemKind.Operator,
+    documentation: "Membership operator: checks if a value is in a list",
+  },
+  {
+    label: "not in",
+    insertText: "not in",
+    kind: monaco.languages.CompletionItemKind.Operator,
+    documentation: "Membership operator: checks if a value is not in a list",
+  },
+  {
+    label: "let ... in ...",
+    insertText: "let ${1:name} = ${2:value} in $0",
+    kind: monaco.languages.CompletionItemKind.Keyword,
+    documentation:
+      "Binds a value to a name that can be used in the following expression",
+    filterText: "let",
+    insertTextRules:
+      monaco.languages.CompletionItemInsertTextRule.InsertAsSnippet,
+  },
 ];
 
 export const registerCompletionItemProvider = ({
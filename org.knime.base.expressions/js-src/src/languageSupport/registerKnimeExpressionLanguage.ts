@@ -43,7 +43,7 @@ const register = ({
   monaco.languages.setMonarchTokensProvider(languageName, {
     defaultToken: "",
 
-    keywords: ["MISSING", "TRUE", "FALSE"],
+    keywords: ["MISSING", "TRUE", "FALSE", "let", "LET", "in", "IN"],
 
     brackets: [
       { open: "[", close: "]", token: "delimiter.bracket" },
@@ -12,6 +12,8 @@ export const DEFAULT_ROW_FILTER_INITIAL_SETTINGS: ExpressionRowFilterNodeSetting
     builtinFunctionsVersion: 1,
     builtinAggregationsVersion: 1,
     script: "mocked default script",
+    maxMatchingRows: -1,
+    outputHasMatchesVariable: false,
   };
 
 export default {
@@ -93,4 +93,19 @@ describe("ExpressionsRowFilterApp.vue", () => {
       ROW_FILTER_INITIAL_DATA.functionCatalog,
     );
   });
+
+  it("renders the matching row limit controls with the initial settings", async () => {
+    const { wrapper } = doMount();
+
+    await flushPromises();
+
+    const limitControls = wrapper.findComponent({
+      name: "MatchingRowLimitControls",
+    });
+    expect(limitControls.exists()).toBeTruthy();
+    expect(limitControls.props("modelValue")).toEqual({
+      maxMatchingRows: -1,
+      outputHasMatchesVariable: false,
+    });
+  });
 });
@@ -0,0 +1,119 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.base.expressions;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.knime.base.expressions.aggregations.ColumnAggregations.Aggregation;
+import org.knime.base.expressions.aggregations.ColumnAggregations.RowWiseAggregation;
+import org.knime.core.expressions.Ast.AggregationCall;
+import org.knime.core.expressions.Computer;
+import org.knime.core.expressions.Computer.IntegerComputer;
+
+/**
+ * The results of the aggregations of an expression that were evaluated by
+ * {@link ExpressionRunnerUtils#evaluateAggregations}. The results are kept separately from the {@link AggregationCall}
+ * nodes such that the same expression can be evaluated on different tables at the same time.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+public final class AggregationResults {
+
+    /** Results for an expression without aggregations */
+    public static final AggregationResults EMPTY = new AggregationResults(new IdentityHashMap<>());
+
+    private final Map<AggregationCall, Computer> m_resultComputers;
+
+    private final Map<AggregationCall, RowWiseAggregation> m_rowWiseAggregations;
+
+    private AggregationResults(final Map<AggregationCall, Aggregation> aggregations) {
+        m_resultComputers = new IdentityHashMap<>();
+        m_rowWiseAggregations = new IdentityHashMap<>();
+        for (var entry : aggregations.entrySet()) {
+            if (entry.getValue() instanceof RowWiseAggregation rowWiseAggregation) {
+                // The result depends on the row and is looked up when the expression is evaluated
+                m_rowWiseAggregations.put(entry.getKey(), rowWiseAggregation);
+            } else {
+                m_resultComputers.put(entry.getKey(), entry.getValue().createResultComputer());
+            }
+        }
+    }
+
+    /**
+     * @param aggregations the aggregations after all rows have been added, by the identity of the aggregation call
+     * @return the results of the given aggregations
+     */
+    static AggregationResults of(final IdentityHashMap<AggregationCall, Aggregation> aggregations) {
+        return new AggregationResults(aggregations);
+    }
+
+    /**
+     * @param agg the aggregation call
+     * @return the computer that returns the result of the aggregation or {@code null} if the aggregation was not
+     *         evaluated
+     */
+    public Computer getResultComputer(final AggregationCall agg) {
+        return m_resultComputers.get(agg);
+    }
+
+    /**
+     * Get the result computer for the given
+     * {@link org.knime.core.expressions.aggregations.ColumnAggregation#isRowWise() row-wise} aggregation call.
+     *
+     * @param agg the aggregation call
+     * @param rowIndex a computer that returns the ROW_INDEX of the current row
+     * @return the computer that returns the result of the aggregation for the current row or {@code null} if the
+     *         aggregation was not evaluated
+     */
+    public Computer getRowWiseResultComputer(final AggregationCall agg, final IntegerComputer rowIndex) {
+        var rowWiseAggregation = m_rowWiseAggregations.get(agg);
+        return rowWiseAggregation == null ? null : rowWiseAggregation.createResultComputer(rowIndex);
+    }
+}
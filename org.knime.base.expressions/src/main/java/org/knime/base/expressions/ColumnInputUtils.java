@@ -52,6 +52,7 @@ import java.util.Arrays;
 import java.util.Optional;
 import java.util.function.Function;
 
+import org.knime.base.expressions.ExpressionRunnerUtils.ResolvedColumns;
 import org.knime.core.data.BooleanValue;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataTableSpec;
@@ -67,8 +68,8 @@ import org.knime.core.data.time.period.PeriodValue;
 import org.knime.core.data.time.zoneddatetime.ZonedDateTimeValue;
 import org.knime.core.data.v2.ReadValue;
 import org.knime.core.data.v2.ValueFactory;
-import org.knime.core.data.v2.schema.ValueSchema;
 import org.knime.core.expressions.Ast;
+import org.knime.core.expressions.Ast.AggregationCall;
 import org.knime.core.expressions.Ast.ColumnAccess;
 import org.knime.core.expressions.Computer;
 import org.knime.core.expressions.Computer.BooleanComputer;
@@ -153,17 +154,18 @@ public final class ColumnInputUtils {
      * Create a function that maps a {@link ColumnAccess} to a {@link Computer} that reads the value from the
      * appropriate input read access.
      *
-     * @param inputTableSchema the schema of the input table (needed to create a correct {@link ReadValue} from a
-     *            primitive {@link ReadAccess}.
+     * @param resolvedColumns the input table and the column indices of the expression (the schema of the table is
+     *            needed to create a correct {@link ReadValue} from a primitive {@link ReadAccess}).
      * @param requiredColumns the columns that are used in the expression
      * @param inputs the read accesses of the input table
      * @return a function that maps a {@link ColumnAccess} to a {@link Computer} and can be used as an argument to
      *         {@link Expressions#evaluate}
      */
     public static Function<ColumnAccess, Optional<Computer>> createColumnToComputerFn(
-        final ValueSchema inputTableSchema, final RequiredColumns requiredColumns, final ReadAccess[] inputs) {
+        final ResolvedColumns resolvedColumns, final RequiredColumns requiredColumns, final ReadAccess[] inputs) {
+        var inputTableSchema = resolvedColumns.table().getSchema();
         return columnAccess -> {
-            var resolvedColumIdx = Expressions.getResolvedColumnIdx(columnAccess);
+            var resolvedColumIdx = resolvedColumns.columnIdx(columnAccess);
             var inputAccessIndex = requiredColumns.getInputIndex(resolvedColumIdx);
             var inputAccess = inputs[inputAccessIndex];
             var valueFactory = inputTableSchema.getValueFactory(resolvedColumIdx);
@@ -171,6 +173,35 @@ public final class ColumnInputUtils {
         };
     }
 
+    /**
+     * Create a function that maps an {@link AggregationCall} to a {@link Computer} using the given additional inputs.
+     * The result of a {@link org.knime.core.expressions.aggregations.ColumnAggregation#isRowWise() row-wise}
+     * aggregation is looked up by the ROW_INDEX column that was appended by
+     * {@link ExpressionRunnerUtils#resolveColumns}.
+     *
+     * @param resolvedColumns the input table and the index of its ROW_INDEX column
+     * @param requiredColumns the columns that are used in the expression
+     * @param inputs the read accesses of the input table
+     * @param additionalInputs the additional inputs that provide the aggregation results
+     * @return a function that maps an {@link AggregationCall} to a {@link Computer} and can be used as an argument to
+     *         {@link Expressions#evaluate}
+     */
+    public static Function<AggregationCall, Optional<Computer>> createAggregationToComputerFn(
+        final ResolvedColumns resolvedColumns, final RequiredColumns requiredColumns, final ReadAccess[] inputs,
+        final ExpressionAdditionalInputs additionalInputs) {
+        var inputTableSchema = resolvedColumns.table().getSchema();
+        return aggregationCall -> {
+            if (!aggregationCall.aggregation().isRowWise()) {
+                return additionalInputs.aggregationToComputer(aggregationCall);
+            }
+            var rowIndexColumnIdx = resolvedColumns.rowIndexColumnIdx();
+            var inputAccess = inputs[requiredColumns.getInputIndex(rowIndexColumnIdx)];
+            var rowIndex = (IntegerComputer)readAccessToComputer(inputTableSchema.getValueFactory(rowIndexColumnIdx),
+                inputAccess);
+            return additionalInputs.rowWiseAggregationToComputer(aggregationCall, rowIndex);
+        };
+    }
+
     /** Create a computer that reads the value from the given read access */
     private static Computer readAccessToComputer(final ValueFactory<ReadAccess, WriteAccess> valueFactory,
         final ReadAccess readAccess) {
@@ -204,7 +235,7 @@ public final class ColumnInputUtils {
 
     /**
      * A map from the input of the {@link MapTransformSpec.MapperFactory#createMapper mapper} function to the full table
-     * column index (that is {@link Expressions#getResolvedColumnIdx(Ast.ColumnAccess)}). For example, if an expression
+     * column index (that is {@link ResolvedColumns#columnIdx(Ast.ColumnAccess)}). For example, if an expression
      * uses (only) <code>$["second column"]</code> and <code>$["fifth column"]</code> this would result in
      * <code>columnIndices = [1, 4]</code>
      *
@@ -214,13 +245,17 @@ public final class ColumnInputUtils {
 
         /**
          * @param expression
-         * @return the {@link RequiredColumns} of all {@link org.knime.core.expressions.Ast.ColumnAccess} nodes
+         * @param resolvedColumns the column indices of the expression
+         * @return the {@link RequiredColumns} of all {@link org.knime.core.expressions.Ast.ColumnAccess} nodes and
+         *         the ROW_INDEX column of all row-wise {@link AggregationCall} nodes
          */
-        public static RequiredColumns of(final Ast expression) {
+        public static RequiredColumns of(final Ast expression, final ResolvedColumns resolvedColumns) {
             var nodes = Ast.postorder(expression);
             int[] columnIndices = nodes.stream().mapToInt(node -> {
                 if (node instanceof Ast.ColumnAccess n) {
-                    return Expressions.getResolvedColumnIdx(n);
+                    return resolvedColumns.columnIdx(n);
+                } else if (node instanceof AggregationCall n && n.aggregation().isRowWise()) {
+                    return resolvedColumns.rowIndexColumnIdx();
                 } else {
                     return -1;
                 }
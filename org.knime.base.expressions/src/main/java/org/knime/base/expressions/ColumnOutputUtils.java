@@ -48,10 +48,12 @@
  */
 package org.knime.base.expressions;
 
+import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataType;
 import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.BooleanCell.BooleanCellFactory;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.LongCell;
 import org.knime.core.data.def.StringCell;
@@ -216,6 +218,44 @@ public final class ColumnOutputUtils {
         }
     }
 
+    /**
+     * Compute the result of the given computer as a {@link DataCell} of the type given by
+     * {@link #valueTypeToDataColumnSpec}.
+     *
+     * @param outputComputer the computer that computes the output value
+     * @param ctx the evaluation context
+     * @return the result as a {@link DataCell} or a missing cell if the result is missing
+     * @throws ExpressionEvaluationException if the evaluation of the expression fails
+     */
+    public static DataCell computeDataCell(final Computer outputComputer, final EvaluationContext ctx)
+        throws ExpressionEvaluationException {
+        if (outputComputer.isMissing(ctx)) {
+            return DataType.getMissingCell();
+        } else if (outputComputer instanceof BooleanComputer booleanComputer) {
+            return BooleanCellFactory.create(booleanComputer.compute(ctx));
+        } else if (outputComputer instanceof IntegerComputer integerComputer) {
+            return new LongCell(integerComputer.compute(ctx));
+        } else if (outputComputer instanceof FloatComputer floatComputer) {
+            return new DoubleCell(floatComputer.compute(ctx));
+        } else if (outputComputer instanceof LocalDateComputer localDateComputer) {
+            return LocalDateCellFactory.create(localDateComputer.compute(ctx));
+        } else if (outputComputer instanceof LocalTimeComputer localTimeComputer) {
+            return LocalTimeCellFactory.create(localTimeComputer.compute(ctx));
+        } else if (outputComputer instanceof LocalDateTimeComputer localDateTimeComputer) {
+            return LocalDateTimeCellFactory.create(localDateTimeComputer.compute(ctx));
+        } else if (outputComputer instanceof ZonedDateTimeComputer zonedDateTimeComputer) {
+            return ZonedDateTimeCellFactory.create(zonedDateTimeComputer.compute(ctx));
+        } else if (outputComputer instanceof TimeDurationComputer durationComputer) {
+            return DurationCellFactory.create(durationComputer.compute(ctx));
+        } else if (outputComputer instanceof DateDurationComputer periodComputer) {
+            return PeriodCellFactory.create(periodComputer.compute(ctx));
+        } else if (outputComputer instanceof StringComputer stringComputer) {
+            return new StringCell(stringComputer.compute(ctx));
+        } else {
+            throw new IllegalArgumentException("Unsupported Computer: " + outputComputer);
+        }
+    }
+
     /** {@link #write(EvaluationContext)} applies a result value from a computer to a {@link WriteValue} */
     @FunctionalInterface
     public interface ComputerResultWriter {
@@ -0,0 +1,214 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.expressions;
+
+import java.util.Optional;
+
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.time.duration.DurationValue;
+import org.knime.core.data.time.localdate.LocalDateValue;
+import org.knime.core.data.time.localdatetime.LocalDateTimeValue;
+import org.knime.core.data.time.localtime.LocalTimeValue;
+import org.knime.core.data.time.period.PeriodValue;
+import org.knime.core.data.time.zoneddatetime.ZonedDateTimeValue;
+import org.knime.core.expressions.Ast;
+import org.knime.core.expressions.Ast.ColumnAccess;
+import org.knime.core.expressions.Computer;
+import org.knime.core.expressions.Computer.BooleanComputer;
+import org.knime.core.expressions.Computer.BooleanComputerResultSupplier;
+import org.knime.core.expressions.Computer.DateDurationComputer;
+import org.knime.core.expressions.Computer.FloatComputer;
+import org.knime.core.expressions.Computer.IntegerComputer;
+import org.knime.core.expressions.Computer.LocalDateComputer;
+import org.knime.core.expressions.Computer.LocalDateTimeComputer;
+import org.knime.core.expressions.Computer.LocalTimeComputer;
+import org.knime.core.expressions.Computer.StringComputer;
+import org.knime.core.expressions.Computer.TimeDurationComputer;
+import org.knime.core.expressions.Computer.ZonedDateTimeComputer;
+import org.knime.core.expressions.EvaluationContext;
+import org.knime.core.expressions.ExpressionCompileException;
+import org.knime.core.expressions.ExpressionEvaluationException;
+import org.knime.core.expressions.Expressions;
+import org.knime.core.expressions.TypedAst;
+import org.knime.core.expressions.ValueType;
+
+/**
+ * Evaluates a {@link Expressions#isRowLocal(Ast) row-local} expression on one {@link DataRow} at a time. Used to
+ * evaluate expressions while streaming over the rows of a table without materializing the table first.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+public final class DataRowExpressionEvaluator {
+
+    private final DataTableSpec m_spec;
+
+    private final Computer m_computer;
+
+    private DataRow m_row;
+
+    private long m_rowIndex;
+
+    /**
+     * Creates a new evaluator.
+     *
+     * @param expression the typed expression. Must be {@link Expressions#isRowLocal(Ast) row-local}.
+     * @param spec the spec of the rows that are evaluated
+     * @param additionalInputs the flow variables
+     * @throws ExpressionCompileException if the expression accesses a column that does not exist
+     * @throws IllegalArgumentException if the expression is not row-local
+     */
+    public DataRowExpressionEvaluator(final TypedAst expression, final DataTableSpec spec,
+        final ExpressionAdditionalInputs additionalInputs) throws ExpressionCompileException {
+        if (!Expressions.isRowLocal(expression.ast())) {
+            throw new IllegalArgumentException("The expression must only depend on the current row.");
+        }
+        m_spec = spec;
+        m_computer = Expressions.evaluate( //
+            expression, //
+            this::columnToComputer, //
+            additionalInputs::flowVariableToComputer, //
+            additionalInputs::aggregationToComputer //
+        );
+    }
+
+    /**
+     * Set the row the expression is evaluated on.
+     *
+     * @param row the row
+     * @param rowIndex the index of the row in the table (the ROW_INDEX)
+     * @return the computer for the result of the expression on this row. The same computer is returned for every row.
+     */
+    public Computer evaluate(final DataRow row, final long rowIndex) {
+        m_row = row;
+        m_rowIndex = rowIndex;
+        return m_computer;
+    }
+
+    /**
+     * Evaluate a BOOLEAN expression on the given row.
+     *
+     * @param row the row
+     * @param rowIndex the index of the row in the table (the ROW_INDEX)
+     * @param ctx the evaluation context
+     * @return the result of the expression
+     * @throws ExpressionEvaluationException if the evaluation of the expression fails
+     */
+    public boolean evaluateToBoolean(final DataRow row, final long rowIndex, final EvaluationContext ctx)
+        throws ExpressionEvaluationException {
+        return ((BooleanComputer)evaluate(row, rowIndex)).compute(ctx);
+    }
+
+    /**
+     * Evaluate the expression on the given row.
+     *
+     * @param row the row
+     * @param rowIndex the index of the row in the table (the ROW_INDEX)
+     * @param ctx the evaluation context
+     * @return the result of the expression as a {@link DataCell}
+     * @throws ExpressionEvaluationException if the evaluation of the expression fails
+     */
+    public DataCell evaluateToCell(final DataRow row, final long rowIndex, final EvaluationContext ctx)
+        throws ExpressionEvaluationException {
+        return ColumnOutputUtils.computeDataCell(evaluate(row, rowIndex), ctx);
+    }
+
+    private Optional<Computer> columnToComputer(final ColumnAccess columnAccess) {
+        var columnId = columnAccess.columnId();
+        return switch (columnId.type()) {
+            case ROW_ID -> Optional.of(StringComputer.of(ctx -> m_row.getKey().getString(), ctx -> false));
+            case ROW_INDEX -> Optional.of(IntegerComputer.of(ctx -> m_rowIndex, ctx -> false));
+            case NAMED -> {
+                var columnIdx = m_spec.findColumnIndex(columnId.name());
+                if (columnIdx == -1) {
+                    yield Optional.empty();
+                }
+                var valueType = ColumnInputUtils.mapDataTypeToValueType(m_spec.getColumnSpec(columnIdx).getType());
+                yield Optional.ofNullable(valueType).map(type -> cellToComputer(type, columnIdx));
+            }
+        };
+    }
+
+    /** Create a computer that reads the value from the cell at the given index of the current row */
+    private Computer cellToComputer(final ValueType valueType, final int columnIdx) {
+        BooleanComputerResultSupplier isMissing = ctx -> m_row.getCell(columnIdx).isMissing();
+
+        var baseType = valueType.baseType();
+        if (ValueType.BOOLEAN.equals(baseType)) {
+            return BooleanComputer.of(ctx -> ((BooleanValue)m_row.getCell(columnIdx)).getBooleanValue(), isMissing);
+        } else if (ValueType.INTEGER.equals(baseType)) {
+            return IntegerComputer.of(ctx -> ((LongValue)m_row.getCell(columnIdx)).getLongValue(), isMissing);
+        } else if (ValueType.FLOAT.equals(baseType)) {
+            return FloatComputer.of(ctx -> ((DoubleValue)m_row.getCell(columnIdx)).getDoubleValue(), isMissing);
+        } else if (ValueType.LOCAL_DATE.equals(baseType)) {
+            return LocalDateComputer.of(ctx -> ((LocalDateValue)m_row.getCell(columnIdx)).getLocalDate(), isMissing);
+        } else if (ValueType.LOCAL_TIME.equals(baseType)) {
+            return LocalTimeComputer.of(ctx -> ((LocalTimeValue)m_row.getCell(columnIdx)).getLocalTime(), isMissing);
+        } else if (ValueType.LOCAL_DATE_TIME.equals(baseType)) {
+            return LocalDateTimeComputer
+                .of(ctx -> ((LocalDateTimeValue)m_row.getCell(columnIdx)).getLocalDateTime(), isMissing);
+        } else if (ValueType.ZONED_DATE_TIME.equals(baseType)) {
+            return ZonedDateTimeComputer
+                .of(ctx -> ((ZonedDateTimeValue)m_row.getCell(columnIdx)).getZonedDateTime(), isMissing);
+        } else if (ValueType.TIME_DURATION.equals(baseType)) {
+            return TimeDurationComputer.of(ctx -> ((DurationValue)m_row.getCell(columnIdx)).getDuration(), isMissing);
+        } else if (ValueType.DATE_DURATION.equals(baseType)) {
+            return DateDurationComputer.of(ctx -> ((PeriodValue)m_row.getCell(columnIdx)).getPeriod(), isMissing);
+        } else if (ValueType.STRING.equals(baseType)) {
+            return StringComputer.of(ctx -> ((StringValue)m_row.getCell(columnIdx)).getStringValue(), isMissing);
+        } else {
+            throw new IllegalArgumentException("Unsupported value type: " + valueType);
+        }
+    }
+}
@@ -52,6 +52,7 @@ import java.util.Optional;
 
 import org.knime.core.expressions.Ast;
 import org.knime.core.expressions.Computer;
+import org.knime.core.expressions.Computer.IntegerComputer;
 
 /**
  * Provides flow variables and aggregations as computers to evaluate expressions.
@@ -75,4 +76,17 @@ public interface ExpressionAdditionalInputs {
      * @return a computer that returns the result of the aggregation
      */
     Optional<Computer> aggregationToComputer(Ast.AggregationCall aggregationCall);
+
+    /**
+     * Returns a computer for the given {@link org.knime.core.expressions.aggregations.ColumnAggregation#isRowWise()
+     * row-wise} aggregation call.
+     *
+     * @param aggregationCall the aggregation call
+     * @param rowIndex a computer that returns the ROW_INDEX of the current row
+     * @return a computer that returns the result of the aggregation for the current row
+     */
+    default Optional<Computer> rowWiseAggregationToComputer(final Ast.AggregationCall aggregationCall,
+        final IntegerComputer rowIndex) {
+        return Optional.empty();
+    }
 }
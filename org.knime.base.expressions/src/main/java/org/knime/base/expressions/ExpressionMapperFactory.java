@@ -49,21 +49,36 @@
 package org.knime.base.expressions;
 
 import org.knime.base.expressions.ColumnInputUtils.RequiredColumns;
+import org.knime.base.expressions.ExpressionRunnerUtils.ResolvedColumns;
 import org.knime.core.data.columnar.table.virtual.ColumnarVirtualTable.ColumnarMapperFactory;
+import org.knime.core.data.v2.ValueFactory;
 import org.knime.core.data.v2.schema.ValueSchema;
 import org.knime.core.data.v2.schema.ValueSchema.ValueSchemaColumn;
 import org.knime.core.data.v2.schema.ValueSchemaUtils;
-import org.knime.core.expressions.Ast;
+import org.knime.core.expressions.Ast.ColumnAccess;
+import org.knime.core.expressions.Ast.ColumnId.ColumnIdType;
 import org.knime.core.expressions.Computer;
 import org.knime.core.expressions.EvaluationContext;
 import org.knime.core.expressions.ExpressionCompileException;
 import org.knime.core.expressions.ExpressionEvaluationException;
 import org.knime.core.expressions.Expressions;
+import org.knime.core.expressions.TypedAst;
 import org.knime.core.table.access.ReadAccess;
 import org.knime.core.table.access.WriteAccess;
 
 /**
  * Applies the given expression to each row of the given data.
+ * <p>
+ * Expressions that are {@link Expressions#isConstant constant} are evaluated only once per mapper and the result is
+ * written for each row. Expressions that only reference a column which is stored like the output column are copied
+ * without evaluating the expression.
+ * <p>
+ * Note that both shortcuts still write one value per row: a mapper always produces a new column. A column that is
+ * replaced by a reference to itself does not need a mapper and is kept as it is by the callers (see
+ * {@link ExpressionRunnerUtils#isIdentity}). Other column references cannot be passed through with
+ * {@link org.knime.core.data.columnar.table.virtual.ColumnarVirtualTable#selectColumns selectColumns} because the
+ * output column has a different name, and virtual tables cannot rename columns. Constant MISSING results are appended
+ * as missing value columns without a mapper (see {@link #isConstantMissing()}).
  *
  * @author Carsten Haubold, KNIME GmbH, Konstanz, Germany
  * @author Benjamin Wilhelm, KNIME GmbH, Berlin, Germany
@@ -71,9 +86,9 @@ import org.knime.core.table.access.WriteAccess;
 @SuppressWarnings("restriction") // ColumnarMapperFactory is not API yet
 public final class ExpressionMapperFactory implements ColumnarMapperFactory {
 
-    private final Ast m_ast;
+    private final TypedAst m_ast;
 
-    private final ValueSchema m_inputTableSchema;
+    private final ResolvedColumns m_resolvedColumns;
 
     private final String m_outputColumnName;
 
@@ -83,56 +98,118 @@ public final class ExpressionMapperFactory implements ColumnarMapperFactory {
 
     private final RequiredColumns m_requiredColumns;
 
+    private final boolean m_isConstant;
+
+    private final boolean m_isColumnCopy;
+
     /**
      * Creates a new instance.
      *
-     * @param ast the expression. Must have {@link Expressions#inferTypes inferred types}.
-     * @param inputTableSchema
+     * @param ast the typed expression
+     * @param resolvedColumns the input table and the column indices from {@link ExpressionRunnerUtils#resolveColumns}
      * @param outputColumnName
      * @param additionalInputs
      * @param ctx
      */
-    public ExpressionMapperFactory(final Ast ast, final ValueSchema inputTableSchema, final String outputColumnName,
-        final ExpressionAdditionalInputs additionalInputs, final EvaluationContext ctx) {
+    public ExpressionMapperFactory(final TypedAst ast, final ResolvedColumns resolvedColumns,
+        final String outputColumnName, final ExpressionAdditionalInputs additionalInputs, final EvaluationContext ctx) {
         m_ast = ast;
-        m_inputTableSchema = inputTableSchema;
+        m_resolvedColumns = resolvedColumns;
         m_outputColumnName = outputColumnName;
         m_additionalInputs = additionalInputs;
         m_ctx = ctx;
 
-        m_requiredColumns = RequiredColumns.of(ast);
+        m_requiredColumns = RequiredColumns.of(ast.ast(), resolvedColumns);
+        m_isConstant = Expressions.isConstant(ast.ast());
+        m_isColumnCopy = isColumnCopy(ast, resolvedColumns, getOutputSchema());
+    }
+
+    /**
+     * Checks if the expression only references a column (without offset) that uses the same {@link ValueFactory} as
+     * the output. The data of such a column can be copied without evaluating the expression.
+     */
+    private static boolean isColumnCopy(final TypedAst ast, final ResolvedColumns resolvedColumns,
+        final ValueSchema outputSchema) {
+        if (ast.ast() instanceof ColumnAccess columnAccess && columnAccess.offset() == 0
+            && columnAccess.columnId().type() == ColumnIdType.NAMED) {
+            var inputValueFactory =
+                resolvedColumns.table().getSchema().getValueFactory(resolvedColumns.columnIdx(columnAccess));
+            return inputValueFactory.getClass().equals(outputSchema.getValueFactory(0).getClass());
+        }
+        return false;
     }
 
     int[] getInputColumnIndices() {
         return m_requiredColumns.columnIndices();
     }
 
-    @Override
-    public Runnable createMapper(final ReadAccess[] inputs, final WriteAccess[] outputs) {
+    /**
+     * @return <code>true</code> if the expression is {@link Expressions#isConstant constant} and evaluates to MISSING.
+     *         The output column does not need to be computed in this case.
+     */
+    boolean isConstantMissing() {
+        if (!m_isConstant) {
+            return false;
+        }
+        try {
+            // NB: A constant expression does not read any column
+            return createOutputComputer(new ReadAccess[0]).isMissing(m_ctx);
+        } catch (ExpressionEvaluationException e) { // NOSONAR
+            // The error is reported when the expression is evaluated for the rows
+            return false;
+        }
+    }
 
-        // Prepare the output computer
-        Computer outputComputer;
+    private Computer createOutputComputer(final ReadAccess[] inputs) {
         try {
-            outputComputer = Expressions.evaluate( //
+            return Expressions.evaluate( //
                 m_ast, //
-                ColumnInputUtils.createColumnToComputerFn(m_inputTableSchema, m_requiredColumns, inputs), //
+                ColumnInputUtils.createColumnToComputerFn(m_resolvedColumns, m_requiredColumns, inputs), //
                 m_additionalInputs::flowVariableToComputer, //
-                m_additionalInputs::aggregationToComputer //
+                ColumnInputUtils.createAggregationToComputerFn(m_resolvedColumns, m_requiredColumns, inputs,
+                    m_additionalInputs) //
             );
         } catch (ExpressionCompileException ex) {
             // NB: We never use Optional.empty() for the column computer.
             throw new IllegalStateException(ex);
         }
+    }
 
-        // Prepare the output container
+    @Override
+    public Runnable createMapper(final ReadAccess[] inputs, final WriteAccess[] outputs) {
         var writeAccess = outputs[0];
+
+        if (m_isColumnCopy) {
+            // NB: The column is copied value by value because the output column needs a new name
+            var readAccess = inputs[0];
+            return () -> {
+                if (readAccess.isMissing()) {
+                    writeAccess.setMissing();
+                } else {
+                    writeAccess.setFrom(readAccess);
+                }
+            };
+        }
+
+        // Prepare the output computer
+        var outputComputer = createOutputComputer(inputs);
+        if (m_isConstant) {
+            try {
+                outputComputer = Computer.toConstant(outputComputer, m_ctx);
+            } catch (ExpressionEvaluationException e) { // NOSONAR
+                // The error is reported when the expression is evaluated for the rows
+            }
+        }
+        var finalOutputComputer = outputComputer;
+
+        // Prepare the output container
         var writeValue = getOutputSchema().getValueFactory(0).createWriteValue(writeAccess);
-        var computerResultWriter = ColumnOutputUtils.createComputerResultWriter(outputComputer, writeValue);
+        var computerResultWriter = ColumnOutputUtils.createComputerResultWriter(finalOutputComputer, writeValue);
 
         // Sonar complains a about a too long lambda
         return () -> { // NOSONAR
             try {
-                if (outputComputer.isMissing(m_ctx)) {
+                if (finalOutputComputer.isMissing(m_ctx)) {
                     writeAccess.setMissing();
                 } else {
                     computerResultWriter.write(m_ctx);
@@ -146,7 +223,7 @@ public final class ExpressionMapperFactory implements ColumnarMapperFactory {
 
     @Override
     public ValueSchema getOutputSchema() {
-        var outputValueType = Expressions.getInferredType(m_ast);
+        var outputValueType = m_ast.type();
         var colSpec = ColumnOutputUtils.valueTypeToDataColumnSpec(outputValueType, m_outputColumnName);
         var valueFactory = ColumnOutputUtils.valueTypeToValueFactory(outputValueType);
         return ValueSchemaUtils.create(new ValueSchemaColumn(colSpec, valueFactory));
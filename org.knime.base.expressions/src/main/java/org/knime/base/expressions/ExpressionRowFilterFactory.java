@@ -51,13 +51,13 @@ package org.knime.base.expressions;
 import java.util.function.BooleanSupplier;
 
 import org.knime.base.expressions.ColumnInputUtils.RequiredColumns;
-import org.knime.core.data.v2.schema.ValueSchema;
-import org.knime.core.expressions.Ast;
+import org.knime.base.expressions.ExpressionRunnerUtils.ResolvedColumns;
 import org.knime.core.expressions.Computer.BooleanComputer;
 import org.knime.core.expressions.EvaluationContext;
 import org.knime.core.expressions.ExpressionCompileException;
 import org.knime.core.expressions.ExpressionEvaluationException;
 import org.knime.core.expressions.Expressions;
+import org.knime.core.expressions.TypedAst;
 import org.knime.core.expressions.ValueType;
 import org.knime.core.table.access.ReadAccess;
 import org.knime.core.table.virtual.spec.RowFilterTransformSpec.RowFilterFactory;
@@ -69,9 +69,9 @@ import org.knime.core.table.virtual.spec.RowFilterTransformSpec.RowFilterFactory
  */
 public class ExpressionRowFilterFactory implements RowFilterFactory {
 
-    private final Ast m_ast;
+    private final TypedAst m_ast;
 
-    private final ValueSchema m_inputTableSchema;
+    private final ResolvedColumns m_resolvedColumns;
 
     private final ExpressionAdditionalInputs m_additionalInputs;
 
@@ -79,8 +79,8 @@ public class ExpressionRowFilterFactory implements RowFilterFactory {
 
     private final RequiredColumns m_requiredColumns;
 
-    private static void checkAstOutputType(final Ast ast) {
-        var outputType = Expressions.getInferredType(ast);
+    private static void checkAstOutputType(final TypedAst ast) {
+        var outputType = ast.type();
         if (!ValueType.BOOLEAN.equals(outputType)) {
             throw new IllegalArgumentException(
                 "The expression must evaluate to BOOLEAN. Got " + outputType.name() + ".");
@@ -90,21 +90,21 @@ public class ExpressionRowFilterFactory implements RowFilterFactory {
     /**
      * Creates a new instance.
      *
-     * @param ast the expression. Must have {@link Expressions#inferTypes inferred types}.
-     * @param inputTableSchema
+     * @param ast the typed expression
+     * @param resolvedColumns the input table and the column indices from {@link ExpressionRunnerUtils#resolveColumns}
      * @param additionalInputs
      * @param ctx
      */
-    public ExpressionRowFilterFactory(final Ast ast, final ValueSchema inputTableSchema,
+    public ExpressionRowFilterFactory(final TypedAst ast, final ResolvedColumns resolvedColumns,
         final ExpressionAdditionalInputs additionalInputs, final EvaluationContext ctx) {
         checkAstOutputType(ast);
 
         m_ast = ast;
-        m_inputTableSchema = inputTableSchema;
+        m_resolvedColumns = resolvedColumns;
         m_additionalInputs = additionalInputs;
         m_ctx = ctx;
 
-        m_requiredColumns = RequiredColumns.of(ast);
+        m_requiredColumns = RequiredColumns.of(ast.ast(), resolvedColumns);
     }
 
     int[] getInputColumnIndices() {
@@ -117,9 +117,10 @@ public class ExpressionRowFilterFactory implements RowFilterFactory {
         try {
             outputComputer = (BooleanComputer)Expressions.evaluate( //
                 m_ast, //
-                ColumnInputUtils.createColumnToComputerFn(m_inputTableSchema, m_requiredColumns, inputs), //
+                ColumnInputUtils.createColumnToComputerFn(m_resolvedColumns, m_requiredColumns, inputs), //
                 m_additionalInputs::flowVariableToComputer, //
-                m_additionalInputs::aggregationToComputer //
+                ColumnInputUtils.createAggregationToComputerFn(m_resolvedColumns, m_requiredColumns, inputs,
+                    m_additionalInputs) //
             );
         } catch (ExpressionCompileException ex) {
             // NB: We never use Optional.empty() for the column computer.
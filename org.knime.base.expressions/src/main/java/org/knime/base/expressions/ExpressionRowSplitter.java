@@ -0,0 +1,180 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.expressions;
+
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.columnar.table.VirtualTableIncompatibleException;
+import org.knime.core.expressions.Ast;
+import org.knime.core.expressions.EvaluationContext;
+import org.knime.core.expressions.ExpressionCompileException;
+import org.knime.core.expressions.ExpressionEvaluationException;
+import org.knime.core.expressions.Expressions;
+import org.knime.core.expressions.TypedAst;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Splits a table into the rows that match a filter expression and the rows that do not match. Both output tables are
+ * written in a single pass over the input table and the expression is evaluated only once per row.
+ * <p>
+ * {@link Expressions#isRowLocal(Ast) Row-local} expressions are evaluated on each row while it is written. Expressions
+ * that access other rows or aggregations are evaluated on the columnar input table first. Only the BOOLEAN result
+ * column is materialized and read alongside the input rows.
+ * <p>
+ * If the number of matching rows is limited, only the first matching rows are written to the matching table. All
+ * following rows are written to the non-matching table. Row-local expressions are not evaluated on these rows.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+@SuppressWarnings("restriction") // the columnar table API is not public yet
+public final class ExpressionRowSplitter {
+
+    /** Number of rows between two progress updates */
+    private static final long PROGRESS_UPDATE_INTERVAL = 1024;
+
+    private final TypedAst m_expression;
+
+    private final long m_maxMatchingRows;
+
+    private final EvaluationContext m_ctx;
+
+    private final ExpressionAdditionalInputs m_additionalInputs;
+
+    /**
+     * Creates a new splitter.
+     *
+     * @param expression the typed filter expression. Must evaluate to BOOLEAN.
+     * @param maxMatchingRows the maximum number of matching rows, negative to keep all matching rows
+     * @param evaluationContext
+     * @param additionalInputs the flow variables and the results of the aggregations of the expression
+     */
+    public ExpressionRowSplitter(final TypedAst expression, final long maxMatchingRows,
+        final EvaluationContext evaluationContext, final ExpressionAdditionalInputs additionalInputs) {
+        m_expression = expression;
+        m_maxMatchingRows = maxMatchingRows;
+        m_ctx = evaluationContext;
+        m_additionalInputs = additionalInputs;
+    }
+
+    /**
+     * Split the given table.
+     *
+     * @param inputTable the input table
+     * @param exec the execution context that is used to create the output tables and to report the progress
+     * @return the matching rows and the non-matching rows, in this order
+     * @throws ExpressionCompileException if the expression accesses a column that does not exist
+     * @throws ExpressionEvaluationException if the evaluation of the expression fails
+     * @throws CanceledExecutionException if the execution was canceled
+     * @throws VirtualTableIncompatibleException if the input table is not compatible with the expression
+     */
+    public BufferedDataTable[] split(final BufferedDataTable inputTable, final ExecutionContext exec)
+        throws ExpressionCompileException, ExpressionEvaluationException, CanceledExecutionException,
+        VirtualTableIncompatibleException {
+        if (Expressions.isRowLocal(m_expression.ast())) {
+            var evaluator =
+                new DataRowExpressionEvaluator(m_expression, inputTable.getDataTableSpec(), m_additionalInputs);
+            return split(inputTable, (row, rowIndex) -> evaluator.evaluateToBoolean(row, rowIndex, m_ctx), exec,
+                exec);
+        }
+
+        // The expression needs other rows - evaluate it on the columnar table and read the results with the rows
+        var inRefTable = ExpressionRunnerUtils.createReferenceTable(inputTable, exec.createSubExecutionContext(0.1));
+        var resultTable = ExpressionRunnerUtils.applyAndMaterializeExpression(inRefTable, m_expression, "matches",
+            exec, exec.createSubProgress(0.4), m_additionalInputs, m_ctx).getBufferedTable();
+        try (var results = resultTable.iterator()) {
+            return split(inputTable, (row, rowIndex) -> ((BooleanValue)results.next().getCell(0)).getBooleanValue(),
+                exec, exec.createSubProgress(0.5));
+        } finally {
+            exec.clearTable(resultTable);
+        }
+    }
+
+    private BufferedDataTable[] split(final BufferedDataTable inputTable, final RowPredicate predicate,
+        final ExecutionContext exec, final ExecutionMonitor progress)
+        throws ExpressionEvaluationException, CanceledExecutionException {
+        var spec = inputTable.getDataTableSpec();
+        var numRows = inputTable.size();
+        var matchingRows = exec.createDataContainer(spec);
+        var nonMatchingRows = exec.createDataContainer(spec);
+        try (var iterator = inputTable.iterator()) {
+            var numMatchingRows = 0L;
+            var rowIndex = 0L;
+            while (iterator.hasNext()) {
+                var row = iterator.next();
+                // NB: A negative limit is never reached
+                if (numMatchingRows != m_maxMatchingRows && predicate.test(row, rowIndex)) {
+                    matchingRows.addRowToTable(row);
+                    numMatchingRows++;
+                } else {
+                    nonMatchingRows.addRowToTable(row);
+                }
+                rowIndex++;
+                if (rowIndex % PROGRESS_UPDATE_INTERVAL == 0) {
+                    var evaluatedRows = rowIndex;
+                    progress.checkCanceled();
+                    progress.setProgress(evaluatedRows / (double)numRows,
+                        () -> "Evaluating expression (row %d of %d)".formatted(evaluatedRows, numRows));
+                }
+            }
+        } finally {
+            matchingRows.close();
+            nonMatchingRows.close();
+        }
+        progress.setProgress(1);
+        return new BufferedDataTable[]{matchingRows.getTable(), nonMatchingRows.getTable()};
+    }
+
+    @FunctionalInterface
+    private interface RowPredicate {
+        boolean test(DataRow row, long rowIndex) throws ExpressionEvaluationException;
+    }
+}
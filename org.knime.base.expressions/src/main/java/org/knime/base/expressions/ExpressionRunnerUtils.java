@@ -53,19 +53,21 @@ import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toSet;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.knime.base.expressions.aggregations.ColumnAggregations;
+import org.knime.base.expressions.aggregations.ColumnAggregations.Aggregation;
+import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.IDataRepository;
 import org.knime.core.data.columnar.ColumnarTableBackend;
 import org.knime.core.data.columnar.table.VirtualTableIncompatibleException;
@@ -73,6 +75,7 @@ import org.knime.core.data.columnar.table.virtual.ColumnarVirtualTable;
 import org.knime.core.data.columnar.table.virtual.ColumnarVirtualTableMaterializer;
 import org.knime.core.data.columnar.table.virtual.reference.ReferenceTable;
 import org.knime.core.data.columnar.table.virtual.reference.ReferenceTables;
+import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.container.DataContainerSettings;
 import org.knime.core.data.filestore.internal.IWriteFileStoreHandler;
 import org.knime.core.data.v2.schema.ValueSchema;
@@ -81,14 +84,19 @@ import org.knime.core.expressions.Ast;
 import org.knime.core.expressions.Ast.AggregationCall;
 import org.knime.core.expressions.Ast.ColumnAccess;
 import org.knime.core.expressions.Ast.ColumnId;
+import org.knime.core.expressions.Ast.ColumnId.ColumnIdType;
+import org.knime.core.expressions.Ast.ColumnName;
 import org.knime.core.expressions.Ast.FlowVarAccess;
+import org.knime.core.expressions.AstAnnotations;
 import org.knime.core.expressions.Computer;
 import org.knime.core.expressions.EvaluationContext;
 import org.knime.core.expressions.ExpressionCompileException;
 import org.knime.core.expressions.ExpressionEvaluationException;
 import org.knime.core.expressions.Expressions;
 import org.knime.core.expressions.ReturnResult;
+import org.knime.core.expressions.TypedAst;
 import org.knime.core.expressions.ValueType;
+import org.knime.core.expressions.aggregations.ColumnAggregation;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -108,8 +116,6 @@ public final class ExpressionRunnerUtils {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(ExpressionRunnerUtils.class);
 
-    private static final String AGGREGATION_RESULT_DATA_KEY = "aggregationResultComputer";
-
     /**
      * A list of supported flow variable types.
      */
@@ -127,7 +133,7 @@ public final class ExpressionRunnerUtils {
      * the expression are removed.
      *
      * @param inputTable the input table
-     * @param expression the expression to filter the table
+     * @param expression the typed expression to filter the table
      * @param numRows number of rows in the input table (no slicing here)
      * @param evaluationContext
      * @param additionalInputs
@@ -135,12 +141,12 @@ public final class ExpressionRunnerUtils {
      *
      */
     public static ColumnarVirtualTable filterTableByExpression(final ColumnarVirtualTable inputTable,
-        final Ast expression, final long numRows, final EvaluationContext evaluationContext,
+        final TypedAst expression, final long numRows, final EvaluationContext evaluationContext,
         final ExpressionAdditionalInputs additionalInputs) {
-        var resolvedInput = resolveColumns(expression, inputTable, numRows);
+        var resolvedInput = resolveColumns(expression.ast(), inputTable, numRows);
         var filterFactory =
-            new ExpressionRowFilterFactory(expression, resolvedInput.getSchema(), additionalInputs, evaluationContext);
-        return resolvedInput.filterRows(filterFactory.getInputColumnIndices(), filterFactory)
+            new ExpressionRowFilterFactory(expression, resolvedInput, additionalInputs, evaluationContext);
+        return resolvedInput.table().filterRows(filterFactory.getInputColumnIndices(), filterFactory)
             .selectColumns(IntStream.range(0, inputTable.getSchema().numColumns()).toArray());
     }
 
@@ -153,6 +159,39 @@ public final class ExpressionRunnerUtils {
     public record NewColumnPosition(InsertionMode mode, String columnName) {
     }
 
+    /**
+     * The input table of an expression with the columns that are required in addition to the original columns
+     * (ROW_INDEX, offset columns, etc.) together with the index of the column each {@link ColumnAccess} reads.
+     *
+     * @param table the input table with additional columns if required
+     * @param columnIndices the index of the column in {@link #table()} for each {@link ColumnAccess} node
+     * @param rowIndexColumnIdx the index of the ROW_INDEX column that the results of
+     *            {@link ColumnAggregation#isRowWise() row-wise} aggregations are looked up by or {@code -1} if the
+     *            expression does not require the ROW_INDEX
+     */
+    public record ResolvedColumns(ColumnarVirtualTable table, AstAnnotations<Integer> columnIndices,
+        int rowIndexColumnIdx) {
+
+        /**
+         * @param columnAccess a column access of the expression
+         * @return the index of the column in {@link #table()}
+         */
+        public int columnIdx(final ColumnAccess columnAccess) {
+            return columnIndices.get(columnAccess);
+        }
+
+        /**
+         * @return the index of the ROW_INDEX column in {@link #table()}
+         * @throws IllegalStateException if the expression does not require the ROW_INDEX column
+         */
+        public int rowIndexColumnIdx() {
+            if (rowIndexColumnIdx < 0) {
+                throw new IllegalStateException("The ROW_INDEX column has not been resolved.");
+            }
+            return rowIndexColumnIdx;
+        }
+    }
+
     private ExpressionRunnerUtils() {
     }
 
@@ -184,6 +223,30 @@ public final class ExpressionRunnerUtils {
         return outputTable;
     }
 
+    /**
+     * Checks if applying the expression with the given column position would reproduce the input table. This is the
+     * case if the expression only references the column that it replaces and the column already has the output type.
+     *
+     * @param expression the typed expression
+     * @param inputSpec the spec of the input table
+     * @param columnPosition the position of the output column
+     * @return <code>true</code> if the input table can be used as the output table
+     */
+    public static boolean isIdentity(final TypedAst expression, final DataTableSpec inputSpec,
+        final NewColumnPosition columnPosition) {
+        if (columnPosition.mode() == InsertionMode.REPLACE_EXISTING //
+            && expression.ast() instanceof ColumnAccess columnAccess //
+            && columnAccess.offset() == 0 //
+            && columnAccess.columnId() instanceof ColumnName columnName //
+            && columnName.name().equals(columnPosition.columnName())) {
+            var inputColumnSpec = inputSpec.getColumnSpec(columnName.name());
+            var outputColumnSpec = ColumnOutputUtils.valueTypeToDataColumnSpec(expression.type(),
+                columnPosition.columnName());
+            return inputColumnSpec != null && inputColumnSpec.getType().equals(outputColumnSpec.getType());
+        }
+        return false;
+    }
+
     /**
      * Create a {@link ReferenceTable} from the given table. Copies the table to the columnar format if necessary.
      * Converts all table rows.
@@ -218,6 +281,50 @@ public final class ExpressionRunnerUtils {
         }
     }
 
+    /**
+     * @param table a table
+     * @return {@code true} if the table is stored in the columnar format and can be used as a {@link ReferenceTable}
+     *         without copying it
+     */
+    public static boolean isColumnarTable(final BufferedDataTable table) {
+        try {
+            ReferenceTables.createReferenceTable(UUID.randomUUID(), table);
+            return true;
+        } catch (VirtualTableIncompatibleException ex) { // NOSONAR - the exception is the answer
+            return false;
+        }
+    }
+
+    /**
+     * Create a {@link ReferenceTable} that contains only the columns of the given table that are accessed by the
+     * given expression. Only these columns are copied to the columnar format. Use this for tables that are not
+     * {@link #isColumnarTable(BufferedDataTable) columnar} to avoid copying columns that the expression does not need.
+     * Note that the columns that are used by aggregations are not included - evaluate aggregations on the original
+     * table.
+     *
+     * @param table the table
+     * @param expression the expression
+     * @param exec an {@link ExecutionContext} that is used to create a new columnar container and to report the
+     *            progress
+     * @return a {@link ReferenceTable} with the RowIDs and the columns accessed by the expression
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    public static ReferenceTable createProjectedReferenceTable(final BufferedDataTable table, final Ast expression,
+        final ExecutionContext exec) throws CanceledExecutionException {
+        var spec = table.getDataTableSpec();
+        var accessedColumns = Expressions.collectColumnAccesses(expression).stream() //
+            .map(ColumnAccess::columnId) //
+            .filter(columnId -> columnId.type() == ColumnIdType.NAMED) //
+            .map(ColumnId::name) //
+            .collect(toSet());
+        var rearranger = new ColumnRearranger(spec);
+        rearranger.keepOnly(IntStream.range(0, spec.getNumColumns()) //
+            .filter(i -> accessedColumns.contains(spec.getColumnSpec(i).getName())) //
+            .toArray());
+        var projectedTable = exec.createColumnRearrangeTable(table, rearranger, exec.createSilentSubProgress(0));
+        return createReferenceTable(projectedTable, exec);
+    }
+
     /**
      * Copy the given table to a columnar table. Convert no more than {@code maxRowsToConvert} rows to columnar format
      * and report progress using the given {@link ExecutionMonitor}.
@@ -249,9 +356,11 @@ public final class ExpressionRunnerUtils {
             for (long rowIndex = 0; readCursor.canForward() && rowIndex < maxRowsToConvert; ++rowIndex) {
                 writeCursor.commit(readCursor.forward());
 
+                final var currentRow = rowIndex;
                 exec.setProgress( //
                     rowIndex / (double)table.size(), //
-                    "Copying row-based table to columnar format (row %d of %d)".formatted(rowIndex, table.size()) //
+                    () -> "Copying row-based table to columnar format (row %d of %d)".formatted(currentRow,
+                        table.size()) //
                 );
 
                 exec.checkCanceled();
@@ -264,23 +373,7 @@ public final class ExpressionRunnerUtils {
     }
 
     private static List<AggregationCall> collectAggregations(final Ast expression) {
-        return collectNodesAssignableFrom(expression, AggregationCall.class);
-    }
-
-    private static <T extends Ast> List<T> collectNodesAssignableFrom(final Ast expression, final Class<T> clazz) {
-        List<T> result = new ArrayList<>();
-
-        for (var child : expression.children()) {
-            result.addAll(collectNodesAssignableFrom(child, clazz));
-        }
-
-        if (clazz.isInstance(expression)) {
-            @SuppressWarnings("unchecked")
-            var t = (T)expression;
-            result.add(t);
-        }
-
-        return result;
+        return Expressions.collectInputAccesses(expression).aggregationCalls();
     }
 
     /**
@@ -290,7 +383,7 @@ public final class ExpressionRunnerUtils {
      * @return the column accesses
      */
     public static List<ColumnAccess> collectColumnAccesses(final Ast expression) {
-        return collectNodesAssignableFrom(expression, ColumnAccess.class);
+        return Expressions.collectColumnAccesses(expression);
     }
 
     /**
@@ -300,37 +393,39 @@ public final class ExpressionRunnerUtils {
      * @return the flow variable accesses
      */
     public static List<FlowVarAccess> collectFlowVariableAccesses(final Ast expression) {
-        return collectNodesAssignableFrom(expression, FlowVarAccess.class);
+        return Expressions.collectInputAccesses(expression).flowVariableAccesses();
     }
 
     /**
-     * Evaluate the aggregations in the given expression on the given table. The result of each aggregation is stored in
-     * the {@link AggregationCall} as a {@link Computer}. The computer can be retrieved using the method
-     * {@link #getAggregationResultComputer}. Must be called after typing and before {@link #applyExpression}.
+     * Evaluate the aggregations in the given expression on the given table. Must be called after typing and before
+     * {@link #applyExpression}. Pass the result to the {@link ExpressionAdditionalInputs} that are used to evaluate the
+     * expression.
      *
      * @param expression the expression
      * @param table the table to evaluate the aggregations on
      * @param progress an execution monitor for progress and cancellation checks
+     * @return the results of the aggregations
      * @throws CanceledExecutionException if the execution was canceled
      */
-    public static void evaluateAggregations(final Ast expression, final BufferedDataTable table,
+    public static AggregationResults evaluateAggregations(final Ast expression, final BufferedDataTable table,
         final ExecutionMonitor progress) throws CanceledExecutionException {
 
-        evaluateAggregations(expression, table, progress, table.size());
+        return evaluateAggregations(expression, table, progress, table.size());
     }
 
     /**
-     * Evaluate the aggregations in the given expression on the given table. The result of each aggregation is stored in
-     * the {@link AggregationCall} as a {@link Computer}. The computer can be retrieved using the method
-     * {@link #getAggregationResultComputer}. Must be called after typing and before {@link #applyExpression}.
+     * Evaluate the aggregations in the given expression on the given table. Must be called after typing and before
+     * {@link #applyExpression}. Pass the result to the {@link ExpressionAdditionalInputs} that are used to evaluate the
+     * expression.
      *
      * @param expression the expression
      * @param table the table to evaluate the aggregations on
      * @param progress an execution monitor for progress and cancellation checks
      * @param numRowsToAggregate the number of rows to aggregate
+     * @return the results of the aggregations
      * @throws CanceledExecutionException if the execution was canceled
      */
-    public static void evaluateAggregations(final Ast expression, final BufferedDataTable table,
+    public static AggregationResults evaluateAggregations(final Ast expression, final BufferedDataTable table,
         final ExecutionMonitor progress, long numRowsToAggregate) throws CanceledExecutionException {
 
         numRowsToAggregate = Math.min(table.size(), numRowsToAggregate);
@@ -340,11 +435,14 @@ public final class ExpressionRunnerUtils {
 
         if (aggregationCalls.isEmpty()) {
             progress.setProgress(1);
-            return;
+            return AggregationResults.EMPTY;
         }
 
-        var aggregationResults = aggregationCalls.stream().collect(Collectors.toMap(a -> a,
-            a -> ColumnAggregations.getAggregationImplementationFor(a, table.getDataTableSpec())));
+        var aggregations = new IdentityHashMap<AggregationCall, Aggregation>();
+        for (var aggregationCall : aggregationCalls) {
+            aggregations.put(aggregationCall,
+                ColumnAggregations.getAggregationImplementationFor(aggregationCall, table.getDataTableSpec()));
+        }
 
         // Run the aggregations on the table
         var currentRow = 0L;
@@ -352,7 +450,7 @@ public final class ExpressionRunnerUtils {
             while (cursor.canForward() && currentRow < numRowsToAggregate) {
                 currentRow++;
                 var row = cursor.forward();
-                aggregationResults.values().forEach(a -> a.addRow(row));
+                aggregations.values().forEach(a -> a.addRow(row));
                 progress.setProgress( //
                     currentRow / (double)numRowsToAggregate, //
                     "Evaluating aggregations (row %d of %d)".formatted(currentRow, numRowsToAggregate) //
@@ -362,23 +460,39 @@ public final class ExpressionRunnerUtils {
         }
         progress.setProgress(1);
 
-        // Remember the result computer for each aggregation call
-        for (var entry : aggregationResults.entrySet()) {
-            var aggregationCall = entry.getKey();
-            var resultComputer = entry.getValue().createResultComputer();
-            aggregationCall.putData(AGGREGATION_RESULT_DATA_KEY, resultComputer);
-        }
+        return AggregationResults.of(aggregations);
     }
 
     /**
-     * Get the result computer for the given aggregation call. Must be called after calling
-     * {@link #evaluateAggregations}.
+     * Evaluate an expression that is {@link Expressions#isConstant constant} once. The result is the same for all rows
+     * of a table. Must be called after calling {@link #evaluateAggregations}.
      *
-     * @param agg the aggregation call
-     * @return the computer that returns the result of the aggregation
+     * @param expression the typed constant expression
+     * @param additionalInputs the flow variables and aggregation results
+     * @param ctx the {@link EvaluationContext}
+     * @return a computer that returns the result without evaluating the expression again
+     * @throws ExpressionEvaluationException if the expression could not be evaluated
+     * @throws IllegalArgumentException if the expression is not constant
      */
-    public static Computer getAggregationResultComputer(final AggregationCall agg) { // NOSONAR - not applicable to a generic Ast
-        return (Computer)agg.data(AGGREGATION_RESULT_DATA_KEY);
+    public static Computer evaluateConstantExpression(final TypedAst expression,
+        final ExpressionAdditionalInputs additionalInputs, final EvaluationContext ctx)
+        throws ExpressionEvaluationException {
+
+        if (!Expressions.isConstant(expression.ast())) {
+            throw new IllegalArgumentException("The expression depends on the values of the rows");
+        }
+        try {
+            var computer = Expressions.evaluate( //
+                expression, //
+                columnAccess -> Optional.empty(), //
+                additionalInputs::flowVariableToComputer, //
+                additionalInputs::aggregationToComputer //
+            );
+            return Computer.toConstant(computer, ctx);
+        } catch (ExpressionCompileException ex) {
+            // NB: A constant expression does not access any column
+            throw new IllegalStateException(ex);
+        }
     }
 
     /**
@@ -387,37 +501,44 @@ public final class ExpressionRunnerUtils {
      *
      * @param input the input table
      * @param numRows number of rows in the input table
-     * @param expression the expression. Must have {@link Expressions#inferTypes inferred types}.
+     * @param expression the typed expression
      * @param outputColumnName the name of the column that will contain the result of the expression
      * @param additionalInputs a context for the {@link ExpressionMapperFactory}
      * @param ctx the {@link EvaluationContext}
      * @return the result of the expression
      */
     public static ColumnarVirtualTable applyExpression(final ColumnarVirtualTable input, final long numRows,
-        final Ast expression, final String outputColumnName, final ExpressionAdditionalInputs additionalInputs,
+        final TypedAst expression, final String outputColumnName, final ExpressionAdditionalInputs additionalInputs,
         final EvaluationContext ctx) {
 
-        var resolvedInput = resolveColumns(expression, input, numRows);
+        var resolvedInput = resolveColumns(expression.ast(), input, numRows);
+        var resolvedTable = resolvedInput.table();
 
         var expressionMapperFactory =
-            new ExpressionMapperFactory(expression, resolvedInput.getSchema(), outputColumnName, additionalInputs, ctx);
+            new ExpressionMapperFactory(expression, resolvedInput, outputColumnName, additionalInputs, ctx);
 
-        return resolvedInput//
+        if (expressionMapperFactory.isConstantMissing()) {
+            // NB: The result is MISSING for all rows - no need to evaluate the expression for each row
+            return resolvedTable.selectColumns(0)
+                .appendMissingValueColumns(expressionMapperFactory.getOutputSchema());
+        }
+
+        return resolvedTable//
             .appendMap(expressionMapperFactory, expressionMapperFactory.getInputColumnIndices())//
-            .dropColumns(IntStream.range(1, resolvedInput.getSchema().numColumns()).toArray());
+            .dropColumns(IntStream.range(1, resolvedTable.getSchema().numColumns()).toArray());
     }
 
     /**
-     * Add column indices to the given {@code expression}. Returns the input {@code ColumnarVirtualTable} with
-     * additional columns if required (e.g., ROW_INDEX).
+     * Resolve the column indices of the given {@code expression}. Appends additional columns to the input
+     * {@code ColumnarVirtualTable} if required (e.g., ROW_INDEX).
      *
      * @param expression the expression
      * @param input the input table
      * @param numRows number of rows in the input table
      * @return the input {@code ColumnarVirtualTable} with additional columns if required (ROW_INDEX, offset columns,
-     *         etc).
+     *         etc) and the column index of each {@link ColumnAccess}
      */
-    public static ColumnarVirtualTable resolveColumns(final Ast expression, final ColumnarVirtualTable input,
+    public static ResolvedColumns resolveColumns(final Ast expression, final ColumnarVirtualTable input,
         final long numRows) {
 
         try {
@@ -445,7 +566,7 @@ public final class ExpressionRunnerUtils {
             // missing columns are thrown.
             //
             // This assigns column indices to ColumnAccess nodes with windowing offset != 0, too.
-            // These are wrong and will be fixed below.
+            // These are wrong and are resolved again below.
             final Function<ColumnId, OptionalInt> columnIdToIndex = columnId -> switch (columnId.type()) {
                 case NAMED -> {
                     var colIdx = inputTableSchema.findColumnIndex(columnId.name());
@@ -504,9 +625,9 @@ public final class ExpressionRunnerUtils {
             // resolveColumnIndices again, this time including offset() handling
             final Function<ColumnAccess, OptionalInt> columnAccessToIndex =
                 c -> offsetToColumnIdToIndex.get(c.offset()).apply(c.columnId());
-            Expressions.resolveColumnIndices(expression, columnAccessToIndex);
+            var columnIndices = Expressions.resolveColumnIndices(expression, columnAccessToIndex);
 
-            return modifiedInputTable;
+            return new ResolvedColumns(modifiedInputTable, columnIndices, rowIndexColIdx.orElse(-1));
         } catch (ExpressionCompileException ex) {
             throw new IllegalArgumentException(ex);
         }
@@ -517,7 +638,7 @@ public final class ExpressionRunnerUtils {
      * RowIDs of the input table and the expression result.
      *
      * @param refTable the input table
-     * @param expression the expression. Must have {@link Expressions#inferTypes inferred types}.
+     * @param expression the typed expression
      * @param outputColumnName the name of the column that will contain the result of the expression
      * @param exec the execution context
      * @param progress an execution monitor for progress and cancellation checks. Could be a subprogress monitor, since
@@ -531,28 +652,68 @@ public final class ExpressionRunnerUtils {
      */
     public static ReferenceTable applyAndMaterializeExpression( //
         final ReferenceTable refTable, //
-        final Ast expression, //
+        final TypedAst expression, //
         final String outputColumnName, //
         final ExecutionContext exec, //
         final ExecutionMonitor progress, //
         final ExpressionAdditionalInputs additionalInputs, //
         final EvaluationContext ctx //
+    ) throws CanceledExecutionException, VirtualTableIncompatibleException, ExpressionEvaluationException {
+        return applyAndMaterializeExpression(refTable, expression, outputColumnName, exec, progress, additionalInputs,
+            ctx, false);
+    }
+
+    /**
+     * Apply the given expression to the given table and materialize the result. Like
+     * {@link #applyAndMaterializeExpression(ReferenceTable, TypedAst, String, ExecutionContext, ExecutionMonitor, ExpressionAdditionalInputs, EvaluationContext)}
+     * but optionally materializes the RowIDs such that the result can be joined with the input table.
+     *
+     * @param refTable the input table
+     * @param expression the typed expression
+     * @param outputColumnName the name of the column that will contain the result of the expression
+     * @param exec the execution context
+     * @param progress an execution monitor for progress and cancellation checks
+     * @param additionalInputs a context for the {@link ExpressionMapperFactory}
+     * @param ctx the {@link EvaluationContext}
+     * @param materializeRowKey if the RowIDs should be materialized
+     * @return the materialized result of the expression
+     * @throws CanceledExecutionException if the execution was canceled
+     * @throws VirtualTableIncompatibleException if the input table is not compatible with the expression
+     * @throws ExpressionEvaluationException
+     */
+    public static ReferenceTable applyAndMaterializeExpression( // NOSONAR - the parameters are all needed
+        final ReferenceTable refTable, //
+        final TypedAst expression, //
+        final String outputColumnName, //
+        final ExecutionContext exec, //
+        final ExecutionMonitor progress, //
+        final ExpressionAdditionalInputs additionalInputs, //
+        final EvaluationContext ctx, //
+        final boolean materializeRowKey //
     ) throws CanceledExecutionException, VirtualTableIncompatibleException, ExpressionEvaluationException {
         var numRows = refTable.getBufferedTable().size();
 
         var expressionResultVirtual =
             applyExpression(refTable.getVirtualTable(), numRows, expression, outputColumnName, additionalInputs, ctx);
+        return materializeResult(refTable, expressionResultVirtual, exec, progress, materializeRowKey);
+    }
+
+    private static ReferenceTable materializeResult(final ReferenceTable refTable,
+        final ColumnarVirtualTable resultTable, final ExecutionContext exec, final ExecutionMonitor progress,
+        final boolean materializeRowKey)
+        throws CanceledExecutionException, VirtualTableIncompatibleException, ExpressionEvaluationException {
+        var numRows = refTable.getBufferedTable().size();
         try {
             return ColumnarVirtualTableMaterializer.materializer() //
                 .sources(refTable.getSources()) //
-                .materializeRowKey(false) //
+                .materializeRowKey(materializeRowKey) //
                 .progress( //
                     (rowIndex, rowKey) -> progress.setProgress(rowIndex / (double)numRows, //
                         () -> "Evaluating expression (row %d of %s)".formatted(rowIndex + 1, numRows)) //
                 ) //
                 .executionContext(exec) //
                 .tableIdSupplier(Node.invokeGetDataRepository(exec)::generateNewID) //
-                .materialize(expressionResultVirtual);
+                .materialize(resultTable);
         } catch (ExpressionEvaluationRuntimeException e) { // NOSONAR - throwing only the cause is intended
             throw e.getCause();
         }
@@ -0,0 +1,576 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.base.expressions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.BiFunction;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.columnar.table.virtual.ColumnarVirtualTable;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.time.duration.DurationValue;
+import org.knime.core.data.time.localdate.LocalDateValue;
+import org.knime.core.data.time.localdatetime.LocalDateTimeValue;
+import org.knime.core.data.time.localtime.LocalTimeValue;
+import org.knime.core.data.time.zoneddatetime.ZonedDateTimeValue;
+import org.knime.core.expressions.Ast;
+import org.knime.core.expressions.Ast.BinaryOp;
+import org.knime.core.expressions.Ast.BinaryOperator;
+import org.knime.core.expressions.Ast.ColumnAccess;
+import org.knime.core.expressions.Ast.ColumnId.ColumnIdType;
+import org.knime.core.expressions.Ast.UnaryOp;
+import org.knime.core.expressions.Ast.UnaryOperator;
+import org.knime.core.expressions.Computer;
+import org.knime.core.expressions.Computer.FloatComputer;
+import org.knime.core.expressions.Computer.IntegerComputer;
+import org.knime.core.expressions.Computer.LocalDateComputer;
+import org.knime.core.expressions.Computer.LocalDateTimeComputer;
+import org.knime.core.expressions.Computer.LocalTimeComputer;
+import org.knime.core.expressions.Computer.TimeDurationComputer;
+import org.knime.core.expressions.Computer.ZonedDateTimeComputer;
+import org.knime.core.expressions.EvaluationContext;
+import org.knime.core.expressions.ExpressionEvaluationException;
+import org.knime.core.expressions.Expressions;
+import org.knime.core.expressions.TypedAst;
+import org.knime.core.expressions.ValueType;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+
+/**
+ * Per-batch min/max statistics ("zone maps") for row filter expressions. The rows of a table are split into batches of
+ * {@link #BATCH_SIZE} rows. For each batch and each column that the filter compares with a constant value, the
+ * smallest and the largest value and the number of MISSING values are recorded. A batch in which no row can match is
+ * skipped without evaluating the expression, a batch in which all rows match is kept as a whole.
+ * <p>
+ * The statistics are computed by scanning the compared columns the first time a table is filtered and are cached for
+ * as long as the table is in use. The column domains are not used because they are only a hint and can exclude values
+ * that are present in the table.
+ * <p>
+ * Only expressions that consist of comparisons of a column with a {@link Expressions#isConstant constant} value (for
+ * example <code>$["ts"] >= $$["start"] and $["ts"] < $$["end"]</code>) combined with <code>and</code>, <code>or</code>
+ * and <code>not</code> are supported. The columns must be INTEGER, FLOAT or temporal columns. Such expressions cannot
+ * produce warnings or errors for a row, so skipping the evaluation of a row does not change the result of the node.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+@SuppressWarnings("restriction") // the columnar table API is not public yet
+public final class RowFilterZoneMap {
+
+    /** The number of rows that the statistics are recorded for */
+    public static final int BATCH_SIZE = 8192;
+
+    private static final Set<ValueType> ORDERED_TYPES = Set.of(ValueType.INTEGER, ValueType.FLOAT,
+        ValueType.LOCAL_DATE, ValueType.LOCAL_TIME, ValueType.LOCAL_DATE_TIME, ValueType.ZONED_DATE_TIME,
+        ValueType.TIME_DURATION);
+
+    /** Types for which the equality operator agrees with {@link Comparable#compareTo} */
+    private static final Set<ValueType> EQUALITY_TYPES = Set.of(ValueType.INTEGER, ValueType.LOCAL_DATE,
+        ValueType.LOCAL_TIME, ValueType.LOCAL_DATE_TIME, ValueType.TIME_DURATION);
+
+    /** The statistics of the columns of the tables that were filtered, by column index */
+    private static final Map<BufferedDataTable, Map<Integer, ColumnStatistics>> STATISTICS_CACHE =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    /** How many rows of a batch match the filter */
+    public enum BatchMatch {
+            /** No row of the batch matches */
+            NONE,
+            /** Some rows of the batch might match - the rows have to be evaluated */
+            SOME,
+            /** All rows of the batch match */
+            ALL;
+
+        private BatchMatch and(final BatchMatch other) {
+            return values()[Math.min(ordinal(), other.ordinal())];
+        }
+
+        private BatchMatch or(final BatchMatch other) {
+            return values()[Math.max(ordinal(), other.ordinal())];
+        }
+
+        private BatchMatch not() {
+            return values()[ALL.ordinal() - ordinal()];
+        }
+    }
+
+    private final BatchPredicate m_predicate;
+
+    private final Map<Integer, ValueType> m_columnTypes;
+
+    private RowFilterZoneMap(final BatchPredicate predicate, final Map<Integer, ValueType> columnTypes) {
+        m_predicate = predicate;
+        m_columnTypes = columnTypes;
+    }
+
+    /**
+     * Analyzes the filter expression.
+     *
+     * @param expression the typed filter expression that evaluates to BOOLEAN
+     * @param spec the spec of the input table
+     * @param additionalInputs the flow variables and aggregation results for evaluating the constant values
+     * @param ctx the {@link EvaluationContext} for evaluating the constant values
+     * @return the zone map of the expression or an empty optional if the expression is not supported
+     */
+    public static Optional<RowFilterZoneMap> create(final TypedAst expression, final DataTableSpec spec,
+        final ExpressionAdditionalInputs additionalInputs, final EvaluationContext ctx) {
+        var columnTypes = new HashMap<Integer, ValueType>();
+        return new Analysis(expression, spec, additionalInputs, ctx, columnTypes).predicate(expression.ast())
+            .map(predicate -> new RowFilterZoneMap(predicate, columnTypes));
+    }
+
+    /**
+     * Decides for each batch of the table if none, some or all rows match the filter. The statistics of the compared
+     * columns are computed if they are not cached for this table yet.
+     *
+     * @param table the input table of the filter
+     * @param progress the monitor for the progress of computing the statistics
+     * @return the match of each batch of {@link #BATCH_SIZE} rows
+     * @throws CanceledExecutionException if the execution was canceled
+     */
+    public BatchMatch[] matchBatches(final BufferedDataTable table, final ExecutionMonitor progress)
+        throws CanceledExecutionException {
+        var statistics = getStatistics(table, progress);
+        var numBatches = numBatches(table.size());
+        var matches = new BatchMatch[numBatches];
+        for (int batch = 0; batch < numBatches; batch++) {
+            matches[batch] = m_predicate.match(batch, statistics);
+        }
+        progress.setProgress(1);
+        return matches;
+    }
+
+    /**
+     * Creates the filtered table from the batch matches. Batches that match completely are taken as they are, batches
+     * without matches are skipped and the other batches are filtered row by row.
+     *
+     * @param table the input table
+     * @param numRows the number of rows of the input table
+     * @param matches the result of {@link #matchBatches}
+     * @param rowFilter filters a slice of the input table row by row, given the slice and its number of rows
+     * @return the filtered table
+     */
+    public static ColumnarVirtualTable filterBatches(final ColumnarVirtualTable table, final long numRows,
+        final BatchMatch[] matches, final BiFunction<ColumnarVirtualTable, Long, ColumnarVirtualTable> rowFilter) {
+        var parts = new ArrayList<ColumnarVirtualTable>();
+        var batch = 0;
+        while (batch < matches.length) {
+            // Combine neighbouring batches with the same match into one slice
+            var runEnd = batch + 1;
+            while (runEnd < matches.length && matches[runEnd] == matches[batch]) {
+                runEnd++;
+            }
+            var from = (long)batch * BATCH_SIZE;
+            var to = Math.min((long)runEnd * BATCH_SIZE, numRows);
+            if (matches[batch] == BatchMatch.ALL) {
+                parts.add(table.slice(from, to));
+            } else if (matches[batch] == BatchMatch.SOME) {
+                parts.add(rowFilter.apply(table.slice(from, to), to - from));
+            }
+            batch = runEnd;
+        }
+
+        if (parts.isEmpty()) {
+            return table.slice(0, 0);
+        }
+        var result = parts.get(0);
+        for (var part : parts.subList(1, parts.size())) {
+            result = result.concatenate(part);
+        }
+        return result;
+    }
+
+    private static int numBatches(final long numRows) {
+        return (int)((numRows + BATCH_SIZE - 1) / BATCH_SIZE);
+    }
+
+    private Map<Integer, ColumnStatistics> getStatistics(final BufferedDataTable table, final ExecutionMonitor progress)
+        throws CanceledExecutionException {
+        var cached = STATISTICS_CACHE.getOrDefault(table, Map.of());
+        var missingColumns = m_columnTypes.keySet().stream().filter(c -> !cached.containsKey(c)) //
+            .mapToInt(Integer::intValue).toArray();
+        if (missingColumns.length == 0) {
+            return cached;
+        }
+
+        var statistics = new HashMap<>(cached);
+        statistics.putAll(computeStatistics(table, missingColumns, progress));
+        STATISTICS_CACHE.put(table, statistics);
+        return statistics;
+    }
+
+    /** Scan the given columns of the table and record the statistics of each batch */
+    private Map<Integer, ColumnStatistics> computeStatistics(final BufferedDataTable table, final int[] columns,
+        final ExecutionMonitor progress) throws CanceledExecutionException {
+        var numRows = table.size();
+        var numBatches = numBatches(numRows);
+        var builders = new ColumnStatistics[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            builders[i] = new ColumnStatistics(numBatches);
+        }
+
+        try (var iterator = table.filter(TableFilter.materializeCols(columns), progress).iterator()) {
+            long rowIndex = 0;
+            while (iterator.hasNext()) {
+                var row = iterator.next();
+                var batch = (int)(rowIndex / BATCH_SIZE);
+                for (int i = 0; i < columns.length; i++) {
+                    var cell = row.getCell(columns[i]);
+                    builders[i].add(batch, cell.isMissing() ? null : valueOf(cell, m_columnTypes.get(columns[i])));
+                }
+                rowIndex++;
+                if (rowIndex % BATCH_SIZE == 0) {
+                    progress.checkCanceled();
+                    progress.setProgress(rowIndex / (double)numRows, "Computing batch statistics");
+                }
+            }
+        }
+
+        var statistics = new HashMap<Integer, ColumnStatistics>();
+        for (int i = 0; i < columns.length; i++) {
+            builders[i].setNumRows(numRows);
+            statistics.put(columns[i], builders[i]);
+        }
+        return statistics;
+    }
+
+    /** @return the value of the non-missing cell in the order that is used by comparisons of the given type */
+    private static Comparable<?> valueOf(final DataCell cell, final ValueType type) {
+        if (ValueType.INTEGER.equals(type)) {
+            return ((LongValue)cell).getLongValue();
+        } else if (ValueType.FLOAT.equals(type)) {
+            return ((DoubleValue)cell).getDoubleValue();
+        } else if (ValueType.LOCAL_DATE.equals(type)) {
+            return ((LocalDateValue)cell).getLocalDate();
+        } else if (ValueType.LOCAL_TIME.equals(type)) {
+            return ((LocalTimeValue)cell).getLocalTime();
+        } else if (ValueType.LOCAL_DATE_TIME.equals(type)) {
+            return ((LocalDateTimeValue)cell).getLocalDateTime();
+        } else if (ValueType.ZONED_DATE_TIME.equals(type)) {
+            return ((ZonedDateTimeValue)cell).getZonedDateTime();
+        } else {
+            return ((DurationValue)cell).getDuration();
+        }
+    }
+
+    /** The smallest and largest value and the number of MISSING values of each batch of a column */
+    private static final class ColumnStatistics {
+
+        private final Comparable<?>[] m_min;
+
+        private final Comparable<?>[] m_max;
+
+        private final int[] m_numMissing;
+
+        private long m_numRows;
+
+        ColumnStatistics(final int numBatches) {
+            m_min = new Comparable<?>[numBatches];
+            m_max = new Comparable<?>[numBatches];
+            m_numMissing = new int[numBatches];
+        }
+
+        void add(final int batch, final Comparable<?> value) {
+            if (value == null) {
+                m_numMissing[batch]++;
+            } else {
+                if (m_min[batch] == null || compare(value, m_min[batch]) < 0) {
+                    m_min[batch] = value;
+                }
+                if (m_max[batch] == null || compare(value, m_max[batch]) > 0) {
+                    m_max[batch] = value;
+                }
+            }
+        }
+
+        void setNumRows(final long numRows) {
+            m_numRows = numRows;
+        }
+
+        int numRows(final int batch) {
+            return (int)Math.min(BATCH_SIZE, m_numRows - (long)batch * BATCH_SIZE);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(final Comparable a, final Comparable b) {
+        // NB: Double#compareTo orders NaN above all other values like the comparison operators
+        return a.compareTo(b);
+    }
+
+    /** A part of the filter expression that can be decided for a batch by looking at the statistics */
+    private sealed interface BatchPredicate {
+
+        BatchMatch match(int batch, Map<Integer, ColumnStatistics> statistics);
+    }
+
+    private record And(BatchPredicate arg1, BatchPredicate arg2) implements BatchPredicate {
+
+        @Override
+        public BatchMatch match(final int batch, final Map<Integer, ColumnStatistics> statistics) {
+            return arg1.match(batch, statistics).and(arg2.match(batch, statistics));
+        }
+    }
+
+    private record Or(BatchPredicate arg1, BatchPredicate arg2) implements BatchPredicate {
+
+        @Override
+        public BatchMatch match(final int batch, final Map<Integer, ColumnStatistics> statistics) {
+            return arg1.match(batch, statistics).or(arg2.match(batch, statistics));
+        }
+    }
+
+    private record Not(BatchPredicate arg) implements BatchPredicate {
+
+        @Override
+        public BatchMatch match(final int batch, final Map<Integer, ColumnStatistics> statistics) {
+            return arg.match(batch, statistics).not();
+        }
+    }
+
+    /**
+     * <code>column op constant</code> for a column with the given index.
+     *
+     * @param asFloat if the values of an INTEGER column are compared as FLOAT
+     * @param constant the constant value or <code>null</code> if it is MISSING
+     */
+    private record Comparison(int column, BinaryOperator op, boolean asFloat, Comparable<?> constant)
+        implements BatchPredicate {
+
+        @Override
+        public BatchMatch match(final int batch, final Map<Integer, ColumnStatistics> statistics) {
+            if (op == BinaryOperator.NOT_EQUAL_TO) {
+                return new Comparison(column, BinaryOperator.EQUAL_TO, asFloat, constant).match(batch, statistics)
+                    .not();
+            }
+
+            var columnStatistics = statistics.get(column);
+            var numRows = columnStatistics.numRows(batch);
+            var numMissing = columnStatistics.m_numMissing[batch];
+
+            if (constant == null) {
+                // Only MISSING = MISSING, MISSING <= MISSING and MISSING >= MISSING are true
+                if (op == BinaryOperator.LESS_THAN || op == BinaryOperator.GREATER_THAN || numMissing == 0) {
+                    return BatchMatch.NONE;
+                }
+                return numMissing == numRows ? BatchMatch.ALL : BatchMatch.SOME;
+            }
+            if (numMissing == numRows) {
+                // Comparisons of MISSING with a value are false
+                return BatchMatch.NONE;
+            }
+
+            var toMin = compare(comparable(columnStatistics.m_min[batch]), constant);
+            var toMax = compare(comparable(columnStatistics.m_max[batch]), constant);
+            var allTrue = switch (op) {
+                case LESS_THAN -> toMax < 0;
+                case LESS_THAN_EQUAL -> toMax <= 0;
+                case GREATER_THAN -> toMin > 0;
+                case GREATER_THAN_EQUAL -> toMin >= 0;
+                default -> toMin == 0 && toMax == 0;
+            };
+            var noneTrue = switch (op) {
+                case LESS_THAN -> toMin >= 0;
+                case LESS_THAN_EQUAL -> toMin > 0;
+                case GREATER_THAN -> toMax <= 0;
+                case GREATER_THAN_EQUAL -> toMax < 0;
+                default -> toMin > 0 || toMax < 0;
+            };
+
+            if (noneTrue) {
+                return BatchMatch.NONE;
+            } else if (allTrue && numMissing == 0) {
+                return BatchMatch.ALL;
+            }
+            return BatchMatch.SOME;
+        }
+
+        private Comparable<?> comparable(final Comparable<?> value) {
+            return asFloat && value instanceof Long l ? Double.valueOf(l) : value;
+        }
+    }
+
+    /** Converts the typed expression to a {@link BatchPredicate} */
+    private static final class Analysis {
+
+        private final TypedAst m_expression;
+
+        private final DataTableSpec m_spec;
+
+        private final ExpressionAdditionalInputs m_additionalInputs;
+
+        private final EvaluationContext m_ctx;
+
+        private final Map<Integer, ValueType> m_columnTypes;
+
+        Analysis(final TypedAst expression, final DataTableSpec spec,
+            final ExpressionAdditionalInputs additionalInputs, final EvaluationContext ctx,
+            final Map<Integer, ValueType> columnTypes) {
+            m_expression = expression;
+            m_spec = spec;
+            m_additionalInputs = additionalInputs;
+            m_ctx = ctx;
+            m_columnTypes = columnTypes;
+        }
+
+        /** @return the predicate for the node or an empty optional if any part of it is not supported */
+        Optional<BatchPredicate> predicate(final Ast node) {
+            if (!ValueType.BOOLEAN.equals(m_expression.typeOf(node))) {
+                // NB: Logical operators on BOOLEAN | MISSING have different semantics
+                return Optional.empty();
+            }
+
+            if (node instanceof UnaryOp unaryOp && unaryOp.op() == UnaryOperator.NOT) {
+                return predicate(unaryOp.arg()).map(Not::new);
+            } else if (node instanceof BinaryOp binaryOp) {
+                var op = binaryOp.op();
+                if (op == BinaryOperator.CONDITIONAL_AND || op == BinaryOperator.CONDITIONAL_OR) {
+                    var arg1 = predicate(binaryOp.arg1());
+                    var arg2 = predicate(binaryOp.arg2());
+                    if (arg1.isEmpty() || arg2.isEmpty()) {
+                        return Optional.empty();
+                    }
+                    return Optional.of(op == BinaryOperator.CONDITIONAL_AND //
+                        ? new And(arg1.get(), arg2.get()) //
+                        : new Or(arg1.get(), arg2.get()));
+                } else if (op.isOrderingComparison() || op.isEqualityComparison()) {
+                    return comparison(binaryOp);
+                }
+            }
+            return Optional.empty();
+        }
+
+        private Optional<BatchPredicate> comparison(final BinaryOp comparison) {
+            if (isPlainColumnAccess(comparison.arg1()) && Expressions.isConstant(comparison.arg2())) {
+                return comparison((ColumnAccess)comparison.arg1(), comparison.op(), comparison.arg2());
+            } else if (isPlainColumnAccess(comparison.arg2()) && Expressions.isConstant(comparison.arg1())) {
+                return comparison((ColumnAccess)comparison.arg2(), mirror(comparison.op()), comparison.arg1());
+            }
+            return Optional.empty();
+        }
+
+        private Optional<BatchPredicate> comparison(final ColumnAccess columnAccess, final BinaryOperator op,
+            final Ast constant) {
+            var column = m_spec.findColumnIndex(columnAccess.columnId().name());
+            var columnType = m_expression.typeOf(columnAccess).baseType();
+            var constantType = m_expression.typeOf(constant).baseType();
+            var asFloat = ValueType.FLOAT.equals(columnType) || ValueType.FLOAT.equals(constantType);
+            if (column < 0 || !ORDERED_TYPES.contains(columnType)) {
+                return Optional.empty();
+            } else if (op.isEqualityComparison() && (asFloat || !EQUALITY_TYPES.contains(columnType))) {
+                // NB: The equality of FLOAT values is not consistent with the order of NaN and -0.0
+                return Optional.empty();
+            }
+
+            Comparable<?> value = null;
+            try {
+                var computer = ExpressionRunnerUtils.evaluateConstantExpression(
+                    m_expression.subexpression(constant), m_additionalInputs, m_ctx);
+                if (!computer.isMissing(m_ctx)) {
+                    value = constantValueOf(computer, asFloat);
+                    if (value == null || (!asFloat && !columnType.equals(constantType))) {
+                        // NB: Typing only allows comparisons of numbers or of values of the same temporal type
+                        return Optional.empty();
+                    }
+                }
+            } catch (ExpressionEvaluationException e) { // NOSONAR
+                // The error is reported when the expression is evaluated for the rows
+                return Optional.empty();
+            }
+
+            m_columnTypes.put(column, columnType);
+            return Optional.of(new Comparison(column, op, asFloat, value));
+        }
+
+        private Comparable<?> constantValueOf(final Computer computer, final boolean asFloat)
+            throws ExpressionEvaluationException {
+            if (asFloat) {
+                return Computer.toFloat(computer).compute(m_ctx);
+            } else if (computer instanceof IntegerComputer c) {
+                return c.compute(m_ctx);
+            } else if (computer instanceof LocalDateComputer c) {
+                return c.compute(m_ctx);
+            } else if (computer instanceof LocalTimeComputer c) {
+                return c.compute(m_ctx);
+            } else if (computer instanceof LocalDateTimeComputer c) {
+                return c.compute(m_ctx);
+            } else if (computer instanceof ZonedDateTimeComputer c) {
+                return c.compute(m_ctx);
+            } else if (computer instanceof TimeDurationComputer c) {
+                return c.compute(m_ctx);
+            }
+            return null;
+        }
+    }
+
+    private static boolean isPlainColumnAccess(final Ast expression) {
+        return expression instanceof ColumnAccess columnAccess //
+            && columnAccess.offset() == 0 //
+            && columnAccess.columnId().type() == ColumnIdType.NAMED;
+    }
+
+    private static BinaryOperator mirror(final BinaryOperator op) {
+        return switch (op) {
+            case LESS_THAN -> BinaryOperator.GREATER_THAN;
+            case LESS_THAN_EQUAL -> BinaryOperator.GREATER_THAN_EQUAL;
+            case GREATER_THAN -> BinaryOperator.LESS_THAN;
+            case GREATER_THAN_EQUAL -> BinaryOperator.LESS_THAN_EQUAL;
+            default -> op;
+        };
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.expressions.aggregations;
+
+import org.knime.base.expressions.aggregations.ColumnAggregations.RowWiseAggregation;
+import org.knime.core.data.v2.RowRead;
+import org.knime.core.expressions.Computer;
+import org.knime.core.expressions.Computer.IntegerComputer;
+
+/**
+ * Abstract {@link RowWiseAggregation} that holds the column index and stores the result of each row in a
+ * {@link RowWiseResults}.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+abstract class AbstractRowWiseAggregation implements RowWiseAggregation {
+
+    /** The column index of the column to aggregate. */
+    protected final int m_columnIdx;
+
+    /** The result for each row that was added */
+    protected final RowWiseResults m_results = new RowWiseResults();
+
+    private int m_numRows;
+
+    protected AbstractRowWiseAggregation(final int columnIdx) {
+        m_columnIdx = columnIdx;
+    }
+
+    @Override
+    public final void addRow(final RowRead row) {
+        if (m_numRows == RowWiseResults.MAX_ROWS) {
+            throw new IllegalStateException(
+                "Row-wise aggregations support at most %d rows.".formatted(RowWiseResults.MAX_ROWS));
+        }
+        var rowIdx = m_numRows++;
+        addRow(row, rowIdx);
+        storeResult(rowIdx);
+    }
+
+    /**
+     * Add the given row to the state of the aggregation.
+     *
+     * @param row the row
+     * @param rowIdx the index of the row
+     */
+    protected abstract void addRow(RowRead row, int rowIdx);
+
+    /**
+     * Store the result for the row with the given index in {@link #m_results}.
+     *
+     * @param rowIdx the index of the row
+     */
+    protected abstract void storeResult(int rowIdx);
+
+    @Override
+    public Computer createResultComputer() {
+        var lastRow = m_numRows - 1;
+        return createResultComputer(IntegerComputer.ofConstant(lastRow));
+    }
+}
@@ -53,6 +53,7 @@ import org.knime.core.data.v2.RowRead;
 import org.knime.core.expressions.Ast.AggregationCall;
 import org.knime.core.expressions.Computer;
 import org.knime.core.expressions.Computer.BooleanComputerResultSupplier;
+import org.knime.core.expressions.Computer.IntegerComputer;
 import org.knime.core.expressions.aggregations.BuiltInAggregations;
 
 /**
@@ -75,6 +76,26 @@ public final class ColumnAggregations {
         Computer createResultComputer();
     }
 
+    /**
+     * Interface for the implementation of a
+     * {@link org.knime.core.expressions.aggregations.ColumnAggregation#isRowWise() row-wise} aggregation. The rows
+     * must be added in the order of the table. The result for each row is remembered such that it can be looked up by
+     * the <code>ROW_INDEX</code> of the row.
+     */
+    public interface RowWiseAggregation extends Aggregation {
+
+        /** @return a computer that returns the result of the aggregation for the last row that was added */
+        @Override
+        Computer createResultComputer();
+
+        /**
+         * @param rowIndex a computer that returns the <code>ROW_INDEX</code> of the row to get the result for
+         * @return a computer that returns the result of the aggregation for the row at the given index. The result is
+         *         <code>MISSING</code> for rows that have not been added
+         */
+        Computer createResultComputer(IntegerComputer rowIndex);
+    }
+
     /**
      * Returns the implementation of the aggregation for the given aggregation call.
      *
@@ -103,6 +124,26 @@ public final class ColumnAggregations {
             return StdDevColumnAggregationImpl.stddevAggregation(aggregationCall.args(), tableSpec);
         } else if (BuiltInAggregations.COUNT.equals(columnAggregation)) {
             return CountColumnAggregationImpl.countAggregation(aggregationCall.args(), tableSpec);
+        } else if (BuiltInAggregations.ROLLING_SUM.equals(columnAggregation)) {
+            return RollingWindowAggregationImpl.rollingSumAggregation(aggregationCall.args(), tableSpec);
+        } else if (BuiltInAggregations.ROLLING_AVERAGE.equals(columnAggregation)) {
+            return RollingWindowAggregationImpl.rollingAverageAggregation(aggregationCall.args(), tableSpec);
+        } else if (BuiltInAggregations.ROLLING_MIN.equals(columnAggregation)) {
+            return RollingWindowAggregationImpl.rollingMinAggregation(aggregationCall.args(), tableSpec);
+        } else if (BuiltInAggregations.ROLLING_MAX.equals(columnAggregation)) {
+            return RollingWindowAggregationImpl.rollingMaxAggregation(aggregationCall.args(), tableSpec);
+        } else if (BuiltInAggregations.ROLLING_COUNT.equals(columnAggregation)) {
+            return RollingWindowAggregationImpl.rollingCountAggregation(aggregationCall.args(), tableSpec);
+        } else if (BuiltInAggregations.CUMULATIVE_SUM.equals(columnAggregation)) {
+            return CumulativeAggregationImpl.cumulativeSumAggregation(aggregationCall.args(), tableSpec);
+        } else if (BuiltInAggregations.CUMULATIVE_AVERAGE.equals(columnAggregation)) {
+            return CumulativeAggregationImpl.cumulativeAverageAggregation(aggregationCall.args(), tableSpec);
+        } else if (BuiltInAggregations.CUMULATIVE_MIN.equals(columnAggregation)) {
+            return CumulativeAggregationImpl.cumulativeMinAggregation(aggregationCall.args(), tableSpec);
+        } else if (BuiltInAggregations.CUMULATIVE_MAX.equals(columnAggregation)) {
+            return CumulativeAggregationImpl.cumulativeMaxAggregation(aggregationCall.args(), tableSpec);
+        } else if (BuiltInAggregations.CUMULATIVE_COUNT.equals(columnAggregation)) {
+            return CumulativeAggregationImpl.cumulativeCountAggregation(aggregationCall.args(), tableSpec);
         } else {
             throw new UnsupportedOperationException("Aggregation " + columnAggregation.name() + " is not supported.");
         }
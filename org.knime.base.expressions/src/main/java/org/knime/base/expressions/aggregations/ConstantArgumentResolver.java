@@ -66,6 +66,8 @@ public final class ConstantArgumentResolver {
 
     static final String IGNORE_MISSING = "ignore_missing";
 
+    static final String WINDOW = "window";
+
     private ConstantArgumentResolver() {
     }
 
@@ -0,0 +1,355 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.expressions.aggregations;
+
+import org.knime.base.expressions.aggregations.ColumnAggregations.RowWiseAggregation;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.v2.RowRead;
+import org.knime.core.expressions.Arguments;
+import org.knime.core.expressions.Ast.ConstantAst;
+import org.knime.core.expressions.Computer;
+import org.knime.core.expressions.Computer.IntegerComputer;
+
+/**
+ * Implementations of the cumulative aggregations. The running state is updated with each row in the order of the table
+ * and the result for each row is stored such that it can be looked up by the <code>ROW_INDEX</code>. This makes the
+ * result independent of the order in which the rows are evaluated later.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+final class CumulativeAggregationImpl {
+
+    private static final boolean IGNORE_NAN_DEFAULT = false;
+
+    private static final boolean IGNORE_MISSING_DEFAULT = false;
+
+    private CumulativeAggregationImpl() {
+    }
+
+    static RowWiseAggregation cumulativeSumAggregation(final Arguments<ConstantAst> arguments,
+        final DataTableSpec tableSpec) {
+        return sumOrAverageAggregation(arguments, tableSpec, false);
+    }
+
+    static RowWiseAggregation cumulativeAverageAggregation(final Arguments<ConstantAst> arguments,
+        final DataTableSpec tableSpec) {
+        return sumOrAverageAggregation(arguments, tableSpec, true);
+    }
+
+    static RowWiseAggregation cumulativeMinAggregation(final Arguments<ConstantAst> arguments,
+        final DataTableSpec tableSpec) {
+        return extremumAggregation(arguments, tableSpec, false);
+    }
+
+    static RowWiseAggregation cumulativeMaxAggregation(final Arguments<ConstantAst> arguments,
+        final DataTableSpec tableSpec) {
+        return extremumAggregation(arguments, tableSpec, true);
+    }
+
+    static RowWiseAggregation cumulativeCountAggregation(final Arguments<ConstantAst> arguments,
+        final DataTableSpec tableSpec) {
+        var columnIdx = ConstantArgumentResolver.resolveColumnIndex(arguments, tableSpec);
+        var ignoreMissing = ConstantArgumentResolver.resolveOptionalBoolean(arguments,
+            ConstantArgumentResolver.IGNORE_MISSING, IGNORE_MISSING_DEFAULT);
+        return new CumulativeCount(columnIdx, ignoreMissing);
+    }
+
+    private static RowWiseAggregation sumOrAverageAggregation(final Arguments<ConstantAst> arguments,
+        final DataTableSpec tableSpec, final boolean average) {
+        var columnIdx = ConstantArgumentResolver.resolveColumnIndex(arguments, tableSpec);
+        var ignoreNaN = ConstantArgumentResolver.resolveOptionalBoolean(arguments, ConstantArgumentResolver.IGNORE_NAN,
+            IGNORE_NAN_DEFAULT);
+
+        var columnType = tableSpec.getColumnSpec(columnIdx).getType();
+        if (columnType.isCompatible(LongValue.class)) {
+            return new CumulativeIntegerSum(columnIdx, average);
+        } else if (columnType.isCompatible(DoubleValue.class)) {
+            return new CumulativeFloatSum(columnIdx, average, ignoreNaN);
+        } else {
+            throw new IllegalStateException("Implementation error - unsupported column type: %s".formatted(columnType));
+        }
+    }
+
+    private static RowWiseAggregation extremumAggregation(final Arguments<ConstantAst> arguments,
+        final DataTableSpec tableSpec, final boolean max) {
+        var columnIdx = ConstantArgumentResolver.resolveColumnIndex(arguments, tableSpec);
+        var ignoreNaN = ConstantArgumentResolver.resolveOptionalBoolean(arguments, ConstantArgumentResolver.IGNORE_NAN,
+            IGNORE_NAN_DEFAULT);
+
+        var columnType = tableSpec.getColumnSpec(columnIdx).getType();
+        if (columnType.isCompatible(LongValue.class)) {
+            return new CumulativeIntegerExtremum(columnIdx, max);
+        } else if (columnType.isCompatible(DoubleValue.class)) {
+            return new CumulativeFloatExtremum(columnIdx, max, ignoreNaN);
+        } else {
+            throw new IllegalStateException("Implementation error - unsupported column type: %s".formatted(columnType));
+        }
+    }
+
+    @SuppressWarnings("squid:S3052") // Allow redundant initializations for clarity
+    private static final class CumulativeIntegerSum extends AbstractRowWiseAggregation {
+
+        private final boolean m_average;
+
+        private long m_sum = 0;
+
+        private long m_count = 0;
+
+        CumulativeIntegerSum(final int columnIdx, final boolean average) {
+            super(columnIdx);
+            m_average = average;
+        }
+
+        @Override
+        protected void addRow(final RowRead row, final int rowIdx) {
+            if (!row.isMissing(m_columnIdx)) {
+                m_sum += ((LongValue)row.getValue(m_columnIdx)).getLongValue();
+                m_count++;
+            }
+        }
+
+        @Override
+        protected void storeResult(final int rowIdx) {
+            if (m_count == 0) {
+                m_results.setMissing(rowIdx);
+            } else if (m_average) {
+                m_results.setDouble(rowIdx, m_sum / (double)m_count);
+            } else {
+                m_results.setLong(rowIdx, m_sum);
+            }
+        }
+
+        @Override
+        public Computer createResultComputer(final IntegerComputer rowIndex) {
+            return m_average ? m_results.floatComputer(rowIndex) : m_results.integerComputer(rowIndex);
+        }
+    }
+
+    @SuppressWarnings("squid:S3052") // Allow redundant initializations for clarity
+    private static final class CumulativeFloatSum extends AbstractRowWiseAggregation {
+
+        private final boolean m_average;
+
+        private final boolean m_ignoreNaN;
+
+        private double m_sum = 0;
+
+        /** Compensation for the lost low-order bits of m_sum (Neumaier summation) */
+        private double m_compensation = 0;
+
+        private long m_count = 0;
+
+        CumulativeFloatSum(final int columnIdx, final boolean average, final boolean ignoreNaN) {
+            super(columnIdx);
+            m_average = average;
+            m_ignoreNaN = ignoreNaN;
+        }
+
+        @Override
+        protected void addRow(final RowRead row, final int rowIdx) {
+            if (row.isMissing(m_columnIdx)) {
+                return;
+            }
+            var value = ((DoubleValue)row.getValue(m_columnIdx)).getDoubleValue();
+            if (m_ignoreNaN && Double.isNaN(value)) {
+                return;
+            }
+            // NB: A NaN value makes the sum NaN for all following rows
+            var newSum = m_sum + value;
+            if (Math.abs(m_sum) >= Math.abs(value)) {
+                m_compensation += (m_sum - newSum) + value;
+            } else {
+                m_compensation += (value - newSum) + m_sum;
+            }
+            m_sum = newSum;
+            m_count++;
+        }
+
+        @Override
+        protected void storeResult(final int rowIdx) {
+            if (m_count == 0) {
+                m_results.setMissing(rowIdx);
+            } else {
+                // NB: The compensation is NaN once the sum is not finite, but then the sum stays non-finite anyway
+                var sum = Double.isFinite(m_sum) ? (m_sum + m_compensation) : m_sum;
+                m_results.setDouble(rowIdx, m_average ? (sum / m_count) : sum);
+            }
+        }
+
+        @Override
+        public Computer createResultComputer(final IntegerComputer rowIndex) {
+            return m_results.floatComputer(rowIndex);
+        }
+    }
+
+    @SuppressWarnings("squid:S3052") // Allow redundant initializations for clarity
+    private static final class CumulativeIntegerExtremum extends AbstractRowWiseAggregation {
+
+        private final boolean m_max;
+
+        private long m_extremum = 0;
+
+        private boolean m_isMissing = true;
+
+        CumulativeIntegerExtremum(final int columnIdx, final boolean max) {
+            super(columnIdx);
+            m_max = max;
+        }
+
+        @Override
+        protected void addRow(final RowRead row, final int rowIdx) {
+            if (row.isMissing(m_columnIdx)) {
+                return;
+            }
+            var value = ((LongValue)row.getValue(m_columnIdx)).getLongValue();
+            if (m_isMissing) {
+                m_extremum = value;
+                m_isMissing = false;
+            } else {
+                m_extremum = m_max ? Math.max(m_extremum, value) : Math.min(m_extremum, value);
+            }
+        }
+
+        @Override
+        protected void storeResult(final int rowIdx) {
+            if (m_isMissing) {
+                m_results.setMissing(rowIdx);
+            } else {
+                m_results.setLong(rowIdx, m_extremum);
+            }
+        }
+
+        @Override
+        public Computer createResultComputer(final IntegerComputer rowIndex) {
+            return m_results.integerComputer(rowIndex);
+        }
+    }
+
+    @SuppressWarnings("squid:S3052") // Allow redundant initializations for clarity
+    private static final class CumulativeFloatExtremum extends AbstractRowWiseAggregation {
+
+        private final boolean m_max;
+
+        private final boolean m_ignoreNaN;
+
+        private double m_extremum = 0;
+
+        private boolean m_isMissing = true;
+
+        CumulativeFloatExtremum(final int columnIdx, final boolean max, final boolean ignoreNaN) {
+            super(columnIdx);
+            m_max = max;
+            m_ignoreNaN = ignoreNaN;
+        }
+
+        @Override
+        protected void addRow(final RowRead row, final int rowIdx) {
+            if (row.isMissing(m_columnIdx)) {
+                return;
+            }
+            var value = ((DoubleValue)row.getValue(m_columnIdx)).getDoubleValue();
+            if (m_ignoreNaN && Double.isNaN(value)) {
+                return;
+            }
+            if (m_isMissing) {
+                m_extremum = value;
+                m_isMissing = false;
+            } else {
+                // NB: Math.max and Math.min return NaN if any argument is NaN
+                m_extremum = m_max ? Math.max(m_extremum, value) : Math.min(m_extremum, value);
+            }
+        }
+
+        @Override
+        protected void storeResult(final int rowIdx) {
+            if (m_isMissing) {
+                m_results.setMissing(rowIdx);
+            } else {
+                m_results.setDouble(rowIdx, m_extremum);
+            }
+        }
+
+        @Override
+        public Computer createResultComputer(final IntegerComputer rowIndex) {
+            return m_results.floatComputer(rowIndex);
+        }
+    }
+
+    @SuppressWarnings("squid:S3052") // Allow redundant initializations for clarity
+    private static final class CumulativeCount extends AbstractRowWiseAggregation {
+
+        private final boolean m_ignoreMissing;
+
+        private long m_count = 0;
+
+        CumulativeCount(final int columnIdx, final boolean ignoreMissing) {
+            super(columnIdx);
+            m_ignoreMissing = ignoreMissing;
+        }
+
+        @Override
+        protected void addRow(final RowRead row, final int rowIdx) {
+            if (!m_ignoreMissing || !row.isMissing(m_columnIdx)) {
+                m_count++;
+            }
+        }
+
+        @Override
+        protected void storeResult(final int rowIdx) {
+            m_results.setLong(rowIdx, m_count);
+        }
+
+        @Override
+        public Computer createResultComputer(final IntegerComputer rowIndex) {
+            return m_results.integerComputer(rowIndex);
+        }
+    }
+}
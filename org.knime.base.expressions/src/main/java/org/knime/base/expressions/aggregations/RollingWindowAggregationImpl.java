@@ -0,0 +1,564 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.expressions.aggregations;
+
+import org.knime.base.expressions.aggregations.ColumnAggregations.RowWiseAggregation;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.v2.RowRead;
+import org.knime.core.expressions.Arguments;
+import org.knime.core.expressions.Ast.ConstantAst;
+import org.knime.core.expressions.Computer;
+import org.knime.core.expressions.Computer.IntegerComputer;
+
+/**
+ * Implementations of the rolling window aggregations. All aggregations process each row in amortized constant time,
+ * independent of the window size: sums, averages, and counts are updated incrementally when a value enters or leaves
+ * the window and minima and maxima are tracked with a monotonic deque. The result for each row is stored in a
+ * primitive array such that it can be looked up by the <code>ROW_INDEX</code>.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+final class RollingWindowAggregationImpl {
+
+    private static final boolean IGNORE_NAN_DEFAULT = false;
+
+    private static final boolean IGNORE_MISSING_DEFAULT = false;
+
+    private RollingWindowAggregationImpl() {
+    }
+
+    static RowWiseAggregation rollingSumAggregation(final Arguments<ConstantAst> arguments,
+        final DataTableSpec tableSpec) {
+        return sumOrAverageAggregation(arguments, tableSpec, false);
+    }
+
+    static RowWiseAggregation rollingAverageAggregation(final Arguments<ConstantAst> arguments,
+        final DataTableSpec tableSpec) {
+        return sumOrAverageAggregation(arguments, tableSpec, true);
+    }
+
+    static RowWiseAggregation rollingMinAggregation(final Arguments<ConstantAst> arguments,
+        final DataTableSpec tableSpec) {
+        return extremumAggregation(arguments, tableSpec, false);
+    }
+
+    static RowWiseAggregation rollingMaxAggregation(final Arguments<ConstantAst> arguments,
+        final DataTableSpec tableSpec) {
+        return extremumAggregation(arguments, tableSpec, true);
+    }
+
+    static RowWiseAggregation rollingCountAggregation(final Arguments<ConstantAst> arguments,
+        final DataTableSpec tableSpec) {
+        var columnIdx = ConstantArgumentResolver.resolveColumnIndex(arguments, tableSpec);
+        var window = resolveWindow(arguments);
+        var ignoreMissing = ConstantArgumentResolver.resolveOptionalBoolean(arguments,
+            ConstantArgumentResolver.IGNORE_MISSING, IGNORE_MISSING_DEFAULT);
+        return new RollingCount(columnIdx, window, ignoreMissing);
+    }
+
+    private static RowWiseAggregation sumOrAverageAggregation(final Arguments<ConstantAst> arguments,
+        final DataTableSpec tableSpec, final boolean average) {
+        var columnIdx = ConstantArgumentResolver.resolveColumnIndex(arguments, tableSpec);
+        var window = resolveWindow(arguments);
+        var ignoreNaN = ConstantArgumentResolver.resolveOptionalBoolean(arguments, ConstantArgumentResolver.IGNORE_NAN,
+            IGNORE_NAN_DEFAULT);
+
+        var columnType = tableSpec.getColumnSpec(columnIdx).getType();
+        if (columnType.isCompatible(LongValue.class)) {
+            return new RollingIntegerSum(columnIdx, window, average);
+        } else if (columnType.isCompatible(DoubleValue.class)) {
+            return new RollingFloatSum(columnIdx, window, average, ignoreNaN);
+        } else {
+            throw new IllegalStateException("Implementation error - unsupported column type: %s".formatted(columnType));
+        }
+    }
+
+    private static RowWiseAggregation extremumAggregation(final Arguments<ConstantAst> arguments,
+        final DataTableSpec tableSpec, final boolean max) {
+        var columnIdx = ConstantArgumentResolver.resolveColumnIndex(arguments, tableSpec);
+        var window = resolveWindow(arguments);
+        var ignoreNaN = ConstantArgumentResolver.resolveOptionalBoolean(arguments, ConstantArgumentResolver.IGNORE_NAN,
+            IGNORE_NAN_DEFAULT);
+
+        var columnType = tableSpec.getColumnSpec(columnIdx).getType();
+        if (columnType.isCompatible(LongValue.class)) {
+            return new RollingIntegerExtremum(columnIdx, window, max);
+        } else if (columnType.isCompatible(DoubleValue.class)) {
+            return new RollingFloatExtremum(columnIdx, window, max, ignoreNaN);
+        } else {
+            throw new IllegalStateException("Implementation error - unsupported column type: %s".formatted(columnType));
+        }
+    }
+
+    private static long resolveWindow(final Arguments<ConstantAst> arguments) {
+        var window = ConstantArgumentResolver.resolveOptionalInteger(arguments, ConstantArgumentResolver.WINDOW, 1);
+        if (window < 1) {
+            throw new IllegalStateException("Implementation error - window must be positive but was " + window);
+        }
+        return window;
+    }
+
+    // ====================== BASE CLASS ===========================
+
+    /** Base class for rolling window aggregations. Evicts the rows that left the window before a new row is added. */
+    private abstract static class AbstractRollingAggregation extends AbstractRowWiseAggregation {
+
+        protected final long m_window;
+
+        AbstractRollingAggregation(final int columnIdx, final long window) {
+            super(columnIdx);
+            m_window = window;
+        }
+
+        @Override
+        protected final void addRow(final RowRead row, final int rowIdx) {
+            evict(rowIdx - m_window);
+            addToWindow(row, rowIdx);
+        }
+
+        /**
+         * Remove all values of rows with an index smaller than or equal to the given index from the window.
+         *
+         * @param lastOutdatedRow the index of the last row that is not part of the window anymore (can be negative)
+         */
+        protected abstract void evict(long lastOutdatedRow);
+
+        /**
+         * Add the value of the given row to the window.
+         *
+         * @param row the row
+         * @param rowIdx the index of the row
+         */
+        protected abstract void addToWindow(RowRead row, int rowIdx);
+    }
+
+    // ====================== SUM AND AVERAGE ===========================
+
+    private static final class RollingIntegerSum extends AbstractRollingAggregation {
+
+        private final boolean m_average;
+
+        private final WindowDeque m_values = new WindowDeque();
+
+        private long m_sum;
+
+        RollingIntegerSum(final int columnIdx, final long window, final boolean average) {
+            super(columnIdx, window);
+            m_average = average;
+        }
+
+        @Override
+        protected void evict(final long lastOutdatedRow) {
+            while (!m_values.isEmpty() && m_values.firstRow() <= lastOutdatedRow) {
+                m_sum -= m_values.removeFirst();
+            }
+        }
+
+        @Override
+        protected void addToWindow(final RowRead row, final int rowIdx) {
+            if (!row.isMissing(m_columnIdx)) {
+                var value = ((LongValue)row.getValue(m_columnIdx)).getLongValue();
+                m_values.addLast(rowIdx, value);
+                m_sum += value;
+            }
+        }
+
+        @Override
+        protected void storeResult(final int rowIdx) {
+            if (m_values.isEmpty()) {
+                m_results.setMissing(rowIdx);
+            } else if (m_average) {
+                m_results.setDouble(rowIdx, m_sum / (double)m_values.size());
+            } else {
+                m_results.setLong(rowIdx, m_sum);
+            }
+        }
+
+        @Override
+        public Computer createResultComputer(final IntegerComputer rowIndex) {
+            return m_average ? m_results.floatComputer(rowIndex) : m_results.integerComputer(rowIndex);
+        }
+    }
+
+    private static final class RollingFloatSum extends AbstractRollingAggregation {
+
+        private final boolean m_average;
+
+        private final boolean m_ignoreNaN;
+
+        private final WindowDeque m_values = new WindowDeque();
+
+        // NB: Only finite values are summed up. Otherwise, an infinite value would turn the running sum into NaN
+        // when it leaves the window again.
+        private double m_sum;
+
+        /** Compensation for the lost low-order bits of m_sum (Neumaier summation) */
+        private double m_compensation;
+
+        private int m_numNaN;
+
+        private int m_numPositiveInfinity;
+
+        private int m_numNegativeInfinity;
+
+        RollingFloatSum(final int columnIdx, final long window, final boolean average, final boolean ignoreNaN) {
+            super(columnIdx, window);
+            m_average = average;
+            m_ignoreNaN = ignoreNaN;
+        }
+
+        @Override
+        protected void evict(final long lastOutdatedRow) {
+            while (!m_values.isEmpty() && m_values.firstRow() <= lastOutdatedRow) {
+                update(Double.longBitsToDouble(m_values.removeFirst()), -1);
+            }
+            if (m_values.isEmpty()) {
+                // Start from scratch to get rid of accumulated rounding errors
+                m_sum = 0;
+                m_compensation = 0;
+            }
+        }
+
+        @Override
+        protected void addToWindow(final RowRead row, final int rowIdx) {
+            if (row.isMissing(m_columnIdx)) {
+                return;
+            }
+            var value = ((DoubleValue)row.getValue(m_columnIdx)).getDoubleValue();
+            if (m_ignoreNaN && Double.isNaN(value)) {
+                return;
+            }
+            m_values.addLast(rowIdx, Double.doubleToRawLongBits(value));
+            update(value, 1);
+        }
+
+        /** Add (sign = 1) or remove (sign = -1) the value from the running state */
+        private void update(final double value, final int sign) {
+            if (Double.isNaN(value)) {
+                m_numNaN += sign;
+            } else if (value == Double.POSITIVE_INFINITY) {
+                m_numPositiveInfinity += sign;
+            } else if (value == Double.NEGATIVE_INFINITY) {
+                m_numNegativeInfinity += sign;
+            } else {
+                var summand = sign * value;
+                var newSum = m_sum + summand;
+                if (Math.abs(m_sum) >= Math.abs(summand)) {
+                    m_compensation += (m_sum - newSum) + summand;
+                } else {
+                    m_compensation += (summand - newSum) + m_sum;
+                }
+                m_sum = newSum;
+            }
+        }
+
+        @Override
+        protected void storeResult(final int rowIdx) {
+            if (m_values.isEmpty()) {
+                m_results.setMissing(rowIdx);
+                return;
+            }
+
+            double sum;
+            if (m_numNaN > 0 || (m_numPositiveInfinity > 0 && m_numNegativeInfinity > 0)) {
+                sum = Double.NaN;
+            } else if (m_numPositiveInfinity > 0) {
+                sum = Double.POSITIVE_INFINITY;
+            } else if (m_numNegativeInfinity > 0) {
+                sum = Double.NEGATIVE_INFINITY;
+            } else {
+                sum = m_sum + m_compensation;
+            }
+            m_results.setDouble(rowIdx, m_average ? (sum / m_values.size()) : sum);
+        }
+
+        @Override
+        public Computer createResultComputer(final IntegerComputer rowIndex) {
+            return m_results.floatComputer(rowIndex);
+        }
+    }
+
+    // ====================== MIN AND MAX ===========================
+
+    /**
+     * Keeps a monotonic deque of the values in the window: a value is dropped from the back as soon as a newer value
+     * is at least as large (for the maximum). Therefore, the first value of the deque is always the extremum of the
+     * window and every value is added and removed at most once.
+     */
+    private static final class RollingIntegerExtremum extends AbstractRollingAggregation {
+
+        private final boolean m_max;
+
+        private final WindowDeque m_candidates = new WindowDeque();
+
+        RollingIntegerExtremum(final int columnIdx, final long window, final boolean max) {
+            super(columnIdx, window);
+            m_max = max;
+        }
+
+        @Override
+        protected void evict(final long lastOutdatedRow) {
+            while (!m_candidates.isEmpty() && m_candidates.firstRow() <= lastOutdatedRow) {
+                m_candidates.removeFirst();
+            }
+        }
+
+        @Override
+        protected void addToWindow(final RowRead row, final int rowIdx) {
+            if (row.isMissing(m_columnIdx)) {
+                return;
+            }
+            var value = ((LongValue)row.getValue(m_columnIdx)).getLongValue();
+            while (!m_candidates.isEmpty() && isDominatedBy(m_candidates.lastValue(), value)) {
+                m_candidates.removeLast();
+            }
+            m_candidates.addLast(rowIdx, value);
+        }
+
+        private boolean isDominatedBy(final long candidate, final long value) {
+            return m_max ? candidate <= value : candidate >= value;
+        }
+
+        @Override
+        protected void storeResult(final int rowIdx) {
+            if (m_candidates.isEmpty()) {
+                m_results.setMissing(rowIdx);
+            } else {
+                m_results.setLong(rowIdx, m_candidates.firstValue());
+            }
+        }
+
+        @Override
+        public Computer createResultComputer(final IntegerComputer rowIndex) {
+            return m_results.integerComputer(rowIndex);
+        }
+    }
+
+    /** Like {@link RollingIntegerExtremum} but keeps track of the last <code>NaN</code> in the window. */
+    private static final class RollingFloatExtremum extends AbstractRollingAggregation {
+
+        private final boolean m_max;
+
+        private final boolean m_ignoreNaN;
+
+        private final WindowDeque m_candidates = new WindowDeque();
+
+        private long m_lastNaNRow = -1;
+
+        private long m_lastOutdatedRow;
+
+        RollingFloatExtremum(final int columnIdx, final long window, final boolean max, final boolean ignoreNaN) {
+            super(columnIdx, window);
+            m_max = max;
+            m_ignoreNaN = ignoreNaN;
+        }
+
+        @Override
+        protected void evict(final long lastOutdatedRow) {
+            m_lastOutdatedRow = lastOutdatedRow;
+            while (!m_candidates.isEmpty() && m_candidates.firstRow() <= lastOutdatedRow) {
+                m_candidates.removeFirst();
+            }
+        }
+
+        @Override
+        protected void addToWindow(final RowRead row, final int rowIdx) {
+            if (row.isMissing(m_columnIdx)) {
+                return;
+            }
+            var value = ((DoubleValue)row.getValue(m_columnIdx)).getDoubleValue();
+            if (Double.isNaN(value)) {
+                if (!m_ignoreNaN) {
+                    m_lastNaNRow = rowIdx;
+                }
+                return;
+            }
+            while (!m_candidates.isEmpty()
+                && isDominatedBy(Double.longBitsToDouble(m_candidates.lastValue()), value)) {
+                m_candidates.removeLast();
+            }
+            m_candidates.addLast(rowIdx, Double.doubleToRawLongBits(value));
+        }
+
+        private boolean isDominatedBy(final double candidate, final double value) {
+            return m_max ? candidate <= value : candidate >= value;
+        }
+
+        @Override
+        protected void storeResult(final int rowIdx) {
+            if (m_lastNaNRow >= 0 && m_lastNaNRow > m_lastOutdatedRow) {
+                m_results.setDouble(rowIdx, Double.NaN);
+            } else if (m_candidates.isEmpty()) {
+                m_results.setMissing(rowIdx);
+            } else {
+                m_results.setDouble(rowIdx, Double.longBitsToDouble(m_candidates.firstValue()));
+            }
+        }
+
+        @Override
+        public Computer createResultComputer(final IntegerComputer rowIndex) {
+            return m_results.floatComputer(rowIndex);
+        }
+    }
+
+    // ====================== COUNT ===========================
+
+    private static final class RollingCount extends AbstractRollingAggregation {
+
+        private final boolean m_ignoreMissing;
+
+        private final WindowDeque m_rows = new WindowDeque();
+
+        RollingCount(final int columnIdx, final long window, final boolean ignoreMissing) {
+            super(columnIdx, window);
+            m_ignoreMissing = ignoreMissing;
+        }
+
+        @Override
+        protected void evict(final long lastOutdatedRow) {
+            while (!m_rows.isEmpty() && m_rows.firstRow() <= lastOutdatedRow) {
+                m_rows.removeFirst();
+            }
+        }
+
+        @Override
+        protected void addToWindow(final RowRead row, final int rowIdx) {
+            if (!m_ignoreMissing || !row.isMissing(m_columnIdx)) {
+                m_rows.addLast(rowIdx, 0);
+            }
+        }
+
+        @Override
+        protected void storeResult(final int rowIdx) {
+            m_results.setLong(rowIdx, m_rows.size());
+        }
+
+        @Override
+        public Computer createResultComputer(final IntegerComputer rowIndex) {
+            return m_results.integerComputer(rowIndex);
+        }
+    }
+
+    // ====================== DATA STRUCTURE ===========================
+
+    /**
+     * A double-ended queue of (row index, value) pairs backed by growing primitive ring buffers. Floating point values
+     * are stored via {@link Double#doubleToRawLongBits(double)}.
+     */
+    private static final class WindowDeque {
+
+        private int[] m_rows = new int[16];
+
+        private long[] m_values = new long[16];
+
+        private int m_head;
+
+        private int m_size;
+
+        boolean isEmpty() {
+            return m_size == 0;
+        }
+
+        int size() {
+            return m_size;
+        }
+
+        int firstRow() {
+            return m_rows[m_head];
+        }
+
+        long firstValue() {
+            return m_values[m_head];
+        }
+
+        long lastValue() {
+            return m_values[index(m_size - 1)];
+        }
+
+        void addLast(final int row, final long value) {
+            if (m_size == m_rows.length) {
+                grow();
+            }
+            var idx = index(m_size);
+            m_rows[idx] = row;
+            m_values[idx] = value;
+            m_size++;
+        }
+
+        long removeFirst() {
+            var value = m_values[m_head];
+            m_head = index(1);
+            m_size--;
+            return value;
+        }
+
+        void removeLast() {
+            m_size--;
+        }
+
+        private int index(final int offset) {
+            // NB: The capacity is always a power of two
+            return (m_head + offset) & (m_rows.length - 1);
+        }
+
+        private void grow() {
+            var newRows = new int[m_rows.length * 2];
+            var newValues = new long[m_values.length * 2];
+            for (int i = 0; i < m_size; i++) {
+                newRows[i] = m_rows[index(i)];
+                newValues[i] = m_values[index(i)];
+            }
+            m_rows = newRows;
+            m_values = newValues;
+            m_head = 0;
+        }
+    }
+}
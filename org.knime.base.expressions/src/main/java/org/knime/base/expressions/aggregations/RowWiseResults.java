@@ -0,0 +1,127 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.expressions.aggregations;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.knime.base.expressions.aggregations.ColumnAggregations.RowWiseAggregation;
+import org.knime.core.expressions.Computer.FloatComputer;
+import org.knime.core.expressions.Computer.IntegerComputer;
+import org.knime.core.expressions.EvaluationContext;
+import org.knime.core.expressions.ExpressionEvaluationException;
+
+/**
+ * The results of a {@link RowWiseAggregation} for each row, stored in growing primitive arrays that are indexed by the
+ * <code>ROW_INDEX</code>. The results must be set in the order of the rows.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+final class RowWiseResults {
+
+    /** The maximum number of rows that can be stored (limited by the maximum array size) */
+    static final int MAX_ROWS = Integer.MAX_VALUE - 8;
+
+    private long[] m_longs = new long[0];
+
+    private double[] m_doubles = new double[0];
+
+    private final BitSet m_missing = new BitSet();
+
+    private int m_numRows;
+
+    void setLong(final int rowIdx, final long value) {
+        m_longs = ensureCapacity(m_longs, rowIdx);
+        m_longs[rowIdx] = value;
+        m_numRows = rowIdx + 1;
+    }
+
+    void setDouble(final int rowIdx, final double value) {
+        m_doubles = ensureCapacity(m_doubles, rowIdx);
+        m_doubles[rowIdx] = value;
+        m_numRows = rowIdx + 1;
+    }
+
+    void setMissing(final int rowIdx) {
+        m_missing.set(rowIdx);
+        m_numRows = rowIdx + 1;
+    }
+
+    IntegerComputer integerComputer(final IntegerComputer rowIndex) {
+        return IntegerComputer.of( //
+            ctx -> m_longs[(int)rowIndex.compute(ctx)], //
+            ctx -> isMissing(rowIndex, ctx) //
+        );
+    }
+
+    FloatComputer floatComputer(final IntegerComputer rowIndex) {
+        return FloatComputer.of( //
+            ctx -> m_doubles[(int)rowIndex.compute(ctx)], //
+            ctx -> isMissing(rowIndex, ctx) //
+        );
+    }
+
+    private boolean isMissing(final IntegerComputer rowIndex, final EvaluationContext ctx)
+        throws ExpressionEvaluationException {
+        var rowIdx = rowIndex.compute(ctx);
+        return rowIdx < 0 || rowIdx >= m_numRows || m_missing.get((int)rowIdx);
+    }
+
+    private static long[] ensureCapacity(final long[] array, final int rowIdx) {
+        return rowIdx < array.length ? array : Arrays.copyOf(array, newCapacity(array.length, rowIdx));
+    }
+
+    private static double[] ensureCapacity(final double[] array, final int rowIdx) {
+        return rowIdx < array.length ? array : Arrays.copyOf(array, newCapacity(array.length, rowIdx));
+    }
+
+    private static int newCapacity(final int oldCapacity, final int rowIdx) {
+        return (int)Math.min(MAX_ROWS, Math.max(rowIdx + 1L, Math.max(1024L, oldCapacity * 2L)));
+    }
+}
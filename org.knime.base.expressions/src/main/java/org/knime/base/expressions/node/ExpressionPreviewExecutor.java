@@ -0,0 +1,261 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.expressions.node;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContext;
+
+/**
+ * Runs the preview evaluations of an expression dialog on a background thread such that a slow evaluation does not
+ * block the dialog. Only the latest request is relevant: a new request replaces a request that has not started yet
+ * and cancels the running evaluation via its {@link ExecutionContext}. Requests are started after a short delay such
+ * that quickly following requests, e.g. while typing, only start one evaluation.
+ * <P>
+ * Each request gets a new generation number. Results are only published via the {@link PreviewPublisher} if no newer
+ * request was submitted. The generation is checked under the lock of the executor, but the results are sent without
+ * holding it such that submitting a new request never waits for the dialog. A request that is submitted while results
+ * are sent runs on the same thread afterwards, so its results always replace the outdated ones.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+public final class ExpressionPreviewExecutor implements AutoCloseable {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ExpressionPreviewExecutor.class);
+
+    /** Time to wait for newer requests before starting an evaluation */
+    static final long DEBOUNCE_DELAY_MS = 150;
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+
+    /**
+     * An evaluation of the preview.
+     */
+    @FunctionalInterface
+    public interface PreviewTask {
+
+        /**
+         * Run the evaluation. The evaluation should check for cancellation regularly and must publish all results
+         * with the given publisher.
+         *
+         * @param exec an execution context that is canceled when a newer request is submitted
+         * @param publisher publishes the results if no newer request was submitted
+         * @throws Exception if the evaluation fails, the message is published with the error handler of the request
+         */
+        void run(ExecutionContext exec, PreviewPublisher publisher) throws Exception; // NOSONAR - any failure is shown
+    }
+
+    /**
+     * Publishes the results of a preview evaluation.
+     */
+    @FunctionalInterface
+    public interface PreviewPublisher {
+
+        /**
+         * Run the publication if no newer request was submitted. The publication does not block newer requests but
+         * runs before their evaluation starts.
+         *
+         * @param publication sends the results to the dialog
+         * @throws CanceledExecutionException if a newer request was submitted, nothing was published
+         */
+        void publish(Runnable publication) throws CanceledExecutionException;
+    }
+
+    /** The node of the dialog, {@code null} if the executor is used without a node */
+    private final NativeNodeContainer m_nodeContainer;
+
+    private final Supplier<ExecutionContext> m_execFactory;
+
+    private final ScheduledExecutorService m_executor;
+
+    /** Generation of the latest request, incremented for each request and on close */
+    private long m_generation;
+
+    private ScheduledFuture<?> m_pendingTask;
+
+    private ExecutionContext m_runningExec;
+
+    /**
+     * Create a new executor for the node of the current {@link NodeContext}.
+     */
+    public ExpressionPreviewExecutor() {
+        this((NativeNodeContainer)NodeContext.getContext().getNodeContainer());
+    }
+
+    private ExpressionPreviewExecutor(final NativeNodeContainer nodeContainer) {
+        this(nodeContainer, nodeContainer::createExecutionContext,
+            "Expression preview - " + nodeContainer.getNameWithID());
+    }
+
+    /**
+     * Create a new executor that is not associated with a node. For testing only.
+     *
+     * @param execFactory creates the execution context for each evaluation
+     */
+    ExpressionPreviewExecutor(final Supplier<ExecutionContext> execFactory) {
+        this(null, execFactory, "Expression preview");
+    }
+
+    private ExpressionPreviewExecutor(final NativeNodeContainer nodeContainer,
+        final Supplier<ExecutionContext> execFactory, final String threadName) {
+        m_nodeContainer = nodeContainer;
+        m_execFactory = execFactory;
+        m_executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submit a new preview evaluation. Replaces the pending evaluation and cancels the running evaluation.
+     *
+     * @param task the evaluation
+     * @param errorHandler publishes the message of an evaluation failure to the dialog, only called if no newer
+     *            request was submitted
+     */
+    public synchronized void submit(final PreviewTask task, final Consumer<String> errorHandler) {
+        if (m_pendingTask != null) {
+            m_pendingTask.cancel(false);
+        }
+        cancelRunningTask();
+        var generation = ++m_generation;
+        m_pendingTask = m_executor.schedule(() -> run(task, errorHandler, generation), DEBOUNCE_DELAY_MS,
+            TimeUnit.MILLISECONDS);
+    }
+
+    private void run(final PreviewTask task, final Consumer<String> errorHandler, final long generation) {
+        var exec = m_execFactory.get();
+        synchronized (this) {
+            if (generation != m_generation) {
+                // A newer request was submitted after this one started
+                return;
+            }
+            m_runningExec = exec;
+        }
+        PreviewPublisher publisher = publication -> publish(publication, generation);
+        if (m_nodeContainer != null) {
+            NodeContext.pushContext(m_nodeContainer);
+        }
+        try {
+            task.run(exec, publisher);
+        } catch (CanceledExecutionException e) { // NOSONAR - a newer request replaces this evaluation
+        } catch (Exception e) { // NOSONAR - the message is shown in the dialog
+            LOGGER.debug("Evaluating the expression preview failed: " + e.getMessage(), e);
+            try {
+                publisher.publish(() -> errorHandler.accept(getErrorMessage(e)));
+            } catch (CanceledExecutionException ex) { // NOSONAR - a newer request replaces this evaluation
+            }
+        } finally {
+            if (m_nodeContainer != null) {
+                NodeContext.removeLastContext();
+            }
+            synchronized (this) {
+                if (m_runningExec == exec) {
+                    m_runningExec = null;
+                }
+            }
+        }
+    }
+
+    private void publish(final Runnable publication, final long generation) throws CanceledExecutionException {
+        synchronized (this) {
+            if (generation != m_generation) {
+                throw new CanceledExecutionException("A newer preview was requested");
+            }
+        }
+        // NB: Sending the results to the dialog must not block new requests. Newer requests run on the same thread
+        // after this publication, so outdated results can never overwrite the results of a newer request.
+        publication.run();
+    }
+
+    private static String getErrorMessage(final Exception e) {
+        var message = e.getMessage();
+        return message == null || message.isBlank() //
+            ? ("Evaluating the expression failed: " + e.getClass().getSimpleName()) //
+            : message;
+    }
+
+    private synchronized void cancelRunningTask() {
+        if (m_runningExec != null) {
+            m_runningExec.getProgressMonitor().setExecuteCanceled();
+            m_runningExec = null;
+        }
+    }
+
+    /** Cancel all evaluations and wait until the running evaluation stopped */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (m_pendingTask != null) {
+                m_pendingTask.cancel(false);
+            }
+            cancelRunningTask();
+            // NB: Nothing is published after closing
+            m_generation++;
+        }
+        m_executor.shutdown();
+        try {
+            if (!m_executor.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                LOGGER.debug("The expression preview did not stop in time.");
+            }
+        } catch (InterruptedException e) { // NOSONAR - we only stop waiting
+            Thread.currentThread().interrupt();
+        }
+    }
+}
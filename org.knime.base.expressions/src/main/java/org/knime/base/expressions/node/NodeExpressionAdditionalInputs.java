@@ -51,26 +51,46 @@ package org.knime.base.expressions.node;
 import java.util.Map;
 import java.util.Optional;
 
+import org.knime.base.expressions.AggregationResults;
 import org.knime.base.expressions.ExpressionAdditionalInputs;
 import org.knime.base.expressions.ExpressionRunnerUtils;
 import org.knime.core.expressions.Ast.AggregationCall;
 import org.knime.core.expressions.Ast.FlowVarAccess;
 import org.knime.core.expressions.Computer;
+import org.knime.core.expressions.Computer.IntegerComputer;
 import org.knime.core.node.workflow.FlowVariable;
 
 /**
  * Simple implementation of {@link ExpressionAdditionalInputs} that maps flow variables to computers and resolves
- * aggregations that have been evaluated using {@link ExpressionRunnerUtils#evaluateAggregations}.
+ * aggregations that have been evaluated using {@link ExpressionRunnerUtils#evaluateAggregations}. Instances are not
+ * modified after creation. Use {@link #withAggregationResults(AggregationResults)} to get inputs for the aggregation
+ * results of a specific expression.
  */
 public class NodeExpressionAdditionalInputs implements ExpressionAdditionalInputs {
 
     private final Map<String, FlowVariable> m_availableFlowVariables;
 
+    private final AggregationResults m_aggregationResults;
+
     /**
      * @param availableFlowVariables the available flow variables
      */
     public NodeExpressionAdditionalInputs(final Map<String, FlowVariable> availableFlowVariables) {
+        this(availableFlowVariables, AggregationResults.EMPTY);
+    }
+
+    private NodeExpressionAdditionalInputs(final Map<String, FlowVariable> availableFlowVariables,
+        final AggregationResults aggregationResults) {
         m_availableFlowVariables = availableFlowVariables;
+        m_aggregationResults = aggregationResults;
+    }
+
+    /**
+     * @param aggregationResults the results of the aggregations of an expression
+     * @return new additional inputs with the same flow variables and the given aggregation results
+     */
+    public NodeExpressionAdditionalInputs withAggregationResults(final AggregationResults aggregationResults) {
+        return new NodeExpressionAdditionalInputs(m_availableFlowVariables, aggregationResults);
     }
 
     @Override
@@ -81,6 +101,12 @@ public class NodeExpressionAdditionalInputs implements ExpressionAdditionalInput
 
     @Override
     public Optional<Computer> aggregationToComputer(final AggregationCall aggregationCall) {
-        return Optional.ofNullable(ExpressionRunnerUtils.getAggregationResultComputer(aggregationCall));
+        return Optional.ofNullable(m_aggregationResults.getResultComputer(aggregationCall));
+    }
+
+    @Override
+    public Optional<Computer> rowWiseAggregationToComputer(final AggregationCall aggregationCall,
+        final IntegerComputer rowIndex) {
+        return Optional.ofNullable(m_aggregationResults.getRowWiseResultComputer(aggregationCall, rowIndex));
     }
 }
@@ -48,41 +48,63 @@
  */
 package org.knime.base.expressions.node.row;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import org.knime.base.expressions.ExpressionRunnerUtils;
 import org.knime.core.data.IDataRepository;
+import org.knime.core.data.columnar.table.VirtualTableExtensionTable;
+import org.knime.core.data.columnar.table.VirtualTableIncompatibleException;
+import org.knime.core.data.columnar.table.virtual.ColumnarVirtualTable;
+import org.knime.core.data.columnar.table.virtual.reference.ReferenceTable;
 import org.knime.core.data.filestore.internal.IWriteFileStoreHandler;
 import org.knime.core.data.filestore.internal.NotInWorkflowWriteFileStoreHandler;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.Node;
+import org.knime.core.table.virtual.spec.SourceTableProperties.CursorType;
 
 /**
- * Cache for input tables that are used in expression dialogs. The cache stores a full table and creates a copy of the
- * table with a given number of rows on demand.
+ * Cache for input tables that are used in expression dialogs. The cache holds a single columnar table with the first
+ * rows of the full table. Tables with a given number of rows are virtual slices of this prefix table and do not copy
+ * any data. If the full table is already stored in the columnar format, it is sliced directly.
  *
- * Note that this cache should not be used for many different tables with different row counts, as it will keep all of
- * them in memory.
+ * The prefix table grows on demand. It at least doubles in size, such that only a logarithmic number of copies is
+ * created, but it does not grow beyond {@link #PREFIX_CELL_BUDGET} cells unless more rows are requested. Replaced
+ * prefix tables are kept until the cache is closed because previously returned slices may still be in use.
  *
  * @author Benjamin Wilhelm, KNIME GmbH, Berlin, Germany
  */
+@SuppressWarnings("restriction") // the columnar table API is not public yet
 public final class InputTableCache implements AutoCloseable {
 
+    /** Maximum number of cells that the prefix table grows to in advance of the requested number of rows */
+    static final long PREFIX_CELL_BUDGET = 1_000_000;
+
     private final BufferedDataTable m_fullTable;
 
-    // TODO(AP-23302) instead of holding one table per row count, we could also hold a single table slice it on demand
-    // using a virtual operation
-    private final Map<Long, BufferedDataTable> m_cachedTables = new HashMap<>();
+    private final long m_prefixCellBudget;
+
+    private final ExecutionContext m_exec;
+
+    private final IDataRepository m_dataRepository;
+
+    private final IWriteFileStoreHandler m_fileStoreHandler;
+
+    /** The columnar table that is sliced, {@code null} until the first table is requested */
+    private BufferedDataTable m_prefixTable;
 
-    private ExecutionContext m_exec;
+    private ReferenceTable m_prefixReferenceTable;
 
-    private IDataRepository m_dataRepository;
+    /** Virtual slices of the current prefix table by their number of rows */
+    private final Map<Long, BufferedDataTable> m_slices = new HashMap<>();
 
-    private IWriteFileStoreHandler m_fileStoreHandler;
+    /** Tables that were created by the cache and must be cleared when the cache is closed */
+    private final List<BufferedDataTable> m_createdTables = new ArrayList<>();
 
     /**
      * Creates a new input table cache for the given full table.
@@ -91,7 +113,13 @@ public final class InputTableCache implements AutoCloseable {
      * @param exec the execution context to create new cached tables with
      */
     public InputTableCache(final BufferedDataTable fullTable, final ExecutionContext exec) {
+        this(fullTable, exec, PREFIX_CELL_BUDGET);
+    }
+
+    /** For testing with a small cell budget only */
+    InputTableCache(final BufferedDataTable fullTable, final ExecutionContext exec, final long prefixCellBudget) {
         m_fullTable = fullTable;
+        m_prefixCellBudget = prefixCellBudget;
         m_exec = exec;
         m_dataRepository = Node.invokeGetDataRepository(m_exec);
         m_fileStoreHandler = new NotInWorkflowWriteFileStoreHandler(UUID.randomUUID(), m_dataRepository);
@@ -102,35 +130,84 @@ public final class InputTableCache implements AutoCloseable {
         return m_fullTable.size();
     }
 
+    /** @return the number of rows in the cached prefix table, 0 if no table was requested yet (for tests) */
+    synchronized long getPrefixRowCount() {
+        return m_prefixTable == null ? 0 : m_prefixTable.size();
+    }
+
     /**
-     * Returns a table with the given number of rows. If the table with the given number of rows is not already cached,
-     * a new table is created by copying the full table.
+     * Returns a table with the given number of rows. The table is a virtual slice of the cached prefix table. The
+     * prefix table is copied from the full table if it does not contain enough rows.
      *
      * @param numRows the number of rows of the table to return
      * @return a table with the given number of rows
      */
     public synchronized BufferedDataTable getTable(final long numRows) {
-        if (m_cachedTables.containsKey(numRows)) {
-            return m_cachedTables.get(numRows);
-        } else {
-            try {
-                var table = ExpressionRunnerUtils.copyToColumnarTable(m_fullTable, numRows, m_exec, m_dataRepository,
-                    m_fileStoreHandler);
-                m_cachedTables.put(numRows, table);
-                return table;
-            } catch (CanceledExecutionException ex) {
-                throw new IllegalStateException("Input table preparation for expression cancelled by the user", ex);
+        var requestedRows = Math.min(numRows, m_fullTable.size());
+        try {
+            if (m_prefixTable == null || m_prefixTable.size() < requestedRows) {
+                growPrefixTable(requestedRows);
             }
+            if (m_prefixTable.size() == requestedRows) {
+                return m_prefixTable;
+            }
+            var slice = m_slices.get(requestedRows);
+            if (slice == null) {
+                slice = createSlice(requestedRows);
+                m_slices.put(requestedRows, slice);
+                m_createdTables.add(slice);
+            }
+            return slice;
+        } catch (CanceledExecutionException ex) {
+            throw new IllegalStateException("Input table preparation for expression cancelled by the user", ex);
+        } catch (VirtualTableIncompatibleException ex) {
+            // This cannot happen because the prefix table is a columnar table
+            throw new IllegalStateException(ex);
         }
     }
 
+    private void growPrefixTable(final long requestedRows) throws CanceledExecutionException {
+        // NB: The slices of the previous prefix table are still cleared on close because they might still be in use
+        m_slices.clear();
+
+        if (ExpressionRunnerUtils.isColumnarTable(m_fullTable)) {
+            // The full table can be sliced without copying any data
+            m_prefixTable = m_fullTable;
+        } else {
+            var numColumns = Math.max(1, m_fullTable.getDataTableSpec().getNumColumns());
+            var currentRows = m_prefixTable == null ? 0 : m_prefixTable.size();
+            var rowsInBudget = m_prefixCellBudget / numColumns;
+            var prefixRows = Math.min(m_fullTable.size(), Math.max(requestedRows, Math.min(2 * currentRows,
+                rowsInBudget)));
+            m_prefixTable = ExpressionRunnerUtils.copyToColumnarTable(m_fullTable, prefixRows, m_exec,
+                m_dataRepository, m_fileStoreHandler);
+            m_createdTables.add(m_prefixTable);
+        }
+        m_prefixReferenceTable = ExpressionRunnerUtils.createReferenceTable(m_prefixTable, m_exec);
+    }
+
+    private BufferedDataTable createSlice(final long numRows)
+        throws CanceledExecutionException, VirtualTableIncompatibleException {
+        // NB: A new source transform that references the prefix table, see ExpressionRowMapperNodeModel
+        var prefixVirtualTable = new ColumnarVirtualTable(m_prefixReferenceTable.getId(),
+            m_prefixReferenceTable.getSchema(), CursorType.BASIC);
+        @SuppressWarnings("resource") // #close clears the table but we still want to keep the data for the slice
+        var sliceTable = new VirtualTableExtensionTable(new ReferenceTable[]{m_prefixReferenceTable},
+            prefixVirtualTable.slice(0, numRows), m_prefixTable.getDataTableSpec(), numRows,
+            m_dataRepository.generateNewID());
+        return sliceTable.create(m_exec);
+    }
+
     @Override
-    public void close() {
+    public synchronized void close() {
         // Clear the temporary tables
-        for (var table : m_cachedTables.values()) {
+        for (var table : m_createdTables) {
             m_exec.clearTable(table);
         }
-        m_cachedTables.clear();
+        m_createdTables.clear();
+        m_slices.clear();
+        m_prefixTable = null;
+        m_prefixReferenceTable = null;
 
         // Clear the file stores
         m_fileStoreHandler.clearAndDispose();
@@ -101,6 +101,9 @@ public class OutputTablePreview {
      */
     private List<BufferedDataTable> m_tables = List.of();
 
+    /** The input table of the expressions. Must not be cleared because it is owned by the caller. */
+    private BufferedDataTable m_inputTable;
+
     private TableViewDataService m_tableViewDataService;
 
     /** Creates a new output table preview. */
@@ -162,8 +165,29 @@ public class OutputTablePreview {
      * @param exec the execution context associated with the tables. Used to clear the tables.
      */
     public void updateTables(final List<BufferedDataTable> tables, final ExecutionContext exec) {
-        m_tables.forEach(exec::clearTable);
+        updateTables(tables, null, exec);
+    }
+
+    /**
+     * Updates the table that are shown in the preview and clear the previously shown tables. The given input table is
+     * never cleared. Use this if the list of tables can contain the input table because an expression does not change
+     * the table.
+     *
+     * @param tables a list of tables. The last table is shown in the preview. The others are temporary tables that are
+     *            required only to display the last table. All tables except the input table are cleared when the
+     *            preview is updated, unless they are part of the new list of tables.
+     * @param inputTable the input table that was used to compute the tables, can be <code>null</code>
+     * @param exec the execution context associated with the tables. Used to clear the tables.
+     */
+    public void updateTables(final List<BufferedDataTable> tables, final BufferedDataTable inputTable,
+        final ExecutionContext exec) {
+        m_tables.stream() //
+            .filter(t -> t != m_inputTable) //
+            .filter(t -> tables.stream().noneMatch(newTable -> newTable == t)) //
+            .distinct() //
+            .forEach(exec::clearTable);
         m_tables = tables;
+        m_inputTable = inputTable;
         // Clean the cache such that the preview will fetch the new table
         cleanUpTableDataService();
     }
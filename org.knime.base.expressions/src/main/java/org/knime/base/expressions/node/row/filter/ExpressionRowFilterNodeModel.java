@@ -53,21 +53,32 @@ import static org.knime.base.expressions.ExpressionRunnerUtils.flowVarToTypeForT
 import java.io.File;
 import java.io.IOException;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 
 import org.knime.base.expressions.ColumnInputUtils;
+import org.knime.base.expressions.DataRowExpressionEvaluator;
 import org.knime.base.expressions.ExpressionEvaluationRuntimeException;
 import org.knime.base.expressions.ExpressionRunnerUtils;
+import org.knime.base.expressions.RowFilterZoneMap;
+import org.knime.base.expressions.RowFilterZoneMap.BatchMatch;
 import org.knime.base.expressions.node.NodeExpressionAdditionalInputs;
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.columnar.table.VirtualTableIncompatibleException;
+import org.knime.core.data.columnar.table.virtual.ColumnarVirtualTable;
 import org.knime.core.data.columnar.table.virtual.ColumnarVirtualTableMaterializer;
+import org.knime.core.data.columnar.table.virtual.reference.ReferenceTable;
 import org.knime.core.expressions.Ast;
+import org.knime.core.expressions.Computer.BooleanComputer;
 import org.knime.core.expressions.EvaluationContext;
+import org.knime.core.expressions.ExpressionCache;
 import org.knime.core.expressions.ExpressionCompileException;
 import org.knime.core.expressions.ExpressionEvaluationException;
 import org.knime.core.expressions.Expressions;
+import org.knime.core.expressions.TypedAst;
 import org.knime.core.expressions.ValueType;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -78,7 +89,20 @@ import org.knime.core.node.Node;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.message.Message;
+import org.knime.core.node.message.MessageBuilder;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.workflow.FlowVariable;
+import org.knime.core.node.workflow.VariableType.BooleanType;
 
 /**
  * The node model for the row filter expression node.
@@ -88,6 +112,9 @@ import org.knime.core.node.workflow.FlowVariable;
 @SuppressWarnings("restriction") // the columnar table API is not public yet
 final class ExpressionRowFilterNodeModel extends NodeModel {
 
+    /** Number of rows between two progress messages when streaming */
+    private static final long PROGRESS_UPDATE_INTERVAL = 1024;
+
     private final ExpressionRowFilterSettings m_settings;
 
     ExpressionRowFilterNodeModel() {
@@ -96,29 +123,41 @@ final class ExpressionRowFilterNodeModel extends NodeModel {
     }
 
     /** @return the typed Ast for the configured expression */
-    private static Ast getPreparedExpression(final String expression, final DataTableSpec inSpec,
+    static TypedAst getPreparedExpression(final String expression, final DataTableSpec inSpec,
         final Map<String, FlowVariable> availableFlowVariables) throws ExpressionCompileException {
 
-        var ast = Expressions.parse(expression);
-        Expressions.inferTypes(ast, //
+        return ExpressionCache.getInstance().parseAndInferTypes(expression, //
             ColumnInputUtils.columnToTypesForTypeInference(inSpec), //
             flowVarToTypeForTypeInference(availableFlowVariables) //
         );
-        return ast;
     }
 
     @Override
     protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
-        if (ExpressionRowFilterSettings.DEFAULT_SCRIPT.equals(m_settings.getScript())) {
-            throw new InvalidSettingsException("The expression node has not yet been configured. Enter an expression.");
+        var inputSpec = inSpecs[0];
+        checkFilterExpression(m_settings.getScript(), inputSpec,
+            getAvailableInputFlowVariables(ExpressionRunnerUtils.SUPPORTED_FLOW_VARIABLE_TYPES));
+
+        if (m_settings.isOutputHasMatchesVariable()) {
+            pushFlowVariable(ExpressionRowFilterSettings.HAS_MATCHES_VARIABLE_NAME, BooleanType.INSTANCE, false);
         }
 
-        var inputSpec = inSpecs[0];
+        return new DataTableSpec[]{inputSpec};
+    }
+
+    /**
+     * Checks that the filter expression compiles and evaluates to BOOLEAN.
+     *
+     * @throws InvalidSettingsException if the expression cannot be used to filter rows
+     */
+    static void checkFilterExpression(final String expression, final DataTableSpec inputSpec,
+        final Map<String, FlowVariable> availableFlowVariables) throws InvalidSettingsException {
+        if (ExpressionRowFilterSettings.DEFAULT_SCRIPT.equals(expression)) {
+            throw new InvalidSettingsException("The expression node has not yet been configured. Enter an expression.");
+        }
 
         try {
-            var ast = getPreparedExpression(m_settings.getScript(), inputSpec,
-                getAvailableInputFlowVariables(ExpressionRunnerUtils.SUPPORTED_FLOW_VARIABLE_TYPES));
-            var outputType = Expressions.getInferredType(ast);
+            var outputType = getPreparedExpression(expression, inputSpec, availableFlowVariables).type();
 
             if (ValueType.OPT_BOOLEAN.equals(outputType)) {
                 throw new InvalidSettingsException("The expression evaluates to BOOLEAN | MISSING. "
@@ -132,8 +171,6 @@ final class ExpressionRowFilterNodeModel extends NodeModel {
         } catch (final ExpressionCompileException e) {
             throw new InvalidSettingsException("Error in Expression: %s".formatted(e.getMessage()), e);
         }
-
-        return new DataTableSpec[]{inputSpec};
     }
 
     @Override
@@ -145,29 +182,140 @@ final class ExpressionRowFilterNodeModel extends NodeModel {
             m_settings.getScript(), //
             inData[0], //
             getAvailableFlowVariables(ExpressionRunnerUtils.SUPPORTED_FLOW_VARIABLE_TYPES), //
+            m_settings.getMaxMatchingRows(), //
             exec, //
             messageBuilder::addTextIssue //
         );
 
-        var issueCount = messageBuilder.getIssueCount();
-        if (issueCount > 0) {
-            var message = messageBuilder //
-                .withSummary(
-                    issueCount + " warning" + (issueCount == 1 ? "" : "s") + " occured while evaluating expression") //
-                .build() //
-                .orElse(null);
-            setWarning(message);
+        if (m_settings.isOutputHasMatchesVariable()) {
+            // NB: The output is empty if and only if no row matches. Its row count is known without reading it.
+            pushFlowVariable(ExpressionRowFilterSettings.HAS_MATCHES_VARIABLE_NAME, BooleanType.INSTANCE,
+                outputTable.size() > 0);
         }
 
+        setWarningFromIssues(messageBuilder);
+
         return new BufferedDataTable[]{outputTable};
     }
 
+    private void setWarningFromIssues(final MessageBuilder messageBuilder) {
+        createWarning(messageBuilder).ifPresent(this::setWarning);
+    }
+
+    /** @return a warning that summarizes the issues of the message builder, empty if there are no issues */
+    static Optional<Message> createWarning(final MessageBuilder messageBuilder) {
+        var issueCount = messageBuilder.getIssueCount();
+        if (issueCount == 0) {
+            return Optional.empty();
+        }
+        return messageBuilder //
+            .withSummary(
+                issueCount + " warning" + (issueCount == 1 ? "" : "s") + " occured while evaluating expression") //
+            .build();
+    }
+
+    /** @return the parsed expression if it can be evaluated row by row while streaming, empty otherwise */
+    private Optional<Ast> getRowLocalExpression() {
+        try {
+            var ast = ExpressionCache.getInstance().parse(m_settings.getScript());
+            return Expressions.isRowLocal(ast) ? Optional.of(ast) : Optional.empty();
+        } catch (ExpressionCompileException e) { // NOSONAR - configure reports the error
+            return Optional.empty();
+        }
+    }
+
+    private boolean isDistributable() {
+        // NB: The ROW_INDEX and the row limit need to see all rows in one partition
+        return getRowLocalExpression().filter(ast -> !Expressions.requiresRowIndexColumn(ast)).isPresent()
+            && m_settings.getMaxMatchingRows() < 0;
+    }
+
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        if (getRowLocalExpression().isEmpty() || m_settings.isOutputHasMatchesVariable()) {
+            // Aggregations and windowing need the full table. The has_matching_rows flow variable must be known
+            // before any row is passed on because downstream nodes in a streamed component run concurrently.
+            return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_NONSTREAMABLE};
+        }
+        return new InputPortRole[]{
+            isDistributable() ? InputPortRole.DISTRIBUTED_STREAMABLE : InputPortRole.NONDISTRIBUTED_STREAMABLE};
+    }
+
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        return new OutputPortRole[]{isDistributable() ? OutputPortRole.DISTRIBUTED : OutputPortRole.NONDISTRIBUTED};
+    }
+
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        return new StreamableOperator() {
+
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                var output = (RowOutput)outputs[0];
+                if (inputs[0] instanceof RowInput input) {
+                    streamFilterExpression(input, output, exec);
+                } else {
+                    // The expression is not row-local or the has_matching_rows flow variable is requested - the full
+                    // input table is available
+                    var inputTable = (BufferedDataTable)((PortObjectInput)inputs[0]).getPortObject();
+                    output.setFully(execute(new BufferedDataTable[]{inputTable}, exec)[0]);
+                }
+            }
+        };
+    }
+
+    /**
+     * Evaluates the row-local filter expression row by row and pushes the matching rows to the output. Never used if
+     * the has_matching_rows flow variable is requested (see {@link #getInputPortRoles()}).
+     */
+    private void streamFilterExpression(final RowInput input, final RowOutput output, final ExecutionContext exec)
+        throws Exception {
+        var messageBuilder = createMessageBuilder();
+        var spec = input.getDataTableSpec();
+        var availableFlowVariables = getAvailableFlowVariables(ExpressionRunnerUtils.SUPPORTED_FLOW_VARIABLE_TYPES);
+        var maxMatchingRows = m_settings.getMaxMatchingRows();
+
+        var ast = getPreparedExpression(m_settings.getScript(), spec, availableFlowVariables);
+        var additionalInputs = new NodeExpressionAdditionalInputs(availableFlowVariables);
+        var ctx = EvaluationContext.of(ZonedDateTime.now(), messageBuilder::addTextIssue);
+
+        if (maxMatchingRows != 0) {
+            var numMatchingRows = 0L;
+            var evaluator = new DataRowExpressionEvaluator(ast, spec, additionalInputs);
+            var rowIndex = 0L;
+            DataRow row;
+            while ((row = input.poll()) != null) {
+                if (evaluator.evaluateToBoolean(row, rowIndex, ctx)) {
+                    output.push(row);
+                    numMatchingRows++;
+                    if (numMatchingRows == maxMatchingRows) {
+                        // Found enough matches - no need to look at the remaining rows
+                        break;
+                    }
+                }
+                rowIndex++;
+                exec.checkCanceled();
+                if (rowIndex % PROGRESS_UPDATE_INTERVAL == 0) {
+                    exec.setMessage("Evaluating expression (row %d)".formatted(rowIndex));
+                }
+            }
+        }
+        input.close();
+        output.close();
+        setWarningFromIssues(messageBuilder);
+    }
+
     /**
      * Applies the given filter expression to the input table and returns the resulting table.
      *
      * @param expression the filter expression
      * @param inputTable the input table
      * @param availableFlowVariables the available flow variables
+     * @param maxMatchingRows the maximum number of matching rows to keep, negative to keep all matching rows.
+     *            Evaluation stops as soon as this number of matching rows is found.
      * @param exec the execution context
      * @param setWarning a consumer for setting warnings
      * @return the filtered table
@@ -180,42 +328,101 @@ final class ExpressionRowFilterNodeModel extends NodeModel {
         final String expression, //
         final BufferedDataTable inputTable, //
         final Map<String, FlowVariable> availableFlowVariables, //
+        final long maxMatchingRows, //
         final ExecutionContext exec, //
         final Consumer<String> setWarning //
     ) throws ExpressionCompileException, CanceledExecutionException, VirtualTableIncompatibleException,
         ExpressionEvaluationException {
         var numRows = inputTable.size();
+        var isLimited = maxMatchingRows >= 0 && maxMatchingRows < numRows;
         var executionStartTime = ZonedDateTime.now();
         exec.setProgress(0, "Evaluating expression");
 
         // Parse the expression and infer the types
         var ast = getPreparedExpression(expression, inputTable.getDataTableSpec(), availableFlowVariables);
 
+        var additionalInputs = new NodeExpressionAdditionalInputs(availableFlowVariables);
+        var ctx = EvaluationContext.of(executionStartTime, setWarning::accept);
+
+        if (maxMatchingRows == 0) {
+            // No matching row should be kept - no need to evaluate anything
+            exec.setProgress(1);
+            return exec.createVoidTable(inputTable.getDataTableSpec());
+        }
+
+        if (Expressions.isConstant(ast.ast())) {
+            // The expression has the same result for all rows - keep all or no rows without evaluating each row
+            var aggregationResults =
+                ExpressionRunnerUtils.evaluateAggregations(ast.ast(), inputTable, exec.createSubProgress(0.5));
+            var result = (BooleanComputer)ExpressionRunnerUtils.evaluateConstantExpression(ast,
+                additionalInputs.withAggregationResults(aggregationResults), ctx);
+            var keepRows = result.compute(ctx);
+            if (!keepRows) {
+                exec.setProgress(1);
+                return exec.createVoidTable(inputTable.getDataTableSpec());
+            } else if (!isLimited) {
+                exec.setProgress(1);
+                return inputTable;
+            }
+
+            // Keep only the first rows of the input table
+            var inRefTable =
+                ExpressionRunnerUtils.createReferenceTable(inputTable, exec.createSubExecutionContext(0.25));
+            return materialize(inRefTable, inRefTable.getVirtualTable().slice(0, maxMatchingRows), maxMatchingRows,
+                exec, exec.createSubProgress(0.25));
+        }
+
         // Create a reference table for the input table
-        var inRefTable = ExpressionRunnerUtils.createReferenceTable(inputTable, exec.createSubExecutionContext(0.33));
+        var inRefTable = ExpressionRunnerUtils.createReferenceTable(inputTable, exec.createSubExecutionContext(0.25));
 
         // Pre-evaluate the aggregations
         // NB: We use the inRefTable because it is guaranteed to be a columnar table
-        ExpressionRunnerUtils.evaluateAggregations(ast, inRefTable.getBufferedTable(), exec.createSubProgress(0.33));
+        var aggregationResults = ExpressionRunnerUtils.evaluateAggregations(ast.ast(), inRefTable.getBufferedTable(),
+            exec.createSubProgress(0.25));
+        var inputsWithAggregations = additionalInputs.withAggregationResults(aggregationResults);
 
         // Evaluate the expression and materialize the result
-        var additionalInputs = new NodeExpressionAdditionalInputs(availableFlowVariables);
+        ColumnarVirtualTable filteredTable;
+        var zoneMap = RowFilterZoneMap.create(ast, inputTable.getDataTableSpec(), inputsWithAggregations, ctx);
+        if (zoneMap.isPresent()) {
+            // Skip batches without matches and keep batches that match completely without evaluating the rows
+            var matches = zoneMap.get().matchBatches(inputTable, exec.createSubProgress(0.15));
+            if (Arrays.stream(matches).allMatch(BatchMatch.NONE::equals)) {
+                exec.setProgress(1);
+                return exec.createVoidTable(inputTable.getDataTableSpec());
+            } else if (!isLimited && Arrays.stream(matches).allMatch(BatchMatch.ALL::equals)) {
+                exec.setProgress(1);
+                return inputTable;
+            }
+            filteredTable = RowFilterZoneMap.filterBatches(inRefTable.getVirtualTable(), numRows, matches,
+                (slice, sliceRows) -> ExpressionRunnerUtils.filterTableByExpression(slice, ast, sliceRows, ctx,
+                    inputsWithAggregations));
+        } else {
+            filteredTable = ExpressionRunnerUtils.filterTableByExpression(inRefTable.getVirtualTable(), ast,
+                inputTable.size(), ctx, inputsWithAggregations);
+        }
 
-        var ctx = EvaluationContext.of(executionStartTime, setWarning::accept);
-        var filteredTable = ExpressionRunnerUtils.filterTableByExpression(inRefTable.getVirtualTable(), ast,
-            inputTable.size(), ctx, additionalInputs);
+        if (isLimited) {
+            // NB: The slice pulls rows from the filter lazily - no row after the last kept match is evaluated
+            return materialize(inRefTable, filteredTable.slice(0, maxMatchingRows), maxMatchingRows, exec,
+                exec.createSubProgress(0.35));
+        }
+        return materialize(inRefTable, filteredTable, numRows, exec, exec.createSubProgress(0.35));
+    }
 
-        var materializeProgress = exec.createSubProgress(0.34);
+    static BufferedDataTable materialize(final ReferenceTable inRefTable, final ColumnarVirtualTable table,
+        final long numRows, final ExecutionContext exec, final ExecutionMonitor progress)
+        throws CanceledExecutionException, VirtualTableIncompatibleException, ExpressionEvaluationException {
         try {
             return ColumnarVirtualTableMaterializer.materializer() //
                 .sources(inRefTable.getSources()) //
                 .materializeRowKey(true) //
-                .progress((rowIndex, rowKey) -> materializeProgress.setProgress(rowIndex / (double)numRows, //
+                .progress((rowIndex, rowKey) -> progress.setProgress(rowIndex / (double)numRows, //
                     () -> "Evaluating expression (row %d of %s)".formatted(rowIndex + 1, numRows)) //
                 ) //
                 .executionContext(exec) //
                 .tableIdSupplier(Node.invokeGetDataRepository(exec)::generateNewID) //
-                .materialize(filteredTable) //
+                .materialize(table) //
                 .getBufferedTable();
         } catch (ExpressionEvaluationRuntimeException e) { // NOSONAR - throwing only the cause is intended
             throw e.getCause();
@@ -58,15 +58,18 @@ import org.knime.base.expressions.node.ExpressionCodeAssistant;
 import org.knime.base.expressions.node.ExpressionCodeAssistant.ExpressionType;
 import org.knime.base.expressions.node.ExpressionDiagnostic;
 import org.knime.base.expressions.node.ExpressionDiagnostic.DiagnosticSeverity;
+import org.knime.base.expressions.node.ExpressionPreviewExecutor;
+import org.knime.base.expressions.node.ExpressionPreviewExecutor.PreviewPublisher;
 import org.knime.base.expressions.node.row.InputTableCache;
 import org.knime.base.expressions.node.row.OutputTablePreview;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.columnar.table.VirtualTableIncompatibleException;
-import org.knime.core.expressions.Ast;
+import org.knime.core.expressions.ExpressionCache;
 import org.knime.core.expressions.ExpressionCompileException;
 import org.knime.core.expressions.ExpressionEvaluationException;
 import org.knime.core.expressions.Expressions;
 import org.knime.core.expressions.ReturnResult;
+import org.knime.core.expressions.TypedAst;
 import org.knime.core.expressions.ValueType;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -100,6 +103,8 @@ final class ExpressionRowFilterNodeScriptingService extends ScriptingService {
 
     private ExecutionContext m_exec;
 
+    private ExpressionPreviewExecutor m_previewExecutor;
+
     ExpressionRowFilterNodeScriptingService(final OutputTablePreview tablePreview) {
         super(null, ExpressionRunnerUtils.SUPPORTED_FLOW_VARIABLE_TYPES_SET::contains);
         m_tablePreview = tablePreview;
@@ -110,6 +115,7 @@ final class ExpressionRowFilterNodeScriptingService extends ScriptingService {
         if (input instanceof BufferedDataTable inputTable) {
             m_inputTableCache = new InputTableCache(inputTable, m_exec);
         }
+        m_previewExecutor = new ExpressionPreviewExecutor();
     }
 
     /** For testing with a mocked {@link WorkflowControl} only */
@@ -125,6 +131,11 @@ final class ExpressionRowFilterNodeScriptingService extends ScriptingService {
 
     @Override
     public void onDeactivate() {
+        // NB: Stop the running preview before clearing the tables it uses
+        if (m_previewExecutor != null) {
+            m_previewExecutor.close();
+            m_previewExecutor = null;
+        }
         m_tablePreview.clearTables(m_exec);
         m_columnToType = null;
         if (m_inputTableCache != null) {
@@ -151,15 +162,13 @@ final class ExpressionRowFilterNodeScriptingService extends ScriptingService {
         }
 
         /** @return the typed Ast for the configured expression */
-        private Ast getPreparedExpression(final String script) throws ExpressionCompileException {
+        private TypedAst getPreparedExpression(final String script) throws ExpressionCompileException {
 
-            var ast = Expressions.parse(script);
             var flowVarToTypeMapper =
                 ExpressionRunnerUtils.flowVarToTypeForTypeInference(getSupportedFlowVariablesMap());
 
-            Expressions.inferTypes(ast, getColumnToTypeMapper(), flowVarToTypeMapper);
-
-            return ast;
+            return ExpressionCache.getInstance().parseAndInferTypes(script, getColumnToTypeMapper(),
+                flowVarToTypeMapper);
         }
 
         /**
@@ -182,7 +191,7 @@ final class ExpressionRowFilterNodeScriptingService extends ScriptingService {
             try {
                 var ast = getPreparedExpression(expression);
 
-                var inferredType = Expressions.getInferredType(ast);
+                var inferredType = ast.type();
 
                 if (!ValueType.BOOLEAN.equals(inferredType)) {
                     String message;
@@ -196,7 +205,7 @@ final class ExpressionRowFilterNodeScriptingService extends ScriptingService {
                             + "filter expression evaluates to false.";
                     }
                     diagnostics.add(ExpressionDiagnostic.withSameMessage(message, DiagnosticSeverity.ERROR,
-                        Expressions.getTextLocation(ast)));
+                        Expressions.getTextLocation(ast.ast())));
                 }
             } catch (ExpressionCompileException ex) {
                 diagnostics.addAll(ExpressionDiagnostic.fromException(ex));
@@ -205,38 +214,53 @@ final class ExpressionRowFilterNodeScriptingService extends ScriptingService {
             return diagnostics;
         }
 
-        public void runRowFilterExpression(final String script, final int numPreviewRows)
-            throws ExpressionCompileException, VirtualTableIncompatibleException {
+        public void runRowFilterExpression(final String script, final int numPreviewRows) {
 
             if (numPreviewRows > PREVIEW_MAX_ROWS) {
                 throw new IllegalArgumentException("Number of preview rows must be at most 1000");
             }
 
+            // NB: The preview is evaluated in the background and a newer request cancels this one
+            m_previewExecutor.submit( //
+                (exec, publisher) -> evaluatePreview(script, numPreviewRows, exec, publisher), //
+                message -> sendEvent("updateWarning",
+                    ExpressionDiagnostic.withSameMessage(message, DiagnosticSeverity.ERROR, null)) //
+            );
+        }
+
+        private void evaluatePreview(final String script, final int numPreviewRows, final ExecutionContext exec,
+            final PreviewPublisher publisher) throws ExpressionCompileException, VirtualTableIncompatibleException,
+            CanceledExecutionException, ExpressionEvaluationException {
+
             var warnings = new ExpressionDiagnostic[1];
 
+            var inColTable = m_inputTableCache.getTable(numPreviewRows);
+            var outputTable = ExpressionRowFilterNodeModel.applyFilterExpression( //
+                script, //
+                inColTable, //
+                getSupportedFlowVariablesMap(), //
+                ExpressionRowFilterSettings.NO_ROW_LIMIT, //
+                exec, //
+                ExpressionDiagnostic.getSingleWarningMessageHandler(warnings) //
+            );
+
+            // Do not show the results if a newer request was submitted in the meantime
             try {
-                var inColTable = m_inputTableCache.getTable(numPreviewRows);
-                var outputTable = ExpressionRowFilterNodeModel.applyFilterExpression( //
-                    script, //
-                    inColTable, //
-                    getSupportedFlowVariablesMap(), //
-                    m_exec, //
-                    ExpressionDiagnostic.getSingleWarningMessageHandler(warnings) //
-                );
-
-                m_tablePreview.updateTables(List.of(outputTable), m_exec);
-                updateOutputTable((int)m_tablePreview.numRows(), m_inputTableCache.getFullRowCount());
-
-                if (warnings[0] != null) {
-                    sendEvent("updateWarning", warnings[0]);
-                }
+                publisher.publish(() -> {
+                    m_tablePreview.updateTables(List.of(outputTable), inColTable, m_exec);
+                    updateOutputTable((int)m_tablePreview.numRows(), m_inputTableCache.getFullRowCount());
 
-            } catch (ExpressionEvaluationException e) {
-                // TODO(AP-23937) - update the frontend to show the error
-                throw new IllegalStateException(e.getMessage(), e);
+                    if (warnings[0] != null) {
+                        sendEvent("updateWarning", warnings[0]);
+                    }
+                });
             } catch (CanceledExecutionException e) {
-                throw new IllegalStateException("This is an implementation error. Must not happen "
-                    + "because canceling the execution should not be possible.", e);
+                // The table is never shown
+                // NB: The filter returns the input table if all rows match
+                if (outputTable != inColTable) {
+                    m_exec.clearTable(outputTable);
+                }
+                throw e;
             }
         }
     }
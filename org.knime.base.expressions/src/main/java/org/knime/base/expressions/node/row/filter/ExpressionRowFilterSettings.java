@@ -86,6 +86,20 @@ class ExpressionRowFilterSettings extends ScriptingNodeSettings implements Gener
 
     private static final String JSON_KEY_SCRIPT = CFG_KEY_SCRIPT;
 
+    private static final String CFG_KEY_MAX_MATCHING_ROWS = "maxMatchingRows";
+
+    private static final String JSON_KEY_MAX_MATCHING_ROWS = CFG_KEY_MAX_MATCHING_ROWS;
+
+    private static final String CFG_KEY_OUTPUT_HAS_MATCHES_VARIABLE = "outputHasMatchesVariable";
+
+    private static final String JSON_KEY_OUTPUT_HAS_MATCHES_VARIABLE = CFG_KEY_OUTPUT_HAS_MATCHES_VARIABLE;
+
+    /** Value of the row limit that keeps all matching rows */
+    static final long NO_ROW_LIMIT = -1;
+
+    /** Name of the flow variable that tells if any row matched the filter expression */
+    static final String HAS_MATCHES_VARIABLE_NAME = "has_matching_rows";
+
     private static final String JSON_KEY_ARE_SETTINGS_OVERRIDDEN_BY_FLOW_VARIABLES =
         "settingsAreOverriddenByFlowVariable";
 
@@ -93,6 +107,10 @@ class ExpressionRowFilterSettings extends ScriptingNodeSettings implements Gener
 
     private String m_script;
 
+    private long m_maxMatchingRows;
+
+    private boolean m_outputHasMatchesVariable;
+
     /**
      * Create a new settings object with the default script.
      */
@@ -102,6 +120,8 @@ class ExpressionRowFilterSettings extends ScriptingNodeSettings implements Gener
         this.m_versionSettings = new ExpressionVersionSettings();
 
         this.m_script = DEFAULT_SCRIPT;
+        this.m_maxMatchingRows = NO_ROW_LIMIT;
+        this.m_outputHasMatchesVariable = false;
     }
 
     @Override
@@ -110,6 +130,10 @@ class ExpressionRowFilterSettings extends ScriptingNodeSettings implements Gener
         m_versionSettings.loadSettingsFrom(settings);
 
         m_script = settings.getString(CFG_KEY_SCRIPT);
+
+        // NB: Added in 5.12 - older nodes keep all matching rows and do not output the flow variable
+        m_maxMatchingRows = settings.getLong(CFG_KEY_MAX_MATCHING_ROWS, NO_ROW_LIMIT);
+        m_outputHasMatchesVariable = settings.getBoolean(CFG_KEY_OUTPUT_HAS_MATCHES_VARIABLE, false);
     }
 
     /**
@@ -119,9 +143,25 @@ class ExpressionRowFilterSettings extends ScriptingNodeSettings implements Gener
         return m_script;
     }
 
+    /**
+     * @return the maximum number of matching rows to keep or {@link #NO_ROW_LIMIT} to keep all matching rows
+     */
+    long getMaxMatchingRows() {
+        return m_maxMatchingRows;
+    }
+
+    /**
+     * @return if the node should output a flow variable that tells if any row matched the filter expression
+     */
+    boolean isOutputHasMatchesVariable() {
+        return m_outputHasMatchesVariable;
+    }
+
     @Override
     public void saveSettingsTo(final NodeSettingsWO settings) {
         settings.addString(CFG_KEY_SCRIPT, m_script);
+        settings.addLong(CFG_KEY_MAX_MATCHING_ROWS, m_maxMatchingRows);
+        settings.addBoolean(CFG_KEY_OUTPUT_HAS_MATCHES_VARIABLE, m_outputHasMatchesVariable);
 
         m_versionSettings.saveSettingsTo(settings);
     }
@@ -139,6 +179,8 @@ class ExpressionRowFilterSettings extends ScriptingNodeSettings implements Gener
         settingsMap.putAll(m_versionSettings.getVersionSettingsMap());
         settingsMap.putAll(Map.of( //
             JSON_KEY_SCRIPT, m_script, //
+            JSON_KEY_MAX_MATCHING_ROWS, m_maxMatchingRows, //
+            JSON_KEY_OUTPUT_HAS_MATCHES_VARIABLE, m_outputHasMatchesVariable, //
             JSON_KEY_ARE_SETTINGS_OVERRIDDEN_BY_FLOW_VARIABLES, configOverWrittenByFlowVars //
         ));
 
@@ -151,6 +193,12 @@ class ExpressionRowFilterSettings extends ScriptingNodeSettings implements Gener
         final Map<SettingsType, NodeAndVariableSettingsWO> settings) throws InvalidSettingsException {
 
         m_script = (String)data.get(JSON_KEY_SCRIPT);
+        if (data.get(JSON_KEY_MAX_MATCHING_ROWS) instanceof Number maxMatchingRows) {
+            m_maxMatchingRows = maxMatchingRows.longValue();
+        }
+        if (data.get(JSON_KEY_OUTPUT_HAS_MATCHES_VARIABLE) instanceof Boolean outputHasMatchesVariable) {
+            m_outputHasMatchesVariable = outputHasMatchesVariable;
+        }
 
         m_versionSettings.writeMapToNodeSettings(data);
 
@@ -0,0 +1,239 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.expressions.node.row.filter;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.knime.base.expressions.ExpressionRowSplitter;
+import org.knime.base.expressions.ExpressionRunnerUtils;
+import org.knime.base.expressions.node.NodeExpressionAdditionalInputs;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.columnar.table.VirtualTableIncompatibleException;
+import org.knime.core.expressions.Computer.BooleanComputer;
+import org.knime.core.expressions.EvaluationContext;
+import org.knime.core.expressions.ExpressionCompileException;
+import org.knime.core.expressions.ExpressionEvaluationException;
+import org.knime.core.expressions.Expressions;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.workflow.FlowVariable;
+import org.knime.core.node.workflow.VariableType.BooleanType;
+
+/**
+ * The node model for the row splitter expression node. Rows for which the expression evaluates to {@code true} are
+ * written to the first output, all other rows to the second output. The node uses the settings of the row filter node:
+ * if the number of matching rows is limited, only the first matching rows are written to the first output.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+@SuppressWarnings("restriction") // the columnar table API is not public yet
+final class ExpressionRowSplitterNodeModel extends NodeModel {
+
+    private final ExpressionRowFilterSettings m_settings;
+
+    ExpressionRowSplitterNodeModel() {
+        super(1, 2);
+        m_settings = new ExpressionRowFilterSettings();
+    }
+
+    @Override
+    protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
+        var inputSpec = inSpecs[0];
+        ExpressionRowFilterNodeModel.checkFilterExpression(m_settings.getScript(), inputSpec,
+            getAvailableInputFlowVariables(ExpressionRunnerUtils.SUPPORTED_FLOW_VARIABLE_TYPES));
+
+        if (m_settings.isOutputHasMatchesVariable()) {
+            pushFlowVariable(ExpressionRowFilterSettings.HAS_MATCHES_VARIABLE_NAME, BooleanType.INSTANCE, false);
+        }
+
+        return new DataTableSpec[]{inputSpec, inputSpec};
+    }
+
+    @Override
+    protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
+        throws Exception {
+        var messageBuilder = createMessageBuilder();
+
+        var outputTables = applySplitExpression( //
+            m_settings.getScript(), //
+            inData[0], //
+            getAvailableFlowVariables(ExpressionRunnerUtils.SUPPORTED_FLOW_VARIABLE_TYPES), //
+            m_settings.getMaxMatchingRows(), //
+            exec, //
+            messageBuilder::addTextIssue //
+        );
+
+        if (m_settings.isOutputHasMatchesVariable()) {
+            pushFlowVariable(ExpressionRowFilterSettings.HAS_MATCHES_VARIABLE_NAME, BooleanType.INSTANCE,
+                outputTables[0].size() > 0);
+        }
+        ExpressionRowFilterNodeModel.createWarning(messageBuilder).ifPresent(this::setWarning);
+
+        return outputTables;
+    }
+
+    /**
+     * Splits the input table into the rows that match the given filter expression and the rows that do not match.
+     *
+     * @param expression the filter expression
+     * @param inputTable the input table
+     * @param availableFlowVariables the available flow variables
+     * @param maxMatchingRows the maximum number of matching rows to keep, negative to keep all matching rows. All rows
+     *            after the last kept match are written to the second table.
+     * @param exec the execution context
+     * @param setWarning a consumer for setting warnings
+     * @return the matching rows and the non-matching rows, in this order
+     * @throws ExpressionCompileException if the expression could not be compiled
+     * @throws CanceledExecutionException if the execution was cancelled
+     * @throws VirtualTableIncompatibleException
+     * @throws ExpressionEvaluationException
+     */
+    static BufferedDataTable[] applySplitExpression( //
+        final String expression, //
+        final BufferedDataTable inputTable, //
+        final Map<String, FlowVariable> availableFlowVariables, //
+        final long maxMatchingRows, //
+        final ExecutionContext exec, //
+        final Consumer<String> setWarning //
+    ) throws ExpressionCompileException, CanceledExecutionException, VirtualTableIncompatibleException,
+        ExpressionEvaluationException {
+        var numRows = inputTable.size();
+        var isLimited = maxMatchingRows >= 0 && maxMatchingRows < numRows;
+        exec.setProgress(0, "Evaluating expression");
+
+        var ast = ExpressionRowFilterNodeModel.getPreparedExpression(expression, inputTable.getDataTableSpec(),
+            availableFlowVariables);
+
+        var additionalInputs = new NodeExpressionAdditionalInputs(availableFlowVariables);
+        var ctx = EvaluationContext.of(ZonedDateTime.now(), setWarning::accept);
+
+        BufferedDataTable[] outputTables;
+        if (maxMatchingRows == 0) {
+            // No matching row should be kept - all rows go to the second output without evaluating anything
+            outputTables = new BufferedDataTable[]{exec.createVoidTable(inputTable.getDataTableSpec()), inputTable};
+        } else if (Expressions.isConstant(ast.ast())) {
+            // The expression has the same result for all rows - all rows go to the same output
+            var aggregationResults =
+                ExpressionRunnerUtils.evaluateAggregations(ast.ast(), inputTable, exec.createSubProgress(0.5));
+            var result = (BooleanComputer)ExpressionRunnerUtils.evaluateConstantExpression(ast,
+                additionalInputs.withAggregationResults(aggregationResults), ctx);
+            if (!result.compute(ctx)) {
+                outputTables =
+                    new BufferedDataTable[]{exec.createVoidTable(inputTable.getDataTableSpec()), inputTable};
+            } else if (!isLimited) {
+                outputTables =
+                    new BufferedDataTable[]{inputTable, exec.createVoidTable(inputTable.getDataTableSpec())};
+            } else {
+                // Only the first rows are kept as matches - the other rows go to the second output
+                var inRefTable =
+                    ExpressionRunnerUtils.createReferenceTable(inputTable, exec.createSubExecutionContext(0.1));
+                var virtualTable = inRefTable.getVirtualTable();
+                var matchingTable = ExpressionRowFilterNodeModel.materialize(inRefTable,
+                    virtualTable.slice(0, maxMatchingRows), maxMatchingRows, exec, exec.createSubProgress(0.1));
+                var nonMatchingTable = ExpressionRowFilterNodeModel.materialize(inRefTable,
+                    virtualTable.slice(maxMatchingRows, numRows), numRows - maxMatchingRows, exec,
+                    exec.createSubProgress(0.3));
+                outputTables = new BufferedDataTable[]{matchingTable, nonMatchingTable};
+            }
+        } else {
+            var aggregationResults =
+                ExpressionRunnerUtils.evaluateAggregations(ast.ast(), inputTable, exec.createSubProgress(0.2));
+
+            // Write both outputs in one pass over the input table
+            var splitter = new ExpressionRowSplitter(ast, maxMatchingRows, ctx,
+                additionalInputs.withAggregationResults(aggregationResults));
+            outputTables = splitter.split(inputTable, exec.createSubExecutionContext(0.8));
+        }
+        exec.setProgress(1);
+        return outputTables;
+    }
+
+    @Override
+    protected void saveSettingsTo(final NodeSettingsWO settings) {
+        m_settings.saveSettingsTo(settings);
+    }
+
+    @Override
+    protected void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        new ExpressionRowFilterSettings().validate(settings);
+    }
+
+    @Override
+    protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
+        m_settings.loadSettingsFrom(settings);
+    }
+
+    @Override
+    protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        // nothing to do
+    }
+
+    @Override
+    protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        // nothing to do
+    }
+
+    @Override
+    protected void reset() {
+        // nothing to do
+    }
+
+}
@@ -54,40 +54,67 @@ import java.io.File;
 import java.io.IOException;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 import java.util.stream.IntStream;
 
 import org.knime.base.expressions.ColumnInputUtils;
 import org.knime.base.expressions.ColumnOutputUtils;
+import org.knime.base.expressions.DataRowExpressionEvaluator;
 import org.knime.base.expressions.ExpressionRunnerUtils;
 import org.knime.base.expressions.ExpressionRunnerUtils.NewColumnPosition;
 import org.knime.base.expressions.InsertionMode;
 import org.knime.base.expressions.node.NodeExpressionAdditionalInputs;
 import org.knime.base.expressions.node.WithIndexExpressionException;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataTableSpecCreator;
 import org.knime.core.data.columnar.table.VirtualTableExtensionTable;
 import org.knime.core.data.columnar.table.VirtualTableIncompatibleException;
 import org.knime.core.data.columnar.table.virtual.ColumnarVirtualTable;
 import org.knime.core.data.columnar.table.virtual.reference.ReferenceTable;
+import org.knime.core.data.container.ColumnRearranger;
+import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.v2.schema.ValueSchemaUtils;
 import org.knime.core.expressions.Ast;
+import org.knime.core.expressions.Ast.ColumnAccess;
+import org.knime.core.expressions.Ast.ColumnId.ColumnIdType;
 import org.knime.core.expressions.EvaluationContext;
+import org.knime.core.expressions.ExpressionCache;
 import org.knime.core.expressions.ExpressionCompileException;
 import org.knime.core.expressions.ExpressionEvaluationException;
 import org.knime.core.expressions.Expressions;
+import org.knime.core.expressions.TypedAst;
 import org.knime.core.expressions.ValueType;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.Node;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.workflow.FlowVariable;
 import org.knime.core.table.virtual.spec.SourceTableProperties.CursorType;
 
@@ -100,8 +127,14 @@ import org.knime.core.table.virtual.spec.SourceTableProperties.CursorType;
 @SuppressWarnings("restriction") // the columnar table API is not public yet
 final class ExpressionRowMapperNodeModel extends NodeModel {
 
+    /** Number of rows between two progress messages when streaming */
+    private static final long PROGRESS_UPDATE_INTERVAL = 1024;
+
     private final ExpressionRowMapperSettings m_settings;
 
+    /** The state of the last incremental execution, kept across resets, {@code null} if there is none */
+    private IncrementalExecutionState m_incrementalState;
+
     public ExpressionRowMapperNodeModel() {
         super(1, 1);
         m_settings = new ExpressionRowMapperSettings();
@@ -110,15 +143,13 @@ final class ExpressionRowMapperNodeModel extends NodeModel {
     /**
      * @return the typed Ast for the configured expression
      */
-    private static Ast getPreparedExpression(final String expression, final DataTableSpec inSpec,
+    private static TypedAst getPreparedExpression(final String expression, final DataTableSpec inSpec,
         final Map<String, FlowVariable> availableFlowVariables) throws ExpressionCompileException {
 
-        var ast = Expressions.parse(expression);
-        Expressions.inferTypes(ast, //
+        return ExpressionCache.getInstance().parseAndInferTypes(expression, //
             ColumnInputUtils.columnToTypesForTypeInference(inSpec), //
             flowVarToTypeForTypeInference(availableFlowVariables) //
         );
-        return ast;
     }
 
     /**
@@ -140,8 +171,7 @@ final class ExpressionRowMapperNodeModel extends NodeModel {
             getAvailableInputFlowVariables(ExpressionRunnerUtils.SUPPORTED_FLOW_VARIABLE_TYPES);
 
         try {
-            var ast = getPreparedExpression(expression, inputSpec, availableFlowVariables);
-            var outputType = Expressions.getInferredType(ast);
+            var outputType = getPreparedExpression(expression, inputSpec, availableFlowVariables).type();
             if (ValueType.MISSING.equals(outputType)) {
                 throw new InvalidSettingsException(
                     "Expression %d evaluates to MISSING. Enter an expression that has an output type."
@@ -205,16 +235,17 @@ final class ExpressionRowMapperNodeModel extends NodeModel {
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
         throws Exception {
         var messageBuilder = createMessageBuilder();
+        BiConsumer<Integer, String> setWarning =
+            (i, warningMessage) -> messageBuilder.addTextIssue("Expression " + (i + 1) + ": " + warningMessage);
 
-        List<BufferedDataTable> outputTables;
+        BufferedDataTable outputTable;
         try {
-            outputTables = applyMapperExpressions(m_settings.getScripts(), //
-                getColumnPositions(m_settings.getColumnInsertionModes(), m_settings.getActiveOutputColumns()), //
-                inData[0], //
-                getAvailableFlowVariables(ExpressionRunnerUtils.SUPPORTED_FLOW_VARIABLE_TYPES), //
-                exec, //
-                (i, warningMessage) -> messageBuilder.addTextIssue("Expression " + (i + 1) + ": " + warningMessage) //
-            );
+            if (m_settings.isIncrementalExecution()) {
+                outputTable = executeIncrementally(inData[0], exec, setWarning);
+            } else {
+                discardIncrementalState();
+                outputTable = applyConfiguredExpressions(inData[0], exec, setWarning);
+            }
         } catch (WithIndexExpressionException e) {
             throw e.toKNIMEException();
         }
@@ -230,20 +261,240 @@ final class ExpressionRowMapperNodeModel extends NodeModel {
             setWarning(message);
         }
 
-        return new BufferedDataTable[]{outputTables.get(outputTables.size() - 1)};
+        return new BufferedDataTable[]{outputTable};
+    }
+
+    /** Applies the configured expressions to all rows of the input table and returns the final output table */
+    private BufferedDataTable applyConfiguredExpressions(final BufferedDataTable inputTable,
+        final ExecutionContext exec, final BiConsumer<Integer, String> setWarning) throws ExpressionCompileException,
+        CanceledExecutionException, VirtualTableIncompatibleException, WithIndexExpressionException {
+        var outputTables = applyMapperExpressions(m_settings.getScripts(), //
+            getColumnPositions(m_settings.getColumnInsertionModes(), m_settings.getActiveOutputColumns()), //
+            0, //
+            inputTable, //
+            getAvailableFlowVariables(ExpressionRunnerUtils.SUPPORTED_FLOW_VARIABLE_TYPES), //
+            exec, //
+            setWarning //
+        );
+        return outputTables.get(outputTables.size() - 1);
+    }
+
+    /**
+     * Evaluates only the rows that were appended to the input table since the last execution and appends the result
+     * to the results of the last execution. Falls back to evaluating all rows if the expressions, the flow variables,
+     * the RowIDs, or the values of the columns that the expressions read changed or if the expressions depend on other
+     * rows (aggregations, windows, ROW_INDEX).
+     */
+    private BufferedDataTable executeIncrementally(final BufferedDataTable inputTable, final ExecutionContext exec,
+        final BiConsumer<Integer, String> setWarning) throws ExpressionCompileException, CanceledExecutionException,
+        VirtualTableIncompatibleException, WithIndexExpressionException, IOException {
+
+        var scripts = m_settings.getScripts();
+        var fingerprint = IncrementalExecutionState.createFingerprint(scripts, //
+            getColumnPositions(m_settings.getColumnInsertionModes(), m_settings.getActiveOutputColumns()), //
+            inputTable, //
+            getAvailableFlowVariables(ExpressionRunnerUtils.SUPPORTED_FLOW_VARIABLE_TYPES) //
+        );
+        var supportsIncrementalExecution = IncrementalExecutionState.supportsIncrementalExecution(scripts);
+
+        var previousState = m_incrementalState;
+        m_incrementalState = null;
+        var isPreviousStateReused = false;
+        try {
+            Optional<byte[]> inputDigest = Optional.empty();
+            if (previousState != null && previousState.hasFingerprint(fingerprint) && supportsIncrementalExecution) {
+                inputDigest = previousState.digestIfAppended(inputTable, exec.createSubProgress(0.1));
+            }
+
+            if (inputDigest.isPresent()) {
+                var appendedRows = previousState.getAppendedRows(inputTable, exec.createSubExecutionContext(0.1));
+                if (appendedRows.size() == 0) {
+                    m_incrementalState = previousState;
+                } else {
+                    var appendedOutput =
+                        applyConfiguredExpressions(appendedRows, exec.createSubExecutionContext(0.4), setWarning);
+                    // NB: Only the result of the appended rows is written
+                    m_incrementalState = previousState.withAppendedOutput(inputTable, inputDigest.get(),
+                        appendedOutput, exec.createSubProgress(0.1));
+                }
+                isPreviousStateReused = true;
+                return m_incrementalState.createOutput(inputTable, exec.createSubExecutionContext(0.3));
+            }
+
+            var outputTable = applyConfiguredExpressions(inputTable, exec.createSubExecutionContext(0.8), setWarning);
+            if (supportsIncrementalExecution) {
+                m_incrementalState = IncrementalExecutionState.create(fingerprint,
+                    IncrementalExecutionState.findKeyColumns(scripts, inputTable.getDataTableSpec()),
+                    Set.copyOf(m_settings.getActiveOutputColumns()), inputTable, outputTable,
+                    exec.createSubProgress(0.2));
+            }
+            return outputTable;
+        } finally {
+            if (previousState != null && !isPreviousStateReused) {
+                previousState.delete();
+            }
+        }
+    }
+
+    private void discardIncrementalState() {
+        if (m_incrementalState != null) {
+            m_incrementalState.delete();
+            m_incrementalState = null;
+        }
+    }
+
+    /** @return the parsed expressions if all of them can be evaluated row by row while streaming, empty otherwise */
+    private Optional<List<Ast>> getRowLocalExpressions() {
+        var expressions = new ArrayList<Ast>();
+        for (var script : m_settings.getScripts()) {
+            try {
+                var ast = ExpressionCache.getInstance().parse(script);
+                if (!Expressions.isRowLocal(ast)) {
+                    return Optional.empty();
+                }
+                expressions.add(ast);
+            } catch (ExpressionCompileException e) { // NOSONAR - configure reports the error
+                return Optional.empty();
+            }
+        }
+        return Optional.of(expressions);
+    }
+
+    private boolean isDistributable() {
+        if (m_settings.isIncrementalExecution()) {
+            return false;
+        }
+        // NB: The ROW_INDEX must count all rows in one partition
+        return getRowLocalExpressions() //
+            .filter(expressions -> expressions.stream().noneMatch(Expressions::requiresRowIndexColumn)) //
+            .isPresent();
+    }
+
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        if (m_settings.isIncrementalExecution() || getRowLocalExpressions().isEmpty()) {
+            // Aggregations, windowing, and the incremental execution need the full table
+            return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_NONSTREAMABLE};
+        }
+        return new InputPortRole[]{
+            isDistributable() ? InputPortRole.DISTRIBUTED_STREAMABLE : InputPortRole.NONDISTRIBUTED_STREAMABLE};
+    }
+
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        return new OutputPortRole[]{isDistributable() ? OutputPortRole.DISTRIBUTED : OutputPortRole.NONDISTRIBUTED};
+    }
+
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        return new StreamableOperator() {
+
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                var output = (RowOutput)outputs[0];
+                if (inputs[0] instanceof RowInput input) {
+                    streamMapperExpressions(input, output, exec);
+                } else {
+                    // The expressions are not row-local - the full input table is available
+                    var inputTable = (BufferedDataTable)((PortObjectInput)inputs[0]).getPortObject();
+                    output.setFully(execute(new BufferedDataTable[]{inputTable}, exec)[0]);
+                }
+            }
+        };
+    }
+
+    /** Evaluates the row-local expressions row by row and pushes the resulting rows to the output */
+    private void streamMapperExpressions(final RowInput input, final RowOutput output, final ExecutionContext exec)
+        throws Exception {
+        var messageBuilder = createMessageBuilder();
+        var availableFlowVariables = getAvailableFlowVariables(ExpressionRunnerUtils.SUPPORTED_FLOW_VARIABLE_TYPES);
+        var additionalInputs = new NodeExpressionAdditionalInputs(availableFlowVariables);
+        var executionStartTime = ZonedDateTime.now();
+
+        var scripts = m_settings.getScripts();
+        var newColumnPositions =
+            getColumnPositions(m_settings.getColumnInsertionModes(), m_settings.getActiveOutputColumns());
+
+        // Prepare one evaluator per expression on the spec that is produced by the previous expressions
+        var spec = input.getDataTableSpec();
+        var evaluators = new DataRowExpressionEvaluator[scripts.size()];
+        var replacedColumnIndices = new int[scripts.size()];
+        var contexts = new EvaluationContext[scripts.size()];
+        for (int i = 0; i < scripts.size(); i++) {
+            var expression = getPreparedExpression(scripts.get(i), spec, availableFlowVariables);
+            var newColumnPosition = newColumnPositions.get(i);
+            if (!ExpressionRunnerUtils.isIdentity(expression, spec, newColumnPosition)) {
+                evaluators[i] = new DataRowExpressionEvaluator(expression, spec, additionalInputs);
+                replacedColumnIndices[i] = newColumnPosition.mode() == InsertionMode.REPLACE_EXISTING
+                    ? spec.findColumnIndex(newColumnPosition.columnName()) : -1;
+                final var finalI = i;
+                contexts[i] = EvaluationContext.of(executionStartTime,
+                    warning -> messageBuilder.addTextIssue("Expression " + (finalI + 1) + ": " + warning));
+            }
+            spec = computeTableSpecAfterScriptApplied(spec, newColumnPosition.mode(),
+                newColumnPosition.columnName(), scripts.get(i), i);
+        }
+
+        var rowIndex = 0L;
+        DataRow row;
+        while ((row = input.poll()) != null) {
+            var cells = new ArrayList<DataCell>(spec.getNumColumns());
+            row.forEach(cells::add);
+            for (int i = 0; i < evaluators.length; i++) {
+                if (evaluators[i] == null) {
+                    continue;
+                }
+                DataCell result;
+                try {
+                    result = evaluators[i].evaluateToCell(new DefaultRow(row.getKey(), cells), rowIndex, contexts[i]);
+                } catch (ExpressionEvaluationException e) {
+                    throw WithIndexExpressionException.forEvaluationException(i, e).toKNIMEException();
+                }
+                if (replacedColumnIndices[i] >= 0) {
+                    cells.set(replacedColumnIndices[i], result);
+                } else {
+                    cells.add(result);
+                }
+            }
+            output.push(new DefaultRow(row.getKey(), cells));
+
+            rowIndex++;
+            exec.checkCanceled();
+            if (rowIndex % PROGRESS_UPDATE_INTERVAL == 0) {
+                exec.setMessage("Evaluating expressions (row %d)".formatted(rowIndex));
+            }
+        }
+        input.close();
+        output.close();
+
+        var issueCount = messageBuilder.getIssueCount();
+        if (issueCount > 0) {
+            var message = messageBuilder //
+                .withSummary(
+                    issueCount + " warning" + (issueCount == 1 ? "" : "s") + " occured while evaluating expression.") //
+                .build() //
+                .orElse(null);
+            setWarning(message);
+        }
     }
 
     /**
-     * Applies the given expressions to the table.
+     * Applies the given expressions to the table, starting at the given expression. The output tables of the
+     * expressions before it must be available from a previous call, which allows to re-evaluate only the expressions
+     * that changed.
      *
-     * @param expressions the expressions to apply
-     * @param newColumnPositions the positions of the new columns
-     * @param inputTable the input table
+     * @param expressions all expressions
+     * @param newColumnPositions the positions of the new columns of all expressions
+     * @param firstExpressionIndex the index of the first expression to apply
+     * @param inputTable the input table of the first expression to apply, which is the output table of the expression
+     *            before it
      * @param availableFlowVariables the available flow variables
      * @param exec the execution context
      * @param setWarning a consumer that is called if the evaluation of an expression produces a warning with the index
      *            of the expression and the warning message
-     * @return the output tables, one for each expression, use the last table for the final output
+     * @return the output tables, one for each applied expression, use the last table for the final output
      * @throws ExpressionCompileException if an expression cannot be compiled
      * @throws CanceledExecutionException if the execution is canceled
      * @throws VirtualTableIncompatibleException
@@ -252,6 +503,7 @@ final class ExpressionRowMapperNodeModel extends NodeModel {
     static List<BufferedDataTable> applyMapperExpressions( //
         final List<String> expressions, //
         final List<NewColumnPosition> newColumnPositions, //
+        final int firstExpressionIndex, //
         final BufferedDataTable inputTable, //
         final Map<String, FlowVariable> availableFlowVariables, //
         final ExecutionContext exec, //
@@ -259,64 +511,293 @@ final class ExpressionRowMapperNodeModel extends NodeModel {
     ) throws ExpressionCompileException, CanceledExecutionException, VirtualTableIncompatibleException,
         WithIndexExpressionException {
         var additionalInputs = new NodeExpressionAdditionalInputs(availableFlowVariables);
-        var numberOfExpressions = expressions.size();
+        var numberOfExpressions = expressions.size() - firstExpressionIndex;
         var nextInputTable = inputTable;
         var outputTables = new ArrayList<BufferedDataTable>();
         var executionStartTime = ZonedDateTime.now();
 
-        for (int i = 0; i < numberOfExpressions; ++i) {
-            var subExec = exec.createSubExecutionContext(1.0 / numberOfExpressions);
+        // NB: Independent expressions are evaluated concurrently and report their warnings from different threads
+        BiConsumer<Integer, String> synchronizedSetWarning = (i, warning) -> {
+            synchronized (setWarning) {
+                setWarning.accept(i, warning);
+            }
+        };
 
-            // Parse the expression and infer the types
-            var expression =
-                getPreparedExpression(expressions.get(i), nextInputTable.getDataTableSpec(), availableFlowVariables);
+        // The tables that were created so far are cleared if an expression fails or the evaluation is canceled
+        var createdTables = new ArrayList<BufferedDataTable>();
+        var success = false;
+        try {
+            for (var independentExpressions : findIndependentExpressions(expressions, newColumnPositions)) {
+                var group = IntStream.of(independentExpressions).filter(i -> i >= firstExpressionIndex).toArray();
+                if (group.length == 0) {
+                    continue;
+                }
+                exec.checkCanceled();
+                // All expressions of the group are evaluated on the input table of the group because they do not read
+                // the results of each other
+                var groupInputTable = nextInputTable;
+                var isColumnar = ExpressionRunnerUtils.isColumnarTable(groupInputTable);
+
+                var computations = new ArrayList<Callable<ReferenceTable>>();
+                for (var i : group) {
+                    var subExec = exec.createSubExecutionContext(1.0 / numberOfExpressions);
+
+                    // Parse the expression and infer the types
+                    var expression = getPreparedExpression(expressions.get(i), groupInputTable.getDataTableSpec(),
+                        availableFlowVariables);
+                    var newColumnPosition = newColumnPositions.get(i);
+
+                    if (ExpressionRunnerUtils.isIdentity(expression, groupInputTable.getDataTableSpec(),
+                        newColumnPosition)) {
+                        // The expression replaces a column by itself - the table stays the same
+                        subExec.setProgress(1);
+                        computations.add(() -> null);
+                        continue;
+                    }
+
+                    var ctx =
+                        EvaluationContext.of(executionStartTime, warning -> synchronizedSetWarning.accept(i, warning));
+                    computations.add(() -> computeExpressionResult(expression, newColumnPosition, groupInputTable,
+                        isColumnar, additionalInputs, ctx, exec, subExec));
+                }
 
-            // Create a reference table for the input table
-            var inRefTable =
-                ExpressionRunnerUtils.createReferenceTable(nextInputTable, subExec.createSubExecutionContext(0.33));
+                var expressionResults = computeConcurrently(computations, group, exec);
+                expressionResults.stream().filter(Objects::nonNull).map(ReferenceTable::getBufferedTable)
+                    .forEach(createdTables::add);
+
+                // Add the results to the table one after the other
+                for (int k = 0; k < group.length; k++) {
+                    var expressionResult = expressionResults.get(k);
+                    if (expressionResult != null) {
+                        var newColumnPosition = newColumnPositions.get(group[k]);
+                        nextInputTable = isColumnar //
+                            ? appendColumnarResult(expressionResult, newColumnPosition, nextInputTable, exec) //
+                            : appendRowBasedResult(expressionResult.getBufferedTable(), newColumnPosition,
+                                nextInputTable, exec);
+                        createdTables.add(nextInputTable);
+                    }
+                    outputTables.add(nextInputTable);
+                }
+            }
+            success = true;
+            return outputTables;
+        } finally {
+            if (!success) {
+                createdTables.forEach(exec::clearTable);
+            }
+        }
+    }
 
-            // Pre-evaluate the aggregations
-            // NB: We use the inRefTable because it is guaranteed to be a columnar table
-            ExpressionRunnerUtils.evaluateAggregations(expression, inRefTable.getBufferedTable(),
-                subExec.createSubProgress(0.33));
+    /**
+     * Splits the expressions into groups of consecutive expressions that do not read the results of each other.
+     * Expressions with aggregations are assumed to read all columns because aggregations reference their columns by
+     * name. If an expression cannot be parsed, each expression is put into its own group.
+     *
+     * @param expressions the expressions
+     * @param newColumnPositions the positions of the new columns
+     * @return the indices of the expressions for each group, in order
+     */
+    static List<int[]> findIndependentExpressions(final List<String> expressions,
+        final List<NewColumnPosition> newColumnPositions) {
+        var numExpressions = expressions.size();
 
-            // Evaluate the expression and materialize the result
-            final var finalI = i;
-            var ctx = EvaluationContext.of(executionStartTime, warning -> setWarning.accept(finalI, warning));
-            ReferenceTable expressionResult;
-            var newColumnPosition = newColumnPositions.get(i);
+        var asts = new ArrayList<Ast>();
+        for (var expression : expressions) {
+            try {
+                asts.add(ExpressionCache.getInstance().parse(expression));
+            } catch (ExpressionCompileException e) { // NOSONAR - the error is reported when the expression is applied
+                return IntStream.range(0, numExpressions).mapToObj(i -> new int[]{i}).toList();
+            }
+        }
+
+        var groups = new ArrayList<int[]>();
+        var groupStart = 0;
+        for (int j = 1; j < numExpressions; j++) {
+            var ast = asts.get(j);
+            var dependsOnGroup = IntStream.range(groupStart, j) //
+                .anyMatch(i -> mayReadColumn(ast, newColumnPositions.get(i).columnName()));
+            if (dependsOnGroup) {
+                groups.add(IntStream.range(groupStart, j).toArray());
+                groupStart = j;
+            }
+        }
+        if (numExpressions > 0) {
+            groups.add(IntStream.range(groupStart, numExpressions).toArray());
+        }
+        return groups;
+    }
+
+    /**
+     * Runs the computations of a group of independent expressions on the global thread pool. If a computation fails,
+     * the other computations are canceled and the results of the finished computations are cleared.
+     *
+     * @return the results of the computations, in order
+     */
+    private static List<ReferenceTable> computeConcurrently(final List<Callable<ReferenceTable>> computations,
+        final int[] expressionIndices, final ExecutionContext exec)
+        throws CanceledExecutionException, VirtualTableIncompatibleException, WithIndexExpressionException {
+        if (computations.size() == 1) {
+            // No need to switch threads for a single expression
             try {
-                expressionResult = ExpressionRunnerUtils.applyAndMaterializeExpression(inRefTable, expression,
-                    newColumnPosition.columnName(), exec, subExec.createSubProgress(0.34), additionalInputs, ctx);
-            } catch (ExpressionEvaluationException e) {
-                throw WithIndexExpressionException.forEvaluationException(i, e);
+                return Collections.singletonList(computations.get(0).call());
+            } catch (Exception e) { // NOSONAR - the exception is rethrown
+                throw rethrowComputationException(e, expressionIndices[0]);
             }
+        }
 
-            // We must avoid using inRefTable.getVirtualTable() directly. Doing so would result in building upon the
-            // transformation of the input table, instead of initiating a new fragment. This leads to complications
-            // when loading the virtual table, as it attempts to resolve the sources of the input table. By creating a
-            // new ColumnarVirtualTable, we establish a new SourceTableTransform that references the input table. This
-            // ensures that the input table itself acts as the source, providing a clean slate for transformations.
-            // Note that the CursorType is irrelevant because the transform gets re-sourced for running the comp graph.
-            var inputVirtualTable =
-                new ColumnarVirtualTable(inRefTable.getId(), inRefTable.getSchema(), CursorType.BASIC);
-            var output = ExpressionRunnerUtils.constructOutputTable(inputVirtualTable,
-                expressionResult.getVirtualTable(), newColumnPosition);
-
-            final DataTableSpec outputSpec = new DataTableSpecCreator(inputTable.getDataTableSpec()) //
-                .dropAllColumns() //
-                .addColumns(ValueSchemaUtils.dataColumnSpecs(output.getSchema())) //
-                .createSpec();
-
-            @SuppressWarnings("resource") // #close clears the table but we still want to keep the data for the output
-            var outputExtensionTable =
-                new VirtualTableExtensionTable(new ReferenceTable[]{inRefTable, expressionResult}, output, outputSpec,
-                    nextInputTable.size(), Node.invokeGetDataRepository(exec).generateNewID());
-
-            nextInputTable = outputExtensionTable.create(exec);
-            outputTables.add(nextInputTable);
+        var pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool();
+        var futures = computations.stream().map(pool::enqueue).toList();
+        var results = new ArrayList<ReferenceTable>();
+        try {
+            for (int k = 0; k < futures.size(); k++) {
+                var future = futures.get(k);
+                try {
+                    // NB: The waiting thread must not block a slot of the thread pool
+                    results.add(pool.runInvisible(future::get));
+                } catch (ExecutionException e) {
+                    // runInvisible wraps the ExecutionException of Future#get
+                    var cause = e.getCause() instanceof ExecutionException inner ? inner.getCause() : e.getCause();
+                    throw rethrowComputationException(cause, expressionIndices[k]);
+                }
+            }
+            return results;
+        } finally {
+            // Stop the computations of the other expressions if one of them failed
+            futures.forEach(future -> future.cancel(true));
+            if (results.size() < futures.size()) {
+                clearFinishedResults(results, futures, exec);
+            }
         }
-        return outputTables;
+    }
+
+    /** Clear the results of the computations that finished although another computation of the group failed */
+    private static void clearFinishedResults(final List<ReferenceTable> results,
+        final List<Future<ReferenceTable>> futures, final ExecutionContext exec) {
+        var finishedResults = new ArrayList<>(results);
+        for (var future : futures.subList(results.size(), futures.size())) {
+            if (future.isDone() && !future.isCancelled()) {
+                try {
+                    finishedResults.add(future.get());
+                } catch (ExecutionException e) { // NOSONAR - the failed computation has no result
+                } catch (InterruptedException e) { // NOSONAR - the future is done, get does not wait
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        finishedResults.stream().filter(Objects::nonNull)
+            .forEach(result -> exec.clearTable(result.getBufferedTable()));
+    }
+
+    private static WithIndexExpressionException rethrowComputationException(final Throwable cause,
+        final int expressionIndex) throws CanceledExecutionException, VirtualTableIncompatibleException {
+        if (cause instanceof ExpressionEvaluationException e) {
+            return WithIndexExpressionException.forEvaluationException(expressionIndex, e);
+        } else if (cause instanceof CanceledExecutionException e) {
+            throw e;
+        } else if (cause instanceof InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException(e.getMessage());
+        } else if (cause instanceof VirtualTableIncompatibleException e) {
+            throw e;
+        } else if (cause instanceof RuntimeException e) {
+            throw e;
+        } else if (cause instanceof Error e) {
+            throw e;
+        }
+        throw new IllegalStateException(cause);
+    }
+
+    /** @return <code>true</code> if the expression accesses the column or contains an aggregation */
+    private static boolean mayReadColumn(final Ast expression, final String columnName) {
+        var inputAccesses = Expressions.collectInputAccesses(expression);
+        return !inputAccesses.aggregationCalls().isEmpty() //
+            || inputAccesses.columnAccesses().stream() //
+                .map(ColumnAccess::columnId) //
+                .anyMatch(columnId -> columnId.type() == ColumnIdType.NAMED && columnName.equals(columnId.name()));
+    }
+
+    /**
+     * Evaluates the expression on the input table and materializes the result column. For a table that is not stored
+     * in the columnar format, only the columns that are accessed by the expression are copied to the columnar format
+     * and the RowIDs are materialized such that the result can be joined with the input table.
+     */
+    private static ReferenceTable computeExpressionResult( // NOSONAR - all parameters are needed
+        final TypedAst expression, final NewColumnPosition newColumnPosition, final BufferedDataTable inputTable,
+        final boolean isColumnar, final NodeExpressionAdditionalInputs additionalInputs, final EvaluationContext ctx,
+        final ExecutionContext exec, final ExecutionContext subExec)
+        throws CanceledExecutionException, VirtualTableIncompatibleException, ExpressionEvaluationException {
+
+        // Create a reference table for the input table
+        var inRefTable = isColumnar //
+            ? ExpressionRunnerUtils.createReferenceTable(inputTable, subExec.createSubExecutionContext(0.33)) //
+            : ExpressionRunnerUtils.createProjectedReferenceTable(inputTable, expression.ast(),
+                subExec.createSubExecutionContext(0.33));
+        var materializeRowKey = !isColumnar;
+
+        // Pre-evaluate the aggregations
+        // NB: The projected table of a row-based table does not contain the columns of the aggregations
+        var aggregationResults = ExpressionRunnerUtils.evaluateAggregations(expression.ast(),
+            isColumnar ? inRefTable.getBufferedTable() : inputTable, subExec.createSubProgress(0.33));
+
+        // Evaluate the expression and materialize the result
+        return ExpressionRunnerUtils.applyAndMaterializeExpression(inRefTable, expression,
+            newColumnPosition.columnName(), exec, subExec.createSubProgress(0.34),
+            additionalInputs.withAggregationResults(aggregationResults), ctx, materializeRowKey);
+    }
+
+    /** Adds the result column to a columnar table without copying the other columns */
+    private static BufferedDataTable appendColumnarResult(final ReferenceTable expressionResult,
+        final NewColumnPosition newColumnPosition, final BufferedDataTable inputTable, final ExecutionContext exec)
+        throws CanceledExecutionException, VirtualTableIncompatibleException {
+        // NB: The table is columnar and is not copied
+        var inRefTable =
+            ExpressionRunnerUtils.createReferenceTable(inputTable, exec.createSilentSubExecutionContext(0));
+
+        // We must avoid using inRefTable.getVirtualTable() directly. Doing so would result in building upon the
+        // transformation of the input table, instead of initiating a new fragment. This leads to complications
+        // when loading the virtual table, as it attempts to resolve the sources of the input table. By creating a
+        // new ColumnarVirtualTable, we establish a new SourceTableTransform that references the input table. This
+        // ensures that the input table itself acts as the source, providing a clean slate for transformations.
+        // Note that the CursorType is irrelevant because the transform gets re-sourced for running the comp graph.
+        var inputVirtualTable = new ColumnarVirtualTable(inRefTable.getId(), inRefTable.getSchema(), CursorType.BASIC);
+        var output = ExpressionRunnerUtils.constructOutputTable(inputVirtualTable, expressionResult.getVirtualTable(),
+            newColumnPosition);
+
+        final DataTableSpec outputSpec = new DataTableSpecCreator(inputTable.getDataTableSpec()) //
+            .dropAllColumns() //
+            .addColumns(ValueSchemaUtils.dataColumnSpecs(output.getSchema())) //
+            .createSpec();
+
+        @SuppressWarnings("resource") // #close clears the table but we still want to keep the data for the output
+        var outputExtensionTable =
+            new VirtualTableExtensionTable(new ReferenceTable[]{inRefTable, expressionResult}, output, outputSpec,
+                inputTable.size(), Node.invokeGetDataRepository(exec).generateNewID());
+
+        return outputExtensionTable.create(exec);
+    }
+
+    /**
+     * Adds the result column, which contains the RowIDs, to a table that is not stored in the columnar format. The
+     * result column is joined with the input table without copying the other columns.
+     */
+    private static BufferedDataTable appendRowBasedResult(final BufferedDataTable resultTable,
+        final NewColumnPosition newColumnPosition, final BufferedDataTable inputTable, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        var noProgress = exec.createSilentSubProgress(0);
+        if (newColumnPosition.mode() != InsertionMode.REPLACE_EXISTING) {
+            return exec.createJoinedTable(inputTable, resultTable, noProgress);
+        }
+
+        // Remove the replaced column, join the result, and move the result to the position of the replaced column
+        var inputSpec = inputTable.getDataTableSpec();
+        var replacedColumnIdx = inputSpec.findColumnIndex(newColumnPosition.columnName());
+        var removeReplaced = new ColumnRearranger(inputSpec);
+        removeReplaced.remove(replacedColumnIdx);
+        var remainingTable = exec.createColumnRearrangeTable(inputTable, removeReplaced, noProgress);
+        var joinedTable = exec.createJoinedTable(remainingTable, resultTable, noProgress);
+        var moveResult = new ColumnRearranger(joinedTable.getDataTableSpec());
+        moveResult.move(joinedTable.getDataTableSpec().getNumColumns() - 1, replacedColumnIdx);
+        return exec.createColumnRearrangeTable(joinedTable, moveResult, noProgress);
     }
 
     @Override
@@ -337,17 +818,25 @@ final class ExpressionRowMapperNodeModel extends NodeModel {
     @Override
     protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec)
         throws IOException, CanceledExecutionException {
-        // nothing to do
+        discardIncrementalState();
+        m_incrementalState = IncrementalExecutionState.load(nodeInternDir, exec);
     }
 
     @Override
     protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec)
         throws IOException, CanceledExecutionException {
-        // nothing to do
+        if (m_incrementalState != null) {
+            m_incrementalState.save(nodeInternDir, exec);
+        }
     }
 
     @Override
     protected void reset() {
-        // nothing to do
+        // NB: The incremental state is kept because the next execution continues from it
+    }
+
+    @Override
+    protected void onDispose() {
+        discardIncrementalState();
     }
 }
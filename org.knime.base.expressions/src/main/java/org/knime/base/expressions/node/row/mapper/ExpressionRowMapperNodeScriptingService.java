@@ -65,6 +65,8 @@ import org.knime.base.expressions.node.ExpressionCodeAssistant.ExpressionType;
 import org.knime.base.expressions.node.ExpressionDiagnostic;
 import org.knime.base.expressions.node.ExpressionDiagnostic.DiagnosticSeverity;
 import org.knime.base.expressions.node.ExpressionDiagnosticResult;
+import org.knime.base.expressions.node.ExpressionPreviewExecutor;
+import org.knime.base.expressions.node.ExpressionPreviewExecutor.PreviewPublisher;
 import org.knime.base.expressions.node.WithIndexExpressionException;
 import org.knime.base.expressions.node.row.InputTableCache;
 import org.knime.base.expressions.node.row.OutputTablePreview;
@@ -73,6 +75,7 @@ import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.columnar.table.VirtualTableIncompatibleException;
 import org.knime.core.expressions.Ast;
 import org.knime.core.expressions.Ast.ColumnId.ColumnIdType;
+import org.knime.core.expressions.ExpressionCache;
 import org.knime.core.expressions.ExpressionCompileException;
 import org.knime.core.expressions.Expressions;
 import org.knime.core.expressions.ReturnResult;
@@ -104,6 +107,11 @@ final class ExpressionRowMapperNodeScriptingService extends ScriptingService {
 
     private InputTableCache m_inputTableCache;
 
+    private ExpressionPreviewExecutor m_previewExecutor;
+
+    /** The last preview, only accessed by the thread of the preview executor while it is running */
+    private final IncrementalPreview m_incrementalPreview = new IncrementalPreview();
+
     ExpressionRowMapperNodeScriptingService(final OutputTablePreview tablePreview) {
         super(null, ExpressionRunnerUtils.SUPPORTED_FLOW_VARIABLE_TYPES_SET::contains);
         m_tablePreview = tablePreview;
@@ -114,6 +122,7 @@ final class ExpressionRowMapperNodeScriptingService extends ScriptingService {
         if (input instanceof BufferedDataTable inputTable) {
             m_inputTableCache = new InputTableCache(inputTable, m_exec);
         }
+        m_previewExecutor = new ExpressionPreviewExecutor();
     }
 
     /** For testing with a mocked {@link WorkflowControl} only */
@@ -129,7 +138,13 @@ final class ExpressionRowMapperNodeScriptingService extends ScriptingService {
 
     @Override
     public void onDeactivate() {
+        // NB: Stop the running preview before clearing the tables it uses
+        if (m_previewExecutor != null) {
+            m_previewExecutor.close();
+            m_previewExecutor = null;
+        }
         m_tablePreview.clearTables(m_exec);
+        m_incrementalPreview.reset();
         if (m_inputTableCache != null) {
             m_inputTableCache.close();
             m_inputTableCache = null;
@@ -247,7 +262,7 @@ final class ExpressionRowMapperNodeScriptingService extends ScriptingService {
                 DataColumnSpec successfulInferredColSpec = null;
 
                 try {
-                    var ast = Expressions.parse(expression);
+                    var ast = ExpressionCache.getInstance().parse(expression);
 
                     // Check if the expression refers to any columns that are appended in the future
                     var prematureAccessDiagnostics = getPrematureAccessDiagnostics(ast, i, appendedColumnNames);
@@ -260,7 +275,8 @@ final class ExpressionRowMapperNodeScriptingService extends ScriptingService {
                         continue;
                     }
 
-                    var inferredType = Expressions.inferTypes(ast, columnToTypeMapper, flowVarToTypeMapper);
+                    var inferredType = Expressions.getInferredType(ExpressionCache.getInstance()
+                        .parseAndInferTypes(expression, columnToTypeMapper, flowVarToTypeMapper));
 
                     if (ValueType.MISSING.equals(inferredType)) {
                         // Output type "MISSING" is not supported, hence error
@@ -292,43 +308,74 @@ final class ExpressionRowMapperNodeScriptingService extends ScriptingService {
         }
 
         public void runExpression(final List<String> scripts, final int numPreviewRows,
-            final List<String> columnInsertionModesString, final List<String> columnNames)
-            throws ExpressionCompileException, VirtualTableIncompatibleException {
+            final List<String> columnInsertionModesString, final List<String> columnNames) {
 
             if (numPreviewRows > PREVIEW_MAX_ROWS) {
                 throw new IllegalArgumentException("Number of preview rows must be at most 1000");
             }
 
+            // NB: The preview is evaluated in the background and a newer request cancels this one
+            m_previewExecutor.submit( //
+                (exec, publisher) -> evaluatePreview(scripts, numPreviewRows, columnInsertionModesString, columnNames,
+                    exec, publisher), //
+                message -> {
+                    // NB: We do not know which expression failed - show the error for all of them
+                    var errors = new ExpressionDiagnostic[scripts.size()];
+                    Arrays.fill(errors,
+                        ExpressionDiagnostic.withSameMessage(message, DiagnosticSeverity.ERROR, null));
+                    sendEvent("updateWarnings", errors);
+                } //
+            );
+        }
+
+        private void evaluatePreview(final List<String> scripts, final int numPreviewRows,
+            final List<String> columnInsertionModesString, final List<String> columnNames, final ExecutionContext exec,
+            final PreviewPublisher publisher)
+            throws ExpressionCompileException, VirtualTableIncompatibleException, CanceledExecutionException {
+
             var warnings = new ExpressionDiagnostic[scripts.size()];
 
             try {
                 var inColTable = m_inputTableCache.getTable(numPreviewRows);
-                var outputTables = ExpressionRowMapperNodeModel.applyMapperExpressions( //
-                    scripts, //
-                    ExpressionRowMapperNodeModel.getColumnPositions( //
-                        columnInsertionModesString.stream().map(InsertionMode::valueOf).toList(), //
-                        columnNames //
-                    ), //
-                    inColTable, //
-                    getSupportedFlowVariablesMap(), //
-                    m_exec, //
-                    ExpressionDiagnostic.getWarningMessageHandler(warnings) //
+                var newColumnPositions = ExpressionRowMapperNodeModel.getColumnPositions( //
+                    columnInsertionModesString.stream().map(InsertionMode::valueOf).toList(), //
+                    columnNames //
                 );
 
-                m_tablePreview.updateTables(outputTables, m_exec);
-                updateOutputTable((int)m_tablePreview.numRows(), m_inputTableCache.getFullRowCount());
+                // Reuse the output tables of the leading expressions that did not change since the last preview
+                var result = m_incrementalPreview.evaluate(scripts, newColumnPositions, inColTable,
+                    getSupportedFlowVariablesMap(), exec, warnings);
 
-                if (warnings.length > 0) {
-                    sendEvent("updateWarnings", warnings);
-                }
+                // Do not show the results if a newer request was submitted in the meantime
+                publishOrClear(publisher, result, () -> {
+                    m_tablePreview.updateTables(result.outputTables(), inColTable, m_exec);
+                    updateOutputTable((int)m_tablePreview.numRows(), m_inputTableCache.getFullRowCount());
+                    m_incrementalPreview.remember(result);
+
+                    if (warnings.length > 0) {
+                        sendEvent("updateWarnings", warnings);
+                    }
+                });
 
-            } catch (WithIndexExpressionException e) {
-                // TODO(AP-23937) - update the frontend to show the error
-                throw new IllegalStateException(e.getMessage(), e);
-            } catch (CanceledExecutionException e) {
-                throw new IllegalStateException("This is an implementation error. Must not happen "
-                    + "because canceling the execution should not be possible.", e);
+            } catch (WithIndexExpressionException e) { // NOSONAR - we send the message to the frontend
+                warnings[e.getExpressionIndex()] =
+                    ExpressionDiagnostic.withSameMessage(e.getUIMessage(), DiagnosticSeverity.ERROR, null);
+                publisher.publish(() -> sendEvent("updateWarnings", warnings));
             }
         }
     }
+
+    /**
+     * Publish the results of a preview evaluation. If a newer request was submitted in the meantime, the new output
+     * tables are cleared instead because they are never shown.
+     */
+    private void publishOrClear(final PreviewPublisher publisher, final IncrementalPreview.Result result,
+        final Runnable publication) throws CanceledExecutionException {
+        try {
+            publisher.publish(publication);
+        } catch (CanceledExecutionException e) {
+            m_incrementalPreview.clearNewTables(result, m_exec);
+            throw e;
+        }
+    }
 }
@@ -124,6 +124,10 @@ class ExpressionRowMapperSettings extends ScriptingNodeSettings implements Gener
 
     private static final String JSON_KEY_REPLACED_COLUMNS = "replacedColumns";
 
+    private static final String CFG_KEY_INCREMENTAL_EXECUTION = "incrementalExecution";
+
+    private static final String JSON_KEY_INCREMENTAL_EXECUTION = CFG_KEY_INCREMENTAL_EXECUTION;
+
     private static final String JSON_KEY_ARE_SETTINGS_OVERRIDDEN_BY_FLOW_VARIABLES =
         "settingsAreOverriddenByFlowVariable";
 
@@ -137,6 +141,8 @@ class ExpressionRowMapperSettings extends ScriptingNodeSettings implements Gener
 
     private List<String> m_scripts;
 
+    private boolean m_incrementalExecution;
+
     /** Create a new ExpressionNodeSettings object with the default script. */
     ExpressionRowMapperSettings() {
         this(DEFAULT_SCRIPT, DEFAULT_OUTPUT_MODE, DEFAULT_CREATED_COLUMN, DEFAULT_REPLACEMENT_COLUMN);
@@ -164,6 +170,7 @@ class ExpressionRowMapperSettings extends ScriptingNodeSettings implements Gener
         this.m_outputModes = new ArrayList<>(Arrays.asList(outputMode));
         this.m_createdColumns = new ArrayList<>(Arrays.asList(createdColumn));
         this.m_replacedColumns = new ArrayList<>(Arrays.asList(replacedColumn));
+        this.m_incrementalExecution = false;
     }
 
     @Override
@@ -193,6 +200,9 @@ class ExpressionRowMapperSettings extends ScriptingNodeSettings implements Gener
                 m_replacedColumns.add(additionalExpressionConfig.getString(CFG_KEY_REPLACED_COLUMN));
             }
         }
+
+        // NB: Added in 5.12 - older nodes always evaluate all rows
+        m_incrementalExecution = settings.getBoolean(CFG_KEY_INCREMENTAL_EXECUTION, false);
     }
 
     /**
@@ -237,6 +247,13 @@ class ExpressionRowMapperSettings extends ScriptingNodeSettings implements Gener
             .toList();
     }
 
+    /**
+     * @return if only the rows that were appended to the input table since the last execution should be evaluated
+     */
+    boolean isIncrementalExecution() {
+        return m_incrementalExecution;
+    }
+
     /**
      * @return the number of scripts
      */
@@ -251,6 +268,8 @@ class ExpressionRowMapperSettings extends ScriptingNodeSettings implements Gener
         settings.addString(CFG_KEY_CREATED_COLUMN, m_createdColumns.get(0));
         settings.addString(CFG_KEY_REPLACED_COLUMN, m_replacedColumns.get(0));
 
+        settings.addBoolean(CFG_KEY_INCREMENTAL_EXECUTION, m_incrementalExecution);
+
         m_versionSettings.saveSettingsTo(settings);
 
         var additionalExprsConfigs = settings.addConfig(CFG_KEY_ADDITIONAL_EXPRESSIONS);
@@ -281,6 +300,7 @@ class ExpressionRowMapperSettings extends ScriptingNodeSettings implements Gener
             JSON_KEY_OUTPUT_MODES, m_outputModes, //
             JSON_KEY_CREATED_COLUMNS, m_createdColumns, //
             JSON_KEY_REPLACED_COLUMNS, m_replacedColumns, //
+            JSON_KEY_INCREMENTAL_EXECUTION, m_incrementalExecution, //
             JSON_KEY_ARE_SETTINGS_OVERRIDDEN_BY_FLOW_VARIABLES, configOverWrittenByFlowVars //
         ));
 
@@ -298,6 +318,9 @@ class ExpressionRowMapperSettings extends ScriptingNodeSettings implements Gener
             .collect(Collectors.toList());
         m_createdColumns = (List<String>)data.get(JSON_KEY_CREATED_COLUMNS);
         m_replacedColumns = (List<String>)data.get(JSON_KEY_REPLACED_COLUMNS);
+        if (data.get(JSON_KEY_INCREMENTAL_EXECUTION) instanceof Boolean incrementalExecution) {
+            m_incrementalExecution = incrementalExecution;
+        }
 
         m_versionSettings.writeMapToNodeSettings(data);
 
@@ -0,0 +1,636 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.expressions.node.row.mapper;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.knime.base.expressions.ExpressionRunnerUtils;
+import org.knime.base.expressions.ExpressionRunnerUtils.NewColumnPosition;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataCellDataOutput;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataTypeRegistry;
+import org.knime.core.data.container.ColumnRearranger;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.DataContainer;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.expressions.Ast;
+import org.knime.core.expressions.Ast.ColumnAccess;
+import org.knime.core.expressions.Ast.ColumnId.ColumnIdType;
+import org.knime.core.expressions.Ast.FunctionCall;
+import org.knime.core.expressions.ExpressionCache;
+import org.knime.core.expressions.ExpressionCompileException;
+import org.knime.core.expressions.Expressions;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.workflow.FlowVariable;
+
+/**
+ * The state of the incremental execution of the Expression node. Remembers a fingerprint of the expressions, a digest
+ * of the input rows, and the result columns of the last execution. If the input table of the next execution only has
+ * additional rows at the end, only these rows have to be evaluated.
+ * <P>
+ * The digest is a SHA-256 hash of the serialized RowIDs and of the serialized cells of the key columns - the input
+ * columns that the expressions read. Changes in other columns do not invalidate the state because the output takes
+ * these columns from the current input table.
+ * <P>
+ * The tables of a node are cleared when the node is reset, which happens before every execution. Therefore, the result
+ * columns are kept in containers that do not belong to the node. Each incremental execution only writes the result of
+ * the appended rows to a new chunk. The chunks are merged into one once there are more than
+ * {@value #MAX_NUM_RESULT_CHUNKS}.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+final class IncrementalExecutionState {
+
+    private static final String STATE_FILE_NAME = "incremental_state.xml";
+
+    private static final String RESULT_FILE_NAME_PREFIX = "incremental_result_";
+
+    private static final String RESULT_FILE_NAME_SUFFIX = ".zip";
+
+    private static final String CFG_KEY_FINGERPRINT = "fingerprint";
+
+    private static final String CFG_KEY_NUM_INPUT_ROWS = "numInputRows";
+
+    private static final String CFG_KEY_INPUT_DIGEST = "inputDigest";
+
+    private static final String CFG_KEY_KEY_COLUMNS = "keyColumns";
+
+    private static final String CFG_KEY_OUTPUT_COLUMNS = "outputColumns";
+
+    private static final String CFG_KEY_NUM_RESULT_CHUNKS = "numResultChunks";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final int MAX_NUM_RESULT_CHUNKS = 16;
+
+    /** Functions that return a different value on each execution */
+    private static final Set<String> EXECUTION_DEPENDENT_FUNCTIONS = Set.of("now", "today");
+
+    private final String m_fingerprint;
+
+    private final long m_numInputRows;
+
+    private final byte[] m_inputDigest;
+
+    /** The indices of the input columns that are part of the digest */
+    private final int[] m_keyColumns;
+
+    /** The names of the columns of the output table, in order */
+    private final String[] m_outputColumns;
+
+    /** The RowIDs and the result columns of the last execution in row order, owned by this state */
+    private final List<ContainerTable> m_resultChunks;
+
+    private IncrementalExecutionState(final String fingerprint, final long numInputRows, final byte[] inputDigest,
+        final int[] keyColumns, final String[] outputColumns, final List<ContainerTable> resultChunks) {
+        m_fingerprint = fingerprint;
+        m_numInputRows = numInputRows;
+        m_inputDigest = inputDigest;
+        m_keyColumns = keyColumns;
+        m_outputColumns = outputColumns;
+        m_resultChunks = resultChunks;
+    }
+
+    /**
+     * Create the state after an execution that evaluated all rows. The result columns of the output table are copied.
+     *
+     * @param fingerprint the fingerprint of the execution, see {@link #createFingerprint}
+     * @param keyColumns the indices of the input columns that the expressions read, see {@link #findKeyColumns}
+     * @param resultColumns the names of the output columns that the expressions computed
+     * @param inputTable the input table of the execution
+     * @param outputTable the output table of the execution
+     * @param exec for progress and cancellation
+     * @return the state
+     * @throws IOException if a cell cannot be serialized for the digest
+     * @throws CanceledExecutionException if the execution is canceled
+     */
+    static IncrementalExecutionState create(final String fingerprint, final int[] keyColumns,
+        final Set<String> resultColumns, final BufferedDataTable inputTable, final BufferedDataTable outputTable,
+        final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+        var inputDigest = digestRows(inputTable, keyColumns, -1, null, exec.createSubProgress(0.5)).orElseThrow();
+        var outputSpec = outputTable.getDataTableSpec();
+        var resultColumnIndices = IntStream.range(0, outputSpec.getNumColumns()) //
+            .filter(i -> resultColumns.contains(outputSpec.getColumnSpec(i).getName())) //
+            .toArray();
+        var resultChunk = writeResultChunk(List.of(outputTable), resultColumnIndices, outputTable.size(),
+            exec.createSubProgress(0.5));
+        return new IncrementalExecutionState(fingerprint, inputTable.size(), inputDigest, keyColumns,
+            outputSpec.getColumnNames(), List.of(resultChunk));
+    }
+
+    /**
+     * Create the state after an execution that only evaluated the appended rows. The new state takes over the result
+     * chunks of this state, which must not be used or deleted afterwards. Only the result of the appended rows is
+     * written.
+     *
+     * @param inputTable the input table of the execution
+     * @param inputDigest the digest of all rows of the input table, see {@link #digestIfAppended}
+     * @param appendedOutputTable the output table of the appended rows
+     * @param exec for progress and cancellation
+     * @return the new state
+     * @throws CanceledExecutionException if the execution is canceled
+     */
+    IncrementalExecutionState withAppendedOutput(final BufferedDataTable inputTable, final byte[] inputDigest,
+        final BufferedDataTable appendedOutputTable, final ExecutionMonitor exec) throws CanceledExecutionException {
+        var resultColumnNames = m_resultChunks.get(0).getDataTableSpec().getColumnNames();
+        var appendedResultColumns = appendedOutputTable.getDataTableSpec().columnsToIndices(resultColumnNames);
+
+        var resultChunks = new ArrayList<ContainerTable>();
+        if (m_resultChunks.size() >= MAX_NUM_RESULT_CHUNKS) {
+            // Merge the chunks to keep the number of files small
+            var tables = new ArrayList<DataTable>(m_resultChunks);
+            tables.add(appendedOutputTable);
+            var resultColumns = new int[tables.size()][];
+            Arrays.fill(resultColumns, IntStream.range(0, resultColumnNames.length).toArray());
+            resultColumns[tables.size() - 1] = appendedResultColumns;
+            resultChunks.add(writeResultChunk(tables, resultColumns, inputTable.size(), exec));
+            delete();
+        } else {
+            resultChunks.addAll(m_resultChunks);
+            resultChunks.add(writeResultChunk(List.of(appendedOutputTable), appendedResultColumns,
+                appendedOutputTable.size(), exec));
+        }
+        return new IncrementalExecutionState(m_fingerprint, inputTable.size(), inputDigest, m_keyColumns,
+            m_outputColumns, resultChunks);
+    }
+
+    private static ContainerTable writeResultChunk(final List<? extends DataTable> tables,
+        final int[] resultColumns, final long numRows, final ExecutionMonitor exec) throws CanceledExecutionException {
+        var columns = new int[tables.size()][];
+        Arrays.fill(columns, resultColumns);
+        return writeResultChunk(tables, columns, numRows, exec);
+    }
+
+    /** Copy the RowIDs and the given columns of the tables, one after the other, to a container of the state */
+    private static ContainerTable writeResultChunk(final List<? extends DataTable> tables,
+        final int[][] resultColumns, final long numRows, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        var resultSpec = new DataTableSpec(Arrays.stream(resultColumns[0]) //
+            .mapToObj(tables.get(0).getDataTableSpec()::getColumnSpec) //
+            .toArray(DataColumnSpec[]::new));
+        // NB: The container does not belong to the node and is not cleared when the node is reset
+        var container = new DataContainer(resultSpec);
+        try {
+            long rowIndex = 0;
+            for (int t = 0; t < tables.size(); t++) {
+                var columns = resultColumns[t];
+                for (var row : tables.get(t)) {
+                    var cells = new DataCell[columns.length];
+                    Arrays.setAll(cells, i -> row.getCell(columns[i]));
+                    container.addRowToTable(new DefaultRow(row.getKey(), cells));
+                    rowIndex++;
+                    exec.checkCanceled();
+                    exec.setProgress(rowIndex / (double)numRows);
+                }
+            }
+        } catch (CanceledExecutionException e) {
+            container.close();
+            container.getTable().clear();
+            throw e;
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    /**
+     * Create a fingerprint of everything that influences the output of an execution except for the rows of the input
+     * table.
+     *
+     * @param scripts the expressions
+     * @param newColumnPositions the positions of the output columns
+     * @param inputTable the input table
+     * @param availableFlowVariables the available flow variables
+     * @return the fingerprint
+     */
+    static String createFingerprint(final List<String> scripts, final List<NewColumnPosition> newColumnPositions,
+        final BufferedDataTable inputTable, final Map<String, FlowVariable> availableFlowVariables) {
+        var fingerprint = new StringBuilder();
+        for (int i = 0; i < scripts.size(); i++) {
+            fingerprint.append(scripts.get(i)).append('\0') //
+                .append(newColumnPositions.get(i)).append('\0');
+        }
+        // NB: The domain is not part of the fingerprint because it changes when rows are appended
+        for (var columnSpec : inputTable.getDataTableSpec()) {
+            fingerprint.append(columnSpec.getName()).append('\0') //
+                .append(columnSpec.getType()).append('\0');
+        }
+        for (var script : scripts) {
+            try {
+                var ast = ExpressionCache.getInstance().parse(script);
+                for (var flowVarAccess : ExpressionRunnerUtils.collectFlowVariableAccesses(ast)) {
+                    var flowVariable = availableFlowVariables.get(flowVarAccess.name());
+                    fingerprint.append(flowVarAccess.name()).append('\0') //
+                        .append(flowVariable == null ? null : flowVariable.getValueAsString()).append('\0');
+                }
+            } catch (ExpressionCompileException e) { // NOSONAR - the error is reported when the expression is applied
+                fingerprint.append(e.getMessage()).append('\0');
+            }
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * Check if the result of the given expressions for a row only depends on the row itself and not on other rows,
+     * the position of the row, or the time of the execution. Only then previously evaluated rows can be reused.
+     *
+     * @param scripts the expressions
+     * @return if the output of previous executions can be reused
+     */
+    static boolean supportsIncrementalExecution(final List<String> scripts) {
+        for (var script : scripts) {
+            try {
+                var ast = ExpressionCache.getInstance().parse(script);
+                if (!Expressions.isRowLocal(ast) || Expressions.requiresRowIndexColumn(ast)
+                    || usesExecutionDependentFunction(ast)) {
+                    return false;
+                }
+            } catch (ExpressionCompileException e) { // NOSONAR - the error is reported when the expression is applied
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean usesExecutionDependentFunction(final Ast expression) {
+        if (expression instanceof FunctionCall call
+            && EXECUTION_DEPENDENT_FUNCTIONS.contains(call.function().name())) {
+            return true;
+        }
+        return expression.children().stream().anyMatch(IncrementalExecutionState::usesExecutionDependentFunction);
+    }
+
+    /**
+     * Find the key columns of the expressions: the columns of the input table that the expressions read. Only the
+     * RowIDs and these columns have to be unchanged to reuse the results of the previous execution.
+     *
+     * @param scripts the expressions, must {@link #supportsIncrementalExecution support incremental execution}
+     * @param inputSpec the spec of the input table
+     * @return the indices of the key columns in the input table, in ascending order
+     */
+    static int[] findKeyColumns(final List<String> scripts, final DataTableSpec inputSpec) {
+        var columnNames = new LinkedHashSet<String>();
+        for (var script : scripts) {
+            try {
+                ExpressionRunnerUtils.collectColumnAccesses(ExpressionCache.getInstance().parse(script)).stream() //
+                    .map(ColumnAccess::columnId) //
+                    .filter(columnId -> columnId.type() == ColumnIdType.NAMED) //
+                    .forEach(columnId -> columnNames.add(columnId.name()));
+            } catch (ExpressionCompileException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+        return columnNames.stream() //
+            .mapToInt(inputSpec::findColumnIndex) //
+            .filter(i -> i >= 0) //
+            .sorted() //
+            .toArray();
+    }
+
+    /**
+     * Compute the digest of the given table if the table starts with the rows of the previous execution.
+     *
+     * @param table the new input table
+     * @param exec for progress and cancellation
+     * @return the digest of all rows or an empty optional if the table does not start with the previous rows
+     * @throws IOException if a cell cannot be serialized for the digest
+     * @throws CanceledExecutionException if the execution is canceled
+     */
+    Optional<byte[]> digestIfAppended(final BufferedDataTable table, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        if (table.size() < m_numInputRows) {
+            return Optional.empty();
+        }
+        return digestRows(table, m_keyColumns, m_numInputRows, m_inputDigest, exec);
+    }
+
+    /**
+     * Compute the digest of the RowIDs and the key columns of all rows. Only the key columns are read from the table.
+     * Returns an empty optional as soon as the digest of the first {@code numExpectedRows} rows does not match the
+     * expected digest.
+     */
+    private static Optional<byte[]> digestRows(final BufferedDataTable table, final int[] keyColumns,
+        final long numExpectedRows, final byte[] expectedDigest, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        var numRows = table.size();
+        var digest = createDigest();
+        try (var output = new DigestOutput(digest);
+                var iterator = table.filter(TableFilter.materializeCols(keyColumns), exec).iterator()) {
+            long rowIndex = 0;
+            while (true) {
+                if (rowIndex == numExpectedRows && !MessageDigest.isEqual(currentDigest(digest), expectedDigest)) {
+                    return Optional.empty();
+                }
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                output.writeRow(iterator.next(), keyColumns);
+                rowIndex++;
+                exec.checkCanceled();
+                exec.setProgress(rowIndex / (double)numRows);
+            }
+        }
+        return Optional.of(digest.digest());
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform must support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** @return the digest of the data so far without finishing the given digest */
+    private static byte[] currentDigest(final MessageDigest digest) {
+        try {
+            return ((MessageDigest)digest.clone()).digest();
+        } catch (CloneNotSupportedException e) {
+            // The SHA-256 implementation of the JDK can be cloned
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes the serialized RowIDs and cells to a {@link MessageDigest}. Each value is preceded by its length or type
+     * such that different sequences of values never produce the same bytes.
+     */
+    private static final class DigestOutput extends DataOutputStream implements DataCellDataOutput {
+
+        DigestOutput(final MessageDigest digest) {
+            super(new DigestOutputStream(OutputStream.nullOutputStream(), digest));
+        }
+
+        void writeRow(final DataRow row, final int[] keyColumns) throws IOException {
+            writeString(row.getKey().getString());
+            for (var columnIndex : keyColumns) {
+                writeDataCell(row.getCell(columnIndex));
+            }
+        }
+
+        private void writeString(final String value) throws IOException {
+            var bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(bytes.length);
+            write(bytes);
+        }
+
+        @Override
+        public void writeDataCell(final DataCell cell) throws IOException {
+            if (cell.isMissing()) {
+                writeBoolean(false);
+                return;
+            }
+            writeBoolean(true);
+            writeString(cell.getClass().getName());
+            @SuppressWarnings("unchecked")
+            var cellClass = (Class<DataCell>)cell.getClass();
+            var serializer = DataTypeRegistry.getInstance().getSerializer(cellClass);
+            if (serializer.isPresent()) {
+                serializer.get().serialize(cell, this);
+            } else {
+                // Cells without a serializer are serialized with Java serialization when a table is written
+                @SuppressWarnings("resource") // closing the stream would close this output
+                var objectOutput = new ObjectOutputStream(this);
+                objectOutput.writeObject(cell);
+                objectOutput.flush();
+            }
+        }
+    }
+
+    /**
+     * @param fingerprint the fingerprint of the current execution
+     * @return if the fingerprint matches the fingerprint of the previous execution
+     */
+    boolean hasFingerprint(final String fingerprint) {
+        return m_fingerprint.equals(fingerprint);
+    }
+
+    /**
+     * Copy the rows that were appended to the input since the previous execution to a new table.
+     *
+     * @param table the new input table, must start with the rows of the previous execution
+     * @param exec for creating the table, progress, and cancellation
+     * @return the appended rows
+     * @throws CanceledExecutionException if the execution is canceled
+     */
+    BufferedDataTable getAppendedRows(final BufferedDataTable table, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        var numAppendedRows = table.size() - m_numInputRows;
+        var container = exec.createDataContainer(table.getDataTableSpec());
+        if (numAppendedRows > 0) {
+            var appendedRowsFilter = TableFilter.filterRangeOfRows(m_numInputRows, table.size() - 1);
+            try (var iterator = table.filter(appendedRowsFilter, exec).iterator()) {
+                long rowIndex = 0;
+                while (iterator.hasNext()) {
+                    container.addRowToTable(iterator.next());
+                    rowIndex++;
+                    exec.checkCanceled();
+                    exec.setProgress(rowIndex / (double)numAppendedRows);
+                }
+            }
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    /**
+     * Create the output table for the given input table, which must have the rows of this state. The result columns
+     * of the state are copied to a table of the node. All other columns are taken from the input table without
+     * copying them.
+     *
+     * @param inputTable the input table of the current execution
+     * @param exec for creating the table, progress, and cancellation
+     * @return the output table
+     * @throws CanceledExecutionException if the execution is canceled
+     */
+    BufferedDataTable createOutput(final BufferedDataTable inputTable, final ExecutionContext exec)
+        throws CanceledExecutionException {
+        var resultSpec = m_resultChunks.get(0).getDataTableSpec();
+        var resultContainer = exec.createDataContainer(resultSpec);
+        long rowIndex = 0;
+        for (var chunk : m_resultChunks) {
+            for (var row : chunk) {
+                resultContainer.addRowToTable(row);
+                rowIndex++;
+                exec.checkCanceled();
+                exec.setProgress(rowIndex / (double)m_numInputRows);
+            }
+        }
+        resultContainer.close();
+
+        var noProgress = exec.createSilentSubProgress(0);
+        var inputSpec = inputTable.getDataTableSpec();
+        var removeReplaced = new ColumnRearranger(inputSpec);
+        removeReplaced.remove(Arrays.stream(resultSpec.getColumnNames()) //
+            .filter(inputSpec::containsName) //
+            .toArray(String[]::new));
+        var joinedTable = exec.createJoinedTable(
+            exec.createColumnRearrangeTable(inputTable, removeReplaced, noProgress), resultContainer.getTable(),
+            noProgress);
+        var moveToOutputPositions = new ColumnRearranger(joinedTable.getDataTableSpec());
+        moveToOutputPositions.permute(m_outputColumns);
+        return exec.createColumnRearrangeTable(joinedTable, moveToOutputPositions, noProgress);
+    }
+
+    /** Delete the result chunks of this state. The state must not be used afterwards. */
+    void delete() {
+        m_resultChunks.forEach(ContainerTable::clear);
+    }
+
+    /**
+     * Save the state to the internals directory of the node.
+     *
+     * @param nodeInternDir the internals directory
+     * @param exec for progress and cancellation
+     * @throws IOException if the state cannot be written
+     * @throws CanceledExecutionException if saving is canceled
+     */
+    void save(final File nodeInternDir, final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+        var settings = new NodeSettings("incremental_state");
+        settings.addString(CFG_KEY_FINGERPRINT, m_fingerprint);
+        settings.addLong(CFG_KEY_NUM_INPUT_ROWS, m_numInputRows);
+        settings.addByteArray(CFG_KEY_INPUT_DIGEST, m_inputDigest);
+        settings.addIntArray(CFG_KEY_KEY_COLUMNS, m_keyColumns);
+        settings.addStringArray(CFG_KEY_OUTPUT_COLUMNS, m_outputColumns);
+        settings.addInt(CFG_KEY_NUM_RESULT_CHUNKS, m_resultChunks.size());
+        try (var out = new FileOutputStream(new File(nodeInternDir, STATE_FILE_NAME))) {
+            settings.saveToXML(out);
+        }
+        for (int i = 0; i < m_resultChunks.size(); i++) {
+            DataContainer.writeToZip(m_resultChunks.get(i), getSavedResultChunk(nodeInternDir, i),
+                exec.createSubProgress(1.0 / m_resultChunks.size()));
+        }
+    }
+
+    private static File getSavedResultChunk(final File nodeInternDir, final int index) {
+        return new File(nodeInternDir, RESULT_FILE_NAME_PREFIX + index + RESULT_FILE_NAME_SUFFIX);
+    }
+
+    /**
+     * Load a state from the internals directory of the node.
+     *
+     * @param nodeInternDir the internals directory
+     * @param exec for progress and cancellation
+     * @return the state or {@code null} if no state was saved
+     * @throws IOException if the state cannot be read
+     * @throws CanceledExecutionException if loading is canceled
+     */
+    static IncrementalExecutionState load(final File nodeInternDir, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        var stateFile = new File(nodeInternDir, STATE_FILE_NAME);
+        if (!stateFile.isFile()) {
+            return null;
+        }
+
+        NodeSettingsRO settings;
+        try (var in = new FileInputStream(stateFile)) {
+            settings = NodeSettings.loadFromXML(in);
+        }
+
+        var resultChunks = new ArrayList<ContainerTable>();
+        try {
+            var numResultChunks = settings.getInt(CFG_KEY_NUM_RESULT_CHUNKS);
+            for (int i = 0; i < numResultChunks; i++) {
+                // NB: Copy the result because the internals directory is cleared when the node is reset
+                var savedChunk = DataContainer.readFromZip(getSavedResultChunk(nodeInternDir, i));
+                try {
+                    var chunkProgress = exec.createSubProgress(1.0 / numResultChunks);
+                    resultChunks.add(writeResultChunk(List.of(savedChunk),
+                        IntStream.range(0, savedChunk.getDataTableSpec().getNumColumns()).toArray(),
+                        savedChunk.size(), chunkProgress));
+                } finally {
+                    savedChunk.clear();
+                }
+            }
+            return new IncrementalExecutionState( //
+                settings.getString(CFG_KEY_FINGERPRINT), //
+                settings.getLong(CFG_KEY_NUM_INPUT_ROWS), //
+                settings.getByteArray(CFG_KEY_INPUT_DIGEST), //
+                settings.getIntArray(CFG_KEY_KEY_COLUMNS), //
+                settings.getStringArray(CFG_KEY_OUTPUT_COLUMNS), //
+                resultChunks //
+            );
+        } catch (InvalidSettingsException | IOException e) {
+            resultChunks.forEach(ContainerTable::clear);
+            throw new IOException("The saved state of the incremental execution is invalid", e);
+        } catch (CanceledExecutionException e) {
+            resultChunks.forEach(ContainerTable::clear);
+            throw e;
+        }
+    }
+}
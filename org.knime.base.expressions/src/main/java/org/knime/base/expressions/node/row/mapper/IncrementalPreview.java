@@ -0,0 +1,187 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.base.expressions.node.row.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.knime.base.expressions.ExpressionRunnerUtils.NewColumnPosition;
+import org.knime.base.expressions.node.ExpressionDiagnostic;
+import org.knime.base.expressions.node.ExpressionPreviewExecutor;
+import org.knime.base.expressions.node.WithIndexExpressionException;
+import org.knime.core.data.columnar.table.VirtualTableIncompatibleException;
+import org.knime.core.expressions.ExpressionCompileException;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.workflow.FlowVariable;
+
+/**
+ * Remembers the output tables and the warnings of the last preview of the Expression node dialog. The next preview
+ * reuses the output tables of the leading expressions that did not change and only evaluates the expressions after
+ * them. Nothing is reused if the input table of the preview changed.
+ * <P>
+ * Not thread-safe. The previews are evaluated and published on the thread of the {@link ExpressionPreviewExecutor}.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+@SuppressWarnings("restriction") // the columnar table API is not public yet
+final class IncrementalPreview {
+
+    /**
+     * The result of a preview evaluation.
+     *
+     * @param inputTable the input table of the preview
+     * @param expressionKeys the expressions and their output columns
+     * @param outputTables the output tables, one for each expression
+     * @param warnings the warnings, one for each expression
+     * @param numReusedTables the number of leading output tables that were reused from the last preview
+     */
+    record Result(BufferedDataTable inputTable, List<String> expressionKeys, List<BufferedDataTable> outputTables,
+        ExpressionDiagnostic[] warnings, int numReusedTables) {
+    }
+
+    private BufferedDataTable m_inputTable;
+
+    private List<String> m_expressionKeys = List.of();
+
+    private List<BufferedDataTable> m_outputTables = List.of();
+
+    private ExpressionDiagnostic[] m_warnings = new ExpressionDiagnostic[0];
+
+    /**
+     * Evaluate the expressions on the input table of the preview. Reuses the output tables and the warnings of the
+     * leading expressions that did not change since the {@link #remember remembered} preview.
+     *
+     * @param expressions the expressions
+     * @param newColumnPositions the positions of the new columns of the expressions
+     * @param inputTable the input table of the preview
+     * @param availableFlowVariables the available flow variables
+     * @param exec the execution context
+     * @param warnings receives the warning of each expression, must have one entry per expression
+     * @return the result, which must be {@link #remember remembered} or {@link #clearNewTables cleared}
+     * @throws ExpressionCompileException if an expression cannot be compiled
+     * @throws CanceledExecutionException if the evaluation is canceled
+     * @throws VirtualTableIncompatibleException if the input table cannot be used as a virtual table
+     * @throws WithIndexExpressionException if an expression cannot be evaluated
+     */
+    Result evaluate(final List<String> expressions, final List<NewColumnPosition> newColumnPositions,
+        final BufferedDataTable inputTable, final Map<String, FlowVariable> availableFlowVariables,
+        final ExecutionContext exec, final ExpressionDiagnostic[] warnings) throws ExpressionCompileException,
+        CanceledExecutionException, VirtualTableIncompatibleException, WithIndexExpressionException {
+        // NB: Leading and trailing whitespace does not change the result
+        var expressionKeys = IntStream.range(0, expressions.size()) //
+            .mapToObj(i -> expressions.get(i).strip() + '\0' + newColumnPositions.get(i)) //
+            .toList();
+        var numReusedTables = inputTable == m_inputTable //
+            ? countCommonPrefix(expressionKeys, m_expressionKeys) //
+            : 0;
+        var outputTables = new ArrayList<>(m_outputTables.subList(0, numReusedTables));
+        System.arraycopy(m_warnings, 0, warnings, 0, numReusedTables);
+
+        outputTables.addAll(ExpressionRowMapperNodeModel.applyMapperExpressions( //
+            expressions, //
+            newColumnPositions, //
+            numReusedTables, //
+            numReusedTables == 0 ? inputTable : outputTables.get(numReusedTables - 1), //
+            availableFlowVariables, //
+            exec, //
+            ExpressionDiagnostic.getWarningMessageHandler(warnings) //
+        ));
+        return new Result(inputTable, expressionKeys, outputTables, warnings, numReusedTables);
+    }
+
+    /**
+     * Remember the result of a preview that is shown such that the next preview can reuse it.
+     *
+     * @param result the result of {@link #evaluate}
+     */
+    void remember(final Result result) {
+        m_inputTable = result.inputTable();
+        m_expressionKeys = result.expressionKeys();
+        m_outputTables = result.outputTables();
+        m_warnings = result.warnings().clone();
+    }
+
+    /**
+     * Clear the output tables that were created for a result that is never shown. Tables that are shared with the
+     * remembered preview or the input table are kept.
+     *
+     * @param result the result of {@link #evaluate}
+     * @param exec the execution context that created the tables
+     */
+    void clearNewTables(final Result result, final ExecutionContext exec) {
+        // NB: Identity expressions output the input table or the output table of a reused expression
+        var outputTables = result.outputTables();
+        outputTables.subList(result.numReusedTables(), outputTables.size()).stream() //
+            .filter(t -> t != result.inputTable()) //
+            .filter(t -> m_outputTables.stream().noneMatch(remembered -> remembered == t)) //
+            .distinct() //
+            .forEach(exec::clearTable);
+    }
+
+    /** Forget the remembered preview. Its tables are cleared by the owner of the preview tables. */
+    void reset() {
+        m_inputTable = null;
+        m_expressionKeys = List.of();
+        m_outputTables = List.of();
+        m_warnings = new ExpressionDiagnostic[0];
+    }
+
+    private static int countCommonPrefix(final List<String> keys, final List<String> previousKeys) {
+        var numCommon = 0;
+        while (numCommon < keys.size() && numCommon < previousKeys.size()
+            && keys.get(numCommon).equals(previousKeys.get(numCommon))) {
+            numCommon++;
+        }
+        return numCommon;
+    }
+}
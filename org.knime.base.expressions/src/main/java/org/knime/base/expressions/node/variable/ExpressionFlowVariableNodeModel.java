@@ -71,6 +71,7 @@ import org.knime.core.expressions.Computer.FloatComputer;
 import org.knime.core.expressions.Computer.IntegerComputer;
 import org.knime.core.expressions.Computer.StringComputer;
 import org.knime.core.expressions.EvaluationContext;
+import org.knime.core.expressions.ExpressionCache;
 import org.knime.core.expressions.ExpressionCompileException;
 import org.knime.core.expressions.ExpressionEvaluationException;
 import org.knime.core.expressions.Expressions;
@@ -146,13 +147,13 @@ final class ExpressionFlowVariableNodeModel extends NodeModel {
                 availableFlowVariables.containsKey(name));
 
             try {
-                var ast = Expressions.parse(expression);
-                var inferredType = Expressions.inferTypes(ast, //
+                var ast = ExpressionCache.getInstance().parseAndInferTypes(expression, //
                     ExpressionFlowVariableNodeModel::columnTypeResolver, //
                     ExpressionRunnerUtils.flowVarToTypeForTypeInference(availableFlowVariables) //
                 );
+                var inferredType = Expressions.getInferredType(ast);
 
-                var columnAccesses = ExpressionRunnerUtils.collectColumnAccesses(ast);
+                var columnAccesses = ExpressionRunnerUtils.collectColumnAccesses(ast.ast());
                 if (!columnAccesses.isEmpty()) {
                     // Note that other column accesses cause errors during type inference
                     throw new InvalidSettingsException("Expression " + (i + 1)
@@ -276,9 +277,8 @@ final class ExpressionFlowVariableNodeModel extends NodeModel {
             var name = names.get(i);
 
             // Prepare - parse and infer types
-            var ast = Expressions.parse(expression);
-            Expressions.inferTypes(ast, //
-                ExpressionFlowVariableNodeModel::columnTypeResolver,
+            var ast = ExpressionCache.getInstance().parseAndInferTypes(expression, //
+                ExpressionFlowVariableNodeModel::columnTypeResolver, //
                 ExpressionRunnerUtils.flowVarToTypeForTypeInference(availableFlowVariables) //
             );
 
@@ -62,13 +62,18 @@ import org.knime.base.expressions.node.ExpressionCodeAssistant.ExpressionType;
 import org.knime.base.expressions.node.ExpressionDiagnostic;
 import org.knime.base.expressions.node.ExpressionDiagnostic.DiagnosticSeverity;
 import org.knime.base.expressions.node.ExpressionDiagnosticResult;
+import org.knime.base.expressions.node.ExpressionPreviewExecutor;
+import org.knime.base.expressions.node.ExpressionPreviewExecutor.PreviewPublisher;
 import org.knime.base.expressions.node.WithIndexExpressionException;
 import org.knime.base.expressions.node.variable.ExpressionFlowVariableSettings.FlowVariableTypeNames;
 import org.knime.core.expressions.Ast;
+import org.knime.core.expressions.ExpressionCache;
 import org.knime.core.expressions.ExpressionCompileException;
 import org.knime.core.expressions.Expressions;
 import org.knime.core.expressions.ReturnResult;
 import org.knime.core.expressions.ValueType;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.workflow.FlowVariable;
 import org.knime.core.node.workflow.VariableType;
 import org.knime.core.webui.node.dialog.scripting.CodeGenerationRequest;
@@ -86,11 +91,13 @@ final class ExpressionFlowVariableNodeScriptingService extends ScriptingService
 
     private final AtomicReference<List<FlowVariable>> m_outputFlowVariablesReference;
 
+    private ExpressionPreviewExecutor m_previewExecutor;
+
     ExpressionFlowVariableNodeScriptingService(final AtomicReference<List<FlowVariable>> outputFlowVariablesReference) {
         super(null, ExpressionRunnerUtils.SUPPORTED_FLOW_VARIABLE_TYPES_SET::contains);
 
         m_outputFlowVariablesReference = outputFlowVariablesReference;
-
+        m_previewExecutor = new ExpressionPreviewExecutor();
     }
 
     ExpressionFlowVariableNodeScriptingService(final AtomicReference<List<FlowVariable>> outputFlowVariablesReference,
@@ -108,7 +115,10 @@ final class ExpressionFlowVariableNodeScriptingService extends ScriptingService
 
     @Override
     public void onDeactivate() {
-        //  nothing to do
+        if (m_previewExecutor != null) {
+            m_previewExecutor.close();
+            m_previewExecutor = null;
+        }
     }
 
     public final class ExpressionNodeRpcService extends RpcService {
@@ -196,7 +206,7 @@ final class ExpressionFlowVariableNodeScriptingService extends ScriptingService
                 var inferredType = ValueType.MISSING;
                 VariableType<?> inferredVariableType = null;
                 try {
-                    var ast = Expressions.parse(expression);
+                    var ast = ExpressionCache.getInstance().parse(expression);
 
                     var prematureAccessDiagnostics = getPrematureAccessDiagnostics( //
                         ast, //
@@ -213,11 +223,12 @@ final class ExpressionFlowVariableNodeScriptingService extends ScriptingService
                         continue;
                     }
 
-                    inferredType = Expressions.inferTypes( //
-                        ast, //
+                    var typedAst = ExpressionCache.getInstance().parseAndInferTypes( //
+                        expression, //
                         ExpressionFlowVariableNodeModel::columnTypeResolver, //
                         fvName -> toValueType(availableFlowVariables, fvName) //
                     );
+                    inferredType = Expressions.getInferredType(typedAst);
 
                     // Note: we only collect special column accesses here, as normal column accesses would have
                     // already thrown an error while inferring the type
@@ -278,7 +289,18 @@ final class ExpressionFlowVariableNodeScriptingService extends ScriptingService
         }
 
         public void runFlowVariableExpression(final List<String> expressions, final List<String> newFlowVariableNames,
-            final List<String> outputReturnType) throws ExpressionCompileException {
+            final List<String> outputReturnType) {
+            // NB: The preview is evaluated in the background and a newer request cancels this one
+            m_previewExecutor.submit( //
+                (exec, publisher) -> evaluatePreview(expressions, newFlowVariableNames, outputReturnType, exec,
+                    publisher), //
+                message -> sendEvent("updatePreview", "Preview cannot be shown: " + message) //
+            );
+        }
+
+        private void evaluatePreview(final List<String> expressions, final List<String> newFlowVariableNames,
+            final List<String> outputReturnType, final ExecutionContext exec, final PreviewPublisher publisher)
+            throws ExpressionCompileException, CanceledExecutionException {
 
             var warnings = new ExpressionDiagnostic[expressions.size()];
 
@@ -292,17 +314,23 @@ final class ExpressionFlowVariableNodeScriptingService extends ScriptingService
                     }, // we do not show the progress
                     ExpressionDiagnostic.getWarningMessageHandler(warnings) //
                 );
-                m_outputFlowVariablesReference.set(resultVariables);
-                sendEvent("updatePreview", null);
+
+                // Do not show the results if a newer request was submitted in the meantime
+                publisher.publish(() -> {
+                    m_outputFlowVariablesReference.set(resultVariables);
+                    sendEvent("updatePreview", null);
+                    sendEvent("updateWarnings", warnings);
+                });
 
             } catch (WithIndexExpressionException e) { // NOSONAR - we send the message to the frontend
                 warnings[e.getExpressionIndex()] =
                     ExpressionDiagnostic.withSameMessage(e.getUIMessage(), DiagnosticSeverity.ERROR, null);
-                sendEvent("updatePreview", "Preview cannot be shown, because Expression " + (e.getExpressionIndex() + 1)
-                    + " could not be evaluated.");
+                publisher.publish(() -> {
+                    sendEvent("updatePreview", "Preview cannot be shown, because Expression "
+                        + (e.getExpressionIndex() + 1) + " could not be evaluated.");
+                    sendEvent("updateWarnings", warnings);
+                });
             }
-
-            sendEvent("updateWarnings", warnings);
         }
 
         /**
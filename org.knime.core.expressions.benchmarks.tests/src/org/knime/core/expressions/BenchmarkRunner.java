@@ -49,6 +49,7 @@
 package org.knime.core.expressions;
 
 import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Defaults;
 import org.openjdk.jmh.runner.Runner;
@@ -79,6 +80,7 @@ class BenchmarkRunner {
                 .result("target/surefire-reports/benchmark-results.json")//
                 .resultFormat(ResultFormatType.JSON)//
                 .shouldDoGC(true)//
+                .addProfiler(GCProfiler.class) // Reports the allocated bytes per operation ("gc.alloc.rate.norm")
                 .shouldFailOnError(true)//
                 .build() //
         ).run();
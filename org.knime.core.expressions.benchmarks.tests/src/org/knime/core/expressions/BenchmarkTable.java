@@ -119,18 +119,21 @@ public final class BenchmarkTable {
     /**
      * Aggregation call to computer mapper for the example table.
      *
-     * @param aggregationCall the aggregation
-     * @return the computer
+     * @param expression the typed expression that contains the aggregation calls
+     * @return a function that returns the computer for an aggregation call
      */
-    public static Optional<Computer> aggregationToComputer(final AggregationCall aggregationCall) {
+    public static Function<AggregationCall, Optional<Computer>> aggregationToComputer(final TypedAst expression) {
         // We just return some value for now because the aggregation is done outside of the expression framework
-        if (ValueType.INTEGER.equals(Expressions.getInferredType(aggregationCall).baseType())) {
-            return Optional.of(IntegerComputer.of(ctx -> 42, ctx -> false));
-        } else if (ValueType.FLOAT.equals(Expressions.getInferredType(aggregationCall).baseType())) {
-            return Optional.of(FloatComputer.of(ctx -> 42.2, ctx -> false));
-        } else {
-            return Optional.empty();
-        }
+        return aggregationCall -> {
+            var type = expression.typeOf(aggregationCall).baseType();
+            if (ValueType.INTEGER.equals(type)) {
+                return Optional.of(IntegerComputer.of(ctx -> 42, ctx -> false));
+            } else if (ValueType.FLOAT.equals(type)) {
+                return Optional.of(FloatComputer.of(ctx -> 42.2, ctx -> false));
+            } else {
+                return Optional.empty();
+            }
+        };
     }
 
     private static Optional<Computer> columnComputer(final String columnName, final IntSupplier rowIdx) {
@@ -79,12 +79,12 @@ public class CompileBenchmark {
     @Param
     BenchmarkExpression m_expression;
 
-    private Ast m_ast;
+    private TypedAst m_ast;
 
     @Setup(Level.Iteration)
     public void setup() throws ExpressionCompileException {
-        m_ast = Expressions.parse(m_expression.getExpression());
-        Expressions.inferTypes(m_ast, BenchmarkTable::columnToType, BenchmarkFlowVariables::flowVarToType);
+        m_ast = Expressions.inferTypes(Expressions.parse(m_expression.getExpression()), //
+            BenchmarkTable::columnToType, BenchmarkFlowVariables::flowVarToType);
     }
 
     @Benchmark
@@ -92,7 +92,7 @@ public class CompileBenchmark {
         bh.consume(Expressions.evaluate(m_ast, //
             BenchmarkTable.columnToComputer(() -> 0), //
             BenchmarkFlowVariables::flowVarToComputer, //
-            BenchmarkTable::aggregationToComputer //
+            BenchmarkTable.aggregationToComputer(m_ast) //
         ));
     }
 }
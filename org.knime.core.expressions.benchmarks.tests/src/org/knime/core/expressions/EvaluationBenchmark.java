@@ -71,7 +71,7 @@ import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
 /**
- * Benchmark {@link Expressions#evaluate}.
+ * Benchmark {@link Expressions#evaluate} and {@link Expressions#evaluateWithRegisters} side by side.
  *
  * @author Benjamin Wilhelm, KNIME GmbH, Berlin, Germany
  */
@@ -83,22 +83,40 @@ import org.openjdk.jmh.infra.Blackhole;
 @SuppressWarnings("javadoc")
 public class EvaluationBenchmark {
 
+    /** The evaluation engines that can be compared */
+    public enum Engine {
+            /** {@link Expressions#evaluate} */
+            CLOSURES,
+            /** {@link Expressions#evaluateWithRegisters} */
+            REGISTERS;
+    }
+
     @Param
     BenchmarkExpression m_expression;
 
+    @Param
+    Engine m_engine;
+
     private Computer m_resultComputer;
 
     private AtomicInteger m_rowIndex = new AtomicInteger(0);
 
     @Setup(Level.Iteration)
     public void setup() throws ExpressionCompileException {
-        var ast = Expressions.parse(m_expression.getExpression());
-        Expressions.inferTypes(ast, BenchmarkTable::columnToType, BenchmarkFlowVariables::flowVarToType);
-        m_resultComputer = Expressions.evaluate(ast, //
-            BenchmarkTable.columnToComputer(m_rowIndex::get), //
-            BenchmarkFlowVariables::flowVarToComputer, //
-            BenchmarkTable::aggregationToComputer //
-        );
+        var ast = Expressions.inferTypes(Expressions.parse(m_expression.getExpression()), //
+            BenchmarkTable::columnToType, BenchmarkFlowVariables::flowVarToType);
+        m_resultComputer = switch (m_engine) {
+            case CLOSURES -> Expressions.evaluate(ast, //
+                BenchmarkTable.columnToComputer(m_rowIndex::get), //
+                BenchmarkFlowVariables::flowVarToComputer, //
+                BenchmarkTable.aggregationToComputer(ast) //
+            );
+            case REGISTERS -> Expressions.evaluateWithRegisters(ast, //
+                BenchmarkTable.columnToComputer(m_rowIndex::get), //
+                BenchmarkFlowVariables::flowVarToComputer, //
+                BenchmarkTable.aggregationToComputer(ast) //
+            );
+        };
     }
 
     @Benchmark
@@ -111,28 +129,28 @@ public class EvaluationBenchmark {
         if (m_resultComputer instanceof BooleanComputer c) {
             for (int i = 0; i < BenchmarkTable.NUM_ROWS; i++) {
                 m_rowIndex.set(i);
-                if (c.isMissing(ctx)) {
+                if (!c.isMissing(ctx)) {
                     bh.consume(c.compute(ctx));
                 }
             }
         } else if (m_resultComputer instanceof IntegerComputer c) {
             for (int i = 0; i < BenchmarkTable.NUM_ROWS; i++) {
                 m_rowIndex.set(i);
-                if (c.isMissing(ctx)) {
+                if (!c.isMissing(ctx)) {
                     bh.consume(c.compute(ctx));
                 }
             }
         } else if (m_resultComputer instanceof FloatComputer c) {
             for (int i = 0; i < BenchmarkTable.NUM_ROWS; i++) {
                 m_rowIndex.set(i);
-                if (c.isMissing(ctx)) {
+                if (!c.isMissing(ctx)) {
                     bh.consume(c.compute(ctx));
                 }
             }
         } else if (m_resultComputer instanceof StringComputer c) {
             for (int i = 0; i < BenchmarkTable.NUM_ROWS; i++) {
                 m_rowIndex.set(i);
-                if (c.isMissing(ctx)) {
+                if (!c.isMissing(ctx)) {
                     bh.consume(c.compute(ctx));
                 }
             }
@@ -50,19 +50,25 @@ package org.knime.core.expressions;
 
 import java.util.concurrent.TimeUnit;
 
+import org.knime.core.expressions.antlr.KnimeExpressionLexer;
+import org.knime.core.expressions.antlr.KnimeExpressionParser;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
 /**
- * Benchmark {@link Expressions#parse(String)}.
+ * Benchmark {@link Expressions#parse(String)}. Besides the throughput of parsing, the benchmark measures the latency of
+ * the first parse after the DFA cache of the lexer and parser was cleared. This is the latency that users see when they
+ * open a dialog with an expression editor.
  *
  * @author Benjamin Wilhelm, KNIME GmbH, Berlin, Germany
  */
@@ -81,4 +87,49 @@ public class ParserBenchmark {
     public void parse(final Blackhole bh) throws ExpressionCompileException {
         bh.consume(Expressions.parse(m_expression.getExpression()));
     }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 50)
+    public void firstParse(final ColdDfa dfa, final Blackhole bh) throws ExpressionCompileException {
+        bh.consume(Expressions.parse(m_expression.getExpression()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 50)
+    public void firstParseAfterWarmUp(final WarmedUpDfa dfa, final Blackhole bh) throws ExpressionCompileException {
+        bh.consume(Expressions.parse(m_expression.getExpression()));
+    }
+
+    /** Clears the DFA cache before each invocation as if no expression was parsed before */
+    @State(Scope.Thread)
+    public static class ColdDfa {
+
+        @Setup(Level.Invocation)
+        public void clearDfa() {
+            ParserBenchmark.clearDfa();
+        }
+    }
+
+    /** Clears the DFA cache before each invocation and fills it with the warm-up of the bundle activator */
+    @State(Scope.Thread)
+    public static class WarmedUpDfa {
+
+        @Setup(Level.Invocation)
+        public void clearAndWarmUpDfa() {
+            ParserBenchmark.clearDfa();
+            Parser.warmUp();
+        }
+    }
+
+    private static void clearDfa() {
+        // NB: The DFA cache is shared by all instances of the lexer and parser
+        new KnimeExpressionLexer(null).getInterpreter().clearDFA();
+        new KnimeExpressionParser(null).getInterpreter().clearDFA();
+    }
 }
@@ -61,6 +61,7 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
 
 /**
  * Benchmark {@link Expressions#inferTypes}.
@@ -86,7 +87,7 @@ public class TypingBenchmark {
     }
 
     @Benchmark
-    public void inferTypes() throws ExpressionCompileException {
-        Expressions.inferTypes(m_ast, BenchmarkTable::columnToType, BenchmarkFlowVariables::flowVarToType);
+    public void inferTypes(final Blackhole bh) throws ExpressionCompileException {
+        bh.consume(Expressions.inferTypes(m_ast, BenchmarkTable::columnToType, BenchmarkFlowVariables::flowVarToType));
     }
 }
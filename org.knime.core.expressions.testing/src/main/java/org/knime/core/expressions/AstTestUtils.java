@@ -63,6 +63,7 @@ import java.time.Period;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 import org.knime.core.expressions.Ast.ConstantAst;
 import org.knime.core.expressions.Computer.DateDurationComputer;
@@ -184,6 +185,53 @@ public final class AstTestUtils {
         return Ast.unaryOp(op, arg);
     }
 
+    /**
+     * @param arg
+     * @param elements
+     * @return an {@link Ast.MembershipOp} that tests if the value is one of the elements
+     */
+    public static Ast.MembershipOp IN(final Ast arg, final Ast... elements) { // NOSONAR - name useful for visual clarity
+        return Ast.membershipOp(false, arg, List.of(elements));
+    }
+
+    /**
+     * @param arg
+     * @param elements
+     * @return an {@link Ast.MembershipOp} that tests if the value is not one of the elements
+     */
+    public static Ast.MembershipOp NOT_IN(final Ast arg, final Ast... elements) { // NOSONAR - name useful for visual clarity
+        return Ast.membershipOp(true, arg, List.of(elements));
+    }
+
+    /**
+     * @param name
+     * @param value
+     * @param body
+     * @return a {@link Ast.LetBinding} that binds the value to the name in the body
+     */
+    public static Ast.LetBinding LET(final String name, final Ast value, final Ast body) { // NOSONAR - name useful for visual clarity
+        return Ast.letBinding(name, value, body);
+    }
+
+    /**
+     * @param name
+     * @param value
+     * @param body creates the body from an access to the value
+     * @return a {@link Ast.LetBinding} that binds the value to the name in the body
+     */
+    public static Ast.LetBinding LET(final String name, final Ast value, final UnaryOperator<Ast> body) { // NOSONAR - name useful for visual clarity
+        return Ast.letBinding(name, value, body.apply(VAR(name, value)));
+    }
+
+    /**
+     * @param name
+     * @param value the value of the {@link Ast.LetBinding} that binds the name
+     * @return a {@link Ast.LetVarAccess}
+     */
+    public static Ast.LetVarAccess VAR(final String name, final Ast value) { // NOSONAR - name useful for visual clarity
+        return Ast.letVarAccess(name, value);
+    }
+
     /**
      * @param name
      * @param args
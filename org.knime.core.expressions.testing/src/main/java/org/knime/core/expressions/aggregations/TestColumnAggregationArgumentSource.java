@@ -135,6 +135,24 @@ public class TestColumnAggregationArgumentSource implements ArgumentsProvider {
             return defaultArgs.apply(DOUBLE_COL_NAME);
         } else if (BuiltInAggregations.VARIANCE.equals(call)) {
             return defaultArgs.apply(DOUBLE_COL_NAME);
+        } else if (BuiltInAggregations.ROLLING_SUM.equals(call)
+            || BuiltInAggregations.ROLLING_AVERAGE.equals(call)
+            || BuiltInAggregations.ROLLING_MIN.equals(call)
+            || BuiltInAggregations.ROLLING_MAX.equals(call)) {
+            return makeArgs.apply(Ast.stringConstant(DOUBLE_COL_NAME),
+                Map.of("window", Ast.integerConstant(3), "ignore_nan", Ast.booleanConstant(false)));
+        } else if (BuiltInAggregations.ROLLING_COUNT.equals(call)) {
+            return makeArgs.apply(Ast.stringConstant(STRING_COL_NAME),
+                Map.of("window", Ast.integerConstant(3), "ignore_missing", Ast.booleanConstant(true)));
+        } else if (BuiltInAggregations.CUMULATIVE_SUM.equals(call)) {
+            return defaultArgs.apply(INT_COL_NAME);
+        } else if (BuiltInAggregations.CUMULATIVE_AVERAGE.equals(call)
+            || BuiltInAggregations.CUMULATIVE_MIN.equals(call)
+            || BuiltInAggregations.CUMULATIVE_MAX.equals(call)) {
+            return defaultArgs.apply(DOUBLE_COL_NAME);
+        } else if (BuiltInAggregations.CUMULATIVE_COUNT.equals(call)) {
+            return makeArgs.apply(Ast.stringConstant(STRING_COL_NAME),
+                Map.of("ignore_missing", Ast.booleanConstant(true)));
         }
         return fail("No test arguments for aggregation " + call.name());
     }
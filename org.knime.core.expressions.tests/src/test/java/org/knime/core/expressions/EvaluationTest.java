@@ -78,8 +78,11 @@ import static org.knime.core.expressions.AstTestUtils.F_LOCAL_DATE_TIME;
 import static org.knime.core.expressions.AstTestUtils.F_LOCAL_TIME;
 import static org.knime.core.expressions.AstTestUtils.F_TIME_DURATION;
 import static org.knime.core.expressions.AstTestUtils.F_ZONED_DATE_TIME;
+import static org.knime.core.expressions.AstTestUtils.IN;
 import static org.knime.core.expressions.AstTestUtils.INT;
+import static org.knime.core.expressions.AstTestUtils.LET;
 import static org.knime.core.expressions.AstTestUtils.MIS;
+import static org.knime.core.expressions.AstTestUtils.NOT_IN;
 import static org.knime.core.expressions.AstTestUtils.OP;
 import static org.knime.core.expressions.AstTestUtils.ROW_ID;
 import static org.knime.core.expressions.AstTestUtils.ROW_INDEX;
@@ -95,6 +98,7 @@ import java.time.LocalTime;
 import java.time.Period;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -106,6 +110,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.knime.core.expressions.Ast.ColumnAccess;
+import org.knime.core.expressions.Ast.ColumnName;
+import org.knime.core.expressions.Ast.FlowVarAccess;
 import org.knime.core.expressions.Ast.UnaryOperator;
 import org.knime.core.expressions.Computer.BooleanComputer;
 import org.knime.core.expressions.Computer.BooleanComputerResultSupplier;
@@ -116,6 +123,7 @@ import org.knime.core.expressions.Computer.IntegerComputer;
 import org.knime.core.expressions.Computer.IntegerComputerResultSupplier;
 import org.knime.core.expressions.Computer.StringComputer;
 import org.knime.core.expressions.SignatureUtils.Arg;
+import org.knime.core.expressions.functions.ControlFlowFunctions;
 import org.knime.core.expressions.functions.ExpressionFunction;
 
 /**
@@ -130,27 +138,352 @@ final class EvaluationTest {
     @ParameterizedTest
     @EnumSource(ExecutionTest.class)
     void test(final ExecutionTest params) throws Exception {
-        var ast = params.m_expression;
-        Typing.inferTypes(ast, //
-            FIND_TEST_COLUMN.andThen(c -> ReturnResult.fromOptional(c, "col missing").map(TestColumn::type)), //
-            FIND_TEST_FLOW_VARIABLE
-                .andThen(c -> ReturnResult.fromOptional(c, "var missing").map(TestFlowVariable::type)));
+        var ast = inferTestTypes(params.m_expression);
         var result = Evaluation.evaluate( //
             ast, //
-            COLUMN_ID //
-                .andThen(COLUMN_NAME) //
-                .andThen(FIND_TEST_COLUMN) //
-                .andThen(c -> c.map(TestColumn::computer)), //
-            TestUtils.FLOW_VAR_NAME.andThen(FIND_TEST_FLOW_VARIABLE).andThen(c -> c.map(TestFlowVariable::computer)), //
-            TestAggregations.TEST_AGGREGATIONS_COMPUTER);
+            TEST_COLUMN_TO_COMPUTER, //
+            TEST_FLOW_VARIABLE_TO_COMPUTER, //
+            TestAggregations.testAggregationsComputer(ast));
+        assertNotNull(result, "should output result");
+        params.m_resultChecker.accept(result);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExecutionTest.class)
+    void testRegisterEvaluation(final ExecutionTest params) throws Exception {
+        var ast = inferTestTypes(params.m_expression);
+        var result = RegisterEvaluation.evaluate( //
+            ast, //
+            TEST_COLUMN_TO_COMPUTER, //
+            TEST_FLOW_VARIABLE_TO_COMPUTER, //
+            TestAggregations.testAggregationsComputer(ast));
         assertNotNull(result, "should output result");
         params.m_resultChecker.accept(result);
     }
 
+    @Test
+    void testLogicalOperatorDeoptimizesWhenArgumentBecomesMissing() throws Exception {
+        var value = new boolean[]{true};
+        var missing = new boolean[]{false};
+        var column = BooleanComputer.of(ctx -> value[0], ctx -> missing[0]);
+        var ast = Typing.inferTypes(OP(OP(COL("BOOLEAN"), CONDITIONAL_OR, BOOL(false)), CONDITIONAL_AND, BOOL(true)), //
+            c -> ReturnResult.success(ValueType.OPT_BOOLEAN), //
+            f -> ReturnResult.failure("no flow variables") //
+        );
+        var result = (BooleanComputer)Evaluation.evaluate(ast, //
+            c -> Optional.of(column), //
+            f -> fail("should not call flow variable computer"), //
+            a -> fail("should not call aggregation computer") //
+        );
+
+        var ctx = EvaluationContext.of(TestUtils.DUMMY_EXECUTION_START_TIME, w -> fail("should not warn"));
+        Assertions.assertFalse(result.isMissing(ctx));
+        Assertions.assertTrue(result.compute(ctx));
+
+        // The speculation that the column is never missing fails
+        missing[0] = true;
+        Assertions.assertTrue(result.isMissing(ctx));
+        Assertions.assertTrue(result.isMissing(ctx));
+
+        // The deoptimized operator still handles present values
+        missing[0] = false;
+        value[0] = false;
+        Assertions.assertFalse(result.isMissing(ctx));
+        Assertions.assertFalse(result.compute(ctx));
+    }
+
+    @Test
+    void testLongLogicalChainEvaluatesEachArgumentOnce() throws Exception {
+        var computeCalls = new int[]{0};
+        var column = StringComputer.of(ctx -> {
+            computeCalls[0]++;
+            return "no match";
+        }, ctx -> false);
+
+        // $STRING == "0" or $STRING == "1" or ...
+        var numComparisons = 200;
+        Ast expression = OP(COL("STRING"), EQUAL_TO, STR("0"));
+        for (int i = 1; i < numComparisons; i++) {
+            expression = OP(expression, CONDITIONAL_OR, OP(COL("STRING"), EQUAL_TO, STR(String.valueOf(i))));
+        }
+        var ast = Typing.inferTypes(expression, //
+            c -> ReturnResult.success(ValueType.OPT_STRING), //
+            f -> ReturnResult.failure("no flow variables") //
+        );
+        var result = (BooleanComputer)Evaluation.evaluate(ast, //
+            c -> Optional.of(column), //
+            f -> fail("should not call flow variable computer"), //
+            a -> fail("should not call aggregation computer") //
+        );
+
+        var ctx = EvaluationContext.of(TestUtils.DUMMY_EXECUTION_START_TIME, w -> fail("should not warn"));
+        Assertions.assertFalse(result.isMissing(ctx));
+        assertEquals(0, computeCalls[0], "isMissing should not compute the comparisons");
+        Assertions.assertFalse(result.compute(ctx));
+        assertEquals(numComparisons, computeCalls[0], "each comparison should be computed once");
+    }
+
+    @Test
+    void testSwitchWithConstantIntegerCases() throws Exception {
+        var value = new long[]{0};
+        var column = IntegerComputer.of(ctx -> value[0], ctx -> false);
+        // switch($INTEGER, 1, "a", $$OTHER, "b", 2, "c", 1, "d", 3, "e", "default") with $$OTHER = 2
+        var ast = Typing.inferTypes( //
+            FUN(ControlFlowFunctions.SWITCH, COL("INTEGER"), INT(1), STR("a"), FLOW("OTHER"), STR("b"), INT(2),
+                STR("c"), INT(1), STR("d"), INT(3), STR("e"), STR("default")), //
+            c -> ReturnResult.success(ValueType.INTEGER), //
+            f -> ReturnResult.success(ValueType.INTEGER) //
+        );
+        var result = (StringComputer)Evaluation.evaluate(ast, //
+            c -> Optional.of(column), //
+            f -> Optional.of(IntegerComputer.of(ctx -> 2, ctx -> false)), //
+            a -> fail("should not call aggregation computer") //
+        );
+
+        var ctx = EvaluationContext.of(TestUtils.DUMMY_EXECUTION_START_TIME, w -> fail("should not warn"));
+        var expected = new String[]{"default", "a", "b", "e", "default"};
+        for (int i = 0; i < expected.length; i++) {
+            value[0] = i;
+            assertEquals(expected[i], result.compute(ctx), "unexpected case for " + i);
+        }
+    }
+
+    @Test
+    void testSwitchWithManyConstantStringCases() throws Exception {
+        var value = new String[]{""};
+        var column = StringComputer.of(ctx -> value[0], ctx -> false);
+        // switch($STRING, "0", 0, "1", 1, ..., $$OTHER, -1, ..., -2) with $$OTHER = "500"
+        var numCases = 1000;
+        var args = new ArrayList<Ast>();
+        args.add(COL("STRING"));
+        for (int i = 0; i < numCases; i++) {
+            if (i == numCases / 2) {
+                args.add(FLOW("OTHER"));
+                args.add(INT(-1));
+            }
+            args.add(STR(String.valueOf(i)));
+            args.add(INT(i));
+        }
+        args.add(INT(-2));
+        var caseComputations = new int[]{0};
+        var ast = Typing.inferTypes( //
+            FUN(ControlFlowFunctions.SWITCH, args.toArray(Ast[]::new)), //
+            c -> ReturnResult.success(ValueType.STRING), //
+            f -> ReturnResult.success(ValueType.STRING) //
+        );
+        var result = (IntegerComputer)Evaluation.evaluate(ast, //
+            c -> Optional.of(column), //
+            f -> Optional.of(StringComputer.of(ctx -> {
+                caseComputations[0]++;
+                return "500";
+            }, ctx -> false)), //
+            a -> fail("should not call aggregation computer") //
+        );
+
+        var ctx = EvaluationContext.of(TestUtils.DUMMY_EXECUTION_START_TIME, w -> fail("should not warn"));
+        value[0] = "7";
+        assertEquals(7, result.compute(ctx));
+        assertEquals(0, caseComputations[0], "cases after the matching constant case should not be computed");
+        value[0] = "500";
+        assertEquals(-1, result.compute(ctx));
+        value[0] = "999";
+        assertEquals(999, result.compute(ctx));
+        value[0] = "no match";
+        assertEquals(-2, result.compute(ctx));
+        assertEquals(3, caseComputations[0], "the non-constant case should be computed if it comes first");
+    }
+
+    @Test
+    void testMembershipInManyConstantElements() throws Exception {
+        var value = new long[]{0};
+        var missing = new boolean[]{false};
+        var column = IntegerComputer.of(ctx -> value[0], ctx -> missing[0]);
+        // $INTEGER in [0, 2, 4, ..., MISSING]
+        var elements = new ArrayList<Ast>();
+        for (int i = 0; i < 1000; i += 2) {
+            elements.add(INT(i));
+        }
+        elements.add(MIS());
+        var ast = Typing.inferTypes(IN(COL("INTEGER"), elements.toArray(Ast[]::new)), //
+            c -> ReturnResult.success(ValueType.OPT_INTEGER), //
+            f -> ReturnResult.failure("no flow variables") //
+        );
+        var result = (BooleanComputer)Evaluation.evaluate(ast, //
+            c -> Optional.of(column), //
+            f -> fail("should not call flow variable computer"), //
+            a -> fail("should not call aggregation computer") //
+        );
+
+        var ctx = EvaluationContext.of(TestUtils.DUMMY_EXECUTION_START_TIME, w -> fail("should not warn"));
+        for (int i = -1; i < 1001; i++) {
+            value[0] = i;
+            assertEquals(i >= 0 && i < 1000 && i % 2 == 0, result.compute(ctx), "unexpected result for " + i);
+        }
+        missing[0] = true;
+        Assertions.assertTrue(result.compute(ctx), "MISSING is an element");
+    }
+
+    @Test
+    void testLetComputesValueOncePerRow() throws Exception {
+        var value = new long[]{3};
+        var computeCalls = new int[]{0};
+        var column = IntegerComputer.of(ctx -> {
+            computeCalls[0]++;
+            return value[0];
+        }, ctx -> false);
+        // (let x = $INTEGER * 2 in x + x * x) + 1
+        var ast = Typing.inferTypes( //
+            OP(LET("x", OP(COL("INTEGER"), MULTIPLY, INT(2)), x -> OP(x, PLUS, OP(x, MULTIPLY, x))), PLUS, INT(1)), //
+            c -> ReturnResult.success(ValueType.OPT_INTEGER), //
+            f -> ReturnResult.failure("no flow variables") //
+        );
+        var ctx = EvaluationContext.of(TestUtils.DUMMY_EXECUTION_START_TIME, w -> fail("should not warn"));
+
+        var evaluated = (IntegerComputer)Evaluation.evaluate(ast, //
+            c -> Optional.of(column), //
+            f -> fail("should not call flow variable computer"), //
+            a -> fail("should not call aggregation computer") //
+        );
+        var registerEvaluated = (IntegerComputer)RegisterEvaluation.evaluate(ast, //
+            c -> Optional.of(column), //
+            f -> fail("should not call flow variable computer"), //
+            a -> fail("should not call aggregation computer") //
+        );
+
+        for (var result : List.of(evaluated, registerEvaluated)) {
+            value[0] = 3;
+            computeCalls[0] = 0;
+            Assertions.assertFalse(result.isMissing(ctx));
+            assertEquals(43, result.compute(ctx), "unexpected result");
+            assertEquals(1, computeCalls[0], "the bound value should be computed once per row");
+
+            // The next row computes the value again
+            value[0] = 5;
+            Assertions.assertFalse(result.isMissing(ctx));
+            assertEquals(111, result.compute(ctx), "should follow the changed input");
+            assertEquals(2, computeCalls[0], "the bound value should be computed once per row");
+
+            // A compute call without a check for MISSING starts a new row
+            value[0] = 1;
+            assertEquals(7, result.compute(ctx), "should follow the changed input");
+            assertEquals(3, computeCalls[0], "the bound value should be computed once per row");
+        }
+    }
+
+    @Test
+    void testRegisterEvaluationFollowsChangingInputs() throws Exception {
+        var value = new long[]{1};
+        var missing = new boolean[]{false};
+        var column = IntegerComputer.of(ctx -> value[0], ctx -> missing[0]);
+        // ($INTEGER * 2 ?? -1) < 10
+        var ast = Typing.inferTypes( //
+            OP(OP(OP(COL("INTEGER"), MULTIPLY, INT(2)), MISSING_FALLBACK, INT(-1)), LESS_THAN, INT(10)), //
+            c -> ReturnResult.success(ValueType.OPT_INTEGER), //
+            f -> ReturnResult.failure("no flow variables") //
+        );
+        var result = (BooleanComputer)RegisterEvaluation.evaluate(ast, //
+            c -> Optional.of(column), //
+            f -> fail("should not call flow variable computer"), //
+            a -> fail("should not call aggregation computer") //
+        );
+
+        var ctx = EvaluationContext.of(TestUtils.DUMMY_EXECUTION_START_TIME, w -> fail("should not warn"));
+        Assertions.assertFalse(result.isMissing(ctx));
+        Assertions.assertTrue(result.compute(ctx), "1 * 2 < 10");
+        value[0] = 5;
+        Assertions.assertFalse(result.compute(ctx), "5 * 2 < 10");
+        missing[0] = true;
+        Assertions.assertTrue(result.compute(ctx), "MISSING ?? -1 < 10");
+    }
+
+    @Test
+    void testRegisterEvaluationWarnsOncePerComputation() throws Exception {
+        var ast = Typing.inferTypes(OP(COL("INTEGER"), FLOOR_DIVIDE, INT(0)), //
+            FIND_TEST_COLUMN.andThen(c -> ReturnResult.fromOptional(c, "col missing").map(TestColumn::type)), //
+            f -> ReturnResult.failure("no flow variables") //
+        );
+        var result = (IntegerComputer)RegisterEvaluation.evaluate(ast, //
+            TEST_COLUMN_TO_COMPUTER, //
+            f -> fail("should not call flow variable computer"), //
+            a -> fail("should not call aggregation computer") //
+        );
+
+        var warnings = new ArrayList<String>();
+        var ctx = EvaluationContext.of(TestUtils.DUMMY_EXECUTION_START_TIME, warnings::add);
+        Assertions.assertFalse(result.isMissing(ctx));
+        assertEquals(0, result.compute(ctx));
+        assertEquals(List.of("INTEGER division returned 0 because divisor was 0."), warnings);
+    }
+
+    @Test
+    void testRegisterEvaluationOfMissingFallbackIsLazy() throws Exception {
+        // The second operand must not be evaluated if the first operand is present
+        var ast = Typing.inferTypes(OP(COL("INTEGER"), MISSING_FALLBACK, OP(INT(1), FLOOR_DIVIDE, INT(0))), //
+            FIND_TEST_COLUMN.andThen(c -> ReturnResult.fromOptional(c, "col missing").map(TestColumn::type)), //
+            f -> ReturnResult.failure("no flow variables") //
+        );
+        var result = (IntegerComputer)RegisterEvaluation.evaluate(ast, //
+            TEST_COLUMN_TO_COMPUTER, //
+            f -> fail("should not call flow variable computer"), //
+            a -> fail("should not call aggregation computer") //
+        );
+
+        var ctx = EvaluationContext.of(TestUtils.DUMMY_EXECUTION_START_TIME, w -> fail("should not warn"));
+        Assertions.assertFalse(result.isMissing(ctx));
+        assertEquals(100, result.compute(ctx));
+    }
+
+    @Test
+    void testRegisterEvaluationOfLogicalOperatorsIsLazy() throws Exception {
+        var values = new boolean[]{false, false};
+        var computeCalls = new int[]{0, 0};
+        Function<ColumnAccess, Optional<Computer>> columnToComputer = c -> {
+            var idx = new ColumnName("A").equals(c.columnId()) ? 0 : 1;
+            return Optional.of(BooleanComputer.of(ctx -> {
+                computeCalls[idx]++;
+                return values[idx];
+            }, ctx -> false));
+        };
+        Function<String, ReturnResult<ValueType>> columnType = c -> ReturnResult.success(ValueType.BOOLEAN);
+        var ctx = EvaluationContext.of(TestUtils.DUMMY_EXECUTION_START_TIME, w -> fail("should not warn"));
+
+        // The second operand must not be evaluated if the first operand decides the result
+        var and = (BooleanComputer)RegisterEvaluation.evaluate(
+            Typing.inferTypes(OP(COL("A"), CONDITIONAL_AND, COL("B")), columnType, f -> ReturnResult.failure("")), //
+            columnToComputer, //
+            f -> fail("should not call flow variable computer"), //
+            a -> fail("should not call aggregation computer") //
+        );
+        Assertions.assertFalse(and.isMissing(ctx));
+        Assertions.assertFalse(and.compute(ctx), "false and false");
+        assertEquals(0, computeCalls[1], "should skip the second operand of 'and'");
+
+        values[0] = true;
+        Assertions.assertFalse(and.isMissing(ctx));
+        Assertions.assertFalse(and.compute(ctx), "true and false");
+        assertEquals(1, computeCalls[1], "should evaluate the second operand of 'and'");
+
+        var or = (BooleanComputer)RegisterEvaluation.evaluate(
+            Typing.inferTypes(OP(COL("A"), CONDITIONAL_OR, COL("B")), columnType, f -> ReturnResult.failure("")), //
+            columnToComputer, //
+            f -> fail("should not call flow variable computer"), //
+            a -> fail("should not call aggregation computer") //
+        );
+        computeCalls[1] = 0;
+        Assertions.assertFalse(or.isMissing(ctx));
+        Assertions.assertTrue(or.compute(ctx), "true or false");
+        assertEquals(0, computeCalls[1], "should skip the second operand of 'or'");
+
+        values[0] = false;
+        Assertions.assertFalse(or.isMissing(ctx));
+        Assertions.assertFalse(or.compute(ctx), "false or false");
+        assertEquals(1, computeCalls[1], "should evaluate the second operand of 'or'");
+        assertEquals(4, computeCalls[0], "should evaluate the first operand once per row");
+    }
+
     @Test
     void testErroringFn() throws Exception {
-        var ast = FUN(TestFunctions.ERRORING_FN, STR("foo bar message"));
-        Typing.inferTypes(ast, //
+        var ast = Typing.inferTypes(FUN(TestFunctions.ERRORING_FN, STR("foo bar message")), //
             c -> ReturnResult.failure("no columns"), //
             f -> ReturnResult.failure("no flow variables") //
         );
@@ -372,6 +705,37 @@ final class EvaluationTest {
             EQUAL_FLOAT_AND_MISSING(OP(MIS(), EQUAL_TO, COL("FLOAT")), false), //
             EQUAL_STRING_AND_MISSING(OP(MIS(), EQUAL_TO, COL("STRING")), false), //
 
+            // === Membership
+
+            IN_STRINGS(IN(COL("STRING"), STR("foo"), STR("column value")), true), //
+            IN_STRINGS_NO_MATCH(IN(COL("STRING"), STR("foo"), STR("bar")), false), //
+            NOT_IN_STRINGS(NOT_IN(COL("STRING"), STR("foo")), true), //
+            IN_INTEGERS(IN(COL("INTEGER"), INT(1), INT(100), INT(1)), true), //
+            IN_INTEGERS_NO_MATCH(IN(COL("INTEGER"), INT(1), INT(2)), false), //
+            NOT_IN_INTEGERS(NOT_IN(COL("INTEGER"), INT(1), INT(100)), false), //
+            IN_INTEGER_AND_FLOATS(IN(COL("INTEGER"), FLOAT(1.5), FLOAT(100.0)), true), //
+            IN_FLOAT_AND_INTEGERS(IN(COL("FLOAT"), INT(10), COL("FLOAT")), true), //
+            IN_NON_CONSTANT_ELEMENTS(IN(INT(100), INT(1), COL("INTEGER")), true), //
+            IN_MISSING(IN(COL("INTEGER_MISSING"), INT(1), MIS()), true), //
+            IN_MISSING_NON_CONSTANT(IN(MIS(), STR("foo"), COL("INTEGER_MISSING")), true), //
+            IN_MISSING_NO_MATCH(IN(COL("INTEGER_MISSING"), INT(1), COL("INTEGER")), false), //
+            NOT_IN_MISSING(NOT_IN(MIS(), INT(1)), true), //
+
+            // === Let-bindings
+
+            LET_BOOLEAN(LET("x", COL("BOOLEAN"), x -> OP(x, CONDITIONAL_AND, OP(NOT, x))), false), //
+            LET_INTEGER(LET("x", OP(COL("INTEGER"), PLUS, INT(1)), x -> OP(x, MULTIPLY, x)), 10201), //
+            LET_FLOAT(LET("x", COL("FLOAT"), x -> OP(x, PLUS, x)), 21.0), //
+            LET_STRING(LET("x", COL("STRING"), x -> OP(x, PLUS, x)), "column valuecolumn value"), //
+            LET_LOCAL_DATE(LET("x", F_LOCAL_DATE("2019-01-02"), x -> OP(x, MINUS, x)), Period.ZERO), //
+            LET_MISSING_VALUE(LET("x", COL("INTEGER_MISSING"), x -> OP(x, PLUS, INT(1)))), //
+            LET_MISSING_FALLBACK(LET("x", COL("INTEGER_MISSING"), x -> OP(x, MISSING_FALLBACK, INT(5))), 5), //
+            LET_MISSING_CONSTANT(LET("x", MIS(), x -> OP(x, MISSING_FALLBACK, STR("foo"))), "foo"), //
+            LET_UNUSED_VALUE(LET("x", COL("INTEGER_MISSING"), x -> INT(1)), 1), //
+            LET_CONSTANT_IN_MEMBERSHIP(LET("x", INT(100), x -> IN(COL("INTEGER"), INT(1), x)), true), //
+            LET_NESTED(LET("x", COL("INTEGER"), x -> LET("y", OP(x, PLUS, INT(1)), y -> OP(y, MINUS, x))), 1), //
+            LET_IN_OPERAND(OP(LET("x", COL("INTEGER"), x -> OP(x, MULTIPLY, x)), PLUS, INT(1)), 10001), //
+
             // === Logical Operations
 
             // And
@@ -705,6 +1069,21 @@ final class EvaluationTest {
     private static final Function<String, Optional<TestFlowVariable>> FIND_TEST_FLOW_VARIABLE =
         TestUtils.enumFinderAsFunction(TestFlowVariable.values());
 
+    private static final Function<ColumnAccess, Optional<Computer>> TEST_COLUMN_TO_COMPUTER = COLUMN_ID //
+        .andThen(COLUMN_NAME) //
+        .andThen(FIND_TEST_COLUMN) //
+        .andThen(c -> c.map(TestColumn::computer));
+
+    private static final Function<FlowVarAccess, Optional<Computer>> TEST_FLOW_VARIABLE_TO_COMPUTER =
+        TestUtils.FLOW_VAR_NAME.andThen(FIND_TEST_FLOW_VARIABLE).andThen(c -> c.map(TestFlowVariable::computer));
+
+    private static TypedAst inferTestTypes(final Ast expression) throws ExpressionCompileException {
+        return Typing.inferTypes(expression, //
+            FIND_TEST_COLUMN.andThen(c -> ReturnResult.fromOptional(c, "col missing").map(TestColumn::type)), //
+            FIND_TEST_FLOW_VARIABLE
+                .andThen(c -> ReturnResult.fromOptional(c, "var missing").map(TestFlowVariable::type)));
+    }
+
     private static final BooleanComputerResultSupplier THROWING_BOOL_SUPPLIER = ctx -> {
         throw new AssertionError("should not call compute on missing values");
     };
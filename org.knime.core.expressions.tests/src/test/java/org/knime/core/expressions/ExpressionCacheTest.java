@@ -0,0 +1,180 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.expressions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.knime.core.expressions.ValueType.FLOAT;
+import static org.knime.core.expressions.ValueType.INTEGER;
+import static org.knime.core.expressions.ValueType.STRING;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ExpressionCache}.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+@SuppressWarnings("static-method")
+final class ExpressionCacheTest {
+
+    private static Function<String, ReturnResult<ValueType>> toType(final Map<String, ValueType> types) {
+        return name -> ReturnResult.fromNullable(types.get(name), "'" + name + "' missing");
+    }
+
+    @Test
+    void testParseReturnsSharedSyntaxTree() throws Exception {
+        var cache = new ExpressionCache(ExpressionCache.DEFAULT_MAX_SIZE);
+        var first = cache.parse("$a + 1");
+        var second = cache.parse("$a + 1");
+
+        assertSame(first, second, "the immutable syntax tree should be shared");
+        assertThrows(UnsupportedOperationException.class, () -> first.data().put("foo", "bar"),
+            "the data of a shared syntax tree must not be modifiable");
+    }
+
+    @Test
+    void testParseCachesErrors() {
+        var cache = new ExpressionCache(ExpressionCache.DEFAULT_MAX_SIZE);
+        var first = assertThrows(ExpressionCompileException.class, () -> cache.parse("1 +"));
+        var second = assertThrows(ExpressionCompileException.class, () -> cache.parse("1 +"));
+        assertNotSame(first, second, "each call should get a new exception");
+        assertEquals(first.getErrors(), second.getErrors(), "the cached errors should be reported");
+        assertEquals(first.getMessage(), second.getMessage());
+    }
+
+    @Test
+    void testTypingCachesErrors() {
+        var cache = new ExpressionCache(ExpressionCache.DEFAULT_MAX_SIZE);
+        var first = assertThrows(ExpressionCompileException.class,
+            () -> cache.parseAndInferTypes("$a + 1", toType(Map.of()), toType(Map.of())));
+        var second = assertThrows(ExpressionCompileException.class,
+            () -> cache.parseAndInferTypes("$a + 1", toType(Map.of()), toType(Map.of())));
+        assertNotSame(first, second, "each call should get a new exception");
+        assertEquals(first.getErrors(), second.getErrors(), "the cached errors should be reported");
+    }
+
+    @Test
+    void testTypedExpressionIsReusedForSameTypes() throws Exception {
+        var cache = new ExpressionCache(ExpressionCache.DEFAULT_MAX_SIZE);
+        var lookups = new AtomicInteger();
+        var types = Map.of("a", INTEGER, "b", STRING);
+        Function<String, ReturnResult<ValueType>> columnToType = name -> {
+            lookups.incrementAndGet();
+            return toType(types).apply(name);
+        };
+
+        var first = cache.parseAndInferTypes("$a + 1", columnToType, toType(Map.of()));
+        assertEquals(INTEGER, Expressions.getInferredType(first));
+
+        var second = cache.parseAndInferTypes("$a + 1", columnToType, toType(Map.of()));
+        assertSame(first, second, "the typed expression should be shared");
+        assertEquals(2, lookups.get(), "only the accessed column should be looked up once per call");
+    }
+
+    @Test
+    void testTypedExpressionIsRecomputedForChangedTypes() throws Exception {
+        var cache = new ExpressionCache(ExpressionCache.DEFAULT_MAX_SIZE);
+        var types = new HashMap<String, ValueType>();
+        types.put("a", INTEGER);
+        types.put("unused", STRING);
+
+        var first = cache.parseAndInferTypes("$a + 1", toType(types), toType(Map.of()));
+        assertEquals(INTEGER, Expressions.getInferredType(first));
+
+        types.put("unused", INTEGER);
+        var second = cache.parseAndInferTypes("$a + 1", toType(types), toType(Map.of()));
+        assertEquals(INTEGER, Expressions.getInferredType(second), "unrelated columns should not matter");
+
+        types.put("a", FLOAT);
+        var third = cache.parseAndInferTypes("$a + 1", toType(types), toType(Map.of()));
+        assertEquals(FLOAT, Expressions.getInferredType(third), "a changed column type should be respected");
+
+        types.remove("a");
+        assertThrows(ExpressionCompileException.class,
+            () -> cache.parseAndInferTypes("$a + 1", toType(types), toType(Map.of())),
+            "a removed column should be respected");
+
+        types.put("a", INTEGER);
+        var fourth = cache.parseAndInferTypes("$a + 1", toType(types), toType(Map.of()));
+        assertEquals(INTEGER, Expressions.getInferredType(fourth), "a cached error should not outlive its cause");
+    }
+
+    @Test
+    void testTypedExpressionRespectsFlowVariableTypes() throws Exception {
+        var cache = new ExpressionCache(ExpressionCache.DEFAULT_MAX_SIZE);
+        var first = cache.parseAndInferTypes("$$f * 2", toType(Map.of()), toType(Map.of("f", INTEGER)));
+        assertEquals(INTEGER, Expressions.getInferredType(first));
+
+        var second = cache.parseAndInferTypes("$$f * 2", toType(Map.of()), toType(Map.of("f", FLOAT)));
+        assertEquals(FLOAT, Expressions.getInferredType(second));
+    }
+
+    @Test
+    void testLeastRecentlyUsedExpressionsAreEvicted() throws Exception {
+        var cache = new ExpressionCache(2);
+        cache.parse("1");
+        cache.parse("2");
+        cache.parse("1");
+        cache.parse("3");
+        assertEquals(2, cache.size(), "the cache should not grow beyond its maximum size");
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertTrue(Expressions.isConstant(cache.parse("1")));
+    }
+}
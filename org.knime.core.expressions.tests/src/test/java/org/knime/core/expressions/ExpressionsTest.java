@@ -1,14 +1,24 @@
 package org.knime.core.expressions;
 
 import static org.knime.core.expressions.Ast.BinaryOperator.DIVIDE;
+import static org.knime.core.expressions.Ast.BinaryOperator.PLUS;
 import static org.knime.core.expressions.Ast.UnaryOperator.MINUS;
+import static org.knime.core.expressions.AstTestUtils.AGG;
 import static org.knime.core.expressions.AstTestUtils.COL;
 import static org.knime.core.expressions.AstTestUtils.FLOAT;
+import static org.knime.core.expressions.AstTestUtils.FLOW;
+import static org.knime.core.expressions.AstTestUtils.INT;
 import static org.knime.core.expressions.AstTestUtils.OP;
 import static org.knime.core.expressions.AstTestUtils.ROW_INDEX;
+import static org.knime.core.expressions.AstTestUtils.STR;
+
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.knime.core.expressions.Computer.IntegerComputer;
+import org.knime.core.expressions.aggregations.BuiltInAggregations;
 
 class ExpressionsTest {
 
@@ -25,5 +35,84 @@ class ExpressionsTest {
 
         Assertions.assertFalse(Expressions.requiresRowIndexColumn(OP(COL("cT"), DIVIDE, FLOAT(2.0))),
             "The expression should not use the row index column");
+
+        Assertions.assertTrue(Expressions
+            .requiresRowIndexColumn(OP(COL("c"), DIVIDE, AGG(BuiltInAggregations.ROLLING_SUM, STR("c"), INT(3)))),
+            "Row-wise aggregations should use the row index column");
+
+        Assertions.assertFalse(
+            Expressions.requiresRowIndexColumn(OP(COL("c"), DIVIDE, AGG(BuiltInAggregations.SUM, STR("c")))),
+            "Column aggregations should not use the row index column");
+    }
+
+    @Test
+    void testIsConstant() {
+        Assertions.assertTrue(Expressions.isConstant(STR("tag")), "A literal should be constant");
+
+        Assertions.assertTrue(Expressions.isConstant(OP(FLOW("f"), DIVIDE, AGG(BuiltInAggregations.SUM, STR("c")))),
+            "Flow variables and column aggregations should be constant");
+
+        Assertions.assertFalse(Expressions.isConstant(COL("c")), "A column access should not be constant");
+
+        Assertions.assertFalse(Expressions.isConstant(OP(FLOAT(2.0), DIVIDE, ROW_INDEX())),
+            "The ROW_INDEX should not be constant");
+
+        Assertions.assertFalse(Expressions.isConstant(AGG(BuiltInAggregations.CUMULATIVE_SUM, STR("c"))),
+            "Row-wise aggregations should not be constant");
+    }
+
+    @Test
+    void testIsRowLocal() {
+        Assertions.assertTrue(Expressions.isRowLocal(OP(COL("c"), DIVIDE, OP(FLOW("f"), DIVIDE, ROW_INDEX()))),
+            "Columns, flow variables and the ROW_INDEX should be row-local");
+
+        Assertions.assertFalse(Expressions.isRowLocal(OP(COL("c"), DIVIDE, COL("c", -1))),
+            "A column access with an offset should not be row-local");
+
+        Assertions.assertFalse(Expressions.isRowLocal(OP(COL("c"), DIVIDE, AGG(BuiltInAggregations.SUM, STR("c")))),
+            "Column aggregations should not be row-local");
+
+        Assertions.assertFalse(Expressions.isRowLocal(AGG(BuiltInAggregations.CUMULATIVE_SUM, STR("c"))),
+            "Row-wise aggregations should not be row-local");
+    }
+
+    @Test
+    void testCollectInputAccesses() {
+        var col1 = COL("c1");
+        var col2 = COL("c2", -1);
+        var flow = FLOW("f");
+        var agg = AGG(BuiltInAggregations.SUM, STR("c3"));
+        var expression = OP(OP(col1, PLUS, agg), DIVIDE, OP(MINUS, OP(flow, PLUS, col2)));
+
+        var inputAccesses = Expressions.collectInputAccesses(expression);
+        Assertions.assertEquals(List.of(col1, col2), inputAccesses.columnAccesses(),
+            "The column accesses should be collected in order");
+        Assertions.assertEquals(List.of(flow), inputAccesses.flowVariableAccesses(),
+            "The flow variable accesses should be collected");
+        Assertions.assertEquals(List.of(agg), inputAccesses.aggregationCalls(),
+            "The aggregation calls should be collected");
+        Assertions.assertEquals(List.of(col1, col2), Expressions.collectColumnAccesses(expression),
+            "The column accesses should be collected in order");
+    }
+
+    @Test
+    void testVeryDeepExpression() throws ExpressionCompileException {
+        // Much deeper than parsed expressions can be. The traversals must not overflow the stack.
+        Ast expression = COL("c");
+        for (int i = 0; i < 100_000; i++) {
+            expression = OP(expression, PLUS, INT(i));
+        }
+
+        Assertions.assertFalse(Expressions.isConstant(expression), "The expression should not be constant");
+        Assertions.assertEquals(1, Expressions.collectColumnAccesses(expression).size(),
+            "The column access should be collected");
+        var typedExpression = Expressions.inferTypes(expression, c -> ReturnResult.success(ValueType.INTEGER),
+            f -> ReturnResult.failure("No flow variables"));
+        Assertions.assertEquals(ValueType.INTEGER, typedExpression.type(), "The expression should be typed");
+        Assertions.assertNotNull(Expressions.evaluate(typedExpression, //
+            c -> Optional.of(IntegerComputer.ofConstant(1)), //
+            f -> Optional.empty(), //
+            a -> Optional.empty() //
+        ), "The computer should be created");
     }
 }
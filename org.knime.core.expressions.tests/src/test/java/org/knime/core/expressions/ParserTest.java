@@ -72,12 +72,16 @@ import static org.knime.core.expressions.AstTestUtils.COL;
 import static org.knime.core.expressions.AstTestUtils.FLOAT;
 import static org.knime.core.expressions.AstTestUtils.FLOW;
 import static org.knime.core.expressions.AstTestUtils.FUN;
+import static org.knime.core.expressions.AstTestUtils.IN;
 import static org.knime.core.expressions.AstTestUtils.INT;
+import static org.knime.core.expressions.AstTestUtils.LET;
 import static org.knime.core.expressions.AstTestUtils.MIS;
+import static org.knime.core.expressions.AstTestUtils.NOT_IN;
 import static org.knime.core.expressions.AstTestUtils.OP;
 import static org.knime.core.expressions.AstTestUtils.ROW_ID;
 import static org.knime.core.expressions.AstTestUtils.ROW_INDEX;
 import static org.knime.core.expressions.AstTestUtils.STR;
+import static org.knime.core.expressions.AstTestUtils.VAR;
 
 import java.util.List;
 import java.util.Map;
@@ -103,16 +107,85 @@ final class ParserTest {
     @ParameterizedTest
     @EnumSource(ValidExpr.class)
     void testValidExpressions(final ValidExpr exprTest) throws ExpressionCompileException {
-        var ast = Expressions.parse(exprTest.m_input);
-        clearDataFromAst(ast);
+        var ast = withoutData(Expressions.parse(exprTest.m_input));
         assertEquals(exprTest.m_expectedAst, ast, "Wrong result for expr '" + exprTest.m_input + "'");
     }
 
-    private static void clearDataFromAst(final Ast node) {
-        for (var c : node.children()) {
-            clearDataFromAst(c);
-        }
-        node.data().clear();
+    /** Rebuild the immutable syntax tree without the attached data such that it can be compared */
+    private static Ast withoutData(final Ast node) {
+        return node.accept(new Ast.AstVisitor<Ast, RuntimeException>() {
+
+            @Override
+            public Ast visit(final Ast.MissingConstant n) {
+                return Ast.missingConstant();
+            }
+
+            @Override
+            public Ast visit(final Ast.BooleanConstant n) {
+                return Ast.booleanConstant(n.value());
+            }
+
+            @Override
+            public Ast visit(final Ast.IntegerConstant n) {
+                return Ast.integerConstant(n.value());
+            }
+
+            @Override
+            public Ast visit(final Ast.FloatConstant n) {
+                return Ast.floatConstant(n.value());
+            }
+
+            @Override
+            public Ast visit(final Ast.StringConstant n) {
+                return Ast.stringConstant(n.value());
+            }
+
+            @Override
+            public Ast visit(final Ast.ColumnAccess n) {
+                return new Ast.ColumnAccess(n.columnId(), n.offset(), Map.of());
+            }
+
+            @Override
+            public Ast visit(final Ast.FlowVarAccess n) {
+                return Ast.flowVarAccess(n.name());
+            }
+
+            @Override
+            public Ast visit(final Ast.BinaryOp n) {
+                return Ast.binaryOp(n.op(), n.arg1().accept(this), n.arg2().accept(this));
+            }
+
+            @Override
+            public Ast visit(final Ast.UnaryOp n) {
+                return Ast.unaryOp(n.op(), n.arg().accept(this));
+            }
+
+            @Override
+            public Ast visit(final Ast.MembershipOp n) {
+                return Ast.membershipOp(n.negated(), n.arg().accept(this),
+                    n.elements().stream().map(element -> element.accept(this)).toList());
+            }
+
+            @Override
+            public Ast visit(final Ast.FunctionCall n) {
+                return Ast.functionCall(n.function(), n.args().map(arg -> arg.accept(this)));
+            }
+
+            @Override
+            public Ast visit(final Ast.AggregationCall n) {
+                return Ast.aggregationCall(n.aggregation(), n.args().map(arg -> (Ast.ConstantAst)arg.accept(this)));
+            }
+
+            @Override
+            public Ast visit(final Ast.LetBinding n) {
+                return Ast.letBinding(n.name(), n.value().accept(this), n.body().accept(this));
+            }
+
+            @Override
+            public Ast visit(final Ast.LetVarAccess n) {
+                return Ast.letVarAccess(n.name(), n.value().accept(this));
+            }
+        });
     }
 
     enum ValidExpr {
@@ -230,12 +303,32 @@ final class ParserTest {
             OP_EQUAL_TO_2("10 == 20", OP(INT(10), EQUAL_TO, INT(20))), //
             OP_NOT_EQUAL_TO_1("10 != 20", OP(INT(10), NOT_EQUAL_TO, INT(20))), //
             OP_NOT_EQUAL_TO_2("10 <> 20", OP(INT(10), NOT_EQUAL_TO, INT(20))), //
+            OP_IN("10 in [20, 'a', $col]", IN(INT(10), INT(20), STR("a"), COL("col"))), //
+            OP_IN_SINGLE_ELEMENT("10 in [20]", IN(INT(10), INT(20))), //
+            OP_IN_TRAILING_COMMA("10 in [20, 30,]", IN(INT(10), INT(20), INT(30))), //
+            OP_IN_UPPER_CASE("10 IN [20]", IN(INT(10), INT(20))), //
+            OP_NOT_IN("10 not in [20, 30]", NOT_IN(INT(10), INT(20), INT(30))), //
+            OP_NOT_IN_UPPER_CASE("10 NOT IN [20]", NOT_IN(INT(10), INT(20))), //
             // Logical
             OP_CONDITIONAL_AND("10 and 20", OP(INT(10), CONDITIONAL_AND, INT(20))), //
             OP_CONDITIONAL_AND_UPPER_CASE("10 AND 20", OP(INT(10), CONDITIONAL_AND, INT(20))), //
             OP_CONDITIONAL_OR("10 or 20", OP(INT(10), CONDITIONAL_OR, INT(20))), //
             OP_CONDITIONAL_OR_UPPER_CASE("10 OR 20", OP(INT(10), CONDITIONAL_OR, INT(20))), //
 
+            // Let-bindings
+            LET_SINGLE("let x = $col in x * x", //
+                LET("x", COL("col"), OP(VAR("x", COL("col")), MULTIPLY, VAR("x", COL("col"))))), //
+            LET_UPPER_CASE("LET x = 1 IN x", LET("x", INT(1), VAR("x", INT(1)))), //
+            LET_MULTIPLE("let x = 1, y = x + 2 in y", //
+                LET("x", INT(1), LET("y", OP(VAR("x", INT(1)), PLUS, INT(2)), //
+                    VAR("y", OP(VAR("x", INT(1)), PLUS, INT(2)))))), //
+            LET_SHADOWING("let x = 1 in let x = 2 in x", LET("x", INT(1), LET("x", INT(2), VAR("x", INT(2))))), //
+            LET_SCOPE("(let x = 1 in x) + PI", OP(LET("x", INT(1), VAR("x", INT(1))), PLUS, FLOAT(Math.PI))), //
+            LET_BODY_PRECEDENCE("let x = 1 in x or 2", //
+                LET("x", INT(1), OP(VAR("x", INT(1)), CONDITIONAL_OR, INT(2)))), //
+            LET_WITH_MEMBERSHIP("let x = 1 in [2] in x in [3]", //
+                LET("x", IN(INT(1), INT(2)), IN(VAR("x", IN(INT(1), INT(2))), INT(3)))), //
+
             // Operator precedence
             OP_PREC_PLUS_MULTIPLY("1+2*3", OP(INT(1), PLUS, OP(INT(2), MULTIPLY, INT(3)))), //
             OP_PREC_PLUS_MULTIPLY_EXPONENTIAL("0+1*2**3",
@@ -251,6 +344,11 @@ final class ParserTest {
             OP_PREC_OR_NOT("1 or not 2", OP(INT(1), CONDITIONAL_OR, OP(UnaryOperator.NOT, INT(2)))), //
             OP_PREC_OR_AND("1 or 2 and 3", OP(INT(1), CONDITIONAL_OR, OP(INT(2), CONDITIONAL_AND, INT(3)))), //
             OP_PREC_AND_OR("1 and 2 or 3", OP(OP(INT(1), CONDITIONAL_AND, INT(2)), CONDITIONAL_OR, INT(3))), //
+            OP_PREC_PLUS_IN("1 + 2 in [3]", IN(OP(INT(1), PLUS, INT(2)), INT(3))), //
+            OP_PREC_IN_ELEMENTS("1 in [2 + 3, 4 or 5]",
+                IN(INT(1), OP(INT(2), PLUS, INT(3)), OP(INT(4), CONDITIONAL_OR, INT(5)))), //
+            OP_PREC_NOT_IN("not 1 in [2]", OP(UnaryOperator.NOT, IN(INT(1), INT(2)))), //
+            OP_PREC_IN_AND("1 not in [2] and 3", OP(NOT_IN(INT(1), INT(2)), CONDITIONAL_AND, INT(3))), //
 
             // Operator associativity
             OP_ASSO_PLUS("10+20+30", OP(OP(INT(10), PLUS, INT(20)), PLUS, INT(30))), //
@@ -416,6 +514,13 @@ final class ParserTest {
             // Trying to break it
             NOT_OP_WITHOUT_SPACE("not10"), // NB: can maybe parsed to a constant at some point
             AND_OP_WITHOUT_SPACE("10 and20"), //
+            IN_OP_WITHOUT_LIST("10 in 20"), //
+            IN_OP_WITH_EMPTY_LIST("10 in []"), //
+            LET_WITHOUT_BODY("let x = 1"), //
+            LET_WITHOUT_BINDING("let in 1"), //
+            LET_CONSTANT_NAME("let PI = 3 in PI", "PI", "constant"), //
+            LET_NAME_OUT_OF_SCOPE("(let x = 1 in x) + x", "x"), //
+            LET_NAME_BEFORE_BINDING("let x = y, y = 1 in x", "y"), //
         ;
 
         private final String m_input;
@@ -491,11 +596,49 @@ final class ParserTest {
         assertTextLocation(12, 19, ast.children().get(1));
     }
 
+    @Test
+    void testDataWithLocationAndOtherEntries() throws ExpressionCompileException {
+        var parsed = Parser.parse("1 + 2");
+        var location = Parser.getTextLocation(parsed);
+
+        // Nodes that are created with the same data as the parsed node are equal
+        var copy = Ast.binaryOp(PLUS, parsed.children().get(0), parsed.children().get(1), Map.of( //
+            "text_location", location //
+        ));
+        assertEquals(parsed, copy, "should be equal to the parsed node");
+        assertEquals(Map.of("text_location", location), parsed.data(), "should only contain the location");
+
+        // Other entries are kept next to the location
+        var withOtherEntry = Ast.integerConstant(1, Map.of( //
+            "text_location", location, //
+            "foo", "bar" //
+        ));
+        assertTextLocation(0, 5, withOtherEntry);
+        assertEquals("bar", withOtherEntry.data("foo"), "should keep other entries");
+        assertEquals(2, withOtherEntry.data().size(), "should contain the location and the other entry");
+        assertThrows(UnsupportedOperationException.class, () -> withOtherEntry.data().put("foo", "baz"),
+            "data should not be modifiable");
+    }
+
     private static void assertTextLocation(final int expectedStart, final int expectedStop, final Ast node) {
         assertEquals(new TextRange(expectedStart, expectedStop), Parser.getTextLocation(node),
             "should have correct location");
     }
 
+    @Test
+    void testWarmUpExpressionsAreValid() {
+        for (var expression : Parser.WARM_UP_EXPRESSIONS) {
+            Assertions.assertDoesNotThrow(() -> Parser.parse(expression), expression);
+        }
+    }
+
+    @Test
+    void testParsesValidExpressionAfterSyntaxError() throws ExpressionCompileException {
+        // The lexer and parser are reused and must not keep any state of the failed parse
+        assertThrows(ExpressionCompileException.class, () -> Parser.parse("1 + + ("));
+        assertEquals(OP(INT(1), PLUS, INT(2)), withoutData(Parser.parse("1 + 2")), "should parse after an error");
+    }
+
     @ParameterizedTest
     @EnumSource(TooDeepExpr.class)
     void testTooDeepExpr(final TooDeepExpr expr) {
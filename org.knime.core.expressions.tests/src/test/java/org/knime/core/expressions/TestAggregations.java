@@ -78,10 +78,10 @@ enum TestAggregations implements ColumnAggregation {
                 return ReturnResult.failure("Invalid arguments to aggregation RETURN_42_WITH_COL_TYPE");
 
             }, //
-            call -> {
-                if (ValueType.INTEGER.equals(Typing.getType(call).baseType())) {
+            (call, type) -> {
+                if (ValueType.INTEGER.equals(type.baseType())) {
                     return Optional.of(IntegerComputer.of(ctx -> 42, ctx -> false));
-                } else if (ValueType.FLOAT.equals(Typing.getType(call).baseType())) {
+                } else if (ValueType.FLOAT.equals(type.baseType())) {
                     return Optional.of(FloatComputer.of(ctx -> 42.0, ctx -> false));
                 } else {
                     return Optional.empty();
@@ -92,30 +92,36 @@ enum TestAggregations implements ColumnAggregation {
         /** Test function to test named args. Returns MISSING. */
         EXPECT_NAMED_ARG( //
             (args, columnType) -> ReturnResult.success(ValueType.MISSING), //
-            call -> {
+            (call, type) -> {
                 return Optional.of(ctx -> true);
             }, //
             List.of(SignatureUtils.arg("named_arg_id", "", SignatureUtils.isFloat())) //
         ), //
         /** Exists only to check that error message for unknown aggregation suggests similar aggregation names */
-        RETURN_42_WITH_COL_TXXX((args, columnType) -> ReturnResult.failure("some error"), call -> Optional.empty(),
-            List.of());
+        RETURN_42_WITH_COL_TXXX((args, columnType) -> ReturnResult.failure("some error"),
+            (call, type) -> Optional.empty(), List.of());
 
     public static final Map<String, ColumnAggregation> TEST_AGGREGATIONS =
         TestUtils.enumFinderAsMap(TestAggregations.values(), ColumnAggregation.class);
 
-    public static final Function<AggregationCall, Optional<Computer>> TEST_AGGREGATIONS_COMPUTER = agg -> TestUtils
-        .enumFinderAsFunction(TestAggregations.values()).apply(agg.aggregation().name()).flatMap(t -> t.computer(agg));
+    /**
+     * @param expression the typed expression that contains the aggregation calls
+     * @return a function that returns the computer for the test aggregations in the expression
+     */
+    public static Function<AggregationCall, Optional<Computer>> testAggregationsComputer(final TypedAst expression) {
+        return agg -> TestUtils.enumFinderAsFunction(TestAggregations.values()).apply(agg.aggregation().name())
+            .flatMap(t -> t.computer(agg, expression.typeOf(agg)));
+    }
 
     private final BiFunction<Arguments<ConstantAst>, Function<String, ReturnResult<ValueType>>, ReturnResult<ValueType>> m_returnType;
 
-    private final Function<AggregationCall, Optional<Computer>> m_computer;
+    private final BiFunction<AggregationCall, ValueType, Optional<Computer>> m_computer;
 
     private final List<Arg> m_arguments;
 
     private TestAggregations(
         final BiFunction<Arguments<ConstantAst>, Function<String, ReturnResult<ValueType>>, ReturnResult<ValueType>> returnType,
-        final Function<AggregationCall, Optional<Computer>> computer, final List<Arg> arguments) {
+        final BiFunction<AggregationCall, ValueType, Optional<Computer>> computer, final List<Arg> arguments) {
         m_returnType = returnType;
         m_computer = computer;
         m_arguments = arguments;
@@ -133,8 +139,8 @@ enum TestAggregations implements ColumnAggregation {
         return m_returnType.apply(arguments, columnType);
     }
 
-    public Optional<Computer> computer(final AggregationCall call) {
-        return m_computer.apply(call);
+    public Optional<Computer> computer(final AggregationCall call, final ValueType type) {
+        return m_computer.apply(call, type);
     }
 
     @Override
@@ -49,6 +49,7 @@ import static java.util.Map.entry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.knime.core.expressions.Ast.BinaryOperator.CONDITIONAL_AND;
@@ -73,8 +74,11 @@ import static org.knime.core.expressions.AstTestUtils.COL;
 import static org.knime.core.expressions.AstTestUtils.FLOAT;
 import static org.knime.core.expressions.AstTestUtils.FLOW;
 import static org.knime.core.expressions.AstTestUtils.FUN;
+import static org.knime.core.expressions.AstTestUtils.IN;
 import static org.knime.core.expressions.AstTestUtils.INT;
+import static org.knime.core.expressions.AstTestUtils.LET;
 import static org.knime.core.expressions.AstTestUtils.MIS;
+import static org.knime.core.expressions.AstTestUtils.NOT_IN;
 import static org.knime.core.expressions.AstTestUtils.OP;
 import static org.knime.core.expressions.AstTestUtils.ROW_ID;
 import static org.knime.core.expressions.AstTestUtils.ROW_INDEX;
@@ -125,10 +129,11 @@ final class TypingTest {
     @EnumSource(TypingTestCase.class)
     void test(final TypingTestCase params) throws Exception {
         var ast = params.m_expression;
-        var outputType = Typing.inferTypes(ast, TEST_COLUMN_TO_TYPE, TEST_FLOWVARIABLE_TO_TYPE);
-        assertEquals(params.m_expectedType, outputType, "should fit output type");
-        assertEquals(params.m_expectedType, Expressions.getInferredType(ast), "should fit output type");
-        assertChildrenHaveTypes(ast);
+        var typedAst = Typing.inferTypes(ast, TEST_COLUMN_TO_TYPE, TEST_FLOWVARIABLE_TO_TYPE);
+        assertSame(ast, typedAst.ast(), "should not modify the expression");
+        assertEquals(params.m_expectedType, typedAst.type(), "should fit output type");
+        assertEquals(params.m_expectedType, Expressions.getInferredType(typedAst), "should fit output type");
+        assertChildrenHaveTypes(typedAst, ast);
     }
 
     private static enum TypingTestCase {
@@ -418,6 +423,17 @@ final class TypingTest {
             EQUALITY_MISSING_OPT_STRING(OP(MIS(), EQUAL_TO, COL("s?")), BOOLEAN), //
             EQUALITY_MISSING_MISSING(OP(MIS(), EQUAL_TO, MIS()), BOOLEAN), //
 
+            // Membership
+            MEMBERSHIP_STRINGS(IN(COL("s?"), STR("a"), COL("s"), MIS()), BOOLEAN), //
+            MEMBERSHIP_NUMBERS(NOT_IN(INT(10), FLOAT(10.1), COL("i?")), BOOLEAN), //
+            MEMBERSHIP_MISSING(IN(MIS(), COL("ld"), MIS()), BOOLEAN), //
+
+            // Let-bindings
+            LET_BODY_TYPE(LET("x", COL("i?"), x -> OP(x, PLUS, x)), OPT_INTEGER), //
+            LET_NESTED(LET("x", COL("s"), x -> LET("y", OP(x, PLUS, INT(1)), y -> OP(y, PLUS, x))), STRING), //
+            LET_UNUSED_VALUE(LET("x", COL("ld"), x -> BOOL(true)), BOOLEAN), //
+            LET_MISSING_VALUE(LET("x", MIS(), x -> OP(x, MISSING_FALLBACK, COL("zdt"))), ZONED_DATE_TIME), //
+
             // === Logical Operations
 
             LOGICAL_AND_TWO_BOOLEANS(OP(BOOL(true), CONDITIONAL_AND, BOOL(false)), BOOLEAN), //
@@ -513,6 +529,11 @@ final class TypingTest {
                 BOOLEAN.name()), //
             EQUALITY_ON_INT_AND_STRING(OP(INT(20), EQUAL_TO, STR("bar")), "==", INTEGER.name(), STRING.name()), //
             EQUALITY_ON_ZONED_AND_ZONED(OP(COL("zdt"), EQUAL_TO, COL("zdt")), ZONED_DATE_TIME.name()), //
+            MEMBERSHIP_OF_STRING_IN_INTEGERS(IN(STR("a"), STR("b"), INT(1)), "in", STRING.name(), INTEGER.name()), //
+            MEMBERSHIP_OF_INT_IN_BOOLEANS(NOT_IN(INT(1), BOOL(true)), "not in", INTEGER.name(), BOOLEAN.name()), //
+            MEMBERSHIP_OF_ZONED_IN_ZONED(IN(COL("zdt"), COL("zdt")), ZONED_DATE_TIME.name()), //
+            LET_VALUE_ERROR(LET("x", OP(BOOL(true), PLUS, INT(1)), x -> OP(x, PLUS, x)), "+", BOOLEAN.name()), //
+            LET_BODY_ERROR(LET("x", COL("s"), x -> OP(x, MULTIPLY, INT(2))), "*", STRING.name()), //
 
             // === Logical Operations
             LOGICAL_ON_INTEGER(OP(INT(10), CONDITIONAL_AND, INT(20)), "and", INTEGER.name()), //
@@ -569,6 +590,15 @@ final class TypingTest {
             "error message should contain column name '" + colName + "', was '" + errorMessage + "'");
     }
 
+    @Test
+    void testLetReportsErrorsOfValueOnce() {
+        var ast = LET("x", COL("not_a_column"), x -> OP(x, PLUS, x));
+        var exception = assertThrows(ExpressionCompileException.class,
+            () -> Typing.inferTypes(ast, TEST_COLUMN_TO_TYPE, TEST_FLOWVARIABLE_TO_TYPE),
+            "should fail type inferrence");
+        assertEquals(1, exception.getErrors().size(), "should report the missing column once");
+    }
+
     private static final Map<String, ValueType> TEST_TYPES = Map.ofEntries( //
         entry("b", BOOLEAN), entry("b?", OPT_BOOLEAN), //
         entry("i", INTEGER), entry("i?", OPT_INTEGER), //
@@ -588,10 +618,10 @@ final class TypingTest {
     private static final Function<String, ReturnResult<ValueType>> TEST_FLOWVARIABLE_TO_TYPE =
         c -> ReturnResult.fromNullable(TEST_TYPES.get(c), "var " + c + " missing");
 
-    private static void assertChildrenHaveTypes(final Ast astWithTypes) {
-        for (var child : astWithTypes.children()) {
-            assertNotNull(Expressions.getInferredType(astWithTypes), "should have inferred type");
-            assertChildrenHaveTypes(child);
+    private static void assertChildrenHaveTypes(final TypedAst typedAst, final Ast node) {
+        for (var child : node.children()) {
+            assertNotNull(typedAst.typeOf(child), "should have inferred type");
+            assertChildrenHaveTypes(typedAst, child);
         }
     }
 
@@ -217,4 +217,119 @@ final class BuiltInAggregationsTests {
             .illegalArgs("Invalid second arg type", List.of(STR(INT_COL), STR("foo")), Map.of()) //
             .tests();
     }
+
+    @TestFactory
+    List<DynamicNode> rollingSum() {
+        return new ColumnAggregationTestBuilder(BuiltInAggregations.ROLLING_SUM, COLUMN_TYPES) //
+            .typing("Integer column positional", List.of(STR(INT_COL), INT(3)), Map.of(), ValueType.OPT_INTEGER) //
+            .typing("Integer column named", List.of(), Map.of("column", STR(INT_COL), "window", INT(3)), ValueType.OPT_INTEGER) //
+            .typing("Float column positional", List.of(STR(FLOAT_COL), INT(3)), Map.of(), ValueType.OPT_FLOAT) //
+            .typing("Specify third arg positional", List.of(STR(FLOAT_COL), INT(1), BOOL(true)), Map.of(), ValueType.OPT_FLOAT) //
+            .typing("Specify third arg named", List.of(STR(FLOAT_COL), INT(1)), Map.of("ignore_nan", BOOL(true)), ValueType.OPT_FLOAT) //
+            .illegalArgs("No window arg", List.of(STR(INT_COL)), Map.of()) //
+            .illegalArgs("Zero window", List.of(STR(INT_COL), INT(0)), Map.of()) //
+            .illegalArgs("Negative window", List.of(STR(INT_COL), INT(-2)), Map.of()) //
+            .illegalArgs("String column", List.of(STR(STR_COL), INT(3)), Map.of()) //
+            .illegalArgs("Invalid window arg type", List.of(STR(INT_COL), STR("foo")), Map.of()) //
+            .illegalArgs("Invalid third arg type", List.of(STR(INT_COL), INT(3), STR("foo")), Map.of()) //
+            .tests();
+    }
+
+    @TestFactory
+    List<DynamicNode> rollingAverage() {
+        return new ColumnAggregationTestBuilder(BuiltInAggregations.ROLLING_AVERAGE, COLUMN_TYPES) //
+            .typing("Integer column positional", List.of(STR(INT_COL), INT(3)), Map.of(), ValueType.OPT_FLOAT) //
+            .typing("Float column named", List.of(), Map.of("column", STR(FLOAT_COL), "window", INT(3)), ValueType.OPT_FLOAT) //
+            .illegalArgs("No window arg", List.of(STR(INT_COL)), Map.of()) //
+            .illegalArgs("Zero window", List.of(STR(INT_COL), INT(0)), Map.of()) //
+            .illegalArgs("String column", List.of(STR(STR_COL), INT(3)), Map.of()) //
+            .tests();
+    }
+
+    @TestFactory
+    List<DynamicNode> rollingMin() {
+        return new ColumnAggregationTestBuilder(BuiltInAggregations.ROLLING_MIN, COLUMN_TYPES) //
+            .typing("Integer column positional", List.of(STR(INT_COL), INT(3)), Map.of(), ValueType.OPT_INTEGER) //
+            .typing("Float column named", List.of(), Map.of("column", STR(FLOAT_COL), "window", INT(3)), ValueType.OPT_FLOAT) //
+            .illegalArgs("No window arg", List.of(STR(INT_COL)), Map.of()) //
+            .illegalArgs("Zero window", List.of(STR(INT_COL), INT(0)), Map.of()) //
+            .illegalArgs("String column", List.of(STR(STR_COL), INT(3)), Map.of()) //
+            .tests();
+    }
+
+    @TestFactory
+    List<DynamicNode> rollingMax() {
+        return new ColumnAggregationTestBuilder(BuiltInAggregations.ROLLING_MAX, COLUMN_TYPES) //
+            .typing("Integer column positional", List.of(STR(INT_COL), INT(3)), Map.of(), ValueType.OPT_INTEGER) //
+            .typing("Float column named", List.of(), Map.of("column", STR(FLOAT_COL), "window", INT(3)), ValueType.OPT_FLOAT) //
+            .illegalArgs("No window arg", List.of(STR(INT_COL)), Map.of()) //
+            .illegalArgs("Zero window", List.of(STR(INT_COL), INT(0)), Map.of()) //
+            .illegalArgs("String column", List.of(STR(STR_COL), INT(3)), Map.of()) //
+            .tests();
+    }
+
+    @TestFactory
+    List<DynamicNode> rollingCount() {
+        return new ColumnAggregationTestBuilder(BuiltInAggregations.ROLLING_COUNT, COLUMN_TYPES) //
+            .typing("String column", List.of(STR(STR_COL), INT(3)), Map.of(), ValueType.INTEGER) //
+            .typing("All named", List.of(), Map.of("column", STR(INT_COL), "window", INT(3), "ignore_missing", BOOL(true)), ValueType.INTEGER) //
+            .illegalArgs("No window arg", List.of(STR(INT_COL)), Map.of()) //
+            .illegalArgs("Zero window", List.of(STR(INT_COL), INT(0)), Map.of()) //
+            .illegalArgs("Invalid column", List.of(STR("foo"), INT(3)), Map.of()) //
+            .illegalArgs("Invalid third arg type", List.of(STR(INT_COL), INT(3), STR("foo")), Map.of()) //
+            .tests();
+    }
+
+    @TestFactory
+    List<DynamicNode> cumulativeSum() {
+        return new ColumnAggregationTestBuilder(BuiltInAggregations.CUMULATIVE_SUM, COLUMN_TYPES) //
+            .typing("Integer column positional", List.of(STR(INT_COL)), Map.of(), ValueType.OPT_INTEGER) //
+            .typing("Float column named", List.of(), Map.of("column", STR(FLOAT_COL)), ValueType.OPT_FLOAT) //
+            .typing("Specify second arg named", List.of(STR(FLOAT_COL)), Map.of("ignore_nan", BOOL(true)), ValueType.OPT_FLOAT) //
+            .illegalArgs("No column arg", List.of(), Map.of()) //
+            .illegalArgs("String column", List.of(STR(STR_COL)), Map.of()) //
+            .illegalArgs("Invalid second arg type", List.of(STR(INT_COL), STR("foo")), Map.of()) //
+            .tests();
+    }
+
+    @TestFactory
+    List<DynamicNode> cumulativeAverage() {
+        return new ColumnAggregationTestBuilder(BuiltInAggregations.CUMULATIVE_AVERAGE, COLUMN_TYPES) //
+            .typing("Integer column positional", List.of(STR(INT_COL)), Map.of(), ValueType.OPT_FLOAT) //
+            .typing("Float column named", List.of(), Map.of("column", STR(FLOAT_COL)), ValueType.OPT_FLOAT) //
+            .illegalArgs("No column arg", List.of(), Map.of()) //
+            .illegalArgs("String column", List.of(STR(STR_COL)), Map.of()) //
+            .tests();
+    }
+
+    @TestFactory
+    List<DynamicNode> cumulativeMin() {
+        return new ColumnAggregationTestBuilder(BuiltInAggregations.CUMULATIVE_MIN, COLUMN_TYPES) //
+            .typing("Integer column positional", List.of(STR(INT_COL)), Map.of(), ValueType.OPT_INTEGER) //
+            .typing("Float column named", List.of(), Map.of("column", STR(FLOAT_COL)), ValueType.OPT_FLOAT) //
+            .illegalArgs("No column arg", List.of(), Map.of()) //
+            .illegalArgs("String column", List.of(STR(STR_COL)), Map.of()) //
+            .tests();
+    }
+
+    @TestFactory
+    List<DynamicNode> cumulativeMax() {
+        return new ColumnAggregationTestBuilder(BuiltInAggregations.CUMULATIVE_MAX, COLUMN_TYPES) //
+            .typing("Integer column positional", List.of(STR(INT_COL)), Map.of(), ValueType.OPT_INTEGER) //
+            .typing("Float column named", List.of(), Map.of("column", STR(FLOAT_COL)), ValueType.OPT_FLOAT) //
+            .illegalArgs("No column arg", List.of(), Map.of()) //
+            .illegalArgs("String column", List.of(STR(STR_COL)), Map.of()) //
+            .tests();
+    }
+
+    @TestFactory
+    List<DynamicNode> cumulativeCount() {
+        return new ColumnAggregationTestBuilder(BuiltInAggregations.CUMULATIVE_COUNT, COLUMN_TYPES) //
+            .typing("String column", List.of(STR(STR_COL)), Map.of(), ValueType.INTEGER) //
+            .typing("Both named", List.of(), Map.of("column", STR(INT_COL), "ignore_missing", BOOL(true)), ValueType.INTEGER) //
+            .illegalArgs("No column arg", List.of(), Map.of()) //
+            .illegalArgs("Invalid column", List.of(STR("foo")), Map.of()) //
+            .illegalArgs("Invalid second arg type", List.of(STR(INT_COL), STR("foo")), Map.of()) //
+            .tests();
+    }
 }
@@ -21,9 +21,10 @@ public class KnimeExpressionLexer extends Lexer {
 		MISSING=7, ROW_INDEX=8, ROW_NUMBER=9, ROW_ID=10, PLUS=11, MINUS=12, MULTIPLY=13, 
 		DIVIDE=14, FLOOR_DIVIDE=15, EXPONENTIATE=16, MODULO=17, LESS_THAN=18, 
 		LESS_THAN_EQUAL=19, GREATER_THAN=20, GREATER_THAN_EQUAL=21, EQUAL=22, 
-		DBL_EQUAL=23, NOT_EQUAL=24, AND=25, OR=26, NOT=27, MISSING_FALLBACK=28, 
-		IDENTIFIER=29, COLUMN_IDENTIFIER=30, FLOW_VAR_IDENTIFIER=31, FLOW_VARIABLE_ACCESS_START=32, 
-		COLUMN_ACCESS_START=33, ACCESS_END=34, COMMA=35, BRACKET_OPEN=36, BRACKET_CLOSE=37;
+		DBL_EQUAL=23, NOT_EQUAL=24, AND=25, OR=26, NOT=27, IN=28, LET=29, MISSING_FALLBACK=30, 
+		IDENTIFIER=31, COLUMN_IDENTIFIER=32, FLOW_VAR_IDENTIFIER=33, FLOW_VARIABLE_ACCESS_START=34, 
+		COLUMN_ACCESS_START=35, ACCESS_END=36, COMMA=37, LIST_START=38, BRACKET_OPEN=39, 
+		BRACKET_CLOSE=40;
 	public static String[] channelNames = {
 		"DEFAULT_TOKEN_CHANNEL", "HIDDEN"
 	};
@@ -39,9 +40,10 @@ public class KnimeExpressionLexer extends Lexer {
 			"FRACTION", "STRING", "ESC", "MISSING", "ROW_INDEX", "ROW_NUMBER", "ROW_ID", 
 			"PLUS", "MINUS", "MULTIPLY", "DIVIDE", "FLOOR_DIVIDE", "EXPONENTIATE", 
 			"MODULO", "LESS_THAN", "LESS_THAN_EQUAL", "GREATER_THAN", "GREATER_THAN_EQUAL", 
-			"EQUAL", "DBL_EQUAL", "NOT_EQUAL", "AND", "OR", "NOT", "MISSING_FALLBACK", 
+			"EQUAL", "DBL_EQUAL", "NOT_EQUAL", "AND", "OR", "NOT", "IN", "LET", "MISSING_FALLBACK", 
 			"IDENTIFIER", "COLUMN_IDENTIFIER", "FLOW_VAR_IDENTIFIER", "FLOW_VARIABLE_ACCESS_START", 
-			"COLUMN_ACCESS_START", "ACCESS_END", "COMMA", "BRACKET_OPEN", "BRACKET_CLOSE"
+			"COLUMN_ACCESS_START", "ACCESS_END", "COMMA", "LIST_START", "BRACKET_OPEN", 
+			"BRACKET_CLOSE"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -51,8 +53,8 @@ public class KnimeExpressionLexer extends Lexer {
 			null, null, null, null, null, null, null, "'MISSING'", "'$[ROW_INDEX]'", 
 			"'$[ROW_NUMBER]'", "'$[ROW_ID]'", "'+'", "'-'", "'*'", "'/'", "'//'", 
 			"'**'", "'%'", "'<'", "'<='", "'>'", "'>='", "'='", "'=='", null, null, 
-			null, null, "'??'", null, null, null, "'$$['", "'$['", "']'", "','", 
-			"'('", "')'"
+			null, null, null, null, "'??'", null, null, null, "'$$['", "'$['", "']'", 
+			"','", "'['", "'('", "')'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
@@ -62,9 +64,9 @@ public class KnimeExpressionLexer extends Lexer {
 			"MISSING", "ROW_INDEX", "ROW_NUMBER", "ROW_ID", "PLUS", "MINUS", "MULTIPLY", 
 			"DIVIDE", "FLOOR_DIVIDE", "EXPONENTIATE", "MODULO", "LESS_THAN", "LESS_THAN_EQUAL", 
 			"GREATER_THAN", "GREATER_THAN_EQUAL", "EQUAL", "DBL_EQUAL", "NOT_EQUAL", 
-			"AND", "OR", "NOT", "MISSING_FALLBACK", "IDENTIFIER", "COLUMN_IDENTIFIER", 
+			"AND", "OR", "NOT", "IN", "LET", "MISSING_FALLBACK", "IDENTIFIER", "COLUMN_IDENTIFIER", 
 			"FLOW_VAR_IDENTIFIER", "FLOW_VARIABLE_ACCESS_START", "COLUMN_ACCESS_START", 
-			"ACCESS_END", "COMMA", "BRACKET_OPEN", "BRACKET_CLOSE"
+			"ACCESS_END", "COMMA", "LIST_START", "BRACKET_OPEN", "BRACKET_CLOSE"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -126,7 +128,7 @@ public class KnimeExpressionLexer extends Lexer {
 	public ATN getATN() { return _ATN; }
 
 	public static final String _serializedATN =
-		"\u0004\u0000%\u0155\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002\u0001"+
+		"\u0004\u0000(\u016b\u0006\uffff\uffff\u0002\u0000\u0007\u0000\u0002\u0001"+
 		"\u0007\u0001\u0002\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004"+
 		"\u0007\u0004\u0002\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007"+
 		"\u0007\u0007\u0002\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b"+
@@ -139,208 +141,223 @@ public class KnimeExpressionLexer extends Lexer {
 		"\u001e\u0007\u001e\u0002\u001f\u0007\u001f\u0002 \u0007 \u0002!\u0007"+
 		"!\u0002\"\u0007\"\u0002#\u0007#\u0002$\u0007$\u0002%\u0007%\u0002&\u0007"+
 		"&\u0002\'\u0007\'\u0002(\u0007(\u0002)\u0007)\u0002*\u0007*\u0002+\u0007"+
-		"+\u0002,\u0007,\u0001\u0000\u0004\u0000]\b\u0000\u000b\u0000\f\u0000^"+
-		"\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0005\u0001e\b\u0001"+
-		"\n\u0001\f\u0001h\t\u0001\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002"+
-		"\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002"+
-		"\u0001\u0002\u0003\u0002u\b\u0002\u0001\u0003\u0001\u0003\u0001\u0003"+
-		"\u0003\u0003z\b\u0003\u0001\u0003\u0005\u0003}\b\u0003\n\u0003\f\u0003"+
-		"\u0080\t\u0003\u0003\u0003\u0082\b\u0003\u0001\u0004\u0001\u0004\u0001"+
-		"\u0005\u0001\u0005\u0001\u0006\u0001\u0006\u0003\u0006\u008a\b\u0006\u0001"+
-		"\u0007\u0003\u0007\u008d\b\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001"+
-		"\u0007\u0003\u0007\u0093\b\u0007\u0001\b\u0001\b\u0003\b\u0097\b\b\u0001"+
-		"\b\u0001\b\u0001\t\u0001\t\u0003\t\u009d\b\t\u0001\t\u0005\t\u00a0\b\t"+
-		"\n\t\f\t\u00a3\t\t\u0001\n\u0001\n\u0003\n\u00a7\b\n\u0001\n\u0001\n\u0001"+
-		"\u000b\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0001\f\u0005\f\u00b1\b"+
-		"\f\n\f\f\f\u00b4\t\f\u0001\f\u0001\f\u0001\f\u0001\f\u0005\f\u00ba\b\f"+
-		"\n\f\f\f\u00bd\t\f\u0001\f\u0003\f\u00c0\b\f\u0001\r\u0001\r\u0001\r\u0001"+
+		"+\u0002,\u0007,\u0002-\u0007-\u0002.\u0007.\u0002/\u0007/\u0001\u0000"+
+		"\u0004\u0000c\b\u0000\u000b\u0000\f\u0000d\u0001\u0000\u0001\u0000\u0001"+
+		"\u0001\u0001\u0001\u0005\u0001k\b\u0001\n\u0001\f\u0001n\t\u0001\u0001"+
+		"\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
+		"\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0003\u0002{\b"+
+		"\u0002\u0001\u0003\u0001\u0003\u0001\u0003\u0003\u0003\u0080\b\u0003\u0001"+
+		"\u0003\u0005\u0003\u0083\b\u0003\n\u0003\f\u0003\u0086\t\u0003\u0003\u0003"+
+		"\u0088\b\u0003\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005\u0001\u0006"+
+		"\u0001\u0006\u0003\u0006\u0090\b\u0006\u0001\u0007\u0003\u0007\u0093\b"+
+		"\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0003\u0007\u0099"+
+		"\b\u0007\u0001\b\u0001\b\u0003\b\u009d\b\b\u0001\b\u0001\b\u0001\t\u0001"+
+		"\t\u0003\t\u00a3\b\t\u0001\t\u0005\t\u00a6\b\t\n\t\f\t\u00a9\t\t\u0001"+
+		"\n\u0001\n\u0003\n\u00ad\b\n\u0001\n\u0001\n\u0001\u000b\u0001\u000b\u0001"+
+		"\u000b\u0001\f\u0001\f\u0001\f\u0005\f\u00b7\b\f\n\f\f\f\u00ba\t\f\u0001"+
+		"\f\u0001\f\u0001\f\u0001\f\u0005\f\u00c0\b\f\n\f\f\f\u00c3\t\f\u0001\f"+
+		"\u0003\f\u00c6\b\f\u0001\r\u0001\r\u0001\r\u0001\u000e\u0001\u000e\u0001"+
 		"\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001"+
-		"\u000e\u0001\u000e\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001"+
 		"\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001"+
-		"\u000f\u0001\u000f\u0001\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0001"+
+		"\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001\u000f\u0001"+
+		"\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001"+
 		"\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001"+
-		"\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0011\u0001"+
+		"\u0010\u0001\u0010\u0001\u0010\u0001\u0011\u0001\u0011\u0001\u0011\u0001"+
 		"\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001\u0011\u0001"+
-		"\u0011\u0001\u0011\u0001\u0011\u0001\u0012\u0001\u0012\u0001\u0013\u0001"+
-		"\u0013\u0001\u0014\u0001\u0014\u0001\u0015\u0001\u0015\u0001\u0016\u0001"+
-		"\u0016\u0001\u0016\u0001\u0017\u0001\u0017\u0001\u0017\u0001\u0018\u0001"+
-		"\u0018\u0001\u0019\u0001\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001"+
-		"\u001b\u0001\u001b\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001d\u0001"+
-		"\u001d\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001f\u0001\u001f\u0001"+
-		"\u001f\u0001\u001f\u0003\u001f\u0115\b\u001f\u0001 \u0001 \u0001 \u0001"+
-		" \u0001 \u0001 \u0003 \u011d\b \u0001!\u0001!\u0001!\u0001!\u0003!\u0123"+
-		"\b!\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0001\"\u0003\"\u012b\b\""+
-		"\u0001#\u0001#\u0001#\u0001$\u0001$\u0005$\u0132\b$\n$\f$\u0135\t$\u0001"+
-		"%\u0001%\u0005%\u0139\b%\n%\f%\u013c\t%\u0001&\u0001&\u0001&\u0001&\u0005"+
-		"&\u0142\b&\n&\f&\u0145\t&\u0001\'\u0001\'\u0001\'\u0001\'\u0001(\u0001"+
-		"(\u0001(\u0001)\u0001)\u0001*\u0001*\u0001+\u0001+\u0001,\u0001,\u0002"+
-		"\u00b2\u00bb\u0000-\u0001\u0001\u0003\u0002\u0005\u0003\u0007\u0004\t"+
-		"\u0000\u000b\u0000\r\u0005\u000f\u0000\u0011\u0000\u0013\u0000\u0015\u0000"+
-		"\u0017\u0000\u0019\u0006\u001b\u0000\u001d\u0007\u001f\b!\t#\n%\u000b"+
-		"\'\f)\r+\u000e-\u000f/\u00101\u00113\u00125\u00137\u00149\u0015;\u0016"+
-		"=\u0017?\u0018A\u0019C\u001aE\u001bG\u001cI\u001dK\u001eM\u001fO Q!S\""+
-		"U#W$Y%\u0001\u0000\b\u0003\u0000\t\n\r\r  \u0002\u0000\n\n\r\r\u0001\u0000"+
-		"19\u0001\u000009\u0002\u0000EEee\u0002\u0000++--\u0002\u0000AZaz\u0004"+
-		"\u000009AZ__az\u0165\u0000\u0001\u0001\u0000\u0000\u0000\u0000\u0003\u0001"+
-		"\u0000\u0000\u0000\u0000\u0005\u0001\u0000\u0000\u0000\u0000\u0007\u0001"+
-		"\u0000\u0000\u0000\u0000\r\u0001\u0000\u0000\u0000\u0000\u0019\u0001\u0000"+
-		"\u0000\u0000\u0000\u001d\u0001\u0000\u0000\u0000\u0000\u001f\u0001\u0000"+
-		"\u0000\u0000\u0000!\u0001\u0000\u0000\u0000\u0000#\u0001\u0000\u0000\u0000"+
-		"\u0000%\u0001\u0000\u0000\u0000\u0000\'\u0001\u0000\u0000\u0000\u0000"+
-		")\u0001\u0000\u0000\u0000\u0000+\u0001\u0000\u0000\u0000\u0000-\u0001"+
-		"\u0000\u0000\u0000\u0000/\u0001\u0000\u0000\u0000\u00001\u0001\u0000\u0000"+
-		"\u0000\u00003\u0001\u0000\u0000\u0000\u00005\u0001\u0000\u0000\u0000\u0000"+
-		"7\u0001\u0000\u0000\u0000\u00009\u0001\u0000\u0000\u0000\u0000;\u0001"+
-		"\u0000\u0000\u0000\u0000=\u0001\u0000\u0000\u0000\u0000?\u0001\u0000\u0000"+
-		"\u0000\u0000A\u0001\u0000\u0000\u0000\u0000C\u0001\u0000\u0000\u0000\u0000"+
-		"E\u0001\u0000\u0000\u0000\u0000G\u0001\u0000\u0000\u0000\u0000I\u0001"+
-		"\u0000\u0000\u0000\u0000K\u0001\u0000\u0000\u0000\u0000M\u0001\u0000\u0000"+
-		"\u0000\u0000O\u0001\u0000\u0000\u0000\u0000Q\u0001\u0000\u0000\u0000\u0000"+
-		"S\u0001\u0000\u0000\u0000\u0000U\u0001\u0000\u0000\u0000\u0000W\u0001"+
-		"\u0000\u0000\u0000\u0000Y\u0001\u0000\u0000\u0000\u0001\\\u0001\u0000"+
-		"\u0000\u0000\u0003b\u0001\u0000\u0000\u0000\u0005t\u0001\u0000\u0000\u0000"+
-		"\u0007\u0081\u0001\u0000\u0000\u0000\t\u0083\u0001\u0000\u0000\u0000\u000b"+
-		"\u0085\u0001\u0000\u0000\u0000\r\u0089\u0001\u0000\u0000\u0000\u000f\u0092"+
-		"\u0001\u0000\u0000\u0000\u0011\u0096\u0001\u0000\u0000\u0000\u0013\u009a"+
-		"\u0001\u0000\u0000\u0000\u0015\u00a4\u0001\u0000\u0000\u0000\u0017\u00aa"+
-		"\u0001\u0000\u0000\u0000\u0019\u00bf\u0001\u0000\u0000\u0000\u001b\u00c1"+
-		"\u0001\u0000\u0000\u0000\u001d\u00c4\u0001\u0000\u0000\u0000\u001f\u00cc"+
-		"\u0001\u0000\u0000\u0000!\u00d9\u0001\u0000\u0000\u0000#\u00e7\u0001\u0000"+
-		"\u0000\u0000%\u00f1\u0001\u0000\u0000\u0000\'\u00f3\u0001\u0000\u0000"+
-		"\u0000)\u00f5\u0001\u0000\u0000\u0000+\u00f7\u0001\u0000\u0000\u0000-"+
-		"\u00f9\u0001\u0000\u0000\u0000/\u00fc\u0001\u0000\u0000\u00001\u00ff\u0001"+
-		"\u0000\u0000\u00003\u0101\u0001\u0000\u0000\u00005\u0103\u0001\u0000\u0000"+
-		"\u00007\u0106\u0001\u0000\u0000\u00009\u0108\u0001\u0000\u0000\u0000;"+
-		"\u010b\u0001\u0000\u0000\u0000=\u010d\u0001\u0000\u0000\u0000?\u0114\u0001"+
-		"\u0000\u0000\u0000A\u011c\u0001\u0000\u0000\u0000C\u0122\u0001\u0000\u0000"+
-		"\u0000E\u012a\u0001\u0000\u0000\u0000G\u012c\u0001\u0000\u0000\u0000I"+
-		"\u012f\u0001\u0000\u0000\u0000K\u0136\u0001\u0000\u0000\u0000M\u013d\u0001"+
-		"\u0000\u0000\u0000O\u0146\u0001\u0000\u0000\u0000Q\u014a\u0001\u0000\u0000"+
-		"\u0000S\u014d\u0001\u0000\u0000\u0000U\u014f\u0001\u0000\u0000\u0000W"+
-		"\u0151\u0001\u0000\u0000\u0000Y\u0153\u0001\u0000\u0000\u0000[]\u0007"+
-		"\u0000\u0000\u0000\\[\u0001\u0000\u0000\u0000]^\u0001\u0000\u0000\u0000"+
-		"^\\\u0001\u0000\u0000\u0000^_\u0001\u0000\u0000\u0000_`\u0001\u0000\u0000"+
-		"\u0000`a\u0006\u0000\u0000\u0000a\u0002\u0001\u0000\u0000\u0000bf\u0005"+
-		"#\u0000\u0000ce\b\u0001\u0000\u0000dc\u0001\u0000\u0000\u0000eh\u0001"+
-		"\u0000\u0000\u0000fd\u0001\u0000\u0000\u0000fg\u0001\u0000\u0000\u0000"+
-		"gi\u0001\u0000\u0000\u0000hf\u0001\u0000\u0000\u0000ij\u0006\u0001\u0000"+
-		"\u0000j\u0004\u0001\u0000\u0000\u0000kl\u0005T\u0000\u0000lm\u0005R\u0000"+
-		"\u0000mn\u0005U\u0000\u0000nu\u0005E\u0000\u0000op\u0005F\u0000\u0000"+
-		"pq\u0005A\u0000\u0000qr\u0005L\u0000\u0000rs\u0005S\u0000\u0000su\u0005"+
-		"E\u0000\u0000tk\u0001\u0000\u0000\u0000to\u0001\u0000\u0000\u0000u\u0006"+
-		"\u0001\u0000\u0000\u0000v\u0082\u00050\u0000\u0000w~\u0003\t\u0004\u0000"+
-		"xz\u0005_\u0000\u0000yx\u0001\u0000\u0000\u0000yz\u0001\u0000\u0000\u0000"+
-		"z{\u0001\u0000\u0000\u0000{}\u0003\u000b\u0005\u0000|y\u0001\u0000\u0000"+
-		"\u0000}\u0080\u0001\u0000\u0000\u0000~|\u0001\u0000\u0000\u0000~\u007f"+
-		"\u0001\u0000\u0000\u0000\u007f\u0082\u0001\u0000\u0000\u0000\u0080~\u0001"+
-		"\u0000\u0000\u0000\u0081v\u0001\u0000\u0000\u0000\u0081w\u0001\u0000\u0000"+
-		"\u0000\u0082\b\u0001\u0000\u0000\u0000\u0083\u0084\u0007\u0002\u0000\u0000"+
-		"\u0084\n\u0001\u0000\u0000\u0000\u0085\u0086\u0007\u0003\u0000\u0000\u0086"+
-		"\f\u0001\u0000\u0000\u0000\u0087\u008a\u0003\u000f\u0007\u0000\u0088\u008a"+
-		"\u0003\u0011\b\u0000\u0089\u0087\u0001\u0000\u0000\u0000\u0089\u0088\u0001"+
-		"\u0000\u0000\u0000\u008a\u000e\u0001\u0000\u0000\u0000\u008b\u008d\u0003"+
-		"\u0013\t\u0000\u008c\u008b\u0001\u0000\u0000\u0000\u008c\u008d\u0001\u0000"+
-		"\u0000\u0000\u008d\u008e\u0001\u0000\u0000\u0000\u008e\u0093\u0003\u0017"+
-		"\u000b\u0000\u008f\u0090\u0003\u0013\t\u0000\u0090\u0091\u0005.\u0000"+
-		"\u0000\u0091\u0093\u0001\u0000\u0000\u0000\u0092\u008c\u0001\u0000\u0000"+
-		"\u0000\u0092\u008f\u0001\u0000\u0000\u0000\u0093\u0010\u0001\u0000\u0000"+
-		"\u0000\u0094\u0097\u0003\u0013\t\u0000\u0095\u0097\u0003\u000f\u0007\u0000"+
-		"\u0096\u0094\u0001\u0000\u0000\u0000\u0096\u0095\u0001\u0000\u0000\u0000"+
-		"\u0097\u0098\u0001\u0000\u0000\u0000\u0098\u0099\u0003\u0015\n\u0000\u0099"+
-		"\u0012\u0001\u0000\u0000\u0000\u009a\u00a1\u0003\u000b\u0005\u0000\u009b"+
-		"\u009d\u0005_\u0000\u0000\u009c\u009b\u0001\u0000\u0000\u0000\u009c\u009d"+
-		"\u0001\u0000\u0000\u0000\u009d\u009e\u0001\u0000\u0000\u0000\u009e\u00a0"+
-		"\u0003\u000b\u0005\u0000\u009f\u009c\u0001\u0000\u0000\u0000\u00a0\u00a3"+
-		"\u0001\u0000\u0000\u0000\u00a1\u009f\u0001\u0000\u0000\u0000\u00a1\u00a2"+
-		"\u0001\u0000\u0000\u0000\u00a2\u0014\u0001\u0000\u0000\u0000\u00a3\u00a1"+
-		"\u0001\u0000\u0000\u0000\u00a4\u00a6\u0007\u0004\u0000\u0000\u00a5\u00a7"+
-		"\u0007\u0005\u0000\u0000\u00a6\u00a5\u0001\u0000\u0000\u0000\u00a6\u00a7"+
-		"\u0001\u0000\u0000\u0000\u00a7\u00a8\u0001\u0000\u0000\u0000\u00a8\u00a9"+
-		"\u0003\u0013\t\u0000\u00a9\u0016\u0001\u0000\u0000\u0000\u00aa\u00ab\u0005"+
-		".\u0000\u0000\u00ab\u00ac\u0003\u0013\t\u0000\u00ac\u0018\u0001\u0000"+
-		"\u0000\u0000\u00ad\u00b2\u0005\"\u0000\u0000\u00ae\u00b1\u0003\u001b\r"+
-		"\u0000\u00af\u00b1\t\u0000\u0000\u0000\u00b0\u00ae\u0001\u0000\u0000\u0000"+
-		"\u00b0\u00af\u0001\u0000\u0000\u0000\u00b1\u00b4\u0001\u0000\u0000\u0000"+
-		"\u00b2\u00b3\u0001\u0000\u0000\u0000\u00b2\u00b0\u0001\u0000\u0000\u0000"+
-		"\u00b3\u00b5\u0001\u0000\u0000\u0000\u00b4\u00b2\u0001\u0000\u0000\u0000"+
-		"\u00b5\u00c0\u0005\"\u0000\u0000\u00b6\u00bb\u0005\'\u0000\u0000\u00b7"+
-		"\u00ba\u0003\u001b\r\u0000\u00b8\u00ba\t\u0000\u0000\u0000\u00b9\u00b7"+
-		"\u0001\u0000\u0000\u0000\u00b9\u00b8\u0001\u0000\u0000\u0000\u00ba\u00bd"+
-		"\u0001\u0000\u0000\u0000\u00bb\u00bc\u0001\u0000\u0000\u0000\u00bb\u00b9"+
-		"\u0001\u0000\u0000\u0000\u00bc\u00be\u0001\u0000\u0000\u0000\u00bd\u00bb"+
-		"\u0001\u0000\u0000\u0000\u00be\u00c0\u0005\'\u0000\u0000\u00bf\u00ad\u0001"+
-		"\u0000\u0000\u0000\u00bf\u00b6\u0001\u0000\u0000\u0000\u00c0\u001a\u0001"+
-		"\u0000\u0000\u0000\u00c1\u00c2\u0005\\\u0000\u0000\u00c2\u00c3\t\u0000"+
-		"\u0000\u0000\u00c3\u001c\u0001\u0000\u0000\u0000\u00c4\u00c5\u0005M\u0000"+
-		"\u0000\u00c5\u00c6\u0005I\u0000\u0000\u00c6\u00c7\u0005S\u0000\u0000\u00c7"+
-		"\u00c8\u0005S\u0000\u0000\u00c8\u00c9\u0005I\u0000\u0000\u00c9\u00ca\u0005"+
-		"N\u0000\u0000\u00ca\u00cb\u0005G\u0000\u0000\u00cb\u001e\u0001\u0000\u0000"+
-		"\u0000\u00cc\u00cd\u0005$\u0000\u0000\u00cd\u00ce\u0005[\u0000\u0000\u00ce"+
-		"\u00cf\u0005R\u0000\u0000\u00cf\u00d0\u0005O\u0000\u0000\u00d0\u00d1\u0005"+
-		"W\u0000\u0000\u00d1\u00d2\u0005_\u0000\u0000\u00d2\u00d3\u0005I\u0000"+
-		"\u0000\u00d3\u00d4\u0005N\u0000\u0000\u00d4\u00d5\u0005D\u0000\u0000\u00d5"+
-		"\u00d6\u0005E\u0000\u0000\u00d6\u00d7\u0005X\u0000\u0000\u00d7\u00d8\u0005"+
-		"]\u0000\u0000\u00d8 \u0001\u0000\u0000\u0000\u00d9\u00da\u0005$\u0000"+
-		"\u0000\u00da\u00db\u0005[\u0000\u0000\u00db\u00dc\u0005R\u0000\u0000\u00dc"+
-		"\u00dd\u0005O\u0000\u0000\u00dd\u00de\u0005W\u0000\u0000\u00de\u00df\u0005"+
-		"_\u0000\u0000\u00df\u00e0\u0005N\u0000\u0000\u00e0\u00e1\u0005U\u0000"+
-		"\u0000\u00e1\u00e2\u0005M\u0000\u0000\u00e2\u00e3\u0005B\u0000\u0000\u00e3"+
-		"\u00e4\u0005E\u0000\u0000\u00e4\u00e5\u0005R\u0000\u0000\u00e5\u00e6\u0005"+
-		"]\u0000\u0000\u00e6\"\u0001\u0000\u0000\u0000\u00e7\u00e8\u0005$\u0000"+
-		"\u0000\u00e8\u00e9\u0005[\u0000\u0000\u00e9\u00ea\u0005R\u0000\u0000\u00ea"+
-		"\u00eb\u0005O\u0000\u0000\u00eb\u00ec\u0005W\u0000\u0000\u00ec\u00ed\u0005"+
-		"_\u0000\u0000\u00ed\u00ee\u0005I\u0000\u0000\u00ee\u00ef\u0005D\u0000"+
-		"\u0000\u00ef\u00f0\u0005]\u0000\u0000\u00f0$\u0001\u0000\u0000\u0000\u00f1"+
-		"\u00f2\u0005+\u0000\u0000\u00f2&\u0001\u0000\u0000\u0000\u00f3\u00f4\u0005"+
-		"-\u0000\u0000\u00f4(\u0001\u0000\u0000\u0000\u00f5\u00f6\u0005*\u0000"+
-		"\u0000\u00f6*\u0001\u0000\u0000\u0000\u00f7\u00f8\u0005/\u0000\u0000\u00f8"+
-		",\u0001\u0000\u0000\u0000\u00f9\u00fa\u0005/\u0000\u0000\u00fa\u00fb\u0005"+
-		"/\u0000\u0000\u00fb.\u0001\u0000\u0000\u0000\u00fc\u00fd\u0005*\u0000"+
-		"\u0000\u00fd\u00fe\u0005*\u0000\u0000\u00fe0\u0001\u0000\u0000\u0000\u00ff"+
-		"\u0100\u0005%\u0000\u0000\u01002\u0001\u0000\u0000\u0000\u0101\u0102\u0005"+
-		"<\u0000\u0000\u01024\u0001\u0000\u0000\u0000\u0103\u0104\u0005<\u0000"+
-		"\u0000\u0104\u0105\u0005=\u0000\u0000\u01056\u0001\u0000\u0000\u0000\u0106"+
-		"\u0107\u0005>\u0000\u0000\u01078\u0001\u0000\u0000\u0000\u0108\u0109\u0005"+
-		">\u0000\u0000\u0109\u010a\u0005=\u0000\u0000\u010a:\u0001\u0000\u0000"+
-		"\u0000\u010b\u010c\u0005=\u0000\u0000\u010c<\u0001\u0000\u0000\u0000\u010d"+
-		"\u010e\u0005=\u0000\u0000\u010e\u010f\u0005=\u0000\u0000\u010f>\u0001"+
-		"\u0000\u0000\u0000\u0110\u0111\u0005!\u0000\u0000\u0111\u0115\u0005=\u0000"+
-		"\u0000\u0112\u0113\u0005<\u0000\u0000\u0113\u0115\u0005>\u0000\u0000\u0114"+
-		"\u0110\u0001\u0000\u0000\u0000\u0114\u0112\u0001\u0000\u0000\u0000\u0115"+
-		"@\u0001\u0000\u0000\u0000\u0116\u0117\u0005a\u0000\u0000\u0117\u0118\u0005"+
-		"n\u0000\u0000\u0118\u011d\u0005d\u0000\u0000\u0119\u011a\u0005A\u0000"+
-		"\u0000\u011a\u011b\u0005N\u0000\u0000\u011b\u011d\u0005D\u0000\u0000\u011c"+
-		"\u0116\u0001\u0000\u0000\u0000\u011c\u0119\u0001\u0000\u0000\u0000\u011d"+
-		"B\u0001\u0000\u0000\u0000\u011e\u011f\u0005o\u0000\u0000\u011f\u0123\u0005"+
-		"r\u0000\u0000\u0120\u0121\u0005O\u0000\u0000\u0121\u0123\u0005R\u0000"+
-		"\u0000\u0122\u011e\u0001\u0000\u0000\u0000\u0122\u0120\u0001\u0000\u0000"+
-		"\u0000\u0123D\u0001\u0000\u0000\u0000\u0124\u0125\u0005n\u0000\u0000\u0125"+
-		"\u0126\u0005o\u0000\u0000\u0126\u012b\u0005t\u0000\u0000\u0127\u0128\u0005"+
-		"N\u0000\u0000\u0128\u0129\u0005O\u0000\u0000\u0129\u012b\u0005T\u0000"+
-		"\u0000\u012a\u0124\u0001\u0000\u0000\u0000\u012a\u0127\u0001\u0000\u0000"+
-		"\u0000\u012bF\u0001\u0000\u0000\u0000\u012c\u012d\u0005?\u0000\u0000\u012d"+
-		"\u012e\u0005?\u0000\u0000\u012eH\u0001\u0000\u0000\u0000\u012f\u0133\u0007"+
-		"\u0006\u0000\u0000\u0130\u0132\u0007\u0007\u0000\u0000\u0131\u0130\u0001"+
-		"\u0000\u0000\u0000\u0132\u0135\u0001\u0000\u0000\u0000\u0133\u0131\u0001"+
-		"\u0000\u0000\u0000\u0133\u0134\u0001\u0000\u0000\u0000\u0134J\u0001\u0000"+
-		"\u0000\u0000\u0135\u0133\u0001\u0000\u0000\u0000\u0136\u013a\u0005$\u0000"+
-		"\u0000\u0137\u0139\u0007\u0007\u0000\u0000\u0138\u0137\u0001\u0000\u0000"+
-		"\u0000\u0139\u013c\u0001\u0000\u0000\u0000\u013a\u0138\u0001\u0000\u0000"+
-		"\u0000\u013a\u013b\u0001\u0000\u0000\u0000\u013bL\u0001\u0000\u0000\u0000"+
-		"\u013c\u013a\u0001\u0000\u0000\u0000\u013d\u013e\u0005$\u0000\u0000\u013e"+
-		"\u013f\u0005$\u0000\u0000\u013f\u0143\u0001\u0000\u0000\u0000\u0140\u0142"+
-		"\u0007\u0007\u0000\u0000\u0141\u0140\u0001\u0000\u0000\u0000\u0142\u0145"+
-		"\u0001\u0000\u0000\u0000\u0143\u0141\u0001\u0000\u0000\u0000\u0143\u0144"+
-		"\u0001\u0000\u0000\u0000\u0144N\u0001\u0000\u0000\u0000\u0145\u0143\u0001"+
-		"\u0000\u0000\u0000\u0146\u0147\u0005$\u0000\u0000\u0147\u0148\u0005$\u0000"+
-		"\u0000\u0148\u0149\u0005[\u0000\u0000\u0149P\u0001\u0000\u0000\u0000\u014a"+
-		"\u014b\u0005$\u0000\u0000\u014b\u014c\u0005[\u0000\u0000\u014cR\u0001"+
-		"\u0000\u0000\u0000\u014d\u014e\u0005]\u0000\u0000\u014eT\u0001\u0000\u0000"+
-		"\u0000\u014f\u0150\u0005,\u0000\u0000\u0150V\u0001\u0000\u0000\u0000\u0151"+
-		"\u0152\u0005(\u0000\u0000\u0152X\u0001\u0000\u0000\u0000\u0153\u0154\u0005"+
-		")\u0000\u0000\u0154Z\u0001\u0000\u0000\u0000\u001a\u0000^fty~\u0081\u0089"+
-		"\u008c\u0092\u0096\u009c\u00a1\u00a6\u00b0\u00b2\u00b9\u00bb\u00bf\u0114"+
-		"\u011c\u0122\u012a\u0133\u013a\u0143\u0001\u0006\u0000\u0000";
+		"\u0011\u0001\u0012\u0001\u0012\u0001\u0013\u0001\u0013\u0001\u0014\u0001"+
+		"\u0014\u0001\u0015\u0001\u0015\u0001\u0016\u0001\u0016\u0001\u0016\u0001"+
+		"\u0017\u0001\u0017\u0001\u0017\u0001\u0018\u0001\u0018\u0001\u0019\u0001"+
+		"\u0019\u0001\u001a\u0001\u001a\u0001\u001a\u0001\u001b\u0001\u001b\u0001"+
+		"\u001c\u0001\u001c\u0001\u001c\u0001\u001d\u0001\u001d\u0001\u001e\u0001"+
+		"\u001e\u0001\u001e\u0001\u001f\u0001\u001f\u0001\u001f\u0001\u001f\u0003"+
+		"\u001f\u011b\b\u001f\u0001 \u0001 \u0001 \u0001 \u0001 \u0001 \u0003 "+
+		"\u0123\b \u0001!\u0001!\u0001!\u0001!\u0003!\u0129\b!\u0001\"\u0001\""+
+		"\u0001\"\u0001\"\u0001\"\u0001\"\u0003\"\u0131\b\"\u0001#\u0001#\u0001"+
+		"#\u0001#\u0003#\u0137\b#\u0001$\u0001$\u0001$\u0001$\u0001$\u0001$\u0003"+
+		"$\u013f\b$\u0001%\u0001%\u0001%\u0001&\u0001&\u0005&\u0146\b&\n&\f&\u0149"+
+		"\t&\u0001\'\u0001\'\u0005\'\u014d\b\'\n\'\f\'\u0150\t\'\u0001(\u0001("+
+		"\u0001(\u0001(\u0005(\u0156\b(\n(\f(\u0159\t(\u0001)\u0001)\u0001)\u0001"+
+		")\u0001*\u0001*\u0001*\u0001+\u0001+\u0001,\u0001,\u0001-\u0001-\u0001"+
+		".\u0001.\u0001/\u0001/\u0002\u00b8\u00c1\u00000\u0001\u0001\u0003\u0002"+
+		"\u0005\u0003\u0007\u0004\t\u0000\u000b\u0000\r\u0005\u000f\u0000\u0011"+
+		"\u0000\u0013\u0000\u0015\u0000\u0017\u0000\u0019\u0006\u001b\u0000\u001d"+
+		"\u0007\u001f\b!\t#\n%\u000b\'\f)\r+\u000e-\u000f/\u00101\u00113\u0012"+
+		"5\u00137\u00149\u0015;\u0016=\u0017?\u0018A\u0019C\u001aE\u001bG\u001c"+
+		"I\u001dK\u001eM\u001fO Q!S\"U#W$Y%[&]\'_(\u0001\u0000\b\u0003\u0000\t"+
+		"\n\r\r  \u0002\u0000\n\n\r\r\u0001\u000019\u0001\u000009\u0002\u0000E"+
+		"Eee\u0002\u0000++--\u0002\u0000AZaz\u0004\u000009AZ__az\u017d\u0000\u0001"+
+		"\u0001\u0000\u0000\u0000\u0000\u0003\u0001\u0000\u0000\u0000\u0000\u0005"+
+		"\u0001\u0000\u0000\u0000\u0000\u0007\u0001\u0000\u0000\u0000\u0000\r\u0001"+
+		"\u0000\u0000\u0000\u0000\u0019\u0001\u0000\u0000\u0000\u0000\u001d\u0001"+
+		"\u0000\u0000\u0000\u0000\u001f\u0001\u0000\u0000\u0000\u0000!\u0001\u0000"+
+		"\u0000\u0000\u0000#\u0001\u0000\u0000\u0000\u0000%\u0001\u0000\u0000\u0000"+
+		"\u0000\'\u0001\u0000\u0000\u0000\u0000)\u0001\u0000\u0000\u0000\u0000"+
+		"+\u0001\u0000\u0000\u0000\u0000-\u0001\u0000\u0000\u0000\u0000/\u0001"+
+		"\u0000\u0000\u0000\u00001\u0001\u0000\u0000\u0000\u00003\u0001\u0000\u0000"+
+		"\u0000\u00005\u0001\u0000\u0000\u0000\u00007\u0001\u0000\u0000\u0000\u0000"+
+		"9\u0001\u0000\u0000\u0000\u0000;\u0001\u0000\u0000\u0000\u0000=\u0001"+
+		"\u0000\u0000\u0000\u0000?\u0001\u0000\u0000\u0000\u0000A\u0001\u0000\u0000"+
+		"\u0000\u0000C\u0001\u0000\u0000\u0000\u0000E\u0001\u0000\u0000\u0000\u0000"+
+		"G\u0001\u0000\u0000\u0000\u0000I\u0001\u0000\u0000\u0000\u0000K\u0001"+
+		"\u0000\u0000\u0000\u0000M\u0001\u0000\u0000\u0000\u0000O\u0001\u0000\u0000"+
+		"\u0000\u0000Q\u0001\u0000\u0000\u0000\u0000S\u0001\u0000\u0000\u0000\u0000"+
+		"U\u0001\u0000\u0000\u0000\u0000W\u0001\u0000\u0000\u0000\u0000Y\u0001"+
+		"\u0000\u0000\u0000\u0000[\u0001\u0000\u0000\u0000\u0000]\u0001\u0000\u0000"+
+		"\u0000\u0000_\u0001\u0000\u0000\u0000\u0001b\u0001\u0000\u0000\u0000\u0003"+
+		"h\u0001\u0000\u0000\u0000\u0005z\u0001\u0000\u0000\u0000\u0007\u0087\u0001"+
+		"\u0000\u0000\u0000\t\u0089\u0001\u0000\u0000\u0000\u000b\u008b\u0001\u0000"+
+		"\u0000\u0000\r\u008f\u0001\u0000\u0000\u0000\u000f\u0098\u0001\u0000\u0000"+
+		"\u0000\u0011\u009c\u0001\u0000\u0000\u0000\u0013\u00a0\u0001\u0000\u0000"+
+		"\u0000\u0015\u00aa\u0001\u0000\u0000\u0000\u0017\u00b0\u0001\u0000\u0000"+
+		"\u0000\u0019\u00c5\u0001\u0000\u0000\u0000\u001b\u00c7\u0001\u0000\u0000"+
+		"\u0000\u001d\u00ca\u0001\u0000\u0000\u0000\u001f\u00d2\u0001\u0000\u0000"+
+		"\u0000!\u00df\u0001\u0000\u0000\u0000#\u00ed\u0001\u0000\u0000\u0000%"+
+		"\u00f7\u0001\u0000\u0000\u0000\'\u00f9\u0001\u0000\u0000\u0000)\u00fb"+
+		"\u0001\u0000\u0000\u0000+\u00fd\u0001\u0000\u0000\u0000-\u00ff\u0001\u0000"+
+		"\u0000\u0000/\u0102\u0001\u0000\u0000\u00001\u0105\u0001\u0000\u0000\u0000"+
+		"3\u0107\u0001\u0000\u0000\u00005\u0109\u0001\u0000\u0000\u00007\u010c"+
+		"\u0001\u0000\u0000\u00009\u010e\u0001\u0000\u0000\u0000;\u0111\u0001\u0000"+
+		"\u0000\u0000=\u0113\u0001\u0000\u0000\u0000?\u011a\u0001\u0000\u0000\u0000"+
+		"A\u0122\u0001\u0000\u0000\u0000C\u0128\u0001\u0000\u0000\u0000E\u0130"+
+		"\u0001\u0000\u0000\u0000G\u0136\u0001\u0000\u0000\u0000I\u013e\u0001\u0000"+
+		"\u0000\u0000K\u0140\u0001\u0000\u0000\u0000M\u0143\u0001\u0000\u0000\u0000"+
+		"O\u014a\u0001\u0000\u0000\u0000Q\u0151\u0001\u0000\u0000\u0000S\u015a"+
+		"\u0001\u0000\u0000\u0000U\u015e\u0001\u0000\u0000\u0000W\u0161\u0001\u0000"+
+		"\u0000\u0000Y\u0163\u0001\u0000\u0000\u0000[\u0165\u0001\u0000\u0000\u0000"+
+		"]\u0167\u0001\u0000\u0000\u0000_\u0169\u0001\u0000\u0000\u0000ac\u0007"+
+		"\u0000\u0000\u0000ba\u0001\u0000\u0000\u0000cd\u0001\u0000\u0000\u0000"+
+		"db\u0001\u0000\u0000\u0000de\u0001\u0000\u0000\u0000ef\u0001\u0000\u0000"+
+		"\u0000fg\u0006\u0000\u0000\u0000g\u0002\u0001\u0000\u0000\u0000hl\u0005"+
+		"#\u0000\u0000ik\b\u0001\u0000\u0000ji\u0001\u0000\u0000\u0000kn\u0001"+
+		"\u0000\u0000\u0000lj\u0001\u0000\u0000\u0000lm\u0001\u0000\u0000\u0000"+
+		"mo\u0001\u0000\u0000\u0000nl\u0001\u0000\u0000\u0000op\u0006\u0001\u0000"+
+		"\u0000p\u0004\u0001\u0000\u0000\u0000qr\u0005T\u0000\u0000rs\u0005R\u0000"+
+		"\u0000st\u0005U\u0000\u0000t{\u0005E\u0000\u0000uv\u0005F\u0000\u0000"+
+		"vw\u0005A\u0000\u0000wx\u0005L\u0000\u0000xy\u0005S\u0000\u0000y{\u0005"+
+		"E\u0000\u0000zq\u0001\u0000\u0000\u0000zu\u0001\u0000\u0000\u0000{\u0006"+
+		"\u0001\u0000\u0000\u0000|\u0088\u00050\u0000\u0000}\u0084\u0003\t\u0004"+
+		"\u0000~\u0080\u0005_\u0000\u0000\u007f~\u0001\u0000\u0000\u0000\u007f"+
+		"\u0080\u0001\u0000\u0000\u0000\u0080\u0081\u0001\u0000\u0000\u0000\u0081"+
+		"\u0083\u0003\u000b\u0005\u0000\u0082\u007f\u0001\u0000\u0000\u0000\u0083"+
+		"\u0086\u0001\u0000\u0000\u0000\u0084\u0082\u0001\u0000\u0000\u0000\u0084"+
+		"\u0085\u0001\u0000\u0000\u0000\u0085\u0088\u0001\u0000\u0000\u0000\u0086"+
+		"\u0084\u0001\u0000\u0000\u0000\u0087|\u0001\u0000\u0000\u0000\u0087}\u0001"+
+		"\u0000\u0000\u0000\u0088\b\u0001\u0000\u0000\u0000\u0089\u008a\u0007\u0002"+
+		"\u0000\u0000\u008a\n\u0001\u0000\u0000\u0000\u008b\u008c\u0007\u0003\u0000"+
+		"\u0000\u008c\f\u0001\u0000\u0000\u0000\u008d\u0090\u0003\u000f\u0007\u0000"+
+		"\u008e\u0090\u0003\u0011\b\u0000\u008f\u008d\u0001\u0000\u0000\u0000\u008f"+
+		"\u008e\u0001\u0000\u0000\u0000\u0090\u000e\u0001\u0000\u0000\u0000\u0091"+
+		"\u0093\u0003\u0013\t\u0000\u0092\u0091\u0001\u0000\u0000\u0000\u0092\u0093"+
+		"\u0001\u0000\u0000\u0000\u0093\u0094\u0001\u0000\u0000\u0000\u0094\u0099"+
+		"\u0003\u0017\u000b\u0000\u0095\u0096\u0003\u0013\t\u0000\u0096\u0097\u0005"+
+		".\u0000\u0000\u0097\u0099\u0001\u0000\u0000\u0000\u0098\u0092\u0001\u0000"+
+		"\u0000\u0000\u0098\u0095\u0001\u0000\u0000\u0000\u0099\u0010\u0001\u0000"+
+		"\u0000\u0000\u009a\u009d\u0003\u0013\t\u0000\u009b\u009d\u0003\u000f\u0007"+
+		"\u0000\u009c\u009a\u0001\u0000\u0000\u0000\u009c\u009b\u0001\u0000\u0000"+
+		"\u0000\u009d\u009e\u0001\u0000\u0000\u0000\u009e\u009f\u0003\u0015\n\u0000"+
+		"\u009f\u0012\u0001\u0000\u0000\u0000\u00a0\u00a7\u0003\u000b\u0005\u0000"+
+		"\u00a1\u00a3\u0005_\u0000\u0000\u00a2\u00a1\u0001\u0000\u0000\u0000\u00a2"+
+		"\u00a3\u0001\u0000\u0000\u0000\u00a3\u00a4\u0001\u0000\u0000\u0000\u00a4"+
+		"\u00a6\u0003\u000b\u0005\u0000\u00a5\u00a2\u0001\u0000\u0000\u0000\u00a6"+
+		"\u00a9\u0001\u0000\u0000\u0000\u00a7\u00a5\u0001\u0000\u0000\u0000\u00a7"+
+		"\u00a8\u0001\u0000\u0000\u0000\u00a8\u0014\u0001\u0000\u0000\u0000\u00a9"+
+		"\u00a7\u0001\u0000\u0000\u0000\u00aa\u00ac\u0007\u0004\u0000\u0000\u00ab"+
+		"\u00ad\u0007\u0005\u0000\u0000\u00ac\u00ab\u0001\u0000\u0000\u0000\u00ac"+
+		"\u00ad\u0001\u0000\u0000\u0000\u00ad\u00ae\u0001\u0000\u0000\u0000\u00ae"+
+		"\u00af\u0003\u0013\t\u0000\u00af\u0016\u0001\u0000\u0000\u0000\u00b0\u00b1"+
+		"\u0005.\u0000\u0000\u00b1\u00b2\u0003\u0013\t\u0000\u00b2\u0018\u0001"+
+		"\u0000\u0000\u0000\u00b3\u00b8\u0005\"\u0000\u0000\u00b4\u00b7\u0003\u001b"+
+		"\r\u0000\u00b5\u00b7\t\u0000\u0000\u0000\u00b6\u00b4\u0001\u0000\u0000"+
+		"\u0000\u00b6\u00b5\u0001\u0000\u0000\u0000\u00b7\u00ba\u0001\u0000\u0000"+
+		"\u0000\u00b8\u00b9\u0001\u0000\u0000\u0000\u00b8\u00b6\u0001\u0000\u0000"+
+		"\u0000\u00b9\u00bb\u0001\u0000\u0000\u0000\u00ba\u00b8\u0001\u0000\u0000"+
+		"\u0000\u00bb\u00c6\u0005\"\u0000\u0000\u00bc\u00c1\u0005\'\u0000\u0000"+
+		"\u00bd\u00c0\u0003\u001b\r\u0000\u00be\u00c0\t\u0000\u0000\u0000\u00bf"+
+		"\u00bd\u0001\u0000\u0000\u0000\u00bf\u00be\u0001\u0000\u0000\u0000\u00c0"+
+		"\u00c3\u0001\u0000\u0000\u0000\u00c1\u00c2\u0001\u0000\u0000\u0000\u00c1"+
+		"\u00bf\u0001\u0000\u0000\u0000\u00c2\u00c4\u0001\u0000\u0000\u0000\u00c3"+
+		"\u00c1\u0001\u0000\u0000\u0000\u00c4\u00c6\u0005\'\u0000\u0000\u00c5\u00b3"+
+		"\u0001\u0000\u0000\u0000\u00c5\u00bc\u0001\u0000\u0000\u0000\u00c6\u001a"+
+		"\u0001\u0000\u0000\u0000\u00c7\u00c8\u0005\\\u0000\u0000\u00c8\u00c9\t"+
+		"\u0000\u0000\u0000\u00c9\u001c\u0001\u0000\u0000\u0000\u00ca\u00cb\u0005"+
+		"M\u0000\u0000\u00cb\u00cc\u0005I\u0000\u0000\u00cc\u00cd\u0005S\u0000"+
+		"\u0000\u00cd\u00ce\u0005S\u0000\u0000\u00ce\u00cf\u0005I\u0000\u0000\u00cf"+
+		"\u00d0\u0005N\u0000\u0000\u00d0\u00d1\u0005G\u0000\u0000\u00d1\u001e\u0001"+
+		"\u0000\u0000\u0000\u00d2\u00d3\u0005$\u0000\u0000\u00d3\u00d4\u0005[\u0000"+
+		"\u0000\u00d4\u00d5\u0005R\u0000\u0000\u00d5\u00d6\u0005O\u0000\u0000\u00d6"+
+		"\u00d7\u0005W\u0000\u0000\u00d7\u00d8\u0005_\u0000\u0000\u00d8\u00d9\u0005"+
+		"I\u0000\u0000\u00d9\u00da\u0005N\u0000\u0000\u00da\u00db\u0005D\u0000"+
+		"\u0000\u00db\u00dc\u0005E\u0000\u0000\u00dc\u00dd\u0005X\u0000\u0000\u00dd"+
+		"\u00de\u0005]\u0000\u0000\u00de \u0001\u0000\u0000\u0000\u00df\u00e0\u0005"+
+		"$\u0000\u0000\u00e0\u00e1\u0005[\u0000\u0000\u00e1\u00e2\u0005R\u0000"+
+		"\u0000\u00e2\u00e3\u0005O\u0000\u0000\u00e3\u00e4\u0005W\u0000\u0000\u00e4"+
+		"\u00e5\u0005_\u0000\u0000\u00e5\u00e6\u0005N\u0000\u0000\u00e6\u00e7\u0005"+
+		"U\u0000\u0000\u00e7\u00e8\u0005M\u0000\u0000\u00e8\u00e9\u0005B\u0000"+
+		"\u0000\u00e9\u00ea\u0005E\u0000\u0000\u00ea\u00eb\u0005R\u0000\u0000\u00eb"+
+		"\u00ec\u0005]\u0000\u0000\u00ec\"\u0001\u0000\u0000\u0000\u00ed\u00ee"+
+		"\u0005$\u0000\u0000\u00ee\u00ef\u0005[\u0000\u0000\u00ef\u00f0\u0005R"+
+		"\u0000\u0000\u00f0\u00f1\u0005O\u0000\u0000\u00f1\u00f2\u0005W\u0000\u0000"+
+		"\u00f2\u00f3\u0005_\u0000\u0000\u00f3\u00f4\u0005I\u0000\u0000\u00f4\u00f5"+
+		"\u0005D\u0000\u0000\u00f5\u00f6\u0005]\u0000\u0000\u00f6$\u0001\u0000"+
+		"\u0000\u0000\u00f7\u00f8\u0005+\u0000\u0000\u00f8&\u0001\u0000\u0000\u0000"+
+		"\u00f9\u00fa\u0005-\u0000\u0000\u00fa(\u0001\u0000\u0000\u0000\u00fb\u00fc"+
+		"\u0005*\u0000\u0000\u00fc*\u0001\u0000\u0000\u0000\u00fd\u00fe\u0005/"+
+		"\u0000\u0000\u00fe,\u0001\u0000\u0000\u0000\u00ff\u0100\u0005/\u0000\u0000"+
+		"\u0100\u0101\u0005/\u0000\u0000\u0101.\u0001\u0000\u0000\u0000\u0102\u0103"+
+		"\u0005*\u0000\u0000\u0103\u0104\u0005*\u0000\u0000\u01040\u0001\u0000"+
+		"\u0000\u0000\u0105\u0106\u0005%\u0000\u0000\u01062\u0001\u0000\u0000\u0000"+
+		"\u0107\u0108\u0005<\u0000\u0000\u01084\u0001\u0000\u0000\u0000\u0109\u010a"+
+		"\u0005<\u0000\u0000\u010a\u010b\u0005=\u0000\u0000\u010b6\u0001\u0000"+
+		"\u0000\u0000\u010c\u010d\u0005>\u0000\u0000\u010d8\u0001\u0000\u0000\u0000"+
+		"\u010e\u010f\u0005>\u0000\u0000\u010f\u0110\u0005=\u0000\u0000\u0110:"+
+		"\u0001\u0000\u0000\u0000\u0111\u0112\u0005=\u0000\u0000\u0112<\u0001\u0000"+
+		"\u0000\u0000\u0113\u0114\u0005=\u0000\u0000\u0114\u0115\u0005=\u0000\u0000"+
+		"\u0115>\u0001\u0000\u0000\u0000\u0116\u0117\u0005!\u0000\u0000\u0117\u011b"+
+		"\u0005=\u0000\u0000\u0118\u0119\u0005<\u0000\u0000\u0119\u011b\u0005>"+
+		"\u0000\u0000\u011a\u0116\u0001\u0000\u0000\u0000\u011a\u0118\u0001\u0000"+
+		"\u0000\u0000\u011b@\u0001\u0000\u0000\u0000\u011c\u011d\u0005a\u0000\u0000"+
+		"\u011d\u011e\u0005n\u0000\u0000\u011e\u0123\u0005d\u0000\u0000\u011f\u0120"+
+		"\u0005A\u0000\u0000\u0120\u0121\u0005N\u0000\u0000\u0121\u0123\u0005D"+
+		"\u0000\u0000\u0122\u011c\u0001\u0000\u0000\u0000\u0122\u011f\u0001\u0000"+
+		"\u0000\u0000\u0123B\u0001\u0000\u0000\u0000\u0124\u0125\u0005o\u0000\u0000"+
+		"\u0125\u0129\u0005r\u0000\u0000\u0126\u0127\u0005O\u0000\u0000\u0127\u0129"+
+		"\u0005R\u0000\u0000\u0128\u0124\u0001\u0000\u0000\u0000\u0128\u0126\u0001"+
+		"\u0000\u0000\u0000\u0129D\u0001\u0000\u0000\u0000\u012a\u012b\u0005n\u0000"+
+		"\u0000\u012b\u012c\u0005o\u0000\u0000\u012c\u0131\u0005t\u0000\u0000\u012d"+
+		"\u012e\u0005N\u0000\u0000\u012e\u012f\u0005O\u0000\u0000\u012f\u0131\u0005"+
+		"T\u0000\u0000\u0130\u012a\u0001\u0000\u0000\u0000\u0130\u012d\u0001\u0000"+
+		"\u0000\u0000\u0131F\u0001\u0000\u0000\u0000\u0132\u0133\u0005i\u0000\u0000"+
+		"\u0133\u0137\u0005n\u0000\u0000\u0134\u0135\u0005I\u0000\u0000\u0135\u0137"+
+		"\u0005N\u0000\u0000\u0136\u0132\u0001\u0000\u0000\u0000\u0136\u0134\u0001"+
+		"\u0000\u0000\u0000\u0137H\u0001\u0000\u0000\u0000\u0138\u0139\u0005l\u0000"+
+		"\u0000\u0139\u013a\u0005e\u0000\u0000\u013a\u013f\u0005t\u0000\u0000\u013b"+
+		"\u013c\u0005L\u0000\u0000\u013c\u013d\u0005E\u0000\u0000\u013d\u013f\u0005"+
+		"T\u0000\u0000\u013e\u0138\u0001\u0000\u0000\u0000\u013e\u013b\u0001\u0000"+
+		"\u0000\u0000\u013fJ\u0001\u0000\u0000\u0000\u0140\u0141\u0005?\u0000\u0000"+
+		"\u0141\u0142\u0005?\u0000\u0000\u0142L\u0001\u0000\u0000\u0000\u0143\u0147"+
+		"\u0007\u0006\u0000\u0000\u0144\u0146\u0007\u0007\u0000\u0000\u0145\u0144"+
+		"\u0001\u0000\u0000\u0000\u0146\u0149\u0001\u0000\u0000\u0000\u0147\u0145"+
+		"\u0001\u0000\u0000\u0000\u0147\u0148\u0001\u0000\u0000\u0000\u0148N\u0001"+
+		"\u0000\u0000\u0000\u0149\u0147\u0001\u0000\u0000\u0000\u014a\u014e\u0005"+
+		"$\u0000\u0000\u014b\u014d\u0007\u0007\u0000\u0000\u014c\u014b\u0001\u0000"+
+		"\u0000\u0000\u014d\u0150\u0001\u0000\u0000\u0000\u014e\u014c\u0001\u0000"+
+		"\u0000\u0000\u014e\u014f\u0001\u0000\u0000\u0000\u014fP\u0001\u0000\u0000"+
+		"\u0000\u0150\u014e\u0001\u0000\u0000\u0000\u0151\u0152\u0005$\u0000\u0000"+
+		"\u0152\u0153\u0005$\u0000\u0000\u0153\u0157\u0001\u0000\u0000\u0000\u0154"+
+		"\u0156\u0007\u0007\u0000\u0000\u0155\u0154\u0001\u0000\u0000\u0000\u0156"+
+		"\u0159\u0001\u0000\u0000\u0000\u0157\u0155\u0001\u0000\u0000\u0000\u0157"+
+		"\u0158\u0001\u0000\u0000\u0000\u0158R\u0001\u0000\u0000\u0000\u0159\u0157"+
+		"\u0001\u0000\u0000\u0000\u015a\u015b\u0005$\u0000\u0000\u015b\u015c\u0005"+
+		"$\u0000\u0000\u015c\u015d\u0005[\u0000\u0000\u015dT\u0001\u0000\u0000"+
+		"\u0000\u015e\u015f\u0005$\u0000\u0000\u015f\u0160\u0005[\u0000\u0000\u0160"+
+		"V\u0001\u0000\u0000\u0000\u0161\u0162\u0005]\u0000\u0000\u0162X\u0001"+
+		"\u0000\u0000\u0000\u0163\u0164\u0005,\u0000\u0000\u0164Z\u0001\u0000\u0000"+
+		"\u0000\u0165\u0166\u0005[\u0000\u0000\u0166\\\u0001\u0000\u0000\u0000"+
+		"\u0167\u0168\u0005(\u0000\u0000\u0168^\u0001\u0000\u0000\u0000\u0169\u016a"+
+		"\u0005)\u0000\u0000\u016a`\u0001\u0000\u0000\u0000\u001c\u0000dlz\u007f"+
+		"\u0084\u0087\u008f\u0092\u0098\u009c\u00a2\u00a7\u00ac\u00b6\u00b8\u00bf"+
+		"\u00c1\u00c5\u011a\u0122\u0128\u0130\u0136\u013e\u0147\u014e\u0157\u0001"+
+		"\u0006\u0000\u0000";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
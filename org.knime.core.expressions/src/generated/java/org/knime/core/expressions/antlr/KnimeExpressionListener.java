@@ -123,6 +123,40 @@ public interface KnimeExpressionListener extends ParseTreeListener {
 	 * @param ctx the parse tree
 	 */
 	void exitUnaryOp(KnimeExpressionParser.UnaryOpContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code membership}
+	 * labeled alternative in {@link KnimeExpressionParser#expr}.
+	 * @param ctx the parse tree
+	 */
+	void enterMembership(KnimeExpressionParser.MembershipContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code membership}
+	 * labeled alternative in {@link KnimeExpressionParser#expr}.
+	 * @param ctx the parse tree
+	 */
+	void exitMembership(KnimeExpressionParser.MembershipContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code letExpr}
+	 * labeled alternative in {@link KnimeExpressionParser#expr}.
+	 * @param ctx the parse tree
+	 */
+	void enterLetExpr(KnimeExpressionParser.LetExprContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code letExpr}
+	 * labeled alternative in {@link KnimeExpressionParser#expr}.
+	 * @param ctx the parse tree
+	 */
+	void exitLetExpr(KnimeExpressionParser.LetExprContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link KnimeExpressionParser#binding}.
+	 * @param ctx the parse tree
+	 */
+	void enterBinding(KnimeExpressionParser.BindingContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link KnimeExpressionParser#binding}.
+	 * @param ctx the parse tree
+	 */
+	void exitBinding(KnimeExpressionParser.BindingContext ctx);
 	/**
 	 * Enter a parse tree produced by {@link KnimeExpressionParser#arguments}.
 	 * @param ctx the parse tree
@@ -21,15 +21,17 @@ public class KnimeExpressionParser extends Parser {
 		MISSING=7, ROW_INDEX=8, ROW_NUMBER=9, ROW_ID=10, PLUS=11, MINUS=12, MULTIPLY=13, 
 		DIVIDE=14, FLOOR_DIVIDE=15, EXPONENTIATE=16, MODULO=17, LESS_THAN=18, 
 		LESS_THAN_EQUAL=19, GREATER_THAN=20, GREATER_THAN_EQUAL=21, EQUAL=22, 
-		DBL_EQUAL=23, NOT_EQUAL=24, AND=25, OR=26, NOT=27, MISSING_FALLBACK=28, 
-		IDENTIFIER=29, COLUMN_IDENTIFIER=30, FLOW_VAR_IDENTIFIER=31, FLOW_VARIABLE_ACCESS_START=32, 
-		COLUMN_ACCESS_START=33, ACCESS_END=34, COMMA=35, BRACKET_OPEN=36, BRACKET_CLOSE=37;
+		DBL_EQUAL=23, NOT_EQUAL=24, AND=25, OR=26, NOT=27, IN=28, LET=29, MISSING_FALLBACK=30, 
+		IDENTIFIER=31, COLUMN_IDENTIFIER=32, FLOW_VAR_IDENTIFIER=33, FLOW_VARIABLE_ACCESS_START=34, 
+		COLUMN_ACCESS_START=35, ACCESS_END=36, COMMA=37, LIST_START=38, BRACKET_OPEN=39, 
+		BRACKET_CLOSE=40;
 	public static final int
-		RULE_fullExpr = 0, RULE_atom = 1, RULE_expr = 2, RULE_arguments = 3, RULE_namedArgument = 4, 
-		RULE_positionalArgument = 5;
+		RULE_fullExpr = 0, RULE_atom = 1, RULE_expr = 2, RULE_binding = 3, RULE_arguments = 4, 
+		RULE_namedArgument = 5, RULE_positionalArgument = 6;
 	private static String[] makeRuleNames() {
 		return new String[] {
-			"fullExpr", "atom", "expr", "arguments", "namedArgument", "positionalArgument"
+			"fullExpr", "atom", "expr", "binding", "arguments", "namedArgument", 
+			"positionalArgument"
 		};
 	}
 	public static final String[] ruleNames = makeRuleNames();
@@ -39,8 +41,8 @@ public class KnimeExpressionParser extends Parser {
 			null, null, null, null, null, null, null, "'MISSING'", "'$[ROW_INDEX]'", 
 			"'$[ROW_NUMBER]'", "'$[ROW_ID]'", "'+'", "'-'", "'*'", "'/'", "'//'", 
 			"'**'", "'%'", "'<'", "'<='", "'>'", "'>='", "'='", "'=='", null, null, 
-			null, null, "'??'", null, null, null, "'$$['", "'$['", "']'", "','", 
-			"'('", "')'"
+			null, null, null, null, "'??'", null, null, null, "'$$['", "'$['", "']'", 
+			"','", "'['", "'('", "')'"
 		};
 	}
 	private static final String[] _LITERAL_NAMES = makeLiteralNames();
@@ -50,9 +52,9 @@ public class KnimeExpressionParser extends Parser {
 			"MISSING", "ROW_INDEX", "ROW_NUMBER", "ROW_ID", "PLUS", "MINUS", "MULTIPLY", 
 			"DIVIDE", "FLOOR_DIVIDE", "EXPONENTIATE", "MODULO", "LESS_THAN", "LESS_THAN_EQUAL", 
 			"GREATER_THAN", "GREATER_THAN_EQUAL", "EQUAL", "DBL_EQUAL", "NOT_EQUAL", 
-			"AND", "OR", "NOT", "MISSING_FALLBACK", "IDENTIFIER", "COLUMN_IDENTIFIER", 
+			"AND", "OR", "NOT", "IN", "LET", "MISSING_FALLBACK", "IDENTIFIER", "COLUMN_IDENTIFIER", 
 			"FLOW_VAR_IDENTIFIER", "FLOW_VARIABLE_ACCESS_START", "COLUMN_ACCESS_START", 
-			"ACCESS_END", "COMMA", "BRACKET_OPEN", "BRACKET_CLOSE"
+			"ACCESS_END", "COMMA", "LIST_START", "BRACKET_OPEN", "BRACKET_CLOSE"
 		};
 	}
 	private static final String[] _SYMBOLIC_NAMES = makeSymbolicNames();
@@ -137,9 +139,9 @@ public class KnimeExpressionParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(12);
+			setState(14);
 			expr(0);
-			setState(13);
+			setState(15);
 			match(EOF);
 			}
 		}
@@ -190,7 +192,7 @@ public class KnimeExpressionParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(15);
+			setState(17);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 2040L) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -435,6 +437,75 @@ public class KnimeExpressionParser extends Parser {
 			else return visitor.visitChildren(this);
 		}
 	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class MembershipContext extends ExprContext {
+		public Token negation;
+		public ExprContext expr;
+		public List<ExprContext> elements = new ArrayList<ExprContext>();
+		public List<ExprContext> expr() {
+			return getRuleContexts(ExprContext.class);
+		}
+		public ExprContext expr(int i) {
+			return getRuleContext(ExprContext.class,i);
+		}
+		public TerminalNode IN() { return getToken(KnimeExpressionParser.IN, 0); }
+		public TerminalNode LIST_START() { return getToken(KnimeExpressionParser.LIST_START, 0); }
+		public TerminalNode ACCESS_END() { return getToken(KnimeExpressionParser.ACCESS_END, 0); }
+		public List<TerminalNode> COMMA() { return getTokens(KnimeExpressionParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(KnimeExpressionParser.COMMA, i);
+		}
+		public TerminalNode NOT() { return getToken(KnimeExpressionParser.NOT, 0); }
+		public MembershipContext(ExprContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof KnimeExpressionListener ) ((KnimeExpressionListener)listener).enterMembership(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof KnimeExpressionListener ) ((KnimeExpressionListener)listener).exitMembership(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof KnimeExpressionVisitor ) return ((KnimeExpressionVisitor<? extends T>)visitor).visitMembership(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+	@SuppressWarnings("CheckReturnValue")
+	public static class LetExprContext extends ExprContext {
+		public BindingContext binding;
+		public List<BindingContext> bindings = new ArrayList<BindingContext>();
+		public ExprContext body;
+		public TerminalNode LET() { return getToken(KnimeExpressionParser.LET, 0); }
+		public TerminalNode IN() { return getToken(KnimeExpressionParser.IN, 0); }
+		public List<BindingContext> binding() {
+			return getRuleContexts(BindingContext.class);
+		}
+		public BindingContext binding(int i) {
+			return getRuleContext(BindingContext.class,i);
+		}
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public List<TerminalNode> COMMA() { return getTokens(KnimeExpressionParser.COMMA); }
+		public TerminalNode COMMA(int i) {
+			return getToken(KnimeExpressionParser.COMMA, i);
+		}
+		public LetExprContext(ExprContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof KnimeExpressionListener ) ((KnimeExpressionListener)listener).enterLetExpr(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof KnimeExpressionListener ) ((KnimeExpressionListener)listener).exitLetExpr(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof KnimeExpressionVisitor ) return ((KnimeExpressionVisitor<? extends T>)visitor).visitLetExpr(this);
+			else return visitor.visitChildren(this);
+		}
+	}
 
 	public final ExprContext expr() throws RecognitionException {
 		return expr(0);
@@ -452,43 +523,43 @@ public class KnimeExpressionParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(65);
+			setState(79);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,8,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,9,_ctx) ) {
 			case 1:
 				{
 				_localctx = new FlowVarAccessContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
 
-				setState(26);
+				setState(28);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case FLOW_VAR_IDENTIFIER:
 					{
-					setState(18);
+					setState(20);
 					((FlowVarAccessContext)_localctx).shortName = match(FLOW_VAR_IDENTIFIER);
 					}
 					break;
 				case FLOW_VARIABLE_ACCESS_START:
 					{
-					setState(20); 
+					setState(22); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					do {
 						{
 						{
-						setState(19);
+						setState(21);
 						match(FLOW_VARIABLE_ACCESS_START);
 						}
 						}
-						setState(22); 
+						setState(24); 
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					} while ( _la==FLOW_VARIABLE_ACCESS_START );
-					setState(24);
+					setState(26);
 					((FlowVarAccessContext)_localctx).longName = match(STRING);
-					setState(25);
+					setState(27);
 					match(ACCESS_END);
 					}
 					break;
@@ -502,68 +573,68 @@ public class KnimeExpressionParser extends Parser {
 				_localctx = new ColAccessContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(47);
+				setState(49);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case COLUMN_IDENTIFIER:
 					{
-					setState(28);
+					setState(30);
 					((ColAccessContext)_localctx).shortName = match(COLUMN_IDENTIFIER);
 					}
 					break;
 				case COLUMN_ACCESS_START:
 					{
-					setState(30); 
+					setState(32); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					do {
 						{
 						{
-						setState(29);
+						setState(31);
 						match(COLUMN_ACCESS_START);
 						}
 						}
-						setState(32); 
+						setState(34); 
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					} while ( _la==COLUMN_ACCESS_START );
-					setState(34);
+					setState(36);
 					((ColAccessContext)_localctx).longName = match(STRING);
-					setState(44);
+					setState(46);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					if (_la==COMMA) {
 						{
-						setState(36); 
+						setState(38); 
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 						do {
 							{
 							{
-							setState(35);
+							setState(37);
 							match(COMMA);
 							}
 							}
-							setState(38); 
+							setState(40); 
 							_errHandler.sync(this);
 							_la = _input.LA(1);
 						} while ( _la==COMMA );
-						setState(41);
+						setState(43);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 						if (_la==MINUS) {
 							{
-							setState(40);
+							setState(42);
 							((ColAccessContext)_localctx).minus = match(MINUS);
 							}
 						}
 
-						setState(43);
+						setState(45);
 						((ColAccessContext)_localctx).offset = match(INTEGER);
 						}
 					}
 
-					setState(46);
+					setState(48);
 					match(ACCESS_END);
 					}
 					break;
@@ -577,7 +648,7 @@ public class KnimeExpressionParser extends Parser {
 				_localctx = new ConstantContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(49);
+				setState(51);
 				((ConstantContext)_localctx).constant = match(IDENTIFIER);
 				}
 				break;
@@ -586,21 +657,21 @@ public class KnimeExpressionParser extends Parser {
 				_localctx = new FunctionOrAggregationCallContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(50);
+				setState(52);
 				((FunctionOrAggregationCallContext)_localctx).name = match(IDENTIFIER);
-				setState(51);
-				match(BRACKET_OPEN);
 				setState(53);
+				match(BRACKET_OPEN);
+				setState(55);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 85496698872L) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & 616998901752L) != 0)) {
 					{
-					setState(52);
+					setState(54);
 					arguments();
 					}
 				}
 
-				setState(55);
+				setState(57);
 				match(BRACKET_CLOSE);
 				}
 				break;
@@ -609,10 +680,10 @@ public class KnimeExpressionParser extends Parser {
 				_localctx = new UnaryOpContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(56);
+				setState(58);
 				((UnaryOpContext)_localctx).op = match(MINUS);
-				setState(57);
-				expr(9);
+				setState(59);
+				expr(11);
 				}
 				break;
 			case 6:
@@ -620,78 +691,111 @@ public class KnimeExpressionParser extends Parser {
 				_localctx = new UnaryOpContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(58);
+				setState(60);
 				((UnaryOpContext)_localctx).op = match(NOT);
-				setState(59);
-				expr(5);
+				setState(61);
+				expr(6);
 				}
 				break;
 			case 7:
+				{
+				_localctx = new LetExprContext(_localctx);
+				_ctx = _localctx;
+				_prevctx = _localctx;
+				setState(62);
+				match(LET);
+				setState(63);
+				((LetExprContext)_localctx).binding = binding();
+				((LetExprContext)_localctx).bindings.add(((LetExprContext)_localctx).binding);
+				setState(68);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(64);
+					match(COMMA);
+					setState(65);
+					((LetExprContext)_localctx).binding = binding();
+					((LetExprContext)_localctx).bindings.add(((LetExprContext)_localctx).binding);
+					}
+					}
+					setState(70);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(71);
+				match(IN);
+				setState(72);
+				((LetExprContext)_localctx).body = expr(3);
+				}
+				break;
+			case 8:
 				{
 				_localctx = new ParenthesisedExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(60);
+				setState(74);
 				match(BRACKET_OPEN);
-				setState(61);
+				setState(75);
 				((ParenthesisedExprContext)_localctx).inner = expr(0);
-				setState(62);
+				setState(76);
 				match(BRACKET_CLOSE);
 				}
 				break;
-			case 8:
+			case 9:
 				{
 				_localctx = new AtomExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(64);
+				setState(78);
 				atom();
 				}
 				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(90);
+			setState(123);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,14,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(88);
+					setState(121);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,9,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,13,_ctx) ) {
 					case 1:
 						{
 						_localctx = new BinaryOpContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(67);
-						if (!(precpred(_ctx, 11))) throw new FailedPredicateException(this, "precpred(_ctx, 11)");
-						setState(68);
+						setState(81);
+						if (!(precpred(_ctx, 13))) throw new FailedPredicateException(this, "precpred(_ctx, 13)");
+						setState(82);
 						((BinaryOpContext)_localctx).op = match(MISSING_FALLBACK);
-						setState(69);
-						expr(12);
+						setState(83);
+						expr(14);
 						}
 						break;
 					case 2:
 						{
 						_localctx = new BinaryOpContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(70);
-						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
-						setState(71);
+						setState(84);
+						if (!(precpred(_ctx, 12))) throw new FailedPredicateException(this, "precpred(_ctx, 12)");
+						setState(85);
 						((BinaryOpContext)_localctx).op = match(EXPONENTIATE);
-						setState(72);
-						expr(10);
+						setState(86);
+						expr(12);
 						}
 						break;
 					case 3:
 						{
 						_localctx = new BinaryOpContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(73);
-						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
-						setState(74);
+						setState(87);
+						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
+						setState(88);
 						((BinaryOpContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 188416L) != 0)) ) {
@@ -702,17 +806,17 @@ public class KnimeExpressionParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(75);
-						expr(9);
+						setState(89);
+						expr(11);
 						}
 						break;
 					case 4:
 						{
 						_localctx = new BinaryOpContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(76);
-						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
-						setState(77);
+						setState(90);
+						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
+						setState(91);
 						((BinaryOpContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(_la==PLUS || _la==MINUS) ) {
@@ -723,17 +827,17 @@ public class KnimeExpressionParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(78);
-						expr(8);
+						setState(92);
+						expr(10);
 						}
 						break;
 					case 5:
 						{
 						_localctx = new BinaryOpContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(79);
-						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
-						setState(80);
+						setState(93);
+						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
+						setState(94);
 						((BinaryOpContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & 33292288L) != 0)) ) {
@@ -744,40 +848,96 @@ public class KnimeExpressionParser extends Parser {
 							_errHandler.reportMatch(this);
 							consume();
 						}
-						setState(81);
-						expr(7);
+						setState(95);
+						expr(9);
 						}
 						break;
 					case 6:
 						{
 						_localctx = new BinaryOpContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(82);
-						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(83);
+						setState(96);
+						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
+						setState(97);
 						((BinaryOpContext)_localctx).op = match(AND);
-						setState(84);
-						expr(5);
+						setState(98);
+						expr(6);
 						}
 						break;
 					case 7:
 						{
 						_localctx = new BinaryOpContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(85);
-						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
-						setState(86);
+						setState(99);
+						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
+						setState(100);
 						((BinaryOpContext)_localctx).op = match(OR);
-						setState(87);
-						expr(4);
+						setState(101);
+						expr(5);
+						}
+						break;
+					case 8:
+						{
+						_localctx = new MembershipContext(new ExprContext(_parentctx, _parentState));
+						pushNewRecursionContext(_localctx, _startState, RULE_expr);
+						setState(102);
+						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
+						setState(104);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						if (_la==NOT) {
+							{
+							setState(103);
+							((MembershipContext)_localctx).negation = match(NOT);
+							}
+						}
+
+						setState(106);
+						match(IN);
+						setState(107);
+						match(LIST_START);
+						setState(108);
+						((MembershipContext)_localctx).expr = expr(0);
+						((MembershipContext)_localctx).elements.add(((MembershipContext)_localctx).expr);
+						setState(113);
+						_errHandler.sync(this);
+						_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
+						while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+							if ( _alt==1 ) {
+								{
+								{
+								setState(109);
+								match(COMMA);
+								setState(110);
+								((MembershipContext)_localctx).expr = expr(0);
+								((MembershipContext)_localctx).elements.add(((MembershipContext)_localctx).expr);
+								}
+								} 
+							}
+							setState(115);
+							_errHandler.sync(this);
+							_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
+						}
+						setState(117);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						if (_la==COMMA) {
+							{
+							setState(116);
+							match(COMMA);
+							}
+						}
+
+						setState(119);
+						match(ACCESS_END);
 						}
 						break;
 					}
 					} 
 				}
-				setState(92);
+				setState(125);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,14,_ctx);
 			}
 			}
 		}
@@ -792,6 +952,59 @@ public class KnimeExpressionParser extends Parser {
 		return _localctx;
 	}
 
+	@SuppressWarnings("CheckReturnValue")
+	public static class BindingContext extends ParserRuleContext {
+		public Token name;
+		public ExprContext value;
+		public TerminalNode EQUAL() { return getToken(KnimeExpressionParser.EQUAL, 0); }
+		public TerminalNode IDENTIFIER() { return getToken(KnimeExpressionParser.IDENTIFIER, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public BindingContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_binding; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof KnimeExpressionListener ) ((KnimeExpressionListener)listener).enterBinding(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof KnimeExpressionListener ) ((KnimeExpressionListener)listener).exitBinding(this);
+		}
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof KnimeExpressionVisitor ) return ((KnimeExpressionVisitor<? extends T>)visitor).visitBinding(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final BindingContext binding() throws RecognitionException {
+		BindingContext _localctx = new BindingContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_binding);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(126);
+			((BindingContext)_localctx).name = match(IDENTIFIER);
+			setState(127);
+			match(EQUAL);
+			setState(128);
+			((BindingContext)_localctx).value = expr(0);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
 	@SuppressWarnings("CheckReturnValue")
 	public static class ArgumentsContext extends ParserRuleContext {
 		public List<NamedArgumentContext> namedArgument() {
@@ -831,49 +1044,49 @@ public class KnimeExpressionParser extends Parser {
 
 	public final ArgumentsContext arguments() throws RecognitionException {
 		ArgumentsContext _localctx = new ArgumentsContext(_ctx, getState());
-		enterRule(_localctx, 6, RULE_arguments);
+		enterRule(_localctx, 8, RULE_arguments);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(95);
+			setState(132);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,11,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
 			case 1:
 				{
-				setState(93);
+				setState(130);
 				namedArgument();
 				}
 				break;
 			case 2:
 				{
-				setState(94);
+				setState(131);
 				positionalArgument();
 				}
 				break;
 			}
-			setState(104);
+			setState(141);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,13,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(97);
+					setState(134);
 					match(COMMA);
-					setState(100);
+					setState(137);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
 					case 1:
 						{
-						setState(98);
+						setState(135);
 						namedArgument();
 						}
 						break;
 					case 2:
 						{
-						setState(99);
+						setState(136);
 						positionalArgument();
 						}
 						break;
@@ -881,16 +1094,16 @@ public class KnimeExpressionParser extends Parser {
 					}
 					} 
 				}
-				setState(106);
+				setState(143);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,13,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
 			}
-			setState(108);
+			setState(145);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==COMMA) {
 				{
-				setState(107);
+				setState(144);
 				match(COMMA);
 				}
 			}
@@ -937,15 +1150,15 @@ public class KnimeExpressionParser extends Parser {
 
 	public final NamedArgumentContext namedArgument() throws RecognitionException {
 		NamedArgumentContext _localctx = new NamedArgumentContext(_ctx, getState());
-		enterRule(_localctx, 8, RULE_namedArgument);
+		enterRule(_localctx, 10, RULE_namedArgument);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(110);
+			setState(147);
 			((NamedArgumentContext)_localctx).argName = match(IDENTIFIER);
-			setState(111);
+			setState(148);
 			match(EQUAL);
-			setState(112);
+			setState(149);
 			expr(0);
 			}
 		}
@@ -986,11 +1199,11 @@ public class KnimeExpressionParser extends Parser {
 
 	public final PositionalArgumentContext positionalArgument() throws RecognitionException {
 		PositionalArgumentContext _localctx = new PositionalArgumentContext(_ctx, getState());
-		enterRule(_localctx, 10, RULE_positionalArgument);
+		enterRule(_localctx, 12, RULE_positionalArgument);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(114);
+			setState(151);
 			expr(0);
 			}
 		}
@@ -1015,97 +1228,124 @@ public class KnimeExpressionParser extends Parser {
 	private boolean expr_sempred(ExprContext _localctx, int predIndex) {
 		switch (predIndex) {
 		case 0:
-			return precpred(_ctx, 11);
+			return precpred(_ctx, 13);
 		case 1:
-			return precpred(_ctx, 10);
+			return precpred(_ctx, 12);
 		case 2:
-			return precpred(_ctx, 8);
+			return precpred(_ctx, 10);
 		case 3:
-			return precpred(_ctx, 7);
+			return precpred(_ctx, 9);
 		case 4:
-			return precpred(_ctx, 6);
+			return precpred(_ctx, 8);
 		case 5:
-			return precpred(_ctx, 4);
+			return precpred(_ctx, 5);
 		case 6:
-			return precpred(_ctx, 3);
+			return precpred(_ctx, 4);
+		case 7:
+			return precpred(_ctx, 7);
 		}
 		return true;
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u0001%u\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002\u0002"+
-		"\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002\u0005"+
-		"\u0007\u0005\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001"+
-		"\u0001\u0002\u0001\u0002\u0001\u0002\u0004\u0002\u0015\b\u0002\u000b\u0002"+
-		"\f\u0002\u0016\u0001\u0002\u0001\u0002\u0003\u0002\u001b\b\u0002\u0001"+
-		"\u0002\u0001\u0002\u0004\u0002\u001f\b\u0002\u000b\u0002\f\u0002 \u0001"+
-		"\u0002\u0001\u0002\u0004\u0002%\b\u0002\u000b\u0002\f\u0002&\u0001\u0002"+
-		"\u0003\u0002*\b\u0002\u0001\u0002\u0003\u0002-\b\u0002\u0001\u0002\u0003"+
-		"\u00020\b\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0003"+
-		"\u00026\b\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
-		"\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0003"+
-		"\u0002B\b\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
+		"\u0004\u0001(\u009a\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
+		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0001\u0000\u0001\u0000\u0001"+
+		"\u0000\u0001\u0001\u0001\u0001\u0001\u0002\u0001\u0002\u0001\u0002\u0004"+
+		"\u0002\u0017\b\u0002\u000b\u0002\f\u0002\u0018\u0001\u0002\u0001\u0002"+
+		"\u0003\u0002\u001d\b\u0002\u0001\u0002\u0001\u0002\u0004\u0002!\b\u0002"+
+		"\u000b\u0002\f\u0002\"\u0001\u0002\u0001\u0002\u0004\u0002\'\b\u0002\u000b"+
+		"\u0002\f\u0002(\u0001\u0002\u0003\u0002,\b\u0002\u0001\u0002\u0003\u0002"+
+		"/\b\u0002\u0001\u0002\u0003\u00022\b\u0002\u0001\u0002\u0001\u0002\u0001"+
+		"\u0002\u0001\u0002\u0003\u00028\b\u0002\u0001\u0002\u0001\u0002\u0001"+
+		"\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
+		"\u0002\u0005\u0002C\b\u0002\n\u0002\f\u0002F\t\u0002\u0001\u0002\u0001"+
+		"\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
+		"\u0002\u0003\u0002P\b\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
+		"\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
 		"\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
 		"\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001"+
-		"\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0001\u0002\u0005\u0002Y\b"+
-		"\u0002\n\u0002\f\u0002\\\t\u0002\u0001\u0003\u0001\u0003\u0003\u0003`"+
-		"\b\u0003\u0001\u0003\u0001\u0003\u0001\u0003\u0003\u0003e\b\u0003\u0005"+
-		"\u0003g\b\u0003\n\u0003\f\u0003j\t\u0003\u0001\u0003\u0003\u0003m\b\u0003"+
-		"\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0004\u0001\u0005\u0001\u0005"+
-		"\u0001\u0005\u0000\u0001\u0004\u0006\u0000\u0002\u0004\u0006\b\n\u0000"+
-		"\u0004\u0001\u0000\u0003\n\u0002\u0000\r\u000f\u0011\u0011\u0001\u0000"+
-		"\u000b\f\u0001\u0000\u0012\u0018\u0088\u0000\f\u0001\u0000\u0000\u0000"+
-		"\u0002\u000f\u0001\u0000\u0000\u0000\u0004A\u0001\u0000\u0000\u0000\u0006"+
-		"_\u0001\u0000\u0000\u0000\bn\u0001\u0000\u0000\u0000\nr\u0001\u0000\u0000"+
-		"\u0000\f\r\u0003\u0004\u0002\u0000\r\u000e\u0005\u0000\u0000\u0001\u000e"+
-		"\u0001\u0001\u0000\u0000\u0000\u000f\u0010\u0007\u0000\u0000\u0000\u0010"+
-		"\u0003\u0001\u0000\u0000\u0000\u0011\u001a\u0006\u0002\uffff\uffff\u0000"+
-		"\u0012\u001b\u0005\u001f\u0000\u0000\u0013\u0015\u0005 \u0000\u0000\u0014"+
-		"\u0013\u0001\u0000\u0000\u0000\u0015\u0016\u0001\u0000\u0000\u0000\u0016"+
-		"\u0014\u0001\u0000\u0000\u0000\u0016\u0017\u0001\u0000\u0000\u0000\u0017"+
-		"\u0018\u0001\u0000\u0000\u0000\u0018\u0019\u0005\u0006\u0000\u0000\u0019"+
-		"\u001b\u0005\"\u0000\u0000\u001a\u0012\u0001\u0000\u0000\u0000\u001a\u0014"+
-		"\u0001\u0000\u0000\u0000\u001bB\u0001\u0000\u0000\u0000\u001c0\u0005\u001e"+
-		"\u0000\u0000\u001d\u001f\u0005!\u0000\u0000\u001e\u001d\u0001\u0000\u0000"+
-		"\u0000\u001f \u0001\u0000\u0000\u0000 \u001e\u0001\u0000\u0000\u0000 "+
-		"!\u0001\u0000\u0000\u0000!\"\u0001\u0000\u0000\u0000\",\u0005\u0006\u0000"+
-		"\u0000#%\u0005#\u0000\u0000$#\u0001\u0000\u0000\u0000%&\u0001\u0000\u0000"+
-		"\u0000&$\u0001\u0000\u0000\u0000&\'\u0001\u0000\u0000\u0000\')\u0001\u0000"+
-		"\u0000\u0000(*\u0005\f\u0000\u0000)(\u0001\u0000\u0000\u0000)*\u0001\u0000"+
-		"\u0000\u0000*+\u0001\u0000\u0000\u0000+-\u0005\u0004\u0000\u0000,$\u0001"+
-		"\u0000\u0000\u0000,-\u0001\u0000\u0000\u0000-.\u0001\u0000\u0000\u0000"+
-		".0\u0005\"\u0000\u0000/\u001c\u0001\u0000\u0000\u0000/\u001e\u0001\u0000"+
-		"\u0000\u00000B\u0001\u0000\u0000\u00001B\u0005\u001d\u0000\u000023\u0005"+
-		"\u001d\u0000\u000035\u0005$\u0000\u000046\u0003\u0006\u0003\u000054\u0001"+
-		"\u0000\u0000\u000056\u0001\u0000\u0000\u000067\u0001\u0000\u0000\u0000"+
-		"7B\u0005%\u0000\u000089\u0005\f\u0000\u00009B\u0003\u0004\u0002\t:;\u0005"+
-		"\u001b\u0000\u0000;B\u0003\u0004\u0002\u0005<=\u0005$\u0000\u0000=>\u0003"+
-		"\u0004\u0002\u0000>?\u0005%\u0000\u0000?B\u0001\u0000\u0000\u0000@B\u0003"+
-		"\u0002\u0001\u0000A\u0011\u0001\u0000\u0000\u0000A/\u0001\u0000\u0000"+
-		"\u0000A1\u0001\u0000\u0000\u0000A2\u0001\u0000\u0000\u0000A8\u0001\u0000"+
-		"\u0000\u0000A:\u0001\u0000\u0000\u0000A<\u0001\u0000\u0000\u0000A@\u0001"+
-		"\u0000\u0000\u0000BZ\u0001\u0000\u0000\u0000CD\n\u000b\u0000\u0000DE\u0005"+
-		"\u001c\u0000\u0000EY\u0003\u0004\u0002\fFG\n\n\u0000\u0000GH\u0005\u0010"+
-		"\u0000\u0000HY\u0003\u0004\u0002\nIJ\n\b\u0000\u0000JK\u0007\u0001\u0000"+
-		"\u0000KY\u0003\u0004\u0002\tLM\n\u0007\u0000\u0000MN\u0007\u0002\u0000"+
-		"\u0000NY\u0003\u0004\u0002\bOP\n\u0006\u0000\u0000PQ\u0007\u0003\u0000"+
-		"\u0000QY\u0003\u0004\u0002\u0007RS\n\u0004\u0000\u0000ST\u0005\u0019\u0000"+
-		"\u0000TY\u0003\u0004\u0002\u0005UV\n\u0003\u0000\u0000VW\u0005\u001a\u0000"+
-		"\u0000WY\u0003\u0004\u0002\u0004XC\u0001\u0000\u0000\u0000XF\u0001\u0000"+
-		"\u0000\u0000XI\u0001\u0000\u0000\u0000XL\u0001\u0000\u0000\u0000XO\u0001"+
-		"\u0000\u0000\u0000XR\u0001\u0000\u0000\u0000XU\u0001\u0000\u0000\u0000"+
-		"Y\\\u0001\u0000\u0000\u0000ZX\u0001\u0000\u0000\u0000Z[\u0001\u0000\u0000"+
-		"\u0000[\u0005\u0001\u0000\u0000\u0000\\Z\u0001\u0000\u0000\u0000]`\u0003"+
-		"\b\u0004\u0000^`\u0003\n\u0005\u0000_]\u0001\u0000\u0000\u0000_^\u0001"+
-		"\u0000\u0000\u0000`h\u0001\u0000\u0000\u0000ad\u0005#\u0000\u0000be\u0003"+
-		"\b\u0004\u0000ce\u0003\n\u0005\u0000db\u0001\u0000\u0000\u0000dc\u0001"+
-		"\u0000\u0000\u0000eg\u0001\u0000\u0000\u0000fa\u0001\u0000\u0000\u0000"+
-		"gj\u0001\u0000\u0000\u0000hf\u0001\u0000\u0000\u0000hi\u0001\u0000\u0000"+
-		"\u0000il\u0001\u0000\u0000\u0000jh\u0001\u0000\u0000\u0000km\u0005#\u0000"+
-		"\u0000lk\u0001\u0000\u0000\u0000lm\u0001\u0000\u0000\u0000m\u0007\u0001"+
-		"\u0000\u0000\u0000no\u0005\u001d\u0000\u0000op\u0005\u0016\u0000\u0000"+
-		"pq\u0003\u0004\u0002\u0000q\t\u0001\u0000\u0000\u0000rs\u0003\u0004\u0002"+
-		"\u0000s\u000b\u0001\u0000\u0000\u0000\u000f\u0016\u001a &),/5AXZ_dhl";
+		"\u0002\u0001\u0002\u0003\u0002i\b\u0002\u0001\u0002\u0001\u0002\u0001"+
+		"\u0002\u0001\u0002\u0001\u0002\u0005\u0002p\b\u0002\n\u0002\f\u0002s\t"+
+		"\u0002\u0001\u0002\u0003\u0002v\b\u0002\u0001\u0002\u0001\u0002\u0005"+
+		"\u0002z\b\u0002\n\u0002\f\u0002}\t\u0002\u0001\u0003\u0001\u0003\u0001"+
+		"\u0003\u0001\u0003\u0001\u0004\u0001\u0004\u0003\u0004\u0085\b\u0004\u0001"+
+		"\u0004\u0001\u0004\u0001\u0004\u0003\u0004\u008a\b\u0004\u0005\u0004\u008c"+
+		"\b\u0004\n\u0004\f\u0004\u008f\t\u0004\u0001\u0004\u0003\u0004\u0092\b"+
+		"\u0004\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0006\u0001"+
+		"\u0006\u0001\u0006\u0000\u0001\u0004\u0007\u0000\u0002\u0004\u0006\b\n"+
+		"\f\u0000\u0004\u0001\u0000\u0003\n\u0002\u0000\r\u000f\u0011\u0011\u0001"+
+		"\u0000\u000b\f\u0001\u0000\u0012\u0018\u00b2\u0000\u000e\u0001\u0000\u0000"+
+		"\u0000\u0002\u0011\u0001\u0000\u0000\u0000\u0004O\u0001\u0000\u0000\u0000"+
+		"\u0006~\u0001\u0000\u0000\u0000\b\u0084\u0001\u0000\u0000\u0000\n\u0093"+
+		"\u0001\u0000\u0000\u0000\f\u0097\u0001\u0000\u0000\u0000\u000e\u000f\u0003"+
+		"\u0004\u0002\u0000\u000f\u0010\u0005\u0000\u0000\u0001\u0010\u0001\u0001"+
+		"\u0000\u0000\u0000\u0011\u0012\u0007\u0000\u0000\u0000\u0012\u0003\u0001"+
+		"\u0000\u0000\u0000\u0013\u001c\u0006\u0002\uffff\uffff\u0000\u0014\u001d"+
+		"\u0005!\u0000\u0000\u0015\u0017\u0005\"\u0000\u0000\u0016\u0015\u0001"+
+		"\u0000\u0000\u0000\u0017\u0018\u0001\u0000\u0000\u0000\u0018\u0016\u0001"+
+		"\u0000\u0000\u0000\u0018\u0019\u0001\u0000\u0000\u0000\u0019\u001a\u0001"+
+		"\u0000\u0000\u0000\u001a\u001b\u0005\u0006\u0000\u0000\u001b\u001d\u0005"+
+		"$\u0000\u0000\u001c\u0014\u0001\u0000\u0000\u0000\u001c\u0016\u0001\u0000"+
+		"\u0000\u0000\u001dP\u0001\u0000\u0000\u0000\u001e2\u0005 \u0000\u0000"+
+		"\u001f!\u0005#\u0000\u0000 \u001f\u0001\u0000\u0000\u0000!\"\u0001\u0000"+
+		"\u0000\u0000\" \u0001\u0000\u0000\u0000\"#\u0001\u0000\u0000\u0000#$\u0001"+
+		"\u0000\u0000\u0000$.\u0005\u0006\u0000\u0000%\'\u0005%\u0000\u0000&%\u0001"+
+		"\u0000\u0000\u0000\'(\u0001\u0000\u0000\u0000(&\u0001\u0000\u0000\u0000"+
+		"()\u0001\u0000\u0000\u0000)+\u0001\u0000\u0000\u0000*,\u0005\f\u0000\u0000"+
+		"+*\u0001\u0000\u0000\u0000+,\u0001\u0000\u0000\u0000,-\u0001\u0000\u0000"+
+		"\u0000-/\u0005\u0004\u0000\u0000.&\u0001\u0000\u0000\u0000./\u0001\u0000"+
+		"\u0000\u0000/0\u0001\u0000\u0000\u000002\u0005$\u0000\u00001\u001e\u0001"+
+		"\u0000\u0000\u00001 \u0001\u0000\u0000\u00002P\u0001\u0000\u0000\u0000"+
+		"3P\u0005\u001f\u0000\u000045\u0005\u001f\u0000\u000057\u0005\'\u0000\u0000"+
+		"68\u0003\b\u0004\u000076\u0001\u0000\u0000\u000078\u0001\u0000\u0000\u0000"+
+		"89\u0001\u0000\u0000\u00009P\u0005(\u0000\u0000:;\u0005\f\u0000\u0000"+
+		";P\u0003\u0004\u0002\u000b<=\u0005\u001b\u0000\u0000=P\u0003\u0004\u0002"+
+		"\u0006>?\u0005\u001d\u0000\u0000?D\u0003\u0006\u0003\u0000@A\u0005%\u0000"+
+		"\u0000AC\u0003\u0006\u0003\u0000B@\u0001\u0000\u0000\u0000CF\u0001\u0000"+
+		"\u0000\u0000DB\u0001\u0000\u0000\u0000DE\u0001\u0000\u0000\u0000EG\u0001"+
+		"\u0000\u0000\u0000FD\u0001\u0000\u0000\u0000GH\u0005\u001c\u0000\u0000"+
+		"HI\u0003\u0004\u0002\u0003IP\u0001\u0000\u0000\u0000JK\u0005\'\u0000\u0000"+
+		"KL\u0003\u0004\u0002\u0000LM\u0005(\u0000\u0000MP\u0001\u0000\u0000\u0000"+
+		"NP\u0003\u0002\u0001\u0000O\u0013\u0001\u0000\u0000\u0000O1\u0001\u0000"+
+		"\u0000\u0000O3\u0001\u0000\u0000\u0000O4\u0001\u0000\u0000\u0000O:\u0001"+
+		"\u0000\u0000\u0000O<\u0001\u0000\u0000\u0000O>\u0001\u0000\u0000\u0000"+
+		"OJ\u0001\u0000\u0000\u0000ON\u0001\u0000\u0000\u0000P{\u0001\u0000\u0000"+
+		"\u0000QR\n\r\u0000\u0000RS\u0005\u001e\u0000\u0000Sz\u0003\u0004\u0002"+
+		"\u000eTU\n\f\u0000\u0000UV\u0005\u0010\u0000\u0000Vz\u0003\u0004\u0002"+
+		"\fWX\n\n\u0000\u0000XY\u0007\u0001\u0000\u0000Yz\u0003\u0004\u0002\u000b"+
+		"Z[\n\t\u0000\u0000[\\\u0007\u0002\u0000\u0000\\z\u0003\u0004\u0002\n]"+
+		"^\n\b\u0000\u0000^_\u0007\u0003\u0000\u0000_z\u0003\u0004\u0002\t`a\n"+
+		"\u0005\u0000\u0000ab\u0005\u0019\u0000\u0000bz\u0003\u0004\u0002\u0006"+
+		"cd\n\u0004\u0000\u0000de\u0005\u001a\u0000\u0000ez\u0003\u0004\u0002\u0005"+
+		"fh\n\u0007\u0000\u0000gi\u0005\u001b\u0000\u0000hg\u0001\u0000\u0000\u0000"+
+		"hi\u0001\u0000\u0000\u0000ij\u0001\u0000\u0000\u0000jk\u0005\u001c\u0000"+
+		"\u0000kl\u0005&\u0000\u0000lq\u0003\u0004\u0002\u0000mn\u0005%\u0000\u0000"+
+		"np\u0003\u0004\u0002\u0000om\u0001\u0000\u0000\u0000ps\u0001\u0000\u0000"+
+		"\u0000qo\u0001\u0000\u0000\u0000qr\u0001\u0000\u0000\u0000ru\u0001\u0000"+
+		"\u0000\u0000sq\u0001\u0000\u0000\u0000tv\u0005%\u0000\u0000ut\u0001\u0000"+
+		"\u0000\u0000uv\u0001\u0000\u0000\u0000vw\u0001\u0000\u0000\u0000wx\u0005"+
+		"$\u0000\u0000xz\u0001\u0000\u0000\u0000yQ\u0001\u0000\u0000\u0000yT\u0001"+
+		"\u0000\u0000\u0000yW\u0001\u0000\u0000\u0000yZ\u0001\u0000\u0000\u0000"+
+		"y]\u0001\u0000\u0000\u0000y`\u0001\u0000\u0000\u0000yc\u0001\u0000\u0000"+
+		"\u0000yf\u0001\u0000\u0000\u0000z}\u0001\u0000\u0000\u0000{y\u0001\u0000"+
+		"\u0000\u0000{|\u0001\u0000\u0000\u0000|\u0005\u0001\u0000\u0000\u0000"+
+		"}{\u0001\u0000\u0000\u0000~\u007f\u0005\u001f\u0000\u0000\u007f\u0080"+
+		"\u0005\u0016\u0000\u0000\u0080\u0081\u0003\u0004\u0002\u0000\u0081\u0007"+
+		"\u0001\u0000\u0000\u0000\u0082\u0085\u0003\n\u0005\u0000\u0083\u0085\u0003"+
+		"\f\u0006\u0000\u0084\u0082\u0001\u0000\u0000\u0000\u0084\u0083\u0001\u0000"+
+		"\u0000\u0000\u0085\u008d\u0001\u0000\u0000\u0000\u0086\u0089\u0005%\u0000"+
+		"\u0000\u0087\u008a\u0003\n\u0005\u0000\u0088\u008a\u0003\f\u0006\u0000"+
+		"\u0089\u0087\u0001\u0000\u0000\u0000\u0089\u0088\u0001\u0000\u0000\u0000"+
+		"\u008a\u008c\u0001\u0000\u0000\u0000\u008b\u0086\u0001\u0000\u0000\u0000"+
+		"\u008c\u008f\u0001\u0000\u0000\u0000\u008d\u008b\u0001\u0000\u0000\u0000"+
+		"\u008d\u008e\u0001\u0000\u0000\u0000\u008e\u0091\u0001\u0000\u0000\u0000"+
+		"\u008f\u008d\u0001\u0000\u0000\u0000\u0090\u0092\u0005%\u0000\u0000\u0091"+
+		"\u0090\u0001\u0000\u0000\u0000\u0091\u0092\u0001\u0000\u0000\u0000\u0092"+
+		"\t\u0001\u0000\u0000\u0000\u0093\u0094\u0005\u001f\u0000\u0000\u0094\u0095"+
+		"\u0005\u0016\u0000\u0000\u0095\u0096\u0003\u0004\u0002\u0000\u0096\u000b"+
+		"\u0001\u0000\u0000\u0000\u0097\u0098\u0003\u0004\u0002\u0000\u0098\r\u0001"+
+		"\u0000\u0000\u0000\u0013\u0018\u001c\"(+.17DOhquy{\u0084\u0089\u008d\u0091";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -78,6 +78,26 @@ public interface KnimeExpressionVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitUnaryOp(KnimeExpressionParser.UnaryOpContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code membership}
+	 * labeled alternative in {@link KnimeExpressionParser#expr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitMembership(KnimeExpressionParser.MembershipContext ctx);
+	/**
+	 * Visit a parse tree produced by the {@code letExpr}
+	 * labeled alternative in {@link KnimeExpressionParser#expr}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitLetExpr(KnimeExpressionParser.LetExprContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link KnimeExpressionParser#binding}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitBinding(KnimeExpressionParser.BindingContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link KnimeExpressionParser#arguments}.
 	 * @param ctx the parse tree
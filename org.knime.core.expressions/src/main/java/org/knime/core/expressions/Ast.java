@@ -54,7 +54,6 @@ import static org.knime.core.expressions.Ast.OperatorType.ORDERING;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -65,26 +64,32 @@ import org.knime.core.expressions.Ast.ColumnAccess;
 import org.knime.core.expressions.Ast.ConstantAst;
 import org.knime.core.expressions.Ast.FlowVarAccess;
 import org.knime.core.expressions.Ast.FunctionCall;
+import org.knime.core.expressions.Ast.LetBinding;
+import org.knime.core.expressions.Ast.LetVarAccess;
+import org.knime.core.expressions.Ast.MembershipOp;
 import org.knime.core.expressions.Ast.UnaryOp;
 import org.knime.core.expressions.aggregations.ColumnAggregation;
 import org.knime.core.expressions.functions.ExpressionFunction;
 
 /**
- * An abstract syntax tree of an Expression according to the KNIME Expression Language. The syntax tree is not
- * modifiable. However, each node has attached {@link #data()} that can be modified.
+ * An abstract syntax tree of an Expression according to the KNIME Expression Language. The syntax tree and the
+ * {@link #data()} attached to each node are immutable. Information that is computed for the nodes after parsing is kept
+ * in separate {@link AstAnnotations} instead.
  *
  * @author Tobias Pietzsch
  * @author Benjamin Wilhelm, KNIME GmbH, Berlin, Germany
  */
 public sealed interface Ast
-    permits ColumnAccess, FlowVarAccess, UnaryOp, BinaryOp, FunctionCall, AggregationCall, ConstantAst {
+    permits ColumnAccess, FlowVarAccess, UnaryOp, BinaryOp, MembershipOp, FunctionCall, AggregationCall, LetBinding,
+    LetVarAccess, ConstantAst {
 
     sealed interface ConstantAst extends Ast
         permits MissingConstant, BooleanConstant, IntegerConstant, FloatConstant, StringConstant {
     }
 
     /**
-     * Additional data that is attached to the node. Note, that, the data is modifiable.
+     * Additional data that is attached to the node when it is created, like the location in the parsed text. Note,
+     * that, the data is not modifiable.
      *
      * @return a map of data that is attached to the node
      */
@@ -106,16 +111,6 @@ public sealed interface Ast
         return data().get(key);
     }
 
-    /**
-     * Add the given information to the {@link #data()}.
-     *
-     * @param key
-     * @param value
-     */
-    default void putData(final String key, final Object value) {
-        data().put(key, value);
-    }
-
     /**
      * @return the children of this node
      */
@@ -144,88 +139,6 @@ public sealed interface Ast
     // UTILITIES
     // ======================================================
 
-    /**
-     * Utility to add the data computed by the given visitor to the AST node.
-     *
-     * @param <O> the type of the data
-     * @param <E> the type of an exception that might be thrown
-     * @param node the AST
-     * @param key the key of the data
-     * @param visitor a visitor which returns the appropriate data for each type of node
-     * @return the data that was added to the node (same as calling <code>node.data(key)</code> afterwards)
-     * @throws E if the visitor throws
-     */
-    static <O, E extends Exception> O putData(final Ast node, final String key, final AstVisitor<O, E> visitor)
-        throws E {
-        var value = node.accept(visitor);
-        node.putData(key, value);
-        return value;
-    }
-
-    /**
-     * Utility to add the data computed by the given visitor to the AST node if the data is present.
-     *
-     * @param <O> the type of the data
-     * @param <E> the type of an exception that might be thrown
-     * @param node the AST
-     * @param key the key of the data
-     * @param visitor a visitor which returns the appropriate data for each type of node
-     * @return the data that was added to the node (same as calling <code>node.data(key)</code> afterwards)
-     * @throws E if the visitor throws
-     */
-    static <O, E extends Exception> Optional<O> putData(final Ast node, final String key,
-        final OptionalAstVisitor<O, E> visitor) throws E {
-        var value = node.accept(visitor);
-        value.ifPresent(v -> node.putData(key, v));
-        return value;
-    }
-
-    /**
-     * Utility to call {@link #putData(Ast, String, AstVisitor)} after calling this method recursively for all children
-     * of the node.
-     *
-     * Note that the visitor does not need to handle recursion. The recursion is implemented in this utility. For each
-     * visit it is guaranteed that the children have been processed already.
-     *
-     * @param <O> the type of the data
-     * @param <E> the type of exception that might be thrown
-     * @param node the AST
-     * @param key the key of the data
-     * @param visitor a visitor which returns the appropriate data for each type of node
-     * @return the data that was added to the node (same as calling <code>node.data(key)</code> afterwards)
-     * @throws E if the visitor throws
-     */
-    static <O, E extends Exception> O putDataRecursive(final Ast node, final String key, final AstVisitor<O, E> visitor)
-        throws E {
-        for (var child : node.children()) {
-            putDataRecursive(child, key, visitor);
-        }
-        return putData(node, key, visitor);
-    }
-
-    /**
-     * Utility to {@link #putData(Ast, String, OptionalAstVisitor)} after calling this method recursively for all
-     * children of the node.
-     *
-     * Note that the visitor does not need to handle recursion. The recursion is implemented in this utility. For each
-     * visit it is guaranteed that the children have been processed already.
-     *
-     * @param <O> the type of the data
-     * @param <E> the type of exception that might be thrown
-     * @param node the AST
-     * @param key the key of the data
-     * @param visitor a visitor which returns the appropriate data for each type of node
-     * @return the data that was added to the node (same as calling <code>node.data(key)</code> afterwards)
-     * @throws E if the visitor throws
-     */
-    static <O, E extends Exception> Optional<O> putDataRecursive(final Ast node, final String key,
-        final OptionalAstVisitor<O, E> visitor) throws E {
-        for (var child : node.children()) {
-            putDataRecursive(child, key, visitor);
-        }
-        return putData(node, key, visitor);
-    }
-
     /**
      * Collect nodes in the subtree under {@code root} by postorder traversal.
      *
@@ -253,7 +166,7 @@ public sealed interface Ast
      * @return the node
      */
     static MissingConstant missingConstant() {
-        return missingConstant(new HashMap<>());
+        return missingConstant(Map.of());
     }
 
     /**
@@ -273,7 +186,7 @@ public sealed interface Ast
      * @return the node
      */
     static BooleanConstant booleanConstant(final boolean value) {
-        return booleanConstant(value, new HashMap<>());
+        return booleanConstant(value, Map.of());
     }
 
     /**
@@ -294,7 +207,7 @@ public sealed interface Ast
      * @return the node
      */
     static IntegerConstant integerConstant(final long value) {
-        return integerConstant(value, new HashMap<>());
+        return integerConstant(value, Map.of());
     }
 
     /**
@@ -315,7 +228,7 @@ public sealed interface Ast
      * @return the node
      */
     static FloatConstant floatConstant(final double value) {
-        return floatConstant(value, new HashMap<>());
+        return floatConstant(value, Map.of());
     }
 
     /**
@@ -336,7 +249,7 @@ public sealed interface Ast
      * @return the node
      */
     static StringConstant stringConstant(final String value) {
-        return stringConstant(value, new HashMap<>());
+        return stringConstant(value, Map.of());
     }
 
     /**
@@ -357,7 +270,7 @@ public sealed interface Ast
      * @return the node
      */
     static ColumnAccess columnAccess(final String name) {
-        return columnAccess(name, 0, new HashMap<>());
+        return columnAccess(name, 0, Map.of());
     }
 
     /**
@@ -368,7 +281,7 @@ public sealed interface Ast
      * @return the node
      */
     static ColumnAccess columnAccess(final String name, final long offset) {
-        return columnAccess(name, offset, new HashMap<>());
+        return columnAccess(name, offset, Map.of());
     }
 
     /**
@@ -389,7 +302,7 @@ public sealed interface Ast
      * @return the node
      */
     static ColumnAccess rowIndex() {
-        return rowIndex(new HashMap<>());
+        return rowIndex(Map.of());
     }
 
     /**
@@ -408,7 +321,7 @@ public sealed interface Ast
      * @return the node
      */
     static ColumnAccess rowId() {
-        return rowId(new HashMap<>());
+        return rowId(Map.of());
     }
 
     /**
@@ -428,7 +341,7 @@ public sealed interface Ast
      * @return the node
      */
     static FlowVarAccess flowVarAccess(final String name) {
-        return flowVarAccess(name, new HashMap<>());
+        return flowVarAccess(name, Map.of());
     }
 
     /**
@@ -451,7 +364,7 @@ public sealed interface Ast
      * @return the node
      */
     static BinaryOp binaryOp(final BinaryOperator op, final Ast arg1, final Ast arg2) {
-        return binaryOp(op, arg1, arg2, new HashMap<>());
+        return binaryOp(op, arg1, arg2, Map.of());
     }
 
     /**
@@ -475,7 +388,7 @@ public sealed interface Ast
      * @return the node
      */
     static UnaryOp unaryOp(final UnaryOperator op, final Ast arg) {
-        return unaryOp(op, arg, new HashMap<>());
+        return unaryOp(op, arg, Map.of());
     }
 
     /**
@@ -490,6 +403,80 @@ public sealed interface Ast
         return new UnaryOp(op, arg, data);
     }
 
+    /**
+     * Create a new {@link MembershipOp} on the given nodes and with no data.
+     *
+     * @param negated <code>true</code> to test if the value is not one of the elements
+     * @param arg the value to look for
+     * @param elements the elements of the list
+     * @return the node
+     */
+    static MembershipOp membershipOp(final boolean negated, final Ast arg, final List<Ast> elements) {
+        return membershipOp(negated, arg, elements, Map.of());
+    }
+
+    /**
+     * Create a new {@link MembershipOp} on the given nodes and with the given data.
+     *
+     * @param negated <code>true</code> to test if the value is not one of the elements
+     * @param arg the value to look for
+     * @param elements the elements of the list
+     * @param data
+     * @return the node
+     */
+    static MembershipOp membershipOp(final boolean negated, final Ast arg, final List<Ast> elements,
+        final Map<String, Object> data) {
+        return new MembershipOp(negated, arg, elements, data);
+    }
+
+    /**
+     * Create a new {@link LetBinding} that binds the value to the name in the body and with no data.
+     *
+     * @param name the name of the bound value
+     * @param value the value that is bound to the name
+     * @param body the expression that can access the value by the name
+     * @return the node
+     */
+    static LetBinding letBinding(final String name, final Ast value, final Ast body) {
+        return letBinding(name, value, body, Map.of());
+    }
+
+    /**
+     * Create a new {@link LetBinding} that binds the value to the name in the body and with the given data.
+     *
+     * @param name the name of the bound value
+     * @param value the value that is bound to the name
+     * @param body the expression that can access the value by the name
+     * @param data
+     * @return the node
+     */
+    static LetBinding letBinding(final String name, final Ast value, final Ast body, final Map<String, Object> data) {
+        return new LetBinding(name, value, body, data);
+    }
+
+    /**
+     * Create a new {@link LetVarAccess} for the value that is bound to the name and with no data.
+     *
+     * @param name the name of the bound value
+     * @param value the {@link LetBinding#value() value} of the {@link LetBinding} that binds the name
+     * @return the node
+     */
+    static LetVarAccess letVarAccess(final String name, final Ast value) {
+        return letVarAccess(name, value, Map.of());
+    }
+
+    /**
+     * Create a new {@link LetVarAccess} for the value that is bound to the name and with the given data.
+     *
+     * @param name the name of the bound value
+     * @param value the {@link LetBinding#value() value} of the {@link LetBinding} that binds the name
+     * @param data
+     * @return the node
+     */
+    static LetVarAccess letVarAccess(final String name, final Ast value, final Map<String, Object> data) {
+        return new LetVarAccess(name, value, data);
+    }
+
     /**
      * Create a new {@link FunctionCall} with the given arguments and with no data.
      *
@@ -498,7 +485,7 @@ public sealed interface Ast
      * @return the node
      */
     static FunctionCall functionCall(final ExpressionFunction function, final Arguments<Ast> args) {
-        return functionCall(function, args, new HashMap<>());
+        return functionCall(function, args, Map.of());
     }
 
     /**
@@ -522,7 +509,7 @@ public sealed interface Ast
      * @return the node
      */
     static AggregationCall aggregationCall(final ColumnAggregation aggregation, final Arguments<ConstantAst> args) {
-        return aggregationCall(aggregation, args, new HashMap<>());
+        return aggregationCall(aggregation, args, Map.of());
     }
 
     /**
@@ -657,9 +644,15 @@ public sealed interface Ast
 
         O visit(UnaryOp node) throws E;
 
+        O visit(MembershipOp node) throws E;
+
         O visit(FunctionCall node) throws E;
 
         O visit(AggregationCall node) throws E;
+
+        O visit(LetBinding node) throws E;
+
+        O visit(LetVarAccess node) throws E;
     }
 
     /**
@@ -716,6 +709,11 @@ public sealed interface Ast
             return Optional.empty();
         }
 
+        @Override
+        public Optional<O> visit(final MembershipOp node) throws E {
+            return Optional.empty();
+        }
+
         @Override
         public Optional<O> visit(final FunctionCall node) throws E {
             return Optional.empty();
@@ -725,6 +723,16 @@ public sealed interface Ast
         public Optional<O> visit(final AggregationCall node) throws E {
             return Optional.empty();
         }
+
+        @Override
+        public Optional<O> visit(final LetBinding node) throws E {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<O> visit(final LetVarAccess node) throws E {
+            return Optional.empty();
+        }
     }
 
     // ======================================================
@@ -738,6 +746,10 @@ public sealed interface Ast
      */
     record MissingConstant(Map<String, Object> data) implements ConstantAst {
 
+        public MissingConstant {
+            data = AstData.copyOf(data);
+        }
+
         @Override
         public <O, E extends Exception> O accept(final AstVisitor<O, E> visitor) throws E {
             return visitor.visit(this);
@@ -753,6 +765,10 @@ public sealed interface Ast
      */
     record BooleanConstant(boolean value, Map<String, Object> data) implements ConstantAst {
 
+        public BooleanConstant {
+            data = AstData.copyOf(data);
+        }
+
         @Override
         public <O, E extends Exception> O accept(final AstVisitor<O, E> visitor) throws E {
             return visitor.visit(this);
@@ -767,6 +783,10 @@ public sealed interface Ast
      */
     record IntegerConstant(long value, Map<String, Object> data) implements ConstantAst {
 
+        public IntegerConstant {
+            data = AstData.copyOf(data);
+        }
+
         @Override
         public <O, E extends Exception> O accept(final AstVisitor<O, E> visitor) throws E {
             return visitor.visit(this);
@@ -781,6 +801,10 @@ public sealed interface Ast
      */
     record FloatConstant(double value, Map<String, Object> data) implements ConstantAst {
 
+        public FloatConstant {
+            data = AstData.copyOf(data);
+        }
+
         @Override
         public <O, E extends Exception> O accept(final AstVisitor<O, E> visitor) throws E {
             return visitor.visit(this);
@@ -795,6 +819,10 @@ public sealed interface Ast
      */
     record StringConstant(String value, Map<String, Object> data) implements ConstantAst {
 
+        public StringConstant {
+            data = AstData.copyOf(data);
+        }
+
         @Override
         public <O, E extends Exception> O accept(final AstVisitor<O, E> visitor) throws E {
             return visitor.visit(this);
@@ -877,6 +905,10 @@ public sealed interface Ast
      */
     record ColumnAccess(ColumnId columnId, long offset, Map<String, Object> data) implements Ast {
 
+        public ColumnAccess {
+            data = AstData.copyOf(data);
+        }
+
         @Override
         public <O, E extends Exception> O accept(final AstVisitor<O, E> visitor) throws E {
             return visitor.visit(this);
@@ -891,6 +923,10 @@ public sealed interface Ast
      */
     record FlowVarAccess(String name, Map<String, Object> data) implements Ast {
 
+        public FlowVarAccess {
+            data = AstData.copyOf(data);
+        }
+
         @Override
         public <O, E extends Exception> O accept(final AstVisitor<O, E> visitor) throws E {
             return visitor.visit(this);
@@ -907,6 +943,10 @@ public sealed interface Ast
      */
     record BinaryOp(BinaryOperator op, Ast arg1, Ast arg2, Map<String, Object> data) implements Ast {
 
+        public BinaryOp {
+            data = AstData.copyOf(data);
+        }
+
         @Override
         public <O, E extends Exception> O accept(final AstVisitor<O, E> visitor) throws E {
             return visitor.visit(this);
@@ -927,6 +967,10 @@ public sealed interface Ast
      */
     record UnaryOp(UnaryOperator op, Ast arg, Map<String, Object> data) implements Ast {
 
+        public UnaryOp {
+            data = AstData.copyOf(data);
+        }
+
         @Override
         public <O, E extends Exception> O accept(final AstVisitor<O, E> visitor) throws E {
             return visitor.visit(this);
@@ -938,6 +982,40 @@ public sealed interface Ast
         }
     }
 
+    /**
+     * {@link Ast} representing a test if a value is one of the elements of a list
+     *
+     * @param negated <code>true</code> if the test is negated ("not in")
+     * @param arg the value to look for
+     * @param elements the elements of the list
+     * @param data attached data
+     */
+    record MembershipOp(boolean negated, Ast arg, List<Ast> elements, Map<String, Object> data) implements Ast {
+
+        public MembershipOp {
+            elements = List.copyOf(elements);
+            data = AstData.copyOf(data);
+        }
+
+        @Override
+        public <O, E extends Exception> O accept(final AstVisitor<O, E> visitor) throws E {
+            return visitor.visit(this);
+        }
+
+        @Override
+        public List<Ast> children() {
+            var children = new ArrayList<Ast>(elements.size() + 1);
+            children.add(arg);
+            children.addAll(elements);
+            return children;
+        }
+
+        /** @return the symbol of the operator */
+        public String symbol() {
+            return negated ? "not in" : "in";
+        }
+    }
+
     /**
      * {@link Ast} representing a function call
      *
@@ -947,6 +1025,10 @@ public sealed interface Ast
      */
     record FunctionCall(ExpressionFunction function, Arguments<Ast> args, Map<String, Object> data) implements Ast {
 
+        public FunctionCall {
+            data = AstData.copyOf(data);
+        }
+
         @Override
         public <O, E extends Exception> O accept(final AstVisitor<O, E> visitor) throws E {
             return visitor.visit(this);
@@ -969,6 +1051,10 @@ public sealed interface Ast
     record AggregationCall(ColumnAggregation aggregation, Arguments<ConstantAst> args, Map<String, Object> data)
         implements Ast {
 
+        public AggregationCall {
+            data = AstData.copyOf(data);
+        }
+
         @Override
         public <O, E extends Exception> O accept(final AstVisitor<O, E> visitor) throws E {
             return visitor.visit(this);
@@ -980,4 +1066,51 @@ public sealed interface Ast
         }
 
     }
+
+    /**
+     * {@link Ast} representing an expression that binds a value to a name. The value is computed at most once per row,
+     * no matter how often the body {@link LetVarAccess accesses} it.
+     *
+     * @param name the name of the bound value
+     * @param value the value that is bound to the name
+     * @param body the expression that can access the value by the name
+     * @param data attached data
+     */
+    record LetBinding(String name, Ast value, Ast body, Map<String, Object> data) implements Ast {
+
+        public LetBinding {
+            data = AstData.copyOf(data);
+        }
+
+        @Override
+        public <O, E extends Exception> O accept(final AstVisitor<O, E> visitor) throws E {
+            return visitor.visit(this);
+        }
+
+        @Override
+        public List<Ast> children() {
+            return List.of(value, body);
+        }
+    }
+
+    /**
+     * {@link Ast} representing an access to the value that is bound to a name by a {@link LetBinding}. The node refers
+     * to the same instance as the {@link LetBinding#value() value} of the binding but does not have it as a child.
+     * Therefore, the value is only part of the tree once.
+     *
+     * @param name the name of the bound value
+     * @param value the value of the {@link LetBinding} that binds the name
+     * @param data attached data
+     */
+    record LetVarAccess(String name, Ast value, Map<String, Object> data) implements Ast {
+
+        public LetVarAccess {
+            data = AstData.copyOf(data);
+        }
+
+        @Override
+        public <O, E extends Exception> O accept(final AstVisitor<O, E> visitor) throws E {
+            return visitor.visit(this);
+        }
+    }
 }
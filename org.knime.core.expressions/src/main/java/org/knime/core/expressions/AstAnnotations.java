@@ -0,0 +1,102 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.expressions;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Information about the nodes of an {@link Ast} that is computed after parsing, like the type of each node or the
+ * index of the column accessed by a {@link Ast.ColumnAccess}. The syntax tree itself is immutable; annotations are kept
+ * in this separate table that maps nodes by identity. An instance is not modified after it has been created and can
+ * therefore be shared between threads.
+ *
+ * @param <T> the type of the annotation
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+public final class AstAnnotations<T> {
+
+    private final Map<Ast, T> m_annotations;
+
+    /**
+     * @param annotations the annotations by node identity. The map is owned by the new instance and must not be
+     *            modified afterwards.
+     */
+    AstAnnotations(final IdentityHashMap<Ast, T> annotations) {
+        m_annotations = annotations;
+    }
+
+    /**
+     * @param node a node of the annotated syntax tree
+     * @return the annotation of the node
+     * @throws IllegalArgumentException if the node has no annotation
+     */
+    public T get(final Ast node) {
+        var annotation = m_annotations.get(node);
+        if (annotation == null) {
+            throw new IllegalArgumentException("The node " + node + " has no annotation.");
+        }
+        return annotation;
+    }
+
+    /**
+     * @param node a node
+     * @return <code>true</code> if the node has an annotation
+     */
+    public boolean has(final Ast node) {
+        return m_annotations.containsKey(node);
+    }
+
+    /**
+     * @return the number of annotated nodes
+     */
+    public int size() {
+        return m_annotations.size();
+    }
+}
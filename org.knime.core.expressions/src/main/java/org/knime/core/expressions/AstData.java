@@ -0,0 +1,151 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.expressions;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact storage for the {@link Ast#data() data} of a node. The parser attaches the text location to every node of
+ * the syntax tree. The location is therefore kept in fixed slots of this map instead of in a {@link TextRange} object
+ * inside a general purpose map. A map for other entries is only allocated if a node has such entries.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+final class AstData extends AbstractMap<String, Object> {
+
+    /** The key of the text location of a node */
+    static final String LOCATION_KEY = "text_location";
+
+    private final int m_start;
+
+    private final int m_stop;
+
+    /** Entries other than the location or <code>null</code> if there are none */
+    private final Map<String, Object> m_extra;
+
+    private AstData(final int start, final int stop, final Map<String, Object> extra) {
+        m_start = start;
+        m_stop = stop;
+        m_extra = extra;
+    }
+
+    /**
+     * @param start the start of the location in the expression text
+     * @param stop the end of the location in the expression text (exclusive)
+     * @return the data for a node that only has a text location
+     */
+    static Map<String, Object> withLocation(final int start, final int stop) {
+        return new AstData(start, stop, null);
+    }
+
+    /**
+     * Create an immutable copy of the given data. If the data contains a {@link TextRange} for the
+     * {@link #LOCATION_KEY}, the copy uses the compact representation.
+     *
+     * @param data the data of a node
+     * @return the immutable data, the given instance if it is immutable already
+     */
+    static Map<String, Object> copyOf(final Map<String, Object> data) {
+        if (data instanceof AstData) {
+            return data;
+        }
+        if (!(data.get(LOCATION_KEY) instanceof TextRange location)) {
+            return Map.copyOf(data);
+        }
+        if (data.size() == 1) {
+            return new AstData(location.start(), location.stop(), null);
+        }
+        var extra = new HashMap<>(data);
+        extra.remove(LOCATION_KEY);
+        return new AstData(location.start(), location.stop(), Map.copyOf(extra));
+    }
+
+    private TextRange location() {
+        return new TextRange(m_start, m_stop);
+    }
+
+    @Override
+    public Object get(final Object key) {
+        if (LOCATION_KEY.equals(key)) {
+            return location();
+        }
+        return m_extra == null ? null : m_extra.get(key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return LOCATION_KEY.equals(key) || (m_extra != null && m_extra.containsKey(key));
+    }
+
+    @Override
+    public int size() {
+        return m_extra == null ? 1 : (m_extra.size() + 1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Entry<String, Object> location = Map.entry(LOCATION_KEY, location());
+        if (m_extra == null) {
+            return Set.of(location);
+        }
+        var entries = new HashSet<>(m_extra.entrySet());
+        entries.add(location);
+        return Collections.unmodifiableSet(entries);
+    }
+}
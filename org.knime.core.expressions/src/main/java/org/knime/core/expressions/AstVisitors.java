@@ -45,145 +45,193 @@
  */
 package org.knime.core.expressions;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.function.BinaryOperator;
 
+import org.knime.core.expressions.Ast.AggregationCall;
+import org.knime.core.expressions.Ast.ColumnAccess;
+import org.knime.core.expressions.Ast.FlowVarAccess;
+
 /**
- * TODO (TP) Revise Ast.accept(AstVisitor) to recursively descent into children, collecting results etc. Probably the
- * AstVisitor interface has to be revised to allow for flexible accumulation of results or similar. Learn about how to
- * do this right. For example: https://www.lihaoyi.com/post/ZeroOverheadTreeProcessingwiththeVisitorPattern.html
- * https://www.baeldung.com/java-asm#working-with-the-event-based-asm-api
- * https://asm.ow2.io/javadoc/org/objectweb/asm/ClassVisitor.html
+ * Utilities to traverse an {@link Ast} without recursion. Generated expressions can be deep and a recursive traversal
+ * costs a stack frame per level. The utilities use an explicit stack instead.
+ *
+ * @author Tobias Pietzsch
+ * @author Benjamin Wilhelm, KNIME GmbH, Berlin, Germany
  */
-class AstVisitors {
+final class AstVisitors {
+
+    private AstVisitors() {
+    }
 
     /**
-     * TODO (TP) Ast.accept should do the recursion!
+     * Collect the column accesses, flow variable accesses and aggregation calls of the expression in a single pass. Each
+     * list contains the nodes in the order in which they appear in the expression.
+     *
+     * @param root the root of the expression
+     * @return the nodes that access the inputs of the expression
      */
-    private interface RecursiveAstVisitor<O, E extends Exception> extends Ast.AstVisitor<O, E> {
-
-        O applyLeaf(Ast node) throws E;
+    static InputAccesses collectInputAccesses(final Ast root) {
+        var columnAccesses = new ArrayList<ColumnAccess>();
+        var flowVariableAccesses = new ArrayList<FlowVarAccess>();
+        var aggregationCalls = new ArrayList<AggregationCall>();
+
+        var nodes = new ArrayDeque<Ast>();
+        nodes.push(root);
+        while (!nodes.isEmpty()) {
+            var node = nodes.pop();
+            if (node instanceof ColumnAccess columnAccess) {
+                columnAccesses.add(columnAccess);
+            } else if (node instanceof FlowVarAccess flowVarAccess) {
+                flowVariableAccesses.add(flowVarAccess);
+            } else if (node instanceof AggregationCall aggregationCall) {
+                // NB: The arguments of an aggregation are constants
+                aggregationCalls.add(aggregationCall);
+            } else {
+                // Push the children in reverse order to visit them from left to right
+                var children = node.children();
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    nodes.push(children.get(i));
+                }
+            }
+        }
+        return new InputAccesses(columnAccesses, flowVariableAccesses, aggregationCalls);
+    }
 
-        O applyBinaryOp(Ast.BinaryOp node, O arg1Result, O arg2Result) throws E;
+    /**
+     * Visits all nodes of a tree bottom-up without recursion. The children of a node are visited before the node. The
+     * visit methods get the results of the children with {@link #resultOf(Ast)}. An instance can only visit one tree.
+     */
+    abstract static class PostorderAstVisitor<O, E extends Exception> implements Ast.AstVisitor<O, E> {
+
+        private final IdentityHashMap<Ast, O> m_results = new IdentityHashMap<>();
+
+        /**
+         * @param child a child of the node that is currently visited
+         * @return the result of visiting the child
+         */
+        protected final O resultOf(final Ast child) {
+            return m_results.get(child);
+        }
+
+        /**
+         * Visit all nodes of the tree in postorder.
+         *
+         * @param root the root of the tree
+         * @return the result of each node of the tree
+         * @throws E if visiting a node fails
+         */
+        final IdentityHashMap<Ast, O> visitAll(final Ast root) throws E {
+            for (var node : Ast.postorder(root)) {
+                m_results.put(node, node.accept(this));
+            }
+            return m_results;
+        }
 
-        O applyUnaryOp(Ast.UnaryOp node, O argResult) throws E;
+        /**
+         * Visit all nodes of the tree in postorder.
+         *
+         * @param root the root of the tree
+         * @return the result of the root
+         * @throws E if visiting a node fails
+         */
+        final O visitTree(final Ast root) throws E {
+            return visitAll(root).get(root);
+        }
+    }
 
-        O applyFunctionCall(Ast.FunctionCall node, List<O> argResults) throws E;
+    /**
+     * Visits Ast nodes bottom-up and combines results using a binary operator.
+     */
+    static class ReducingAstVisitor<O, E extends Exception> extends PostorderAstVisitor<O, E> {
 
-        O applyAggregationCall(Ast.AggregationCall node, List<O> argResults) throws E;
+        private final O m_identity;
 
-        @Override
-        default O visit(final Ast.MissingConstant node) throws E {
-            return applyLeaf(node);
-        }
+        private final BinaryOperator<O> m_accumulator;
 
-        @Override
-        default O visit(final Ast.BooleanConstant node) throws E {
-            return applyLeaf(node);
+        public ReducingAstVisitor(final O identity, final BinaryOperator<O> accumulator) {
+            this.m_identity = identity;
+            this.m_accumulator = accumulator;
         }
 
         @Override
-        default O visit(final Ast.IntegerConstant node) throws E {
-            return applyLeaf(node);
+        public O visit(final Ast.MissingConstant node) throws E {
+            return m_identity;
         }
 
         @Override
-        default O visit(final Ast.FloatConstant node) throws E {
-            return applyLeaf(node);
+        public O visit(final Ast.BooleanConstant node) throws E {
+            return m_identity;
         }
 
         @Override
-        default O visit(final Ast.StringConstant node) throws E {
-            return applyLeaf(node);
+        public O visit(final Ast.IntegerConstant node) throws E {
+            return m_identity;
         }
 
         @Override
-        default O visit(final Ast.ColumnAccess node) throws E {
-            return applyLeaf(node);
+        public O visit(final Ast.FloatConstant node) throws E {
+            return m_identity;
         }
 
         @Override
-        default O visit(final Ast.FlowVarAccess node) throws E {
-            return applyLeaf(node);
+        public O visit(final Ast.StringConstant node) throws E {
+            return m_identity;
         }
 
         @Override
-        default O visit(final Ast.BinaryOp node) throws E {
-            final O arg1Result = node.arg1().accept(this);
-            final O arg2Result = node.arg2().accept(this);
-            return applyBinaryOp(node, arg1Result, arg2Result);
+        public O visit(final Ast.ColumnAccess node) throws E {
+            return m_identity;
         }
 
         @Override
-        default O visit(final Ast.UnaryOp node) throws E {
-            final O argResult = node.arg().accept(this);
-            return applyUnaryOp(node, argResult);
+        public O visit(final Ast.FlowVarAccess node) throws E {
+            return m_identity;
         }
 
         @Override
-        default O visit(final Ast.FunctionCall node) throws E {
-            final List<O> argResults = new ArrayList<>();
-            for (var child : node.children()) {
-                argResults.add(child.accept(this));
-            }
-            return applyFunctionCall(node, argResults);
+        public O visit(final Ast.BinaryOp node) throws E {
+            return m_accumulator.apply(resultOf(node.arg1()), resultOf(node.arg2()));
         }
 
         @Override
-        default O visit(final Ast.AggregationCall node) throws E {
-            final List<O> argResults = new ArrayList<>();
-            for (var child : node.children()) {
-                argResults.add(child.accept(this));
-            }
-            return applyAggregationCall(node, argResults);
-        }
-    }
-
-    /**
-     * Recursively visits Ast nodes and combines results using a binary operator.
-     */
-    static class ReducingAstVisitor<O, E extends Exception> implements RecursiveAstVisitor<O, E> {
-
-        private final O m_identity;
-
-        private final BinaryOperator<O> m_accumulator;
-
-        public ReducingAstVisitor(final O identity, final BinaryOperator<O> accumulator) {
-            this.m_identity = identity;
-            this.m_accumulator = accumulator;
+        public O visit(final Ast.UnaryOp node) throws E {
+            return resultOf(node.arg());
         }
 
         @Override
-        public O applyLeaf(final Ast node) {
-            return m_identity;
+        public O visit(final Ast.MembershipOp node) throws E {
+            return reduce(node.children());
         }
 
         @Override
-        public O applyBinaryOp(final Ast.BinaryOp node, final O arg1Result, final O arg2Result) {
-            return m_accumulator.apply(arg1Result, arg2Result);
+        public O visit(final Ast.FunctionCall node) throws E {
+            return reduce(node.children());
         }
 
         @Override
-        public O applyUnaryOp(final Ast.UnaryOp node, final O argResult) {
-            return argResult;
+        public O visit(final Ast.AggregationCall node) throws E {
+            return reduce(node.children());
         }
 
         @Override
-        public O applyFunctionCall(final Ast.FunctionCall node, final List<O> argResults) {
-            return reduce(argResults);
+        public O visit(final Ast.LetBinding node) throws E {
+            return m_accumulator.apply(resultOf(node.value()), resultOf(node.body()));
         }
 
         @Override
-        public O applyAggregationCall(final Ast.AggregationCall node, final List<O> arguments) {
-
-            return reduce(arguments);
+        public O visit(final Ast.LetVarAccess node) throws E {
+            // The value is reduced at the binding
+            return m_identity;
         }
 
-        private O reduce(final List<O> argResults) {
+        private O reduce(final List<Ast> children) {
             O result = m_identity;
-            for (O r : argResults) {
-                result = m_accumulator.apply(result, r);
+            for (var child : children) {
+                result = m_accumulator.apply(result, resultOf(child));
             }
             return result;
         }
@@ -48,6 +48,7 @@
  */
 package org.knime.core.expressions;
 
+import java.util.IdentityHashMap;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.function.Function;
@@ -61,26 +62,28 @@ import org.knime.core.expressions.Ast.ColumnAccess;
  */
 final class ColumnIdxResolve {
 
-    private static final String COLUMN_IDX_DATA_KEY = "colIdx";
-
     private ColumnIdxResolve() {
     }
 
     /**
-     * Resolve column indices for the given Expression {@link Ast}. Adds the field "colIdx" to all
-     * {@link Ast.ColumnAccess} nodes.
+     * Resolve column indices for the given Expression {@link Ast}.
      *
      * @param columnNameToIdx map a column name to the index. Should return {@link OptionalInt#empty()} for column names
      *            that do not exist in the table.
+     * @return the column index of each {@link Ast.ColumnAccess} node
      */
-    static void resolveColumnAccessIndices(final Ast root,
+    static AstAnnotations<Integer> resolveColumnAccessIndices(final Ast root,
         final Function<Ast.ColumnAccess, OptionalInt> columnNameToIdx) throws ExpressionCompileException {
 
-        Ast.putDataRecursive(root, COLUMN_IDX_DATA_KEY, new ColumnIdxVisitor(columnNameToIdx));
-    }
-
-    static int getColumnIdx(final ColumnAccess node) {
-        return (Integer)node.data(COLUMN_IDX_DATA_KEY);
+        var visitor = new ColumnIdxVisitor(columnNameToIdx);
+        var indices = new IdentityHashMap<Ast, Integer>();
+        for (var node : Ast.postorder(root)) {
+            var idx = node.accept(visitor);
+            if (idx.isPresent()) {
+                indices.put(node, idx.get());
+            }
+        }
+        return new AstAnnotations<>(indices);
     }
 
     private static final class ColumnIdxVisitor extends Ast.OptionalAstVisitor<Integer, ExpressionCompileException> {
@@ -237,7 +237,26 @@ public interface Computer {
          * @return an {@link IntegerComputer}
          */
         static IntegerComputer ofConstant(final long value) {
-            return of(ctx -> value, ctx -> false);
+            return new Constant(value);
+        }
+
+        /**
+         * A non-missing {@link IntegerComputer} that always computes the same value. Consumers can check for this type
+         * to use the value when creating their computer instead of computing it for each row.
+         *
+         * @param value the constant value
+         */
+        record Constant(long value) implements IntegerComputer {
+
+            @Override
+            public boolean isMissing(final EvaluationContext ctx) {
+                return false;
+            }
+
+            @Override
+            public long compute(final EvaluationContext ctx) {
+                return value;
+            }
         }
     }
 
@@ -326,7 +345,26 @@ public interface Computer {
          * @return a {@link StringComputer}
          */
         static StringComputer ofConstant(final String value) {
-            return of(ctx -> value, ctx -> false);
+            return new Constant(value);
+        }
+
+        /**
+         * A non-missing {@link StringComputer} that always computes the same value. Consumers can check for this type
+         * to use the value when creating their computer instead of computing it for each row.
+         *
+         * @param value the constant value
+         */
+        record Constant(String value) implements StringComputer {
+
+            @Override
+            public boolean isMissing(final EvaluationContext ctx) {
+                return false;
+            }
+
+            @Override
+            public String compute(final EvaluationContext ctx) {
+                return value;
+            }
         }
     }
 
@@ -687,6 +725,58 @@ public interface Computer {
             "Cannot cast computer to FLOAT: " + computer + ". This in an implementation error.");
     }
 
+    /**
+     * Helper method to evaluate a computer once and get a computer that returns the result without computing it again.
+     * Use this for computers that return the same value every time they are evaluated.
+     *
+     * @param computer the computer to evaluate
+     * @param ctx the context that is used for evaluating the computer once
+     * @return a computer of the same type that returns the result of the given computer
+     * @throws ExpressionEvaluationException if the computer could not be evaluated
+     */
+    static Computer toConstant(final Computer computer, final EvaluationContext ctx)
+        throws ExpressionEvaluationException {
+
+        // NB: The returned computer keeps the type of the given computer, also if the result is MISSING
+        // TODO(AP-24022) use pattern matching for exhaustive type switches
+        var missing = computer.isMissing(ctx);
+        if (computer instanceof BooleanComputer c) {
+            var value = !missing && c.compute(ctx);
+            return BooleanComputer.of(x -> value, x -> missing);
+        } else if (computer instanceof FloatComputer c) {
+            var value = missing ? 0.0 : c.compute(ctx);
+            return FloatComputer.of(x -> value, x -> missing);
+        } else if (computer instanceof IntegerComputer c) {
+            var value = missing ? 0L : c.compute(ctx);
+            return IntegerComputer.of(x -> value, x -> missing);
+        } else if (computer instanceof StringComputer c) {
+            var value = missing ? null : c.compute(ctx);
+            return StringComputer.of(x -> value, x -> missing);
+        } else if (computer instanceof LocalDateComputer c) {
+            var value = missing ? null : c.compute(ctx);
+            return LocalDateComputer.of(x -> value, x -> missing);
+        } else if (computer instanceof LocalTimeComputer c) {
+            var value = missing ? null : c.compute(ctx);
+            return LocalTimeComputer.of(x -> value, x -> missing);
+        } else if (computer instanceof LocalDateTimeComputer c) {
+            var value = missing ? null : c.compute(ctx);
+            return LocalDateTimeComputer.of(x -> value, x -> missing);
+        } else if (computer instanceof ZonedDateTimeComputer c) {
+            var value = missing ? null : c.compute(ctx);
+            return ZonedDateTimeComputer.of(x -> value, x -> missing);
+        } else if (computer instanceof TimeDurationComputer c) {
+            var value = missing ? null : c.compute(ctx);
+            return TimeDurationComputer.of(x -> value, x -> missing);
+        } else if (computer instanceof DateDurationComputer c) {
+            var value = missing ? null : c.compute(ctx);
+            return DateDurationComputer.of(x -> value, x -> missing);
+        } else if (missing) {
+            return x -> true;
+        } else {
+            throw new IllegalStateException("Implementation error: a computer is not of a known type.");
+        }
+    }
+
     /**
      * Helper method to get the string representation of a computer. If it is Missing, it will return "MISSING".
      * Otherwise the string representation is type-specific.
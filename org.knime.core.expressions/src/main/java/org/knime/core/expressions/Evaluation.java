@@ -66,9 +66,16 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Period;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
 
 import org.knime.core.expressions.Ast.AggregationCall;
 import org.knime.core.expressions.Ast.BinaryOp;
@@ -79,6 +86,9 @@ import org.knime.core.expressions.Ast.FloatConstant;
 import org.knime.core.expressions.Ast.FlowVarAccess;
 import org.knime.core.expressions.Ast.FunctionCall;
 import org.knime.core.expressions.Ast.IntegerConstant;
+import org.knime.core.expressions.Ast.LetBinding;
+import org.knime.core.expressions.Ast.LetVarAccess;
+import org.knime.core.expressions.Ast.MembershipOp;
 import org.knime.core.expressions.Ast.MissingConstant;
 import org.knime.core.expressions.Ast.StringConstant;
 import org.knime.core.expressions.Ast.UnaryOp;
@@ -112,12 +122,28 @@ final class Evaluation {
     private static final Computer MISSING_CONSTANT_COMPUTER = ctx -> true;
 
     static Computer evaluate( //
-        final Ast expression, //
+        final TypedAst expression, //
         final Function<ColumnAccess, Optional<Computer>> columnToComputer, //
         final Function<FlowVarAccess, Optional<Computer>> flowVariableToComputer, //
         final Function<AggregationCall, Optional<Computer>> aggregationToComputer //
     ) throws ExpressionCompileException {
-        return expression.accept(new ComputerFactory(columnToComputer, flowVariableToComputer, aggregationToComputer));
+        return evaluate(expression.ast(), expression.types(), columnToComputer, flowVariableToComputer,
+            aggregationToComputer);
+    }
+
+    /**
+     * Create the {@link Computer} for a subtree of a typed expression. Used by {@link RegisterEvaluation} for the nodes
+     * that it does not lower to instructions.
+     */
+    static Computer evaluate( //
+        final Ast node, //
+        final AstAnnotations<ValueType> types, //
+        final Function<ColumnAccess, Optional<Computer>> columnToComputer, //
+        final Function<FlowVarAccess, Optional<Computer>> flowVariableToComputer, //
+        final Function<AggregationCall, Optional<Computer>> aggregationToComputer //
+    ) throws ExpressionCompileException {
+        return new ComputerFactory(types, columnToComputer, flowVariableToComputer, aggregationToComputer)
+            .visitTree(node);
     }
 
     private static final class EvaluationImplementationError extends RuntimeException {
@@ -128,7 +154,10 @@ final class Evaluation {
         }
     }
 
-    private static final class ComputerFactory implements Ast.AstVisitor<Computer, ExpressionCompileException> {
+    private static final class ComputerFactory
+        extends AstVisitors.PostorderAstVisitor<Computer, ExpressionCompileException> {
+
+        private final AstAnnotations<ValueType> m_types;
 
         private final Function<ColumnAccess, Optional<Computer>> m_columnToComputer;
 
@@ -136,9 +165,14 @@ final class Evaluation {
 
         private final Function<AggregationCall, Optional<Computer>> m_aggregationToComputer;
 
-        public ComputerFactory(final Function<ColumnAccess, Optional<Computer>> columnToComputer,
+        /** The slots of the let bindings by their value. Only contains the bindings whose value is accessed. */
+        private final IdentityHashMap<Ast, LetSlot> m_letSlots = new IdentityHashMap<>();
+
+        public ComputerFactory(final AstAnnotations<ValueType> types,
+            final Function<ColumnAccess, Optional<Computer>> columnToComputer,
             final Function<FlowVarAccess, Optional<Computer>> flowVariableToComputer,
             final Function<AggregationCall, Optional<Computer>> aggregationToComputer) {
+            m_types = types;
             m_columnToComputer = columnToComputer;
             m_flowVariableToComputer = flowVariableToComputer;
             m_aggregationToComputer = aggregationToComputer;
@@ -183,9 +217,9 @@ final class Evaluation {
 
         @Override
         public Computer visit(final UnaryOp node) throws ExpressionCompileException {
-            var arg = node.arg().accept(this);
+            var arg = resultOf(node.arg());
 
-            var outType = Typing.getType(node);
+            var outType = m_types.get(node);
             if (BOOLEAN.equals(outType.baseType())) {
                 return Boolean.unary(node.op(), arg);
             } else if (INTEGER.equals(outType.baseType())) {
@@ -202,10 +236,10 @@ final class Evaluation {
 
         @Override
         public Computer visit(final BinaryOp node) throws ExpressionCompileException {
-            var arg1 = node.arg1().accept(this);
-            var arg2 = node.arg2().accept(this);
+            var arg1 = resultOf(node.arg1());
+            var arg2 = resultOf(node.arg2());
 
-            var outType = Typing.getType(node);
+            var outType = m_types.get(node);
 
             if (node.op() == BinaryOperator.MISSING_FALLBACK) {
                 return ComputerFactory.missingFallbackOperatorImpl(outType, arg1, arg2);
@@ -243,9 +277,16 @@ final class Evaluation {
             throw new EvaluationImplementationError("Unknown output type " + outType.name() + " for binary operation.");
         }
 
+        @Override
+        public Computer visit(final MembershipOp node) throws ExpressionCompileException {
+            var arg = resultOf(node.arg());
+            var elements = node.elements().stream().map(this::resultOf).toList();
+            return Boolean.membership(node.negated(), arg, elements);
+        }
+
         @Override
         public Computer visit(final FunctionCall node) throws ExpressionCompileException {
-            var argComputers = node.args().map(arg -> arg.accept(this));
+            var argComputers = node.args().map(this::resultOf);
             return node.function().apply(argComputers);
         }
 
@@ -255,6 +296,25 @@ final class Evaluation {
                 () -> new ExpressionCompileException(ExpressionCompileError.aggregationNotImplemented(node)));
         }
 
+        @Override
+        public Computer visit(final LetBinding node) throws ExpressionCompileException {
+            // NB: The value is visited before the body, therefore the accesses to the value created the slot already
+            var body = resultOf(node.body());
+            var slot = m_letSlots.get(node.value());
+            return slot == null ? body : slot.bind(body);
+        }
+
+        @Override
+        public Computer visit(final LetVarAccess node) throws ExpressionCompileException {
+            var value = resultOf(node.value());
+            if (value == MISSING_CONSTANT_COMPUTER || value instanceof IntegerComputer.Constant
+                || value instanceof StringComputer.Constant) {
+                // Nothing to cache - the constant computer also enables the constant lookups of "in" and switch
+                return value;
+            }
+            return m_letSlots.computeIfAbsent(node.value(), v -> new LetSlot(value)).access();
+        }
+
         private static Computer missingFallbackOperatorImpl(final ValueType outputType, final Computer arg1,
             final Computer arg2) {
             // Deferred evaluation to avoid calling missing during setup
@@ -291,14 +351,182 @@ final class Evaluation {
         }
     }
 
+    /**
+     * Caches the value of a let binding for one row. The accesses to the value compute it when they are used for the
+     * first time and reuse it until the next reset. The binding resets the slot when its body is checked for MISSING,
+     * which consumers do before they compute a row. A compute call that directly follows the check belongs to the same
+     * row and keeps the slot. A compute call without a check resets the slot. Therefore, the value is computed at most
+     * once per row, and only if the body needs it. BOOLEAN, INTEGER and FLOAT values are kept in primitive fields to
+     * avoid boxing.
+     */
+    private static final class LetSlot {
+
+        private final Computer m_value;
+
+        private boolean m_isMissingKnown;
+
+        private boolean m_isMissing;
+
+        private boolean m_valueKnown;
+
+        /** BOOLEAN (as 0 or 1) and INTEGER values */
+        private long m_longValue;
+
+        private double m_doubleValue;
+
+        private Object m_objectValue;
+
+        /** <code>true</code> if the body was checked for MISSING and was not computed since */
+        private boolean m_isMissingChecked;
+
+        LetSlot(final Computer value) {
+            m_value = value;
+        }
+
+        private void reset() {
+            m_isMissingKnown = false;
+            m_valueKnown = false;
+            m_objectValue = null;
+        }
+
+        private void beforeIsMissing() {
+            reset();
+            m_isMissingChecked = true;
+        }
+
+        private void beforeCompute() {
+            if (!m_isMissingChecked) {
+                reset();
+            }
+            m_isMissingChecked = false;
+        }
+
+        private boolean isMissing(final EvaluationContext ctx) throws ExpressionEvaluationException {
+            if (!m_isMissingKnown) {
+                m_isMissing = m_value.isMissing(ctx);
+                m_isMissingKnown = true;
+            }
+            return m_isMissing;
+        }
+
+        private boolean booleanValue(final EvaluationContext ctx) throws ExpressionEvaluationException {
+            if (!m_valueKnown) {
+                m_longValue = ((BooleanComputer)m_value).compute(ctx) ? 1 : 0;
+                m_valueKnown = true;
+            }
+            return m_longValue != 0;
+        }
+
+        private long integerValue(final EvaluationContext ctx) throws ExpressionEvaluationException {
+            if (!m_valueKnown) {
+                m_longValue = ((IntegerComputer)m_value).compute(ctx);
+                m_valueKnown = true;
+            }
+            return m_longValue;
+        }
+
+        private double floatValue(final EvaluationContext ctx) throws ExpressionEvaluationException {
+            if (!m_valueKnown) {
+                m_doubleValue = ((FloatComputer)m_value).compute(ctx);
+                m_valueKnown = true;
+            }
+            return m_doubleValue;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> ComputerResultSupplier<T> objectValue(final ComputerResultSupplier<T> compute) {
+            return ctx -> {
+                if (!m_valueKnown) {
+                    m_objectValue = compute.apply(ctx);
+                    m_valueKnown = true;
+                }
+                return (T)m_objectValue;
+            };
+        }
+
+        /** @return a {@link Computer} of the same type as the value that reads the value from this slot */
+        Computer access() { // NOSONAR - one case per computer type is clear
+            BooleanComputerResultSupplier isMissing = this::isMissing;
+            if (m_value instanceof BooleanComputer) {
+                return BooleanComputer.of(this::booleanValue, isMissing);
+            } else if (m_value instanceof IntegerComputer) {
+                return IntegerComputer.of(this::integerValue, isMissing);
+            } else if (m_value instanceof FloatComputer) {
+                return FloatComputer.of(this::floatValue, isMissing);
+            } else if (m_value instanceof StringComputer c) {
+                return StringComputer.of(objectValue(c::compute), isMissing);
+            } else if (m_value instanceof LocalDateComputer c) {
+                return LocalDateComputer.of(objectValue(c::compute), isMissing);
+            } else if (m_value instanceof LocalTimeComputer c) {
+                return LocalTimeComputer.of(objectValue(c::compute), isMissing);
+            } else if (m_value instanceof LocalDateTimeComputer c) {
+                return LocalDateTimeComputer.of(objectValue(c::compute), isMissing);
+            } else if (m_value instanceof ZonedDateTimeComputer c) {
+                return ZonedDateTimeComputer.of(objectValue(c::compute), isMissing);
+            } else if (m_value instanceof TimeDurationComputer c) {
+                return TimeDurationComputer.of(objectValue(c::compute), isMissing);
+            } else if (m_value instanceof DateDurationComputer c) {
+                return DateDurationComputer.of(objectValue(c::compute), isMissing);
+            }
+            // A value that is always MISSING
+            return this::isMissing;
+        }
+
+        /** @return a {@link Computer} of the same type as the body that resets this slot for each row */
+        Computer bind(final Computer body) { // NOSONAR - one case per computer type is clear
+            BooleanComputerResultSupplier isMissing = ctx -> {
+                beforeIsMissing();
+                return body.isMissing(ctx);
+            };
+            if (body instanceof BooleanComputer c) {
+                return BooleanComputer.of(ctx -> {
+                    beforeCompute();
+                    return c.compute(ctx);
+                }, isMissing);
+            } else if (body instanceof IntegerComputer c) {
+                return IntegerComputer.of(ctx -> {
+                    beforeCompute();
+                    return c.compute(ctx);
+                }, isMissing);
+            } else if (body instanceof FloatComputer c) {
+                return FloatComputer.of(ctx -> {
+                    beforeCompute();
+                    return c.compute(ctx);
+                }, isMissing);
+            } else if (body instanceof StringComputer c) {
+                return StringComputer.of(withBeforeCompute(c::compute), isMissing);
+            } else if (body instanceof LocalDateComputer c) {
+                return LocalDateComputer.of(withBeforeCompute(c::compute), isMissing);
+            } else if (body instanceof LocalTimeComputer c) {
+                return LocalTimeComputer.of(withBeforeCompute(c::compute), isMissing);
+            } else if (body instanceof LocalDateTimeComputer c) {
+                return LocalDateTimeComputer.of(withBeforeCompute(c::compute), isMissing);
+            } else if (body instanceof ZonedDateTimeComputer c) {
+                return ZonedDateTimeComputer.of(withBeforeCompute(c::compute), isMissing);
+            } else if (body instanceof TimeDurationComputer c) {
+                return TimeDurationComputer.of(withBeforeCompute(c::compute), isMissing);
+            } else if (body instanceof DateDurationComputer c) {
+                return DateDurationComputer.of(withBeforeCompute(c::compute), isMissing);
+            }
+            // A body that is always MISSING
+            return isMissing::applyAsBoolean;
+        }
+
+        private <T> ComputerResultSupplier<T> withBeforeCompute(final ComputerResultSupplier<T> compute) {
+            return ctx -> {
+                beforeCompute();
+                return compute.apply(ctx);
+            };
+        }
+    }
+
     // Computer implementations for native types
 
     private static class Boolean {
 
         static BooleanComputer unary(final UnaryOperator op, final Computer arg) {
             if (op == UnaryOperator.NOT && arg instanceof BooleanComputer boolArg) {
-                var a = toKleenesLogicComputer(boolArg);
-                return fromKleenesLogicSupplier(ctx -> KleenesLogic.not(a.apply(ctx)));
+                return new LogicalComputer(null, boolArg, null);
             } else {
                 throw unsupportedOutputForOpError(op, BOOLEAN);
             }
@@ -318,9 +546,6 @@ final class Evaluation {
         private static BooleanComputer comparison( // NOSONAR - this method is complex but still clear
             final BinaryOperator op, final Computer arg1, final Computer arg2) {
 
-            BooleanComputerResultSupplier anyMissing = ctx -> arg1.isMissing(ctx) || arg2.isMissing(ctx);
-            BooleanComputerResultSupplier bothMissing = ctx -> arg1.isMissing(ctx) && arg2.isMissing(ctx);
-
             // This comparator only runs if both values are non-missing.
             IntegerComputerResultSupplier comparator;
             if (arg1 instanceof FloatComputer || arg2 instanceof FloatComputer) {
@@ -346,17 +571,25 @@ final class Evaluation {
                     "Arguments of " + arg1.getClass() + " and " + arg2.getClass() + " are not comparable.");
             }
 
-            BooleanComputerResultSupplier value = switch (op) {
-                case LESS_THAN -> ctx -> !anyMissing.applyAsBoolean(ctx) && comparator.applyAsLong(ctx) < 0;
-                case LESS_THAN_EQUAL -> ctx -> bothMissing.applyAsBoolean(ctx)
-                    || (!anyMissing.applyAsBoolean(ctx) && comparator.applyAsLong(ctx) <= 0);
-                case GREATER_THAN -> ctx -> !anyMissing.applyAsBoolean(ctx) && comparator.applyAsLong(ctx) > 0;
-                case GREATER_THAN_EQUAL -> ctx -> bothMissing.applyAsBoolean(ctx)
-                    || (!anyMissing.applyAsBoolean(ctx) && comparator.applyAsLong(ctx) >= 0);
+            // MISSING is only equal to MISSING for the non-strict comparisons
+            var missingEqualsMissing = op == BinaryOperator.LESS_THAN_EQUAL || op == BinaryOperator.GREATER_THAN_EQUAL;
+            LongPredicate comparison = switch (op) {
+                case LESS_THAN -> c -> c < 0;
+                case LESS_THAN_EQUAL -> c -> c <= 0;
+                case GREATER_THAN -> c -> c > 0;
+                case GREATER_THAN_EQUAL -> c -> c >= 0;
                 default -> throw new EvaluationImplementationError("Binary operator " + op + " is not a comparison.");
             };
 
-            return BooleanComputer.of(value, ctx -> false);
+            return BooleanComputer.of(ctx -> {
+                // Ask each argument only once if it is missing
+                var missing1 = arg1.isMissing(ctx);
+                var missing2 = arg2.isMissing(ctx);
+                if (missing1 || missing2) {
+                    return missingEqualsMissing && missing1 && missing2;
+                }
+                return comparison.test(comparator.applyAsLong(ctx));
+            }, ctx -> false);
         }
 
         private static BooleanComputer equality( // NOSONAR - this method is complex but still clear
@@ -391,9 +624,15 @@ final class Evaluation {
                     "Arguments of " + arg1.getClass() + " and " + arg2.getClass() + " are not equality comparable.");
             }
 
-            BooleanComputerResultSupplier equal = //
-                ctx -> (arg1.isMissing(ctx) && arg2.isMissing(ctx)) // both missing -> true
-                    || (!arg1.isMissing(ctx) && !arg2.isMissing(ctx) && valuesEqual.applyAsBoolean(ctx)); // any missing -> false
+            BooleanComputerResultSupplier equal = ctx -> {
+                // Ask each argument only once if it is missing
+                var missing1 = arg1.isMissing(ctx);
+                var missing2 = arg2.isMissing(ctx);
+                if (missing1 || missing2) {
+                    return missing1 && missing2; // both missing -> true, one missing -> false
+                }
+                return valuesEqual.applyAsBoolean(ctx);
+            };
 
             return switch (op) {
                 case EQUAL_TO -> BooleanComputer.of(equal, ctx -> false);
@@ -403,36 +642,134 @@ final class Evaluation {
             };
         }
 
-        private static BooleanComputer logical(final BinaryOperator op, final Computer arg1, final Computer arg2) {
-            var a1 = toKleenesLogicComputer((BooleanComputer)arg1);
-            var a2 = toKleenesLogicComputer((BooleanComputer)arg2);
+        /**
+         * Test if the value is equal to one of the elements like the equality operator. The constant elements are
+         * collected in a set when the computer is created such that testing a value does not depend on their number.
+         */
+        private static BooleanComputer membership(final boolean negated, final Computer arg,
+            final List<Computer> elements) {
+            var containsMissing = false;
+            var stringElements = new HashSet<String>();
+            var integerElements = LongStream.builder();
+            var otherElements = new ArrayList<BooleanComputer>();
+            for (var element : elements) {
+                if (element == MISSING_CONSTANT_COMPUTER) {
+                    containsMissing = true;
+                } else if (arg instanceof StringComputer && element instanceof StringComputer.Constant constant) {
+                    stringElements.add(constant.value());
+                } else if (arg instanceof IntegerComputer && element instanceof IntegerComputer.Constant constant) {
+                    integerElements.add(constant.value());
+                } else {
+                    otherElements.add(equality(BinaryOperator.EQUAL_TO, arg, element));
+                }
+            }
+            var sortedIntegerElements = integerElements.build().sorted().distinct().toArray();
+
+            // Only called if the value is not missing
+            BooleanComputerResultSupplier setContainsValue;
+            if (arg instanceof StringComputer stringArg && !stringElements.isEmpty()) {
+                setContainsValue = ctx -> stringElements.contains(stringArg.compute(ctx));
+            } else if (arg instanceof IntegerComputer integerArg && sortedIntegerElements.length > 0) {
+                setContainsValue = ctx -> Arrays.binarySearch(sortedIntegerElements, integerArg.compute(ctx)) >= 0;
+            } else {
+                setContainsValue = ctx -> false;
+            }
 
-            return switch (op) {
-                case CONDITIONAL_AND -> fromKleenesLogicSupplier(ctx -> KleenesLogic.and(a1.apply(ctx), a2.apply(ctx)));
-                case CONDITIONAL_OR -> fromKleenesLogicSupplier(ctx -> KleenesLogic.or(a1.apply(ctx), a2.apply(ctx)));
-                default -> throw new EvaluationImplementationError("Binary operator " + op + " is not logical.");
+            var missingIsElement = containsMissing;
+            var otherEqualities = otherElements.toArray(BooleanComputer[]::new);
+            BooleanComputerResultSupplier contains = ctx -> {
+                if (arg.isMissing(ctx) ? missingIsElement : setContainsValue.applyAsBoolean(ctx)) {
+                    return true;
+                }
+                for (var equality : otherEqualities) {
+                    if (equality.compute(ctx)) {
+                        return true;
+                    }
+                }
+                return false;
             };
+            return negated //
+                ? BooleanComputer.of(ctx -> !contains.applyAsBoolean(ctx), ctx -> false) //
+                : BooleanComputer.of(contains, ctx -> false);
+        }
 
+        private static BooleanComputer logical(final BinaryOperator op, final Computer arg1, final Computer arg2) {
+            if (op != BinaryOperator.CONDITIONAL_AND && op != BinaryOperator.CONDITIONAL_OR) {
+                throw new EvaluationImplementationError("Binary operator " + op + " is not logical.");
+            }
+            return new LogicalComputer(op, (BooleanComputer)arg1, (BooleanComputer)arg2);
         }
+    }
 
-        private static ComputerResultSupplier<KleenesLogic> toKleenesLogicComputer(final BooleanComputer c) {
-            return ctx -> {
-                if (c.isMissing(ctx)) {
-                    return KleenesLogic.UNKNOWN;
-                } else if (c.compute(ctx)) {
-                    return KleenesLogic.TRUE;
-                } else {
-                    return KleenesLogic.FALSE;
+    /**
+     * Kleene's logic for <code>and</code>, <code>or</code> and <code>not</code> that specializes itself on the
+     * observed inputs.
+     *
+     * <p>
+     * The node starts out speculating that its arguments are never MISSING. In this state {@link #isMissing} only asks
+     * the arguments if they are missing, which is the guard of the speculation. If the guard fails, the node
+     * deoptimizes to the generic implementation for all following rows. The generic implementation and
+     * {@link #compute} evaluate nested logical nodes in one pass via {@link #logic}. Otherwise, each level of a chain
+     * like <code>a or b or c or ...</code> would evaluate its argument twice and the chain would take exponential time.
+     *
+     * <p>
+     * The state is not synchronized. Concurrent use can only cause an unnecessary deoptimization, never a wrong result,
+     * because the speculative path always checks its guard.
+     */
+    private static final class LogicalComputer implements BooleanComputer {
+
+        /** The binary operator or <code>null</code> for <code>not</code> */
+        private final BinaryOperator m_op;
+
+        private final BooleanComputer m_arg1;
+
+        /** <code>null</code> for <code>not</code> */
+        private final BooleanComputer m_arg2;
+
+        private boolean m_speculateNeverMissing = true;
+
+        LogicalComputer(final BinaryOperator op, final BooleanComputer arg1, final BooleanComputer arg2) {
+            m_op = op;
+            m_arg1 = arg1;
+            m_arg2 = arg2;
+        }
+
+        @Override
+        public boolean isMissing(final EvaluationContext ctx) throws ExpressionEvaluationException {
+            if (m_speculateNeverMissing) {
+                if (!m_arg1.isMissing(ctx) && (m_arg2 == null || !m_arg2.isMissing(ctx))) {
+                    return false;
                 }
-            };
+                m_speculateNeverMissing = false; // guard failed - deoptimize
+            }
+            return logic(ctx) == KleenesLogic.UNKNOWN;
+        }
+
+        @Override
+        public boolean compute(final EvaluationContext ctx) throws ExpressionEvaluationException {
+            return logic(ctx) == KleenesLogic.TRUE;
+        }
+
+        private KleenesLogic logic(final EvaluationContext ctx) throws ExpressionEvaluationException {
+            if (m_op == null) {
+                return KleenesLogic.not(logic(m_arg1, ctx));
+            }
+            var a1 = logic(m_arg1, ctx);
+            var a2 = logic(m_arg2, ctx);
+            return m_op == BinaryOperator.CONDITIONAL_AND ? KleenesLogic.and(a1, a2) : KleenesLogic.or(a1, a2);
         }
 
-        private static BooleanComputer
-            fromKleenesLogicSupplier(final ComputerResultSupplier<KleenesLogic> logicSupplier) {
-            return BooleanComputer.of( //
-                ctx -> logicSupplier.apply(ctx) == KleenesLogic.TRUE, //
-                ctx -> logicSupplier.apply(ctx) == KleenesLogic.UNKNOWN //
-            );
+        private static KleenesLogic logic(final BooleanComputer c, final EvaluationContext ctx)
+            throws ExpressionEvaluationException {
+            if (c instanceof LogicalComputer logical) {
+                return logical.logic(ctx);
+            } else if (c.isMissing(ctx)) {
+                return KleenesLogic.UNKNOWN;
+            } else if (c.compute(ctx)) {
+                return KleenesLogic.TRUE;
+            } else {
+                return KleenesLogic.FALSE;
+            }
         }
     }
 
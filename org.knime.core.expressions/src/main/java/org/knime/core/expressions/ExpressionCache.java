@@ -0,0 +1,236 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.expressions;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A least-recently-used cache for parsed and typed expressions. Dialogs and node models parse and type the same
+ * expressions over and over again (e.g., on every keystroke for every expression of a node). The cache avoids
+ * repeating this work if neither the expression nor the types it depends on changed.
+ * <p>
+ * {@link Ast Syntax trees} and {@link TypedAst typed syntax trees} are immutable. The cache therefore hands out the
+ * cached instances themselves, which may be used by multiple callers and threads at the same time. Exceptions are
+ * mutable (e.g., their stack trace and suppressed exceptions), so only the compile errors are cached and each caller
+ * gets a new {@link ExpressionCompileException}.
+ * <p>
+ * A typed expression is reused if the expression text is the same and all columns and flow variables that were looked
+ * up during type inference still have the same type. Only the looked up names are compared, so the check does not
+ * depend on the number of available columns.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+public final class ExpressionCache {
+
+    /** The number of expressions that are kept by the {@link #getInstance() shared cache} */
+    static final int DEFAULT_MAX_SIZE = 256;
+
+    private static final ExpressionCache INSTANCE = new ExpressionCache(DEFAULT_MAX_SIZE);
+
+    private final Map<String, ParseResult> m_parsed;
+
+    private final Map<String, TypingResult> m_typed;
+
+    ExpressionCache(final int maxSize) {
+        m_parsed = createLruMap(maxSize);
+        m_typed = createLruMap(maxSize);
+    }
+
+    /** @return the cache that is shared by all users in this JVM */
+    public static ExpressionCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Parse the given expression like {@link Expressions#parse(String)}.
+     *
+     * @param expression the expression in the KNIME Expression Language
+     * @return the {@link Ast}
+     * @throws ExpressionCompileException if the input is not a syntactically valid expression
+     */
+    public Ast parse(final String expression) throws ExpressionCompileException {
+        ParseResult cached;
+        synchronized (this) {
+            cached = m_parsed.get(expression);
+        }
+        if (cached == null) {
+            try {
+                var ast = Expressions.parse(expression);
+                putParsed(expression, new ParseResult(ast, null));
+                return ast;
+            } catch (ExpressionCompileException ex) {
+                putParsed(expression, new ParseResult(null, List.copyOf(ex.getErrors())));
+                throw ex;
+            }
+        }
+        if (cached.errors() != null) {
+            throw new ExpressionCompileException(cached.errors());
+        }
+        return cached.ast();
+    }
+
+    /**
+     * Parse the given expression and infer its types like {@link Expressions#parse(String)} followed by
+     * {@link Expressions#inferTypes(Ast, Function, Function)}.
+     *
+     * @param expression the expression in the KNIME Expression Language
+     * @param columnToType a function that returns the type of a column accessed by the expression. See
+     *            {@link Expressions#inferTypes(Ast, Function, Function)}.
+     * @param flowVarType a function that returns the type of a flow variable accessed by the expression. See
+     *            {@link Expressions#inferTypes(Ast, Function, Function)}.
+     * @return the {@link TypedAst}
+     * @throws ExpressionCompileException if the input is not a syntactically valid expression or if type inference
+     *             failed
+     */
+    public TypedAst parseAndInferTypes( //
+        final String expression, //
+        final Function<String, ReturnResult<ValueType>> columnToType, //
+        final Function<String, ReturnResult<ValueType>> flowVarType //
+    ) throws ExpressionCompileException {
+        TypingResult cached;
+        synchronized (this) {
+            cached = m_typed.get(expression);
+        }
+        if (cached != null && cached.isValidFor(columnToType, flowVarType)) {
+            return cached.get();
+        }
+
+        // Record all lookups such that we can check if the result is still valid later
+        var columnLookups = new LinkedHashMap<String, ReturnResult<ValueType>>();
+        var flowVarLookups = new LinkedHashMap<String, ReturnResult<ValueType>>();
+        try {
+            var typed = Expressions.inferTypes(parse(expression), //
+                name -> columnLookups.computeIfAbsent(name, columnToType), //
+                name -> flowVarLookups.computeIfAbsent(name, flowVarType) //
+            );
+            putTyped(expression, new TypingResult(columnLookups, flowVarLookups, typed, null));
+            return typed;
+        } catch (ExpressionCompileException ex) {
+            putTyped(expression, new TypingResult(columnLookups, flowVarLookups, null, List.copyOf(ex.getErrors())));
+            throw ex;
+        }
+    }
+
+    private synchronized void putParsed(final String expression, final ParseResult result) {
+        m_parsed.put(expression, result);
+    }
+
+    private synchronized void putTyped(final String expression, final TypingResult result) {
+        m_typed.put(expression, result);
+    }
+
+    /** Remove all cached expressions */
+    public synchronized void clear() {
+        m_parsed.clear();
+        m_typed.clear();
+    }
+
+    /** @return the number of cached parsed and typed expressions (for tests) */
+    synchronized int size() {
+        return m_parsed.size() + m_typed.size();
+    }
+
+    private static <V> Map<String, V> createLruMap(final int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /** Either the parsed {@link Ast} or the compile errors */
+    private record ParseResult(Ast ast, List<ExpressionCompileError> errors) {
+    }
+
+    /**
+     * Either the {@link TypedAst} or the compile errors together with the types of all columns and flow variables
+     * that were looked up during type inference.
+     */
+    private record TypingResult(Map<String, ReturnResult<ValueType>> columnLookups,
+        Map<String, ReturnResult<ValueType>> flowVarLookups, TypedAst typed, List<ExpressionCompileError> errors) {
+
+        boolean isValidFor(final Function<String, ReturnResult<ValueType>> columnToType,
+            final Function<String, ReturnResult<ValueType>> flowVarType) {
+            return isSameLookup(columnLookups, columnToType) && isSameLookup(flowVarLookups, flowVarType);
+        }
+
+        TypedAst get() throws ExpressionCompileException {
+            if (errors != null) {
+                throw new ExpressionCompileException(errors);
+            }
+            return typed;
+        }
+
+        private static boolean isSameLookup(final Map<String, ReturnResult<ValueType>> lookups,
+            final Function<String, ReturnResult<ValueType>> toType) {
+            for (var lookup : lookups.entrySet()) {
+                if (!isSameResult(lookup.getValue(), toType.apply(lookup.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isSameResult(final ReturnResult<ValueType> a, final ReturnResult<ValueType> b) {
+            if (a.isOk() != b.isOk()) {
+                return false;
+            }
+            return a.isOk() ? a.getValue().equals(b.getValue()) : a.getErrorMessage().equals(b.getErrorMessage());
+        }
+    }
+}
@@ -49,7 +49,6 @@
 package org.knime.core.expressions;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -169,7 +168,7 @@ public enum ExpressionConstants {
      * @return the {@link Ast} representing this constant
      */
     public Ast toAst() {
-        return toAst(new HashMap<>());
+        return toAst(Map.of());
     }
 
     /**
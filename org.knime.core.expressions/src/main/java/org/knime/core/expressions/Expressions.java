@@ -50,8 +50,6 @@ package org.knime.core.expressions;
 
 import static org.knime.core.expressions.Ast.ColumnId.ColumnIdType.ROW_INDEX;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -96,23 +94,22 @@ public final class Expressions {
     // caller could map directly from the name to the ReadAccess (maybe using another name to index mapper
     // that has to exist somewhere).
     /**
-     * Resolve column indices for the given expression. Adds the column index as {@link Ast#data()} to
-     * {@link ColumnAccess} nodes.
+     * Resolve column indices for the given expression.
      *
      * @param expression the expression
      * @param columnNameToIdx a function that returns the index of a column accessed by the expression. The function
      *            should return <code>Optional.empty()</code> if the column is not available.
+     * @return the column index of each {@link ColumnAccess} node of the expression
      * @throws ExpressionCompileException if the expression accesses a column that is not available
      */
-    public static void resolveColumnIndices(final Ast expression,
+    public static AstAnnotations<Integer> resolveColumnIndices(final Ast expression,
         final Function<Ast.ColumnAccess, OptionalInt> columnNameToIdx) throws ExpressionCompileException {
 
-        ColumnIdxResolve.resolveColumnAccessIndices(expression, columnNameToIdx);
+        return ColumnIdxResolve.resolveColumnAccessIndices(expression, columnNameToIdx);
     }
 
     /**
-     * Infer the type of the given expression and resolve function calls. Adds the type, and function as
-     * {@link Ast#data()} to each node of the syntax tree.
+     * Infer the type of each node of the given expression. The expression itself is not modified.
      *
      * @param expression the expression
      * @param columnToType a function that returns the type of a column accessed by the expression. The function should
@@ -120,11 +117,11 @@ public final class Expressions {
      * @param flowVarType a function that returns the type of a flow variable accessed by the expression. The function
      *            should return <code>ReturnResult.failure()</code> if the flow variable is not available or has an
      *            unsupported type.
-     * @return the output type of the full expression
+     * @return the expression together with the type of each node
      * @throws ExpressionCompileException if type inference failed because operations are used for incompatible types or
      *             a column is not available
      */
-    public static ValueType inferTypes( //
+    public static TypedAst inferTypes( //
         final Ast expression, //
         final Function<String, ReturnResult<ValueType>> columnToType, //
         final Function<String, ReturnResult<ValueType>> flowVarType //
@@ -135,9 +132,12 @@ public final class Expressions {
     /**
      * Create a {@link Computer} that evaluates the given expression. The resulting {@link Computer} does not cache the
      * result but evaluates it on each access. The caller has to provide the input data for each used
-     * {@link ColumnAccess} via a {@link Computer} of the appropriate type.
+     * {@link ColumnAccess} via a {@link Computer} of the appropriate type. The value of a let expression is kept for one
+     * row: from the {@link Computer#isMissing isMissing} call until the following compute call. Therefore, the
+     * resulting {@link Computer} must not be used by multiple threads at the same time if the expression contains let
+     * expressions.
      *
-     * @param expression the expression. Must include type information inferred by {@link #inferTypes}.
+     * @param expression the typed expression from {@link #inferTypes}
      * @param columnToComputer a function that returns the computer for column data accessed by the expression. The
      *            function should return <code>Optional.empty()</code> if the column is not available.
      * @param flowVariableToComputer a function that returns the computer for flow variable accessed by the expression.
@@ -146,7 +146,7 @@ public final class Expressions {
      * @return the output type of the full expression
      * @throws ExpressionCompileException if the expression accesses a column that is not available
      */
-    public static Computer evaluate(final Ast expression,
+    public static Computer evaluate(final TypedAst expression,
         final Function<ColumnAccess, Optional<Computer>> columnToComputer,
         final Function<FlowVarAccess, Optional<Computer>> flowVariableToComputer,
         final Function<AggregationCall, Optional<Computer>> aggregationToComputer) throws ExpressionCompileException {
@@ -154,41 +154,105 @@ public final class Expressions {
     }
 
     /**
-     * Get the inferred output type of the given expression.
+     * Create a {@link Computer} that evaluates the given expression like {@link #evaluate} but lowers the operators to
+     * a flat list of instructions on typed registers that is interpreted for each access. Function calls, aggregations
+     * and operators on temporal values are evaluated like in {@link #evaluate}. Operands are evaluated eagerly, which
+     * can report additional warnings for operands that {@link #evaluate} skips because the other operand is MISSING.
+     * The resulting {@link Computer} must not be used by multiple threads at the same time.
      *
-     * @param expression the expression with present type information from {@link #inferTypes}
-     * @return the output type
-     * @throws IllegalArgumentException if the expression is not typed
+     * @param expression the typed expression from {@link #inferTypes}
+     * @param columnToComputer a function that returns the computer for column data accessed by the expression. The
+     *            function should return <code>Optional.empty()</code> if the column is not available.
+     * @param flowVariableToComputer a function that returns the computer for flow variable accessed by the expression.
+     *            The function should return <code>Optional.empty()</code> if the flow variable is not available.
+     * @param aggregationToComputer a function that returns the computer for an aggregation call
+     * @return the output type of the full expression
+     * @throws ExpressionCompileException if the expression accesses a column that is not available
      */
-    public static ValueType getInferredType(final Ast expression) {
-        return Typing.getType(expression);
+    public static Computer evaluateWithRegisters(final TypedAst expression,
+        final Function<ColumnAccess, Optional<Computer>> columnToComputer,
+        final Function<FlowVarAccess, Optional<Computer>> flowVariableToComputer,
+        final Function<AggregationCall, Optional<Computer>> aggregationToComputer) throws ExpressionCompileException {
+        return RegisterEvaluation.evaluate(expression, columnToComputer, flowVariableToComputer,
+            aggregationToComputer);
     }
 
     /**
-     * Get the resolved column index of the given ColumnAccess expression.
+     * Get the inferred output type of the given expression.
      *
-     * @param columnAccess the column access with present index information from
-     *            {@link #resolveColumnIndices(Ast, Function)}
-     * @return the column index
+     * @param expression the typed expression from {@link #inferTypes}
+     * @return the output type
      */
-    public static int getResolvedColumnIdx(final ColumnAccess columnAccess) {
-        return ColumnIdxResolve.getColumnIdx(columnAccess);
+    public static ValueType getInferredType(final TypedAst expression) {
+        return expression.type();
     }
 
     /**
-     * Returns {@code true} if the given {@code expression} uses the ROW_INDEX column.
+     * Returns {@code true} if the given {@code expression} uses the ROW_INDEX column. This is the case if the
+     * expression accesses the ROW_INDEX directly or if it contains a
+     * {@link org.knime.core.expressions.aggregations.ColumnAggregation#isRowWise() row-wise} aggregation,
+     * whose result is looked up by the ROW_INDEX.
      *
      * @param expression the expression to check
      * @return {@code true} if {@code expression} uses the ROW_INDEX column.
      */
     public static boolean requiresRowIndexColumn(final Ast expression) {
-        return expression.accept( //
-            new AstVisitors.ReducingAstVisitor<Boolean, RuntimeException>(false, Boolean::logicalOr) {
-                @Override
-                public Boolean visit(final Ast.ColumnAccess node) {
-                    return node.columnId().type() == ROW_INDEX;
-                }
-            });
+        return new AstVisitors.ReducingAstVisitor<Boolean, RuntimeException>(false, Boolean::logicalOr) {
+            @Override
+            public Boolean visit(final Ast.ColumnAccess node) {
+                return node.columnId().type() == ROW_INDEX;
+            }
+
+            @Override
+            public Boolean visit(final Ast.AggregationCall node) {
+                return node.aggregation().isRowWise();
+            }
+        }.visitTree(expression);
+    }
+
+    /**
+     * Returns {@code true} if the given {@code expression} evaluates to the same value for every row. This is the case
+     * if the expression does not access any column and does not contain a
+     * {@link org.knime.core.expressions.aggregations.ColumnAggregation#isRowWise() row-wise} aggregation. Literals,
+     * flow variables and column aggregations are constant for all rows.
+     *
+     * @param expression the expression to check
+     * @return {@code true} if {@code expression} is constant for all rows
+     */
+    public static boolean isConstant(final Ast expression) {
+        return new AstVisitors.ReducingAstVisitor<Boolean, RuntimeException>(true, Boolean::logicalAnd) {
+            @Override
+            public Boolean visit(final Ast.ColumnAccess node) {
+                return false;
+            }
+
+            @Override
+            public Boolean visit(final Ast.AggregationCall node) {
+                return !node.aggregation().isRowWise();
+            }
+        }.visitTree(expression);
+    }
+
+    /**
+     * Returns {@code true} if the given {@code expression} can be evaluated for a row by only looking at the values of
+     * this row. This is the case if the expression does not contain column aggregations and does not access columns
+     * with a windowing offset. Such expressions can be evaluated while streaming over the rows of a table.
+     *
+     * @param expression the expression to check
+     * @return {@code true} if {@code expression} only depends on the current row
+     */
+    public static boolean isRowLocal(final Ast expression) {
+        return new AstVisitors.ReducingAstVisitor<Boolean, RuntimeException>(true, Boolean::logicalAnd) {
+            @Override
+            public Boolean visit(final Ast.ColumnAccess node) {
+                return node.offset() == 0;
+            }
+
+            @Override
+            public Boolean visit(final Ast.AggregationCall node) {
+                return false;
+            }
+        }.visitTree(expression);
     }
 
     /**
@@ -198,26 +262,18 @@ public final class Expressions {
      * @return list of all all {@code ColumnAccess} nodes in the given {@code expression}
      */
     public static List<Ast.ColumnAccess> collectColumnAccesses(final Ast expression) {
-        // TODO (TP) This should be rewritten to collect-style operation instead of reduce, once the AstVisitor API has been sorted out
-        // TODO (TP) The above requiresRowIndexColumn() could use this and check whether the returned set contains(Ast.rowIndex())
-        return expression.accept( //
-            new AstVisitors.ReducingAstVisitor<List<Ast.ColumnAccess>, RuntimeException>(Collections.emptyList(),
-                (s1, s2) -> {
-                    if (s1.isEmpty()) {
-                        return s2;
-                    } else if (s2.isEmpty()) {
-                        return s1;
-                    } else {
-                        var s = new ArrayList<>(s1);
-                        s.addAll(s2);
-                        return s;
-                    }
-                }) {
-                @Override
-                public List<Ast.ColumnAccess> visit(final Ast.ColumnAccess node) {
-                    return Collections.singletonList(node);
-                }
-            });
+        return collectInputAccesses(expression).columnAccesses();
+    }
+
+    /**
+     * Collect all nodes of the given {@code expression} that access columns, flow variables or aggregations in a single
+     * pass over the expression.
+     *
+     * @param expression the expression to process
+     * @return the nodes that access the inputs of the expression
+     */
+    public static InputAccesses collectInputAccesses(final Ast expression) {
+        return AstVisitors.collectInputAccesses(expression);
     }
 
     /**
@@ -56,6 +56,9 @@ import static org.knime.core.expressions.Ast.floatConstant;
 import static org.knime.core.expressions.Ast.flowVarAccess;
 import static org.knime.core.expressions.Ast.functionCall;
 import static org.knime.core.expressions.Ast.integerConstant;
+import static org.knime.core.expressions.Ast.letBinding;
+import static org.knime.core.expressions.Ast.letVarAccess;
+import static org.knime.core.expressions.Ast.membershipOp;
 import static org.knime.core.expressions.Ast.missingConstant;
 import static org.knime.core.expressions.Ast.rowId;
 import static org.knime.core.expressions.Ast.rowIndex;
@@ -74,15 +77,20 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.antlr.v4.runtime.ANTLRErrorStrategy;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.InputMismatchException;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.TerminalNode;
 import org.knime.core.expressions.Ast.BinaryOperator;
@@ -101,6 +109,8 @@ import org.knime.core.expressions.antlr.KnimeExpressionParser.ColAccessContext;
 import org.knime.core.expressions.antlr.KnimeExpressionParser.FlowVarAccessContext;
 import org.knime.core.expressions.antlr.KnimeExpressionParser.FullExprContext;
 import org.knime.core.expressions.antlr.KnimeExpressionParser.FunctionOrAggregationCallContext;
+import org.knime.core.expressions.antlr.KnimeExpressionParser.LetExprContext;
+import org.knime.core.expressions.antlr.KnimeExpressionParser.MembershipContext;
 import org.knime.core.expressions.antlr.KnimeExpressionParser.ParenthesisedExprContext;
 import org.knime.core.expressions.antlr.KnimeExpressionParser.UnaryOpContext;
 import org.knime.core.expressions.functions.BuiltInFunctions;
@@ -117,10 +127,27 @@ final class Parser {
 
     private static final String VALID_ESCAPE_SEQUENCES = "<newline>, \\, \', \", b, n, r, t, u<4-hex-digits>";
 
-    private static final String LOCATION_DATA_KEY = "text_location";
-
     private static final int EXPRESSION_MAX_DEPTH = 200;
 
+    /**
+     * Expressions that are parsed by {@link #warmUp()}. Together they use every rule and most tokens of the grammar.
+     */
+    static final List<String> WARM_UP_EXPRESSIONS = List.of( //
+        "1 + 2_000 * 3.5 - 4 / 5e-3 // 6 % 7 ** -8 # comment", //
+        "$col >= 1 and not ($[\"other col\", -1] < 2 or $col != 3) ?? FALSE", //
+        "$col in [1, 2.5, MISSING,] or $col not in ['a'] or $col IN [TRUE] and $col NOT IN [$col]", //
+        "let x = $col * 2, y = x + 1 in x < y or LET z = 'a' IN z = $col", //
+        "if($col = 'a', $$flow_var, $$[\"flow var\"]) <> $[ROW_ID] + string($[ROW_INDEX] == $[ROW_NUMBER])", //
+        "round((abs(-1.5) + PI) * MISSING, precision=2) > E or TRUE <= $col", //
+        "COLUMN_MAX(\"col\", ignore_nan=TRUE) + COLUMN_AVERAGE(\"col\")" //
+    );
+
+    /**
+     * The lexer and parser of each thread. Creating them is more expensive than parsing a typical expression. They are
+     * reused because a thread never parses two expressions at once.
+     */
+    private static final ThreadLocal<ParserInstances> PARSER_INSTANCES = ThreadLocal.withInitial(ParserInstances::new);
+
     private Parser() {
     }
 
@@ -130,7 +157,21 @@ final class Parser {
 
     /** @return the text location of the node or <code>null</code> if it is not set */
     static TextRange getTextLocation(final Ast node) {
-        return (TextRange)node.data(LOCATION_DATA_KEY);
+        return (TextRange)node.data(AstData.LOCATION_KEY);
+    }
+
+    /**
+     * Parses a few representative expressions. This fills the DFA cache of the lexer and parser, which is shared by all
+     * threads. Without the warm-up, the first expression that a user edits is parsed slowly because the parser has to
+     * compute the DFA states for every decision that it encounters for the first time.
+     */
+    static void warmUp() {
+        for (var expression : WARM_UP_EXPRESSIONS) {
+            try {
+                parse(expression);
+            } catch (ExpressionCompileException ex) { // NOSONAR - only the filled DFA cache matters
+            }
+        }
     }
 
     /**
@@ -138,19 +179,59 @@ final class Parser {
      * errors.
      */
     private static FullExprContext parseToParseTree(final String expression) throws ExpressionCompileException {
-        var errorListener = new CollectingErrorListener(expression);
-        var lexer = new KnimeExpressionLexer(CharStreams.fromString(expression));
-        lexer.removeErrorListeners();
-        lexer.addErrorListener(errorListener);
-        var parser = new KnimeExpressionParser(new CommonTokenStream(lexer));
-        parser.removeErrorListeners();
-        parser.addErrorListener(errorListener);
-
-        var fullExpr = parser.fullExpr(); // NOSONAR: This call parses the expression and fills the errors
-        if (!errorListener.m_errors.isEmpty()) {
-            throw new ExpressionCompileException(errorListener.m_errors);
-        }
-        return fullExpr;
+        var instances = PARSER_INSTANCES.get();
+        try {
+            // SLL prediction is much faster than full LL prediction and succeeds for almost every valid expression.
+            // It bails out on the first syntax error.
+            return instances.parse(expression, PredictionMode.SLL, new BailErrorStrategy());
+        } catch (ParseCancellationException ex) { // NOSONAR - retry with full LL prediction
+            // The expression has a syntax error or SLL prediction was not sufficient. Full LL prediction reports all
+            // syntax errors and only fails for invalid expressions.
+            return instances.parse(expression, PredictionMode.LL, new DefaultErrorStrategy());
+        }
+    }
+
+    /** The lexer and parser that are reused for all expressions of one thread */
+    private static final class ParserInstances {
+
+        private final KnimeExpressionLexer m_lexer;
+
+        private final CommonTokenStream m_tokens;
+
+        private final KnimeExpressionParser m_parser;
+
+        ParserInstances() {
+            m_lexer = new KnimeExpressionLexer(null);
+            m_lexer.removeErrorListeners();
+            m_tokens = new CommonTokenStream(m_lexer);
+            m_parser = new KnimeExpressionParser(m_tokens);
+            m_parser.removeErrorListeners();
+        }
+
+        /** Lexes and parses the expression from the start */
+        FullExprContext parse(final String expression, final PredictionMode predictionMode,
+            final ANTLRErrorStrategy errorStrategy) throws ExpressionCompileException {
+            var errorListener = new CollectingErrorListener(expression);
+            m_lexer.addErrorListener(errorListener);
+            m_parser.addErrorListener(errorListener);
+            try {
+                // NB: Setting the inputs resets the state of the lexer, token stream and parser
+                m_lexer.setInputStream(CharStreams.fromString(expression));
+                m_tokens.setTokenSource(m_lexer);
+                m_parser.setTokenStream(m_tokens);
+                m_parser.getInterpreter().setPredictionMode(predictionMode);
+                m_parser.setErrorHandler(errorStrategy);
+
+                var fullExpr = m_parser.fullExpr(); // NOSONAR: This call parses the expression and fills the errors
+                if (!errorListener.m_errors.isEmpty()) {
+                    throw new ExpressionCompileException(errorListener.m_errors);
+                }
+                return fullExpr;
+            } finally {
+                m_lexer.removeErrorListeners();
+                m_parser.removeErrorListeners();
+            }
+        }
     }
 
     /** Can be set for the parser to handle errors */
@@ -261,8 +342,12 @@ final class Parser {
     private static final class ExpressionToAstVisitor extends KnimeExpressionBaseVisitor<Ast> {
         private int m_depth;
 
+        /** The values that are bound to the names by the enclosing let expressions */
+        private final Map<String, Ast> m_letValues;
+
         public ExpressionToAstVisitor() {
             m_depth = 0;
+            m_letValues = new HashMap<>();
         }
 
         @Override
@@ -278,13 +363,13 @@ final class Parser {
                 // Handle unary minus on numbers
                 if (op == UnaryOperator.MINUS) {
                     if (arg instanceof IntegerConstant intArg) {
-                        return integerConstant(-intArg.value(), createData(getLocation(ctx)));
+                        return integerConstant(-intArg.value(), createData(ctx));
                     }
                     if (arg instanceof FloatConstant floatArg) {
-                        return floatConstant(-floatArg.value(), createData(getLocation(ctx)));
+                        return floatConstant(-floatArg.value(), createData(ctx));
                     }
                 }
-                return unaryOp(op, arg, createData(getLocation(ctx)));
+                return unaryOp(op, arg, createData(ctx));
             });
         }
 
@@ -306,7 +391,16 @@ final class Parser {
                 var arg1 = ctx.getChild(0).accept(this);
                 var arg2 = ctx.getChild(2).accept(this);
                 var op = mapBinaryOperator(ctx.op);
-                return binaryOp(op, arg1, arg2, createData(getLocation(ctx)));
+                return binaryOp(op, arg1, arg2, createData(ctx));
+            });
+        }
+
+        @Override
+        public Ast visitMembership(final MembershipContext ctx) {
+            return runWithDepthGuard(() -> {
+                var arg = ctx.expr(0).accept(this);
+                var elements = ctx.elements.stream().map(element -> element.accept(this)).toList();
+                return membershipOp(ctx.negation != null, arg, elements, createData(ctx));
             });
         }
 
@@ -318,19 +412,57 @@ final class Parser {
             var offsetValue = ctx.offset != null ? Long.parseLong(ctx.offset.getText().replace("_", "")) : 0;
             var offset = offsetSign * offsetValue;
 
-            return columnAccess(col, offset, createData(getLocation(ctx)));
+            return columnAccess(col, offset, createData(ctx));
         }
 
         @Override
         public Ast visitFlowVarAccess(final FlowVarAccessContext ctx) {
             var name = ctx.shortName != null ? ctx.shortName.getText().substring(2) : parseStringLiteral(ctx.longName);
-            return flowVarAccess(name, createData(getLocation(ctx)));
+            return flowVarAccess(name, createData(ctx));
+        }
+
+        @Override
+        public Ast visitLetExpr(final LetExprContext ctx) {
+            return runWithDepthGuard(() -> {
+                // Each binding can access the names that are bound before it
+                var names = new ArrayList<String>(ctx.bindings.size());
+                var values = new ArrayList<Ast>(ctx.bindings.size());
+                var shadowedValues = new ArrayList<Ast>(ctx.bindings.size());
+                for (var binding : ctx.bindings) {
+                    var name = binding.name.getText();
+                    if (Arrays.stream(ExpressionConstants.values()).anyMatch(c -> c.name().equals(name))) {
+                        throw syntaxError("Cannot bind a value to the name " + name + " because it is a constant.",
+                            getLocation(binding.name));
+                    }
+                    var value = binding.value.accept(this);
+                    names.add(name);
+                    values.add(value);
+                    shadowedValues.add(m_letValues.put(name, value));
+                }
+
+                var result = ctx.body.accept(this);
+
+                // Nest one binding per name and restore the names of the enclosing let expressions
+                for (int i = names.size() - 1; i >= 0; i--) {
+                    result = letBinding(names.get(i), values.get(i), result, createData(ctx));
+                    if (shadowedValues.get(i) == null) {
+                        m_letValues.remove(names.get(i));
+                    } else {
+                        m_letValues.put(names.get(i), shadowedValues.get(i));
+                    }
+                }
+                return result;
+            });
         }
 
         @Override
-        public ConstantAst visitConstant(final KnimeExpressionParser.ConstantContext ctx) {
+        public Ast visitConstant(final KnimeExpressionParser.ConstantContext ctx) {
+            var letValue = m_letValues.get(ctx.getText());
+            if (letValue != null) {
+                return letVarAccess(ctx.getText(), letValue, createData(ctx));
+            }
             try {
-                return ExpressionConstants.valueOf(ctx.getText()).toAst(createData(getLocation(ctx)));
+                return ExpressionConstants.valueOf(ctx.getText()).toAst(createData(ctx));
             } catch (IllegalArgumentException e) {
                 throw syntaxError("Unexpected constant: " + ctx.getText() + "\nAvailable Constants: "
                     + ExpressionConstants.availableConstants(), getLocation(ctx));
@@ -422,7 +554,7 @@ final class Parser {
                     .orElseThrow(cause -> syntaxError(cause, getLocation(ctx)));
             });
 
-            return functionCall(function, args, createData(getLocation(ctx)));
+            return functionCall(function, args, createData(ctx));
         }
 
         private Ast visitAggregationCall(final FunctionOrAggregationCallContext ctx,
@@ -449,7 +581,7 @@ final class Parser {
                     .orElseThrow(cause -> syntaxError(cause, getLocation(ctx)));
             });
 
-            return aggregationCall(aggregation, args, createData(getLocation(ctx)));
+            return aggregationCall(aggregation, args, createData(ctx));
         }
 
         private ConstantAst visitAggregationArg(final KnimeExpressionParser.ExprContext expr) {
@@ -484,7 +616,7 @@ final class Parser {
         @Override
         public Ast visitTerminal(final TerminalNode node) {
             var symbol = node.getSymbol();
-            var data = createData(getLocation(symbol));
+            var data = createData(symbol);
 
             return switch (symbol.getType()) {
                 case KnimeExpressionParser.BOOLEAN -> //
@@ -626,11 +758,14 @@ final class Parser {
             return new RuntimeSyntaxError(ExpressionCompileError.depthError());
         }
 
-        /** Create a data map containing location data to attach to the Ast */
-        private static Map<String, Object> createData(final TextRange location) {
-            var data = new HashMap<String, Object>();
-            data.put(LOCATION_DATA_KEY, location);
-            return data;
+        /** Create the data containing the location of a rule context to attach to the Ast */
+        private static Map<String, Object> createData(final ParserRuleContext ctx) {
+            return AstData.withLocation(ctx.getStart().getStartIndex(), ctx.getStop().getStopIndex() + 1);
+        }
+
+        /** Create the data containing the location of a token to attach to the Ast */
+        private static Map<String, Object> createData(final Token token) {
+            return AstData.withLocation(token.getStartIndex(), token.getStopIndex() + 1);
         }
 
         /** Get the location of a rule context */
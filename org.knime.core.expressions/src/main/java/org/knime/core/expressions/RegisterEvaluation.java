@@ -0,0 +1,930 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.expressions;
+
+import static org.knime.core.expressions.Computer.toFloat;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.knime.core.expressions.Ast.AggregationCall;
+import org.knime.core.expressions.Ast.BinaryOp;
+import org.knime.core.expressions.Ast.BinaryOperator;
+import org.knime.core.expressions.Ast.BooleanConstant;
+import org.knime.core.expressions.Ast.ColumnAccess;
+import org.knime.core.expressions.Ast.ConstantAst;
+import org.knime.core.expressions.Ast.FloatConstant;
+import org.knime.core.expressions.Ast.FlowVarAccess;
+import org.knime.core.expressions.Ast.IntegerConstant;
+import org.knime.core.expressions.Ast.MissingConstant;
+import org.knime.core.expressions.Ast.StringConstant;
+import org.knime.core.expressions.Ast.UnaryOp;
+import org.knime.core.expressions.Computer.BooleanComputer;
+import org.knime.core.expressions.Computer.BooleanComputerResultSupplier;
+import org.knime.core.expressions.Computer.FloatComputer;
+import org.knime.core.expressions.Computer.IntegerComputer;
+import org.knime.core.expressions.Computer.StringComputer;
+
+/**
+ * Implementation of expression evaluation based on a register machine. The typed {@link Ast} is lowered into a flat
+ * array of instructions that operate on typed registers (a <code>long</code>, a <code>double</code>, an
+ * <code>Object</code> and a missing flag per register). Evaluating the expression for a row runs one dispatch loop
+ * over the instructions instead of calling through a tree of nested {@link Computer Computers}.
+ *
+ * <p>
+ * Only the operators on BOOLEAN, INTEGER, FLOAT and STRING values are lowered. Function calls, aggregation calls,
+ * column and flow variable accesses and the operators on temporal values are evaluated by {@link Evaluation} and
+ * their result is loaded into a register. The semantics are the same as in {@link Evaluation} with two exceptions:
+ * The operands of arithmetic, comparison and string operators are evaluated eagerly. Therefore, an operand that
+ * {@link Evaluation} would skip because the other operand is MISSING can report warnings or fail. The operators
+ * <code>and</code> and <code>or</code> skip their second operand if the first operand decides the result. Therefore,
+ * the second operand does not report warnings or fail in this case.
+ *
+ * <p>
+ * The resulting {@link Computer} holds the registers and must not be used by multiple threads at the same time.
+ *
+ * @author agent, KNIME GmbH, Berlin, Germany
+ */
+final class RegisterEvaluation {
+
+    private RegisterEvaluation() {
+    }
+
+    static Computer evaluate( //
+        final TypedAst expression, //
+        final Function<ColumnAccess, Optional<Computer>> columnToComputer, //
+        final Function<FlowVarAccess, Optional<Computer>> flowVariableToComputer, //
+        final Function<AggregationCall, Optional<Computer>> aggregationToComputer //
+    ) throws ExpressionCompileException {
+        var lowering =
+            new Lowering(expression.types(), columnToComputer, flowVariableToComputer, aggregationToComputer);
+        var root = expression.ast();
+        var kind = lowering.kindOf(root);
+        if (!lowering.isLowered(root) || kind == Kind.MISSING) {
+            // Nothing to gain from running a program around a single node
+            return Evaluation.evaluate(root, expression.types(), columnToComputer, flowVariableToComputer,
+                aggregationToComputer);
+        }
+        var resultRegister = lowering.lower(root);
+        return lowering.toProgram().resultComputer(kind, resultRegister);
+    }
+
+    /** The kind of values in a register */
+    private enum Kind {
+            BOOLEAN, INTEGER, FLOAT, STRING, MISSING, OTHER;
+
+        boolean isNumeric() {
+            return this == INTEGER || this == FLOAT;
+        }
+    }
+
+    // Instructions are encoded as four ints: opcode, destination register, first operand, second operand
+
+    private static final int INSTRUCTION_SIZE = 4;
+
+    private static final int LOAD_BOOLEAN = 0;
+
+    private static final int LOAD_INTEGER = 1;
+
+    private static final int LOAD_FLOAT = 2;
+
+    private static final int LOAD_STRING = 3;
+
+    private static final int INTEGER_TO_FLOAT = 4;
+
+    private static final int MOVE = 5;
+
+    /** Moves the first operand to the destination and jumps to the second operand if it is not missing */
+    private static final int MOVE_IF_PRESENT = 6;
+
+    private static final int NOT = 7;
+
+    private static final int AND = 8;
+
+    private static final int OR = 9;
+
+    private static final int INTEGER_NEGATE = 10;
+
+    private static final int INTEGER_ADD = 11;
+
+    private static final int INTEGER_SUBTRACT = 12;
+
+    private static final int INTEGER_MULTIPLY = 13;
+
+    private static final int INTEGER_FLOOR_DIVIDE = 14;
+
+    private static final int INTEGER_REMAINDER = 15;
+
+    private static final int INTEGER_POWER = 16;
+
+    private static final int FLOAT_NEGATE = 17;
+
+    private static final int FLOAT_ADD = 18;
+
+    private static final int FLOAT_SUBTRACT = 19;
+
+    private static final int FLOAT_MULTIPLY = 20;
+
+    private static final int FLOAT_DIVIDE = 21;
+
+    private static final int FLOAT_REMAINDER = 22;
+
+    private static final int FLOAT_POWER = 23;
+
+    private static final int INTEGER_LESS_THAN = 24;
+
+    private static final int INTEGER_LESS_THAN_EQUAL = 25;
+
+    private static final int INTEGER_GREATER_THAN = 26;
+
+    private static final int INTEGER_GREATER_THAN_EQUAL = 27;
+
+    private static final int FLOAT_LESS_THAN = 28;
+
+    private static final int FLOAT_LESS_THAN_EQUAL = 29;
+
+    private static final int FLOAT_GREATER_THAN = 30;
+
+    private static final int FLOAT_GREATER_THAN_EQUAL = 31;
+
+    /** Equality of BOOLEAN or INTEGER values */
+    private static final int LONG_EQUAL = 32;
+
+    private static final int FLOAT_EQUAL = 33;
+
+    private static final int STRING_EQUAL = 34;
+
+    /** Equality if one operand is the MISSING constant */
+    private static final int MISSING_EQUAL = 35;
+
+    /** String representation of the first operand; the second operand is the {@link Kind} ordinal */
+    private static final int TO_STRING = 36;
+
+    private static final int CONCAT = 37;
+
+    /** Moves the first operand to the destination and jumps to the second operand if it is FALSE */
+    private static final int MOVE_IF_FALSE = 38;
+
+    /** Moves the first operand to the destination and jumps to the second operand if it is TRUE */
+    private static final int MOVE_IF_TRUE = 39;
+
+    /** Lowers a typed {@link Ast} to a {@link Program} */
+    private static final class Lowering {
+
+        private final AstAnnotations<ValueType> m_types;
+
+        private final Function<ColumnAccess, Optional<Computer>> m_columnToComputer;
+
+        private final Function<FlowVarAccess, Optional<Computer>> m_flowVariableToComputer;
+
+        private final Function<AggregationCall, Optional<Computer>> m_aggregationToComputer;
+
+        private final IdentityHashMap<Ast, Integer> m_registerOf = new IdentityHashMap<>();
+
+        private final List<Computer> m_fallbacks = new ArrayList<>();
+
+        private final List<ConstantAst> m_constants = new ArrayList<>();
+
+        private final List<Integer> m_constantRegisters = new ArrayList<>();
+
+        private int[] m_code = new int[16 * INSTRUCTION_SIZE];
+
+        private int m_codeSize;
+
+        private int m_numRegisters;
+
+        Lowering(final AstAnnotations<ValueType> types,
+            final Function<ColumnAccess, Optional<Computer>> columnToComputer,
+            final Function<FlowVarAccess, Optional<Computer>> flowVariableToComputer,
+            final Function<AggregationCall, Optional<Computer>> aggregationToComputer) {
+            m_types = types;
+            m_columnToComputer = columnToComputer;
+            m_flowVariableToComputer = flowVariableToComputer;
+            m_aggregationToComputer = aggregationToComputer;
+        }
+
+        Kind kindOf(final Ast node) {
+            if (node instanceof MissingConstant) {
+                return Kind.MISSING;
+            }
+            var baseType = m_types.get(node).baseType();
+            if (ValueType.BOOLEAN.equals(baseType)) {
+                return Kind.BOOLEAN;
+            } else if (ValueType.INTEGER.equals(baseType)) {
+                return Kind.INTEGER;
+            } else if (ValueType.FLOAT.equals(baseType)) {
+                return Kind.FLOAT;
+            } else if (ValueType.STRING.equals(baseType)) {
+                return Kind.STRING;
+            }
+            return Kind.OTHER;
+        }
+
+        /**
+         * @return <code>true</code> if the node is lowered to instructions, <code>false</code> if it is evaluated by
+         *         {@link Evaluation} and loaded into a register
+         */
+        boolean isLowered(final Ast node) {
+            if (node instanceof ConstantAst) {
+                return true;
+            } else if (node instanceof UnaryOp unaryOp) {
+                var out = kindOf(unaryOp);
+                var arg = kindOf(unaryOp.arg());
+                return switch (unaryOp.op()) {
+                    case NOT -> out == Kind.BOOLEAN && arg == Kind.BOOLEAN;
+                    case MINUS -> (out == Kind.INTEGER && arg == Kind.INTEGER) //
+                        || (out == Kind.FLOAT && arg.isNumeric());
+                };
+            } else if (node instanceof BinaryOp binaryOp) {
+                return isBinaryOpLowered(binaryOp);
+            }
+            return false;
+        }
+
+        private boolean isBinaryOpLowered(final BinaryOp node) { // NOSONAR - one case per operator type is clear
+            var op = node.op();
+            var out = kindOf(node);
+            var arg1 = kindOf(node.arg1());
+            var arg2 = kindOf(node.arg2());
+            if (op == BinaryOperator.MISSING_FALLBACK) {
+                return out != Kind.MISSING && out != Kind.OTHER //
+                    && isMissingFallbackOperand(out, arg1) && isMissingFallbackOperand(out, arg2);
+            } else if (op.isOrderingComparison()) {
+                return out == Kind.BOOLEAN && arg1.isNumeric() && arg2.isNumeric();
+            } else if (op.isEqualityComparison()) {
+                return out == Kind.BOOLEAN && equalityOpcode(arg1, arg2) >= 0;
+            } else if (op.isLogical()) {
+                return out == Kind.BOOLEAN && arg1 == Kind.BOOLEAN && arg2 == Kind.BOOLEAN;
+            } else if (out == Kind.INTEGER) {
+                return arg1 == Kind.INTEGER && arg2 == Kind.INTEGER && integerOpcode(op) >= 0;
+            } else if (out == Kind.FLOAT) {
+                return arg1.isNumeric() && arg2.isNumeric() && floatOpcode(op) >= 0;
+            } else if (out == Kind.STRING) {
+                return op == BinaryOperator.PLUS && arg1 != Kind.OTHER && arg2 != Kind.OTHER;
+            }
+            return false;
+        }
+
+        private static boolean isMissingFallbackOperand(final Kind out, final Kind arg) {
+            return arg == out || arg == Kind.MISSING || (out == Kind.FLOAT && arg == Kind.INTEGER);
+        }
+
+        private static int equalityOpcode(final Kind arg1, final Kind arg2) {
+            if (arg1 == Kind.OTHER || arg2 == Kind.OTHER) {
+                return -1;
+            } else if (arg1 == Kind.MISSING || arg2 == Kind.MISSING) {
+                return MISSING_EQUAL;
+            } else if (arg1 == Kind.BOOLEAN && arg2 == Kind.BOOLEAN) {
+                return LONG_EQUAL;
+            } else if (arg1 == Kind.STRING && arg2 == Kind.STRING) {
+                return STRING_EQUAL;
+            } else if (arg1 == Kind.INTEGER && arg2 == Kind.INTEGER) {
+                return LONG_EQUAL;
+            } else if (arg1.isNumeric() && arg2.isNumeric()) {
+                return FLOAT_EQUAL;
+            }
+            return -1;
+        }
+
+        private static int integerOpcode(final BinaryOperator op) {
+            return switch (op) {
+                case PLUS -> INTEGER_ADD;
+                case MINUS -> INTEGER_SUBTRACT;
+                case MULTIPLY -> INTEGER_MULTIPLY;
+                case FLOOR_DIVIDE -> INTEGER_FLOOR_DIVIDE;
+                case REMAINDER -> INTEGER_REMAINDER;
+                case EXPONENTIAL -> INTEGER_POWER;
+                default -> -1;
+            };
+        }
+
+        private static int floatOpcode(final BinaryOperator op) {
+            return switch (op) {
+                case PLUS -> FLOAT_ADD;
+                case MINUS -> FLOAT_SUBTRACT;
+                case MULTIPLY -> FLOAT_MULTIPLY;
+                case DIVIDE -> FLOAT_DIVIDE;
+                case REMAINDER -> FLOAT_REMAINDER;
+                case EXPONENTIAL -> FLOAT_POWER;
+                default -> -1;
+            };
+        }
+
+        private static int comparisonOpcode(final BinaryOperator op, final boolean isFloat) {
+            var offset = isFloat ? (FLOAT_LESS_THAN - INTEGER_LESS_THAN) : 0;
+            return offset + switch (op) {
+                case LESS_THAN -> INTEGER_LESS_THAN;
+                case LESS_THAN_EQUAL -> INTEGER_LESS_THAN_EQUAL;
+                case GREATER_THAN -> INTEGER_GREATER_THAN;
+                case GREATER_THAN_EQUAL -> INTEGER_GREATER_THAN_EQUAL;
+                default -> throw new IllegalStateException(
+                    "Binary operator " + op + " is not a comparison. This is an implementation error.");
+            };
+        }
+
+        /** State of a node on the explicit stack of {@link #lower(Ast)} */
+        private static final class Frame {
+
+            private final Ast m_node;
+
+            private int m_visitedChildren;
+
+            /** Destination register and jump to patch for the operators that can skip their second operand */
+            private int m_resultRegister;
+
+            private int m_jumpTargetIndex;
+
+            Frame(final Ast node) {
+                m_node = node;
+            }
+        }
+
+        /**
+         * Emit the instructions for the given node and its children. Uses an explicit stack to support very deep
+         * expressions.
+         *
+         * @return the register that holds the result of the node
+         */
+        int lower(final Ast root) throws ExpressionCompileException {
+            var stack = new ArrayDeque<Frame>();
+            stack.push(new Frame(root));
+            while (!stack.isEmpty()) {
+                var frame = stack.peek();
+                var node = frame.m_node;
+                if (!isLowered(node)) {
+                    m_registerOf.put(node, emitLoad(node));
+                    stack.pop();
+                } else if (node instanceof ConstantAst constant) {
+                    m_registerOf.put(node, constantRegister(constant));
+                    stack.pop();
+                } else if (node instanceof UnaryOp unaryOp) {
+                    if (frame.m_visitedChildren++ == 0) {
+                        stack.push(new Frame(unaryOp.arg()));
+                    } else {
+                        m_registerOf.put(node, emitUnary(unaryOp));
+                        stack.pop();
+                    }
+                } else if (node instanceof BinaryOp binaryOp) {
+                    var visitedChildren = frame.m_visitedChildren++;
+                    if (visitedChildren == 0) {
+                        stack.push(new Frame(binaryOp.arg1()));
+                    } else if (visitedChildren == 1) {
+                        var skipOpcode = skipSecondOperandOpcode(binaryOp.op());
+                        if (skipOpcode >= 0) {
+                            // The second operand is only evaluated if the first operand does not decide the result
+                            frame.m_resultRegister = newRegister();
+                            var arg1 = operand(binaryOp.arg1(), kindOf(binaryOp) == Kind.FLOAT);
+                            emit(skipOpcode, frame.m_resultRegister, arg1, -1);
+                            frame.m_jumpTargetIndex = m_codeSize - 1;
+                        }
+                        stack.push(new Frame(binaryOp.arg2()));
+                    } else {
+                        m_registerOf.put(node, emitBinary(binaryOp, frame));
+                        stack.pop();
+                    }
+                }
+            }
+            return m_registerOf.get(root);
+        }
+
+        /**
+         * @return the opcode that moves the first operand to the result and skips the second operand if the first
+         *         operand decides the result, or -1 if the operator always evaluates both operands
+         */
+        private static int skipSecondOperandOpcode(final BinaryOperator op) {
+            return switch (op) {
+                case MISSING_FALLBACK -> MOVE_IF_PRESENT;
+                case CONDITIONAL_AND -> MOVE_IF_FALSE;
+                case CONDITIONAL_OR -> MOVE_IF_TRUE;
+                default -> -1;
+            };
+        }
+
+        private int newRegister() {
+            return m_numRegisters++;
+        }
+
+        private void emit(final int opcode, final int destination, final int operand1, final int operand2) {
+            if (m_codeSize + INSTRUCTION_SIZE > m_code.length) {
+                m_code = Arrays.copyOf(m_code, m_code.length * 2);
+            }
+            m_code[m_codeSize] = opcode;
+            m_code[m_codeSize + 1] = destination;
+            m_code[m_codeSize + 2] = operand1;
+            m_code[m_codeSize + 3] = operand2;
+            m_codeSize += INSTRUCTION_SIZE;
+        }
+
+        /** @return the register of the already lowered node, converted to FLOAT if requested */
+        private int operand(final Ast node, final boolean asFloat) {
+            int register = m_registerOf.get(node);
+            if (asFloat && kindOf(node) == Kind.INTEGER) {
+                var converted = newRegister();
+                emit(INTEGER_TO_FLOAT, converted, register, 0);
+                return converted;
+            }
+            return register;
+        }
+
+        private int constantRegister(final ConstantAst constant) {
+            var register = newRegister();
+            m_constants.add(constant);
+            m_constantRegisters.add(register);
+            return register;
+        }
+
+        private int emitLoad(final Ast node) throws ExpressionCompileException {
+            var computer = Evaluation.evaluate(node, m_types, m_columnToComputer, m_flowVariableToComputer,
+                m_aggregationToComputer);
+            var opcode = switch (kindOf(node)) {
+                case BOOLEAN -> LOAD_BOOLEAN;
+                case INTEGER -> LOAD_INTEGER;
+                case FLOAT -> LOAD_FLOAT;
+                case STRING -> LOAD_STRING;
+                default -> throw new IllegalStateException(
+                    "Cannot load a value of kind " + kindOf(node) + ". This is an implementation error.");
+            };
+            var register = newRegister();
+            emit(opcode, register, m_fallbacks.size(), 0);
+            m_fallbacks.add(opcode == LOAD_FLOAT ? toFloat(computer) : computer);
+            return register;
+        }
+
+        private int emitUnary(final UnaryOp node) {
+            var out = kindOf(node);
+            var arg = operand(node.arg(), out == Kind.FLOAT);
+            var opcode = switch (node.op()) {
+                case NOT -> NOT;
+                case MINUS -> out == Kind.FLOAT ? FLOAT_NEGATE : INTEGER_NEGATE;
+            };
+            var register = newRegister();
+            emit(opcode, register, arg, 0);
+            return register;
+        }
+
+        private int emitBinary(final BinaryOp node, final Frame frame) {
+            var op = node.op();
+            var out = kindOf(node);
+            var kind1 = kindOf(node.arg1());
+            var kind2 = kindOf(node.arg2());
+
+            if (op == BinaryOperator.MISSING_FALLBACK) {
+                emit(MOVE, frame.m_resultRegister, operand(node.arg2(), out == Kind.FLOAT), 0);
+                m_code[frame.m_jumpTargetIndex] = m_codeSize;
+                return frame.m_resultRegister;
+            }
+
+            if (op.isLogical()) {
+                // Only reached if the first operand does not decide the result
+                emit(op == BinaryOperator.CONDITIONAL_AND ? AND : OR, frame.m_resultRegister,
+                    m_registerOf.get(node.arg1()), m_registerOf.get(node.arg2()));
+                m_code[frame.m_jumpTargetIndex] = m_codeSize;
+                return frame.m_resultRegister;
+            }
+
+            var register = newRegister();
+            if (op.isOrderingComparison()) {
+                var isFloat = kind1 == Kind.FLOAT || kind2 == Kind.FLOAT;
+                emit(comparisonOpcode(op, isFloat), register, operand(node.arg1(), isFloat),
+                    operand(node.arg2(), isFloat));
+            } else if (op.isEqualityComparison()) {
+                var opcode = equalityOpcode(kind1, kind2);
+                var isFloat = opcode == FLOAT_EQUAL;
+                var arg1 = operand(node.arg1(), isFloat);
+                var arg2 = operand(node.arg2(), isFloat);
+                if (op == BinaryOperator.EQUAL_TO) {
+                    emit(opcode, register, arg1, arg2);
+                } else {
+                    // The equality is never missing, therefore NOT is a plain negation
+                    var equal = newRegister();
+                    emit(opcode, equal, arg1, arg2);
+                    emit(NOT, register, equal, 0);
+                }
+            } else if (out == Kind.STRING) {
+                var string1 = newRegister();
+                emit(TO_STRING, string1, m_registerOf.get(node.arg1()), kind1.ordinal());
+                var string2 = newRegister();
+                emit(TO_STRING, string2, m_registerOf.get(node.arg2()), kind2.ordinal());
+                emit(CONCAT, register, string1, string2);
+            } else if (out == Kind.INTEGER) {
+                emit(integerOpcode(op), register, operand(node.arg1(), false), operand(node.arg2(), false));
+            } else {
+                emit(floatOpcode(op), register, operand(node.arg1(), true), operand(node.arg2(), true));
+            }
+            return register;
+        }
+
+        Program toProgram() {
+            var program = new Program(Arrays.copyOf(m_code, m_codeSize), m_fallbacks.toArray(Computer[]::new),
+                m_numRegisters);
+            for (int i = 0; i < m_constants.size(); i++) {
+                int register = m_constantRegisters.get(i);
+                var constant = m_constants.get(i);
+                if (constant instanceof MissingConstant) {
+                    program.m_missing[register] = true;
+                } else if (constant instanceof BooleanConstant c) {
+                    program.m_longs[register] = c.value() ? 1 : 0;
+                } else if (constant instanceof IntegerConstant c) {
+                    program.m_longs[register] = c.value();
+                } else if (constant instanceof FloatConstant c) {
+                    program.m_doubles[register] = c.value();
+                } else if (constant instanceof StringConstant c) {
+                    program.m_objects[register] = c.value();
+                }
+            }
+            return program;
+        }
+    }
+
+    /** The lowered instructions together with the registers they operate on */
+    private static final class Program {
+
+        private final int[] m_code;
+
+        private final Computer[] m_fallbacks;
+
+        private final long[] m_longs;
+
+        private final double[] m_doubles;
+
+        private final Object[] m_objects;
+
+        private final boolean[] m_missing;
+
+        /** Collects the warnings of a run for the check for MISSING until the value is computed */
+        private final WarningBuffer m_warnings = new WarningBuffer();
+
+        /** <code>true</code> if the registers hold the result of the check for MISSING that was not computed yet */
+        private boolean m_hasResult;
+
+        Program(final int[] code, final Computer[] fallbacks, final int numRegisters) {
+            m_code = code;
+            m_fallbacks = fallbacks;
+            m_longs = new long[numRegisters];
+            m_doubles = new double[numRegisters];
+            m_objects = new Object[numRegisters];
+            m_missing = new boolean[numRegisters];
+        }
+
+        Computer resultComputer(final Kind kind, final int register) {
+            // The program runs once per row: the check for MISSING runs it and the compute call that follows reuses the
+            // registers. The warnings are only reported when the value is computed, like in Evaluation. A compute call
+            // without a check runs the program again because the inputs can change between calls.
+            BooleanComputerResultSupplier missing = ctx -> {
+                m_hasResult = false;
+                m_warnings.reset(ctx);
+                run(m_warnings);
+                m_hasResult = true;
+                return m_missing[register];
+            };
+            return switch (kind) {
+                case BOOLEAN -> BooleanComputer.of(ctx -> {
+                    runForCompute(ctx);
+                    return m_longs[register] != 0;
+                }, missing);
+                case INTEGER -> IntegerComputer.of(ctx -> {
+                    runForCompute(ctx);
+                    return m_longs[register];
+                }, missing);
+                case FLOAT -> FloatComputer.of(ctx -> {
+                    runForCompute(ctx);
+                    return m_doubles[register];
+                }, missing);
+                case STRING -> StringComputer.of(ctx -> {
+                    runForCompute(ctx);
+                    return (String)m_objects[register];
+                }, missing);
+                default -> throw new IllegalStateException(
+                    "Cannot create a computer for " + kind + ". This is an implementation error.");
+            };
+        }
+
+        /** Reuses the result of the preceding check for MISSING or runs the program */
+        private void runForCompute(final EvaluationContext ctx) throws ExpressionEvaluationException {
+            if (m_hasResult) {
+                m_hasResult = false;
+                m_warnings.reportTo(ctx);
+            } else {
+                run(ctx);
+            }
+        }
+
+        @SuppressWarnings("java:S3776") // the dispatch loop is long but every case is trivial
+        private void run(final EvaluationContext ctx) throws ExpressionEvaluationException {
+            final var code = m_code;
+            final var l = m_longs;
+            final var d = m_doubles;
+            final var o = m_objects;
+            final var m = m_missing;
+
+            var pc = 0;
+            while (pc < code.length) {
+                var opcode = code[pc];
+                var dst = code[pc + 1];
+                var a = code[pc + 2];
+                var b = code[pc + 3];
+                pc += INSTRUCTION_SIZE;
+
+                switch (opcode) { // NOSONAR - a switch over all opcodes is the point of the interpreter
+                    case LOAD_BOOLEAN -> {
+                        var c = (BooleanComputer)m_fallbacks[a];
+                        m[dst] = c.isMissing(ctx);
+                        l[dst] = !m[dst] && c.compute(ctx) ? 1 : 0;
+                    }
+                    case LOAD_INTEGER -> {
+                        var c = (IntegerComputer)m_fallbacks[a];
+                        m[dst] = c.isMissing(ctx);
+                        l[dst] = m[dst] ? 0 : c.compute(ctx);
+                    }
+                    case LOAD_FLOAT -> {
+                        var c = (FloatComputer)m_fallbacks[a];
+                        m[dst] = c.isMissing(ctx);
+                        d[dst] = m[dst] ? 0 : c.compute(ctx);
+                    }
+                    case LOAD_STRING -> {
+                        var c = (StringComputer)m_fallbacks[a];
+                        m[dst] = c.isMissing(ctx);
+                        o[dst] = m[dst] ? null : c.compute(ctx);
+                    }
+                    case INTEGER_TO_FLOAT -> {
+                        m[dst] = m[a];
+                        d[dst] = l[a];
+                    }
+                    case MOVE -> move(a, dst);
+                    case MOVE_IF_PRESENT -> {
+                        if (!m[a]) {
+                            move(a, dst);
+                            pc = b;
+                        }
+                    }
+                    case MOVE_IF_FALSE -> {
+                        if (!m[a] && l[a] == 0) {
+                            move(a, dst);
+                            pc = b;
+                        }
+                    }
+                    case MOVE_IF_TRUE -> {
+                        if (!m[a] && l[a] != 0) {
+                            move(a, dst);
+                            pc = b;
+                        }
+                    }
+                    case NOT -> {
+                        m[dst] = m[a];
+                        l[dst] = m[a] ? 0 : (1 - l[a]);
+                    }
+                    case AND -> {
+                        var isFalse = (!m[a] && l[a] == 0) || (!m[b] && l[b] == 0);
+                        m[dst] = !isFalse && (m[a] || m[b]);
+                        l[dst] = !isFalse && !m[dst] ? 1 : 0;
+                    }
+                    case OR -> {
+                        var isTrue = (!m[a] && l[a] != 0) || (!m[b] && l[b] != 0);
+                        m[dst] = !isTrue && (m[a] || m[b]);
+                        l[dst] = isTrue ? 1 : 0;
+                    }
+                    case INTEGER_NEGATE -> {
+                        m[dst] = m[a];
+                        l[dst] = -l[a];
+                    }
+                    case FLOAT_NEGATE -> {
+                        m[dst] = m[a];
+                        d[dst] = -d[a];
+                    }
+                    case INTEGER_ADD -> {
+                        m[dst] = m[a] || m[b];
+                        l[dst] = l[a] + l[b];
+                    }
+                    case INTEGER_SUBTRACT -> {
+                        m[dst] = m[a] || m[b];
+                        l[dst] = l[a] - l[b];
+                    }
+                    case INTEGER_MULTIPLY -> {
+                        m[dst] = m[a] || m[b];
+                        l[dst] = l[a] * l[b];
+                    }
+                    case INTEGER_FLOOR_DIVIDE -> {
+                        m[dst] = m[a] || m[b];
+                        if (!m[dst]) {
+                            l[dst] = integerFloorDivide(l[a], l[b], ctx);
+                        }
+                    }
+                    case INTEGER_REMAINDER -> {
+                        m[dst] = m[a] || m[b];
+                        if (!m[dst]) {
+                            l[dst] = integerRemainder(l[a], l[b], ctx);
+                        }
+                    }
+                    case INTEGER_POWER -> {
+                        m[dst] = m[a] || m[b];
+                        l[dst] = (long)Math.pow(l[a], l[b]);
+                    }
+                    case FLOAT_ADD -> {
+                        m[dst] = m[a] || m[b];
+                        d[dst] = d[a] + d[b];
+                    }
+                    case FLOAT_SUBTRACT -> {
+                        m[dst] = m[a] || m[b];
+                        d[dst] = d[a] - d[b];
+                    }
+                    case FLOAT_MULTIPLY -> {
+                        m[dst] = m[a] || m[b];
+                        d[dst] = d[a] * d[b];
+                    }
+                    case FLOAT_DIVIDE -> {
+                        m[dst] = m[a] || m[b];
+                        if (!m[dst]) {
+                            d[dst] = floatDivide(d[a], d[b], ctx);
+                        }
+                    }
+                    case FLOAT_REMAINDER -> {
+                        m[dst] = m[a] || m[b];
+                        if (!m[dst]) {
+                            d[dst] = floatRemainder(d[a], d[b], ctx);
+                        }
+                    }
+                    case FLOAT_POWER -> {
+                        m[dst] = m[a] || m[b];
+                        d[dst] = Math.pow(d[a], d[b]);
+                    }
+                    case INTEGER_LESS_THAN -> comparison(dst, a, b, false, Long.compare(l[a], l[b]) < 0);
+                    case INTEGER_LESS_THAN_EQUAL -> comparison(dst, a, b, true, Long.compare(l[a], l[b]) <= 0);
+                    case INTEGER_GREATER_THAN -> comparison(dst, a, b, false, Long.compare(l[a], l[b]) > 0);
+                    case INTEGER_GREATER_THAN_EQUAL -> comparison(dst, a, b, true, Long.compare(l[a], l[b]) >= 0);
+                    case FLOAT_LESS_THAN -> comparison(dst, a, b, false, Double.compare(d[a], d[b]) < 0);
+                    case FLOAT_LESS_THAN_EQUAL -> comparison(dst, a, b, true, Double.compare(d[a], d[b]) <= 0);
+                    case FLOAT_GREATER_THAN -> comparison(dst, a, b, false, Double.compare(d[a], d[b]) > 0);
+                    case FLOAT_GREATER_THAN_EQUAL -> comparison(dst, a, b, true, Double.compare(d[a], d[b]) >= 0);
+                    case LONG_EQUAL -> equality(dst, a, b, l[a] == l[b]);
+                    case FLOAT_EQUAL -> equality(dst, a, b, d[a] == d[b]); // NOSONAR - we want the equality test here
+                    case STRING_EQUAL -> equality(dst, a, b, Objects.equals(o[a], o[b]));
+                    case MISSING_EQUAL -> equality(dst, a, b, false);
+                    case TO_STRING -> {
+                        m[dst] = false;
+                        o[dst] = stringRepresentation(a, Kind.values()[b]);
+                    }
+                    case CONCAT -> {
+                        m[dst] = false;
+                        o[dst] = (String)o[a] + (String)o[b];
+                    }
+                    default -> throw new IllegalStateException(
+                        "Unknown opcode " + opcode + ". This is an implementation error.");
+                }
+            }
+        }
+
+        private void move(final int from, final int to) {
+            m_missing[to] = m_missing[from];
+            m_longs[to] = m_longs[from];
+            m_doubles[to] = m_doubles[from];
+            m_objects[to] = m_objects[from];
+        }
+
+        /** Comparisons are never missing. MISSING is only equal to MISSING for non-strict comparisons. */
+        private void comparison(final int dst, final int a, final int b, final boolean nonStrict,
+            final boolean valuesCompare) {
+            var anyMissing = m_missing[a] || m_missing[b];
+            var bothMissing = m_missing[a] && m_missing[b];
+            m_missing[dst] = false;
+            m_longs[dst] = (nonStrict && bothMissing) || (!anyMissing && valuesCompare) ? 1 : 0;
+        }
+
+        /** Equality checks are never missing. MISSING is only equal to MISSING. */
+        private void equality(final int dst, final int a, final int b, final boolean valuesEqual) {
+            var bothMissing = m_missing[a] && m_missing[b];
+            var noneMissing = !m_missing[a] && !m_missing[b];
+            m_missing[dst] = false;
+            m_longs[dst] = bothMissing || (noneMissing && valuesEqual) ? 1 : 0;
+        }
+
+        private String stringRepresentation(final int register, final Kind kind) {
+            if (m_missing[register]) {
+                return "MISSING";
+            }
+            return switch (kind) {
+                case BOOLEAN -> m_longs[register] != 0 ? "true" : "false";
+                case INTEGER -> Long.toString(m_longs[register]);
+                case FLOAT -> Double.toString(m_doubles[register]);
+                default -> (String)m_objects[register];
+            };
+        }
+
+        private static long integerFloorDivide(final long dividend, final long divisor, final EvaluationContext ctx) {
+            if (divisor == 0) {
+                ctx.addWarning("INTEGER division returned 0 because divisor was 0.");
+                return 0;
+            }
+            return dividend / divisor;
+        }
+
+        private static long integerRemainder(final long dividend, final long divisor, final EvaluationContext ctx) {
+            if (divisor == 0) {
+                ctx.addWarning("INTEGER modulo returned 0 because divisor was 0.");
+                return 0;
+            }
+            return dividend % divisor;
+        }
+
+        private static double floatDivide(final double dividend, final double divisor, final EvaluationContext ctx) {
+            var returnValue = dividend / divisor;
+            if (divisor == 0) { // NOSONAR equality should be fine here
+                ctx.addWarning("FLOAT division returned %s because divisor was 0."
+                    .formatted(String.valueOf(returnValue).replace("Infinity", "INFINITY")));
+            }
+            return returnValue;
+        }
+
+        private static double floatRemainder(final double dividend, final double divisor,
+            final EvaluationContext ctx) {
+            var returnValue = dividend % divisor;
+            if (divisor == 0) { // NOSONAR equality should be fine here
+                ctx.addWarning("FLOAT modulo returned %s because divisor was 0."
+                    .formatted(String.valueOf(returnValue).replace("Infinity", "INFINITY")));
+            }
+            return returnValue;
+        }
+    }
+
+    /** An {@link EvaluationContext} that keeps the warnings until they are reported to the delegate */
+    private static final class WarningBuffer implements EvaluationContext {
+
+        private final List<String> m_buffered = new ArrayList<>();
+
+        private EvaluationContext m_delegate;
+
+        void reset(final EvaluationContext delegate) {
+            m_delegate = delegate;
+            m_buffered.clear();
+        }
+
+        void reportTo(final EvaluationContext ctx) {
+            for (var warning : m_buffered) {
+                ctx.addWarning(warning);
+            }
+            m_buffered.clear();
+        }
+
+        @Override
+        public void addWarning(final String warning) {
+            m_buffered.add(warning);
+        }
+
+        @Override
+        public ZonedDateTime getExecutionStartTime() {
+            return m_delegate.getExecutionStartTime();
+        }
+    }
+}
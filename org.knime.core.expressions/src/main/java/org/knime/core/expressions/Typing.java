@@ -74,6 +74,9 @@ import org.knime.core.expressions.Ast.FloatConstant;
 import org.knime.core.expressions.Ast.FlowVarAccess;
 import org.knime.core.expressions.Ast.FunctionCall;
 import org.knime.core.expressions.Ast.IntegerConstant;
+import org.knime.core.expressions.Ast.LetBinding;
+import org.knime.core.expressions.Ast.LetVarAccess;
+import org.knime.core.expressions.Ast.MembershipOp;
 import org.knime.core.expressions.Ast.MissingConstant;
 import org.knime.core.expressions.Ast.StringConstant;
 import org.knime.core.expressions.Ast.UnaryOp;
@@ -87,33 +90,22 @@ import org.knime.core.expressions.Ast.UnaryOperator;
  */
 final class Typing {
 
-    private static final String TYPE_DATA_KEY = "type";
-
     private Typing() {
     }
 
-    static ValueType inferTypes( //
+    static TypedAst inferTypes( //
         final Ast root, //
         final Function<String, ReturnResult<ValueType>> columnToType, //
         final Function<String, ReturnResult<ValueType>> flowVarType //
     ) throws ExpressionCompileException {
-        var outputType = Ast.putDataRecursive(root, TYPE_DATA_KEY, new TypingVisitor(columnToType, flowVarType));
-        if (outputType instanceof ErrorValueType errorValueType) {
+        var types = new TypingVisitor(columnToType, flowVarType).visitAll(root);
+        if (types.get(root) instanceof ErrorValueType errorValueType) {
             throw new ExpressionCompileException(errorValueType.m_errors);
         }
-        return outputType;
-    }
-
-    static ValueType getType(final Ast node) {
-        Object type = node.data(TYPE_DATA_KEY);
-        if (type instanceof ValueType astType) {
-            return astType;
-        } else {
-            throw new IllegalArgumentException("The node " + node + " has no type.");
-        }
+        return new TypedAst(root, new AstAnnotations<>(types));
     }
 
-    private static final class TypingVisitor implements Ast.AstVisitor<ValueType, RuntimeException> {
+    private static final class TypingVisitor extends AstVisitors.PostorderAstVisitor<ValueType, RuntimeException> {
 
         private final Function<String, ReturnResult<ValueType>> m_columnType;
 
@@ -172,8 +164,8 @@ final class Typing {
         @Override
         public ValueType visit(final BinaryOp node) { // NOSONAR - this method is not too complex
             var op = node.op();
-            var t1 = getType(node.arg1());
-            var t2 = getType(node.arg2());
+            var t1 = resultOf(node.arg1());
+            var t2 = resultOf(node.arg2());
 
             var temporalSubtractionOutputType = valueTypesForTemporalSubtraction(node, t1, t2);
             var temporalAdditionOutputType = valueTypesForTemporalAddition(node, t1, t2);
@@ -211,7 +203,7 @@ final class Typing {
         @Override
         public ValueType visit(final UnaryOp node) {
             var op = node.op();
-            var type = getType(node.arg());
+            var type = resultOf(node.arg());
 
             if (op == UnaryOperator.MINUS && (isNumeric(type) || isInterval(type))) {
                 return type;
@@ -222,9 +214,27 @@ final class Typing {
             }
         }
 
+        @Override
+        public ValueType visit(final MembershipOp node) {
+            var type = resultOf(node.arg());
+            var elementTypes = node.elements().stream().map(this::resultOf).toList();
+
+            if (type instanceof ErrorValueType || elementTypes.stream().anyMatch(ErrorValueType.class::isInstance)) {
+                return ErrorValueType.combined(node.children().stream().map(this::resultOf).toList());
+            }
+
+            // The value is compared with each element like with the equality operator
+            for (var elementType : elementTypes) {
+                if (!isEqualityComparable(type, elementType)) {
+                    return ErrorValueType.membershipOpNotApplicable(node, type, elementType);
+                }
+            }
+            return BOOLEAN;
+        }
+
         @Override
         public ValueType visit(final FunctionCall node) {
-            var argTypes = node.args().map(Typing::getType);
+            var argTypes = node.args().map(this::resultOf);
 
             if (argTypes.anyMatch(ErrorValueType.class::isInstance)) {
                 return ErrorValueType.combined(argTypes.toList());
@@ -240,6 +250,27 @@ final class Typing {
                 .orElseGet(cause -> ErrorValueType.aggregationNotApplicable(cause, node));
         }
 
+        @Override
+        public ValueType visit(final LetBinding node) {
+            var valueType = resultOf(node.value());
+            var bodyType = resultOf(node.body());
+
+            if (valueType instanceof ErrorValueType || bodyType instanceof ErrorValueType) {
+                return ErrorValueType.combined(List.of(valueType, bodyType));
+            }
+            return bodyType;
+        }
+
+        @Override
+        public ValueType visit(final LetVarAccess node) {
+            var valueType = resultOf(node.value());
+            if (valueType instanceof ErrorValueType) {
+                // The errors of the value are reported once by the binding
+                return ErrorValueType.combined(List.of());
+            }
+            return valueType;
+        }
+
         private static ValueType arithmeticType(final BinaryOp node, final ValueType typeA, final ValueType typeB) {
             var op = node.op();
             var baseTypeA = typeA.baseType();
@@ -270,21 +301,24 @@ final class Typing {
                 // TODO(AP-23966): refer to specific functions that can be used instead in this error message
                 return ErrorValueType.typingError("Equality comparison is not supported for ZONED_DATE_TIME.", node);
             }
-            if (typeA.baseType().equals(typeB.baseType())) {
-                // Same type or one is the missing type extension of the other
-                return BOOLEAN;
-            }
-            if (MISSING.equals(typeA) || MISSING.equals(typeB)) {
-                // Any type can be compared with MISSING
-                return BOOLEAN;
-            }
-            if (isNumeric(typeA) && isNumeric(typeB)) {
-                // All numbers can be compared with each other
+            if (isEqualityComparable(typeA, typeB)) {
                 return BOOLEAN;
             }
             return ErrorValueType.binaryOpNotApplicable(node, typeA, typeB);
         }
 
+        /** @return <code>true</code> if values of the given types can be compared with an equality operator */
+        private static boolean isEqualityComparable(final ValueType typeA, final ValueType typeB) {
+            if (typeA.baseType().equals(ZONED_DATE_TIME) && typeB.baseType().equals(ZONED_DATE_TIME)) {
+                return false;
+            }
+            // Same type or one is the missing type extension of the other
+            // Any type can be compared with MISSING
+            // All numbers can be compared with each other
+            return typeA.baseType().equals(typeB.baseType()) || MISSING.equals(typeA) || MISSING.equals(typeB)
+                || (isNumeric(typeA) && isNumeric(typeB));
+        }
+
         private static ValueType missingFallbackTypes(final BinaryOp node, final ValueType typeA,
             final ValueType typeB) { // NOSONAR: not too complex
 
@@ -474,6 +508,12 @@ final class Typing {
                 node);
         }
 
+        static ErrorValueType membershipOpNotApplicable(final MembershipOp node, final ValueType t,
+            final ValueType elementType) {
+            return typingError("Operator '" + node.symbol() + "' is not applicable for " + t.name() + " and "
+                + elementType.name() + ".", node);
+        }
+
         static ErrorValueType unaryOpNotApplicable(final UnaryOp node, final ValueType t) {
             return typingError("Operator '" + node.op().symbol() + "' is not applicable for " + t.name() + ".", node);
         }
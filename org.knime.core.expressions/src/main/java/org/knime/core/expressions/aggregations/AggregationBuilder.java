@@ -74,7 +74,7 @@ public class AggregationBuilder {
     public static RequiresName aggregationBuilder() {
         return name -> description -> examples -> keywords -> category -> args -> (returnDesc, returnType,
             returnTypeMapping) -> new FinalStage(name, description, examples, keywords, category, args, returnDesc,
-                returnType, returnTypeMapping);
+                returnType, returnTypeMapping, false);
     }
 
     // NOTE: Sonar suggest use unicode-aware char classes but we only support ASCII names for functions
@@ -157,7 +157,17 @@ public class AggregationBuilder {
 
     record FinalStage( // NOSONAR - equals and hashCode are not important for this record
         String name, String description, String examples, String[] keywords, OperatorCategory category, Arg[] args,
-        String returnDesc, String returnType, ReturnTypeMapper returnTypeMapping) {
+        String returnDesc, String returnType, ReturnTypeMapper returnTypeMapping, boolean isRowWise) {
+
+        /**
+         * Mark the aggregation as {@link ColumnAggregation#isRowWise() row-wise}.
+         *
+         * @return the final stage of the builder
+         */
+        public FinalStage rowWise() {
+            return new FinalStage(name, description, examples, keywords, category, args, returnDesc, returnType,
+                returnTypeMapping, true);
+        }
 
         public ColumnAggregation build() {
             // Check that the name is screaming snake case
@@ -174,7 +184,7 @@ public class AggregationBuilder {
                 List.of(keywords), category.fullName(), OperatorDescription.FUNCTION_ENTRY_TYPE //
             );
 
-            return new AggregationImpl(name, desc, argsList, returnTypeMapping);
+            return new AggregationImpl(name, desc, argsList, returnTypeMapping, isRowWise);
         }
     }
 
@@ -188,12 +198,15 @@ public class AggregationBuilder {
 
         private final ReturnTypeMapper m_returnTypeMapping; // NOSONAR
 
+        private final boolean m_isRowWise;
+
         AggregationImpl(final String name, final OperatorDescription desc, final List<Arg> signature,
-            final ReturnTypeMapper returnTypeMapping) {
+            final ReturnTypeMapper returnTypeMapping, final boolean isRowWise) {
             m_name = name;
             m_desc = desc;
             m_signature = signature;
             m_returnTypeMapping = returnTypeMapping;
+            m_isRowWise = isRowWise;
         }
 
         @Override
@@ -218,5 +231,10 @@ public class AggregationBuilder {
 
             return m_returnTypeMapping.returnType(arguments, columnType);
         }
+
+        @Override
+        public boolean isRowWise() {
+            return m_isRowWise;
+        }
     }
 }
@@ -104,8 +104,29 @@ public final class BuiltInAggregations {
                 if applied on a column configured to be replaced.
                 """);
 
+    /** The category for all built-in aggregations over rolling windows */
+    public static final OperatorCategory ROLLING_WINDOW_CATEGORY =
+        new OperatorCategory(MATH_META_CATEGORY_NAME, "Rolling windows", """
+                The "Math – Rolling Windows" category in KNIME Expression language includes functions that aggregate
+                the values of a column over a window of consecutive rows. Unlike the functions in "Math – Aggregate
+                Columns", they have one result per row: the window of a row consists of the row itself and the rows
+                directly before it. Like the column aggregations, these functions use the column as provided in the
+                input and not the output of the expression if applied on a column configured to be replaced.
+                """);
+
+    /** The category for all built-in cumulative aggregations */
+    public static final OperatorCategory CUMULATIVE_CATEGORY =
+        new OperatorCategory(MATH_META_CATEGORY_NAME, "Cumulative aggregations", """
+                The "Math – Cumulative Aggregations" category in KNIME Expression language includes functions that
+                compute running totals of a column. They have one result per row which aggregates the values of the
+                row itself and all rows before it, in the order of the table. Like the column aggregations, these
+                functions use the column as provided in the input and not the output of the expression if applied on a
+                column configured to be replaced.
+                """);
+
     /** The list of all built-in aggregation categories */
-    public static final List<OperatorCategory> BUILT_IN_CATEGORIES = List.of(AGGREGATION_CATEGORY);
+    public static final List<OperatorCategory> BUILT_IN_CATEGORIES =
+        List.of(AGGREGATION_CATEGORY, ROLLING_WINDOW_CATEGORY, CUMULATIVE_CATEGORY);
 
     // Helper constants
     private static final String COLUMN_ARG_ID = "column";
@@ -118,8 +139,15 @@ public final class BuiltInAggregations {
     private static final Arg IGNORE_NAN_ARG =
         optarg(IGNORE_NAN_ARG_ID, "Whether to skip `NaN` values (defaults to `FALSE`)", isBoolean());
 
+    private static final String WINDOW_ARG_ID = "window";
+
+    private static final Arg WINDOW_ARG =
+        arg(WINDOW_ARG_ID, "The number of rows in the window, including the current row", isInteger());
+
     private static final String COLUMN_ARG_MUST_BE_STRING_ERR = "Column argument must be a string.";
 
+    private static final String WINDOW_MUST_BE_POSITIVE_INTEGER = "window must be a positive integer.";
+
     private static final String IGNORE_NAN_MUST_BE_BOOLEAN = "ignore_nan must be a boolean.";
 
     // Aggregation implementations
@@ -473,6 +501,335 @@ public final class BuiltInAggregations {
             .map(arg -> ValueType.INTEGER); //
     }
 
+    /** Aggregation that returns the sum of the values in a rolling window. */
+    public static final ColumnAggregation ROLLING_SUM = AggregationBuilder.aggregationBuilder() //
+        .name("ROLLING_SUM") //
+        .description("""
+                Find the sum of the values in a rolling window of `window` rows ending at
+                the current row, ignoring `MISSING` values. For the first rows of the
+                table, the window only contains the rows that are available. If all
+                values in the window are `MISSING`, the result is `MISSING`. The result
+                has the same type as the column.
+
+                The `ignore_nan` option can be used to ignore `NaN` values. If it is
+                set to `TRUE`, `NaN` values are ignored like `MISSING` values. If it is
+                `FALSE`, then `NaN` values are not ignored and the result is `NaN` if
+                any value in the window is `NaN`.
+                """) //
+        .examples("""
+                * `ROLLING_SUM("col", 3)` returns the sum of the values in column `col`
+                  of the current row and the two rows before it
+                * `ROLLING_SUM("col", 7, ignore_nan=true)` returns the sum of the values
+                  in column `col` of the last seven rows, ignoring `NaN` values
+                """) //
+        .keywords("moving sum", "rolling", "window") //
+        .category(ROLLING_WINDOW_CATEGORY) //
+        .args(COLUMN_ARG, WINDOW_ARG, IGNORE_NAN_ARG) //
+        .returnType("The sum of the values in the window", ReturnTypeDescriptions.RETURN_INTEGER_FLOAT_MISSING,
+            BuiltInAggregations::rollingNumericReturnType) //
+        .rowWise() //
+        .build();
+
+    /** Aggregation that returns the mean of the values in a rolling window. */
+    public static final ColumnAggregation ROLLING_AVERAGE = AggregationBuilder.aggregationBuilder() //
+        .name("ROLLING_AVERAGE") //
+        .description("""
+                Find the mean of the values in a rolling window of `window` rows ending
+                at the current row, ignoring `MISSING` values. For the first rows of the
+                table, the window only contains the rows that are available. If all
+                values in the window are `MISSING`, the result is `MISSING`.
+
+                The `ignore_nan` option can be used to ignore `NaN` values. If it is
+                set to `TRUE`, `NaN` values are ignored like `MISSING` values. If it is
+                `FALSE`, then `NaN` values are not ignored and the result is `NaN` if
+                any value in the window is `NaN`.
+                """) //
+        .examples("""
+                * `ROLLING_AVERAGE("col", 3)` returns the mean of the values in column
+                  `col` of the current row and the two rows before it
+                * `ROLLING_AVERAGE("col", 7, ignore_nan=true)` returns the mean of the
+                  values in column `col` of the last seven rows, ignoring `NaN` values
+                """) //
+        .keywords("moving average", "moving mean", "rolling", "window", "avg") //
+        .category(ROLLING_WINDOW_CATEGORY) //
+        .args(COLUMN_ARG, WINDOW_ARG, IGNORE_NAN_ARG) //
+        .returnType("The mean of the values in the window", ReturnTypeDescriptions.RETURN_FLOAT_MISSING,
+            (arguments, columnTypeMapper) -> rollingNumericReturnType(arguments, columnTypeMapper)
+                .map(type -> ValueType.OPT_FLOAT)) //
+        .rowWise() //
+        .build();
+
+    /** Aggregation that returns the minimum of the values in a rolling window. */
+    public static final ColumnAggregation ROLLING_MIN = AggregationBuilder.aggregationBuilder() //
+        .name("ROLLING_MIN") //
+        .description("""
+                Find the minimum of the values in a rolling window of `window` rows
+                ending at the current row, ignoring `MISSING` values. For the first rows
+                of the table, the window only contains the rows that are available. If
+                all values in the window are `MISSING`, the result is `MISSING`. The
+                result has the same type as the column.
+
+                The `ignore_nan` option can be used to ignore `NaN` values. If it is
+                set to `TRUE`, `NaN` values are ignored like `MISSING` values. If it is
+                `FALSE`, then `NaN` values are not ignored and the result is `NaN` if
+                any value in the window is `NaN`.
+                """) //
+        .examples("""
+                * `ROLLING_MIN("col", 3)` returns the minimum of the values in column
+                  `col` of the current row and the two rows before it
+                * `ROLLING_MIN("col", 7, ignore_nan=true)` returns the minimum of the
+                  values in column `col` of the last seven rows, ignoring `NaN` values
+                """) //
+        .keywords("moving minimum", "rolling", "window") //
+        .category(ROLLING_WINDOW_CATEGORY) //
+        .args(COLUMN_ARG, WINDOW_ARG, IGNORE_NAN_ARG) //
+        .returnType("The minimum of the values in the window", ReturnTypeDescriptions.RETURN_INTEGER_FLOAT_MISSING,
+            BuiltInAggregations::rollingNumericReturnType) //
+        .rowWise() //
+        .build();
+
+    /** Aggregation that returns the maximum of the values in a rolling window. */
+    public static final ColumnAggregation ROLLING_MAX = AggregationBuilder.aggregationBuilder() //
+        .name("ROLLING_MAX") //
+        .description("""
+                Find the maximum of the values in a rolling window of `window` rows
+                ending at the current row, ignoring `MISSING` values. For the first rows
+                of the table, the window only contains the rows that are available. If
+                all values in the window are `MISSING`, the result is `MISSING`. The
+                result has the same type as the column.
+
+                The `ignore_nan` option can be used to ignore `NaN` values. If it is
+                set to `TRUE`, `NaN` values are ignored like `MISSING` values. If it is
+                `FALSE`, then `NaN` values are not ignored and the result is `NaN` if
+                any value in the window is `NaN`.
+                """) //
+        .examples("""
+                * `ROLLING_MAX("col", 3)` returns the maximum of the values in column
+                  `col` of the current row and the two rows before it
+                * `ROLLING_MAX("col", 7, ignore_nan=true)` returns the maximum of the
+                  values in column `col` of the last seven rows, ignoring `NaN` values
+                """) //
+        .keywords("moving maximum", "rolling", "window") //
+        .category(ROLLING_WINDOW_CATEGORY) //
+        .args(COLUMN_ARG, WINDOW_ARG, IGNORE_NAN_ARG) //
+        .returnType("The maximum of the values in the window", ReturnTypeDescriptions.RETURN_INTEGER_FLOAT_MISSING,
+            BuiltInAggregations::rollingNumericReturnType) //
+        .rowWise() //
+        .build();
+
+    private static ReturnResult<ValueType> rollingNumericReturnType(final Arguments<ConstantAst> arguments,
+        final Function<String, ReturnResult<ValueType>> columnTypeMapper) {
+
+        return ReturnResult.success(arguments.getNamedArguments()) //
+            .filter(hasNtoMArguments(2, 3), "Should have 2-3 arguments") //
+            .filter(columnArgumentIsString(), COLUMN_ARG_MUST_BE_STRING_ERR) //
+            .filter(windowArgumentIsPositive(), WINDOW_MUST_BE_POSITIVE_INTEGER) //
+            .filter(optArgHasType(IGNORE_NAN_ARG_ID, Ast.BooleanConstant.class), IGNORE_NAN_MUST_BE_BOOLEAN) //
+            .map(args -> args.get(COLUMN_ARG_ID)) //
+            .map(Ast.StringConstant.class::cast) //
+            .map(Ast.StringConstant::value) //
+            .flatMap(columnTypeMapper::apply) //
+            .filter(ValueType::isNumericOrOpt, COLUMN_MUST_BE_NUMERIC) //
+            .map(ValueType::optionalType);
+    }
+
+    /** Aggregation that counts the values in a rolling window. */
+    public static final ColumnAggregation ROLLING_COUNT = AggregationBuilder.aggregationBuilder() //
+        .name("ROLLING_COUNT") //
+        .description("""
+                Count the number of values in a rolling window of `window` rows ending at
+                the current row, with or without `MISSING` values. For the first rows of
+                the table, the window only contains the rows that are available.
+
+                The `ignore_missing` option can be used to skip `MISSING` values. If it is
+                set to `TRUE`, `MISSING` values are ignored. If it is `FALSE`, then `MISSING`
+                values are not ignored and are counted as well.
+                """) //
+        .examples("""
+                * `ROLLING_COUNT("col", 3)` returns the number of rows in the window of
+                  the current row and the two rows before it, including `MISSING` values
+                * `ROLLING_COUNT("col", 3, ignore_missing=true)` returns the number of
+                  values in column `col` of the last three rows that are not `MISSING`
+                """) //
+        .keywords("moving count", "rolling", "window") //
+        .category(ROLLING_WINDOW_CATEGORY) //
+        .args( //
+            COLUMN_ARG, //
+            WINDOW_ARG, //
+            optarg("ignore_missing", "Whether to skip `MISSING` values (defaults to `FALSE`)", isBoolean()) //
+        ) //
+        .returnType("The number of values in the window", ReturnTypeDescriptions.RETURN_INTEGER,
+            BuiltInAggregations::rollingCountReturnType) //
+        .rowWise() //
+        .build();
+
+    private static ReturnResult<ValueType> rollingCountReturnType(final Arguments<ConstantAst> arguments,
+        final Function<String, ReturnResult<ValueType>> columnTypeMapper) {
+
+        return ReturnResult.success(arguments.getNamedArguments()) //
+            .filter(hasNtoMArguments(2, 3), "Should have 2-3 arguments") //
+            .filter(columnArgumentIsString(), COLUMN_ARG_MUST_BE_STRING_ERR) //
+            .filter(windowArgumentIsPositive(), WINDOW_MUST_BE_POSITIVE_INTEGER) //
+            .filter(optArgHasType("ignore_missing", Ast.BooleanConstant.class), IGNORE_NAN_MUST_BE_BOOLEAN) //
+            .map(args -> args.get(COLUMN_ARG_ID)) //
+            .map(Ast.StringConstant.class::cast) //
+            .map(Ast.StringConstant::value) //
+            .flatMap(columnTypeMapper::apply) //
+            .map(arg -> ValueType.INTEGER); //
+    }
+
+    /** Aggregation that returns the running sum of a column. */
+    public static final ColumnAggregation CUMULATIVE_SUM = AggregationBuilder.aggregationBuilder() //
+        .name("CUMULATIVE_SUM") //
+        .description("""
+                Find the sum of the values of the current row and all rows before it,
+                ignoring `MISSING` values. If all of these values are `MISSING`, the
+                result is `MISSING`. The result has the same type as the column.
+
+                The `ignore_nan` option can be used to ignore `NaN` values. If it is
+                set to `TRUE`, `NaN` values are ignored like `MISSING` values. If it is
+                `FALSE`, then `NaN` values are not ignored and the result is `NaN` for
+                all rows after the first `NaN` value.
+                """) //
+        .examples("""
+                * `CUMULATIVE_SUM("col")` returns the running total of the values in
+                  column `col`
+                * `CUMULATIVE_SUM("col", ignore_nan=true)` returns the running total of
+                  the values in column `col`, ignoring `NaN` values
+                """) //
+        .keywords("running total", "running sum", "cumsum") //
+        .category(CUMULATIVE_CATEGORY) //
+        .args(COLUMN_ARG, IGNORE_NAN_ARG) //
+        .returnType("The sum of the values up to the current row", ReturnTypeDescriptions.RETURN_INTEGER_FLOAT_MISSING,
+            BuiltInAggregations::cumulativeNumericReturnType) //
+        .rowWise() //
+        .build();
+
+    /** Aggregation that returns the running mean of a column. */
+    public static final ColumnAggregation CUMULATIVE_AVERAGE = AggregationBuilder.aggregationBuilder() //
+        .name("CUMULATIVE_AVERAGE") //
+        .description("""
+                Find the mean of the values of the current row and all rows before it,
+                ignoring `MISSING` values. If all of these values are `MISSING`, the
+                result is `MISSING`.
+
+                The `ignore_nan` option can be used to ignore `NaN` values. If it is
+                set to `TRUE`, `NaN` values are ignored like `MISSING` values. If it is
+                `FALSE`, then `NaN` values are not ignored and the result is `NaN` for
+                all rows after the first `NaN` value.
+                """) //
+        .examples("""
+                * `CUMULATIVE_AVERAGE("col")` returns the running mean of the values in
+                  column `col`
+                * `CUMULATIVE_AVERAGE("col", ignore_nan=true)` returns the running mean of
+                  the values in column `col`, ignoring `NaN` values
+                """) //
+        .keywords("running mean", "running average", "expanding mean", "avg") //
+        .category(CUMULATIVE_CATEGORY) //
+        .args(COLUMN_ARG, IGNORE_NAN_ARG) //
+        .returnType("The mean of the values up to the current row", ReturnTypeDescriptions.RETURN_FLOAT_MISSING,
+            (arguments, columnTypeMapper) -> cumulativeNumericReturnType(arguments, columnTypeMapper)
+                .map(type -> ValueType.OPT_FLOAT)) //
+        .rowWise() //
+        .build();
+
+    /** Aggregation that returns the running minimum of a column. */
+    public static final ColumnAggregation CUMULATIVE_MIN = AggregationBuilder.aggregationBuilder() //
+        .name("CUMULATIVE_MIN") //
+        .description("""
+                Find the minimum of the values of the current row and all rows before
+                it, ignoring `MISSING` values. If all of these values are `MISSING`, the
+                result is `MISSING`. The result has the same type as the column.
+
+                The `ignore_nan` option can be used to ignore `NaN` values. If it is
+                set to `TRUE`, `NaN` values are ignored like `MISSING` values. If it is
+                `FALSE`, then `NaN` values are not ignored and the result is `NaN` for
+                all rows after the first `NaN` value.
+                """) //
+        .examples("""
+                * `CUMULATIVE_MIN("col")` returns the smallest value in column `col` up
+                  to the current row
+                * `CUMULATIVE_MIN("col", ignore_nan=true)` returns the smallest value in
+                  column `col` up to the current row, ignoring `NaN` values
+                """) //
+        .keywords("running minimum", "cummin") //
+        .category(CUMULATIVE_CATEGORY) //
+        .args(COLUMN_ARG, IGNORE_NAN_ARG) //
+        .returnType("The minimum of the values up to the current row",
+            ReturnTypeDescriptions.RETURN_INTEGER_FLOAT_MISSING, BuiltInAggregations::cumulativeNumericReturnType) //
+        .rowWise() //
+        .build();
+
+    /** Aggregation that returns the running maximum of a column. */
+    public static final ColumnAggregation CUMULATIVE_MAX = AggregationBuilder.aggregationBuilder() //
+        .name("CUMULATIVE_MAX") //
+        .description("""
+                Find the maximum of the values of the current row and all rows before
+                it, ignoring `MISSING` values. If all of these values are `MISSING`, the
+                result is `MISSING`. The result has the same type as the column.
+
+                The `ignore_nan` option can be used to ignore `NaN` values. If it is
+                set to `TRUE`, `NaN` values are ignored like `MISSING` values. If it is
+                `FALSE`, then `NaN` values are not ignored and the result is `NaN` for
+                all rows after the first `NaN` value.
+                """) //
+        .examples("""
+                * `CUMULATIVE_MAX("col")` returns the largest value in column `col` up
+                  to the current row
+                * `CUMULATIVE_MAX("col", ignore_nan=true)` returns the largest value in
+                  column `col` up to the current row, ignoring `NaN` values
+                """) //
+        .keywords("running maximum", "cummax") //
+        .category(CUMULATIVE_CATEGORY) //
+        .args(COLUMN_ARG, IGNORE_NAN_ARG) //
+        .returnType("The maximum of the values up to the current row",
+            ReturnTypeDescriptions.RETURN_INTEGER_FLOAT_MISSING, BuiltInAggregations::cumulativeNumericReturnType) //
+        .rowWise() //
+        .build();
+
+    private static ReturnResult<ValueType> cumulativeNumericReturnType(final Arguments<ConstantAst> arguments,
+        final Function<String, ReturnResult<ValueType>> columnTypeMapper) {
+
+        return ReturnResult.success(arguments.getNamedArguments()) //
+            .filter(hasNtoMArguments(1, 2), "Should have 1-2 arguments") //
+            .filter(columnArgumentIsString(), COLUMN_ARG_MUST_BE_STRING_ERR) //
+            .filter(optArgHasType(IGNORE_NAN_ARG_ID, Ast.BooleanConstant.class), IGNORE_NAN_MUST_BE_BOOLEAN) //
+            .map(args -> args.get(COLUMN_ARG_ID)) //
+            .map(Ast.StringConstant.class::cast) //
+            .map(Ast.StringConstant::value) //
+            .flatMap(columnTypeMapper::apply) //
+            .filter(ValueType::isNumericOrOpt, COLUMN_MUST_BE_NUMERIC) //
+            .map(ValueType::optionalType);
+    }
+
+    /** Aggregation that counts the values of a column up to the current row. */
+    public static final ColumnAggregation CUMULATIVE_COUNT = AggregationBuilder.aggregationBuilder() //
+        .name("CUMULATIVE_COUNT") //
+        .description("""
+                Count the number of values of the current row and all rows before it,
+                with or without `MISSING` values.
+
+                The `ignore_missing` option can be used to skip `MISSING` values. If it is
+                set to `TRUE`, `MISSING` values are ignored. If it is `FALSE`, then `MISSING`
+                values are not ignored and are counted as well.
+                """) //
+        .examples("""
+                * `CUMULATIVE_COUNT("col")` returns the number of rows up to the current
+                  row, including `MISSING` values
+                * `CUMULATIVE_COUNT("col", ignore_missing=true)` returns the number of
+                  values in column `col` up to the current row that are not `MISSING`
+                """) //
+        .keywords("running count", "cumcount") //
+        .category(CUMULATIVE_CATEGORY) //
+        .args( //
+            COLUMN_ARG, //
+            optarg("ignore_missing", "Whether to skip `MISSING` values (defaults to `FALSE`)", isBoolean()) //
+        ) //
+        .returnType("The number of values up to the current row", ReturnTypeDescriptions.RETURN_INTEGER,
+            BuiltInAggregations::countReturnType) //
+        .rowWise() //
+        .build();
+
     private static Predicate<Map<String, ConstantAst>> hasNtoMArguments(final int n, final int m) {
         return args -> args.size() >= n && args.size() <= m;
     }
@@ -481,6 +838,10 @@ public final class BuiltInAggregations {
         return args -> args.get(COLUMN_ARG_ID) instanceof Ast.StringConstant;
     }
 
+    private static Predicate<Map<String, ConstantAst>> windowArgumentIsPositive() {
+        return args -> args.get(WINDOW_ARG_ID) instanceof Ast.IntegerConstant window && window.value() > 0;
+    }
+
     private static Predicate<Map<String, ConstantAst>> optArgHasType(final String argName,
         final Class<? extends ConstantAst> argType) {
 
@@ -496,7 +857,17 @@ public final class BuiltInAggregations {
         SUM, //
         VARIANCE, //
         STD_DEV, //
-        COUNT //
+        COUNT, //
+        ROLLING_SUM, //
+        ROLLING_AVERAGE, //
+        ROLLING_MIN, //
+        ROLLING_MAX, //
+        ROLLING_COUNT, //
+        CUMULATIVE_SUM, //
+        CUMULATIVE_AVERAGE, //
+        CUMULATIVE_MIN, //
+        CUMULATIVE_MAX, //
+        CUMULATIVE_COUNT //
     );
 
     /** Map of built-in aggregations by name */
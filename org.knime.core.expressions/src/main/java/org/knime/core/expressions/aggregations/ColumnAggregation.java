@@ -88,4 +88,13 @@ public interface ColumnAggregation extends NamedExpressionOperator {
      */
     ReturnResult<ValueType> returnType(Arguments<ConstantAst> arguments,
         Function<String, ReturnResult<ValueType>> columnType);
+
+    /**
+     * @return <code>true</code> if the aggregation has one result per row (e.g. an aggregation over a rolling window
+     *         of rows) instead of a single result for the whole column. The result of a row-wise aggregation depends
+     *         on the <code>ROW_INDEX</code> of the row it is evaluated for.
+     */
+    default boolean isRowWise() {
+        return false;
+    }
 }
@@ -63,10 +63,13 @@ import static org.knime.core.expressions.ValueType.ZONED_DATE_TIME;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.knime.core.expressions.Arguments;
 import org.knime.core.expressions.Computer;
@@ -215,7 +218,15 @@ public final class ControlFlowFunctions {
 
         @Override
         public Computer apply(final Arguments<Computer> arguments) {
-            return createTypedResultComputer(ctx -> computeMatchingBranchIf(arguments, ctx),
+            var args = arguments.getVariableArgument();
+            var conditions = new BooleanComputer[args.size() / 2];
+            var branches = new Computer[args.size() / 2];
+            for (int i = 0; i < conditions.length; i++) {
+                conditions[i] = (BooleanComputer)args.get(2 * i);
+                branches[i] = args.get(2 * i + 1);
+            }
+            var elseBranch = args.get(args.size() - 1);
+            return createTypedResultComputer(ctx -> computeMatchingBranchIf(conditions, branches, elseBranch, ctx),
                 ifReturnTypeFromComputer(arguments).getValue());
         }
 
@@ -223,15 +234,14 @@ public final class ControlFlowFunctions {
             return returnType(arguments.map(Computer::getReturnTypeFromComputer));
         }
 
-        private static Computer computeMatchingBranchIf(final Arguments<Computer> arguments,
-            final EvaluationContext ctx) throws ExpressionEvaluationException {
-            var args = arguments.getVariableArgument();
-            for (int i = 0; i < args.size() - 1; i += 2) {
-                if (!args.get(i).isMissing(ctx) && ((BooleanComputer)args.get(i)).compute(ctx)) {
-                    return args.get(i + 1);
+        private static Computer computeMatchingBranchIf(final BooleanComputer[] conditions, final Computer[] branches,
+            final Computer elseBranch, final EvaluationContext ctx) throws ExpressionEvaluationException {
+            for (int i = 0; i < conditions.length; i++) {
+                if (!conditions[i].isMissing(ctx) && conditions[i].compute(ctx)) {
+                    return branches[i];
                 }
             }
-            return args.get(args.size() - 1);
+            return elseBranch;
         }
     }
 
@@ -346,7 +356,8 @@ public final class ControlFlowFunctions {
 
         @Override
         public Computer apply(final Arguments<Computer> arguments) {
-            return createTypedResultComputer(ctx -> computeMatchingCaseSwitch(arguments, ctx),
+            var cases = SwitchCases.of(arguments.get(SWITCH_EXPRESSION), arguments.getVariableArgument());
+            return createTypedResultComputer(ctx -> computeMatchingCaseSwitch(cases, ctx),
                 switchReturnTypeFromComputer(arguments).getValue());
         }
 
@@ -354,38 +365,181 @@ public final class ControlFlowFunctions {
             return returnType(arguments.map(Computer::getReturnTypeFromComputer));
         }
 
-        private static Computer computeMatchingCaseSwitch(final Arguments<Computer> arguments,
-            final EvaluationContext ctx) throws ExpressionEvaluationException {
-
-            Computer switchExpression = arguments.get(SWITCH_EXPRESSION);
-            var cases = arguments.getVariableArgument();
+        private static Computer computeMatchingCaseSwitch(final SwitchCases cases, final EvaluationContext ctx)
+            throws ExpressionEvaluationException {
 
-            if (switchExpression.isMissing(ctx)) {
-                for (int i = 0; i < cases.size() - 1; i += 2) {
-                    if (cases.get(i).isMissing(ctx)) {
-                        return cases.get(i + 1);
+            if (cases.m_switchExpression.isMissing(ctx)) {
+                for (int i = 0; i < cases.m_caseComputers.length; i++) {
+                    if (cases.m_caseComputers[i].isMissing(ctx)) {
+                        return cases.m_values[i];
                     }
                 }
-            } else if (switchExpression instanceof StringComputer stringComputer) {
-                String evaluatedSwitchValue = stringComputer.compute(ctx);
-                for (int i = 0; i < cases.size() - 1; i += 2) {
-                    if (!cases.get(i).isMissing(ctx) && cases.get(i) instanceof StringComputer stringComputerToCompare
-                        && evaluatedSwitchValue.equals(stringComputerToCompare.compute(ctx))) {
-                        return cases.get(i + 1);
+            } else if (cases.m_stringSwitchExpression != null) {
+                String evaluatedSwitchValue = cases.m_stringSwitchExpression.compute(ctx);
+                int constantMatch = cases.stringConstantCase(evaluatedSwitchValue);
+                for (int i : cases.m_nonConstantCases) {
+                    if (i > constantMatch) {
+                        break;
                     }
+                    var caseComputer = cases.m_stringCases[i];
+                    if (!caseComputer.isMissing(ctx) && evaluatedSwitchValue.equals(caseComputer.compute(ctx))) {
+                        return cases.m_values[i];
+                    }
+                }
+                if (constantMatch != SwitchCases.NO_MATCH) {
+                    return cases.m_values[constantMatch];
                 }
-            } else if (switchExpression instanceof IntegerComputer integerComputer) {
-                long evaluatedSwitchValue = integerComputer.compute(ctx);
-                for (int i = 0; i < cases.size() - 1; i += 2) {
-                    if (!cases.get(i).isMissing(ctx) && cases.get(i) instanceof IntegerComputer integerComputerToCompare
-                        && integerComputerToCompare.compute(ctx) == evaluatedSwitchValue) {
-                        return cases.get(i + 1);
+            } else if (cases.m_integerSwitchExpression != null) {
+                long evaluatedSwitchValue = cases.m_integerSwitchExpression.compute(ctx);
+                int constantMatch = cases.integerConstantCase(evaluatedSwitchValue);
+                for (int i : cases.m_nonConstantCases) {
+                    if (i > constantMatch) {
+                        break;
+                    }
+                    var caseComputer = cases.m_integerCases[i];
+                    if (!caseComputer.isMissing(ctx) && caseComputer.compute(ctx) == evaluatedSwitchValue) {
+                        return cases.m_values[i];
                     }
                 }
+                if (constantMatch != SwitchCases.NO_MATCH) {
+                    return cases.m_values[constantMatch];
+                }
             }
 
-            final boolean hasDefaultCase = cases.size() % 2 != 0;
-            return hasDefaultCase ? cases.get(cases.size() - 1) : missing -> true;
+            return cases.m_defaultValue;
+        }
+
+        /**
+         * The arguments of a switch, specialized for the type of the switch expression when the computer is created.
+         * The case computers that cannot match the switch expression are <code>null</code> in the typed arrays, such
+         * that evaluating a row does not need to check the types again. Constant cases are looked up by their value,
+         * only the remaining cases are compared one after another.
+         */
+        private static final class SwitchCases {
+
+            /** Larger than the index of any case, used if no constant case matches */
+            private static final int NO_MATCH = Integer.MAX_VALUE;
+
+            private final Computer m_switchExpression;
+
+            /** Non-null if the switch expression is a STRING */
+            private final StringComputer m_stringSwitchExpression;
+
+            /** Non-null if the switch expression is an INTEGER */
+            private final IntegerComputer m_integerSwitchExpression;
+
+            private final Computer[] m_caseComputers;
+
+            private final StringComputer[] m_stringCases;
+
+            private final IntegerComputer[] m_integerCases;
+
+            /** The index of the first constant case for each value if the switch expression is a STRING */
+            private final Map<String, Integer> m_stringConstantCases;
+
+            /** The values of the constant cases in ascending order if the switch expression is an INTEGER */
+            private final long[] m_integerConstantValues;
+
+            /** The index of the first constant case for each value in {@link #m_integerConstantValues} */
+            private final int[] m_integerConstantIndices;
+
+            /** The ascending indices of the typed cases that are not constant and must be computed for each row */
+            private final int[] m_nonConstantCases;
+
+            private final Computer[] m_values;
+
+            private final Computer m_defaultValue;
+
+            private SwitchCases(final Computer switchExpression, final Computer[] caseComputers,
+                final Computer[] values, final Computer defaultValue) {
+                m_switchExpression = switchExpression;
+                m_caseComputers = caseComputers;
+                m_values = values;
+                m_defaultValue = defaultValue;
+
+                if (switchExpression instanceof StringComputer stringComputer) {
+                    m_stringSwitchExpression = stringComputer;
+                    m_stringCases = Arrays.stream(caseComputers)
+                        .map(c -> c instanceof StringComputer stringCase ? stringCase : null)
+                        .toArray(StringComputer[]::new);
+                    m_stringConstantCases = new HashMap<>();
+                    for (int i = 0; i < m_stringCases.length; i++) {
+                        if (m_stringCases[i] instanceof StringComputer.Constant constant) {
+                            m_stringConstantCases.putIfAbsent(constant.value(), i);
+                        }
+                    }
+                } else {
+                    m_stringSwitchExpression = null;
+                    m_stringCases = null;
+                    m_stringConstantCases = null;
+                }
+
+                if (switchExpression instanceof IntegerComputer integerComputer) {
+                    m_integerSwitchExpression = integerComputer;
+                    m_integerCases = Arrays.stream(caseComputers)
+                        .map(c -> c instanceof IntegerComputer integerCase ? integerCase : null)
+                        .toArray(IntegerComputer[]::new);
+                    // Sorted by value and by index for equal values, such that the first case of a value is kept
+                    var constantCases = IntStream.range(0, m_integerCases.length) //
+                        .filter(i -> m_integerCases[i] instanceof IntegerComputer.Constant) //
+                        .boxed() //
+                        .sorted(Comparator.<Integer> comparingLong(i -> integerConstant(m_integerCases[i])) //
+                            .thenComparingInt(i -> i)) //
+                        .mapToInt(Integer::intValue) //
+                        .toArray();
+                    var constantValues = new long[constantCases.length];
+                    var constantIndices = new int[constantCases.length];
+                    var numDistinct = 0;
+                    for (int i : constantCases) {
+                        var value = integerConstant(m_integerCases[i]);
+                        if (numDistinct == 0 || constantValues[numDistinct - 1] != value) {
+                            constantValues[numDistinct] = value;
+                            constantIndices[numDistinct] = i;
+                            numDistinct++;
+                        }
+                    }
+                    m_integerConstantValues = Arrays.copyOf(constantValues, numDistinct);
+                    m_integerConstantIndices = Arrays.copyOf(constantIndices, numDistinct);
+                } else {
+                    m_integerSwitchExpression = null;
+                    m_integerCases = null;
+                    m_integerConstantIndices = null;
+                    m_integerConstantValues = null;
+                }
+
+                Computer[] typedCases = m_stringCases != null ? m_stringCases : m_integerCases;
+                m_nonConstantCases = typedCases == null ? new int[0] : IntStream.range(0, typedCases.length)
+                    .filter(i -> typedCases[i] != null && !(typedCases[i] instanceof StringComputer.Constant)
+                        && !(typedCases[i] instanceof IntegerComputer.Constant)) //
+                    .toArray();
+            }
+
+            private static long integerConstant(final IntegerComputer constant) {
+                return ((IntegerComputer.Constant)constant).value();
+            }
+
+            /** @return the index of the first constant case with the given value or {@link #NO_MATCH} */
+            int stringConstantCase(final String value) {
+                return m_stringConstantCases.getOrDefault(value, NO_MATCH);
+            }
+
+            /** @return the index of the first constant case with the given value or {@link #NO_MATCH} */
+            int integerConstantCase(final long value) {
+                var position = Arrays.binarySearch(m_integerConstantValues, value);
+                return position >= 0 ? m_integerConstantIndices[position] : NO_MATCH;
+            }
+
+            static SwitchCases of(final Computer switchExpression, final List<Computer> cases) {
+                var caseComputers = new Computer[cases.size() / 2];
+                var values = new Computer[cases.size() / 2];
+                for (int i = 0; i < caseComputers.length; i++) {
+                    caseComputers[i] = cases.get(2 * i);
+                    values[i] = cases.get(2 * i + 1);
+                }
+                final boolean hasDefaultCase = cases.size() % 2 != 0;
+                Computer defaultValue = hasDefaultCase ? cases.get(cases.size() - 1) : missing -> true;
+                return new SwitchCases(switchExpression, caseComputers, values, defaultValue);
+            }
         }
     }
 